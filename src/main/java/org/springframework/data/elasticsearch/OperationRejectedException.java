@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Exception thrown when an operation is not sent to Elasticsearch because the maximum number of concurrent requests for
+ * the index and operation is reached or because the circuit breaker for them is open.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class OperationRejectedException extends TransientDataAccessResourceException {
+
+	public OperationRejectedException(String msg) {
+		super(msg);
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.annotation.Persistent;
+
+/**
+ * Enables the client side caching of documents of an entity that are read by id with the get and multi get operations.
+ * Cached documents are removed when they are written or deleted through the same template, so this is meant for
+ * entities that are rarely changed and that are not changed by other applications, or where reading a version that is
+ * at most {@link #timeToLive()} old is acceptable.
+ *
+ * @author agent
+ * @since 6.2
+ * @see org.springframework.data.elasticsearch.core.DocumentCache
+ */
+@Persistent
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface EntityCache {
+
+	/**
+	 * the maximum number of cached documents, when this is reached the least recently used documents are evicted.
+	 */
+	int maxSize() default 1000;
+
+	/**
+	 * the time after which a cached document expires, in the unit defined by {@link #timeUnit()}.
+	 */
+	long timeToLive() default 60;
+
+	/**
+	 * the unit of {@link #timeToLive()}.
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
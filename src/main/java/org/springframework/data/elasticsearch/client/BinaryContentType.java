@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Binary content types that can be used instead of JSON for the traffic with Elasticsearch, see
+ * {@link ClientConfiguration#getBinaryContentType()}. The Jackson data format for the content type -
+ * {@literal jackson-dataformat-smile} or {@literal jackson-dataformat-cbor} - must be on the classpath.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public enum BinaryContentType {
+
+	/**
+	 * The Smile format, used for request bodies and for responses.
+	 */
+	SMILE("smile", true),
+
+	/**
+	 * The CBOR format. Elasticsearch does not support CBOR for bulk requests, so it is only used for responses.
+	 */
+	CBOR("cbor", false);
+
+	private static final String JSON_SUBTYPE = "json";
+	private static final String NDJSON_SUBTYPE = "x-ndjson";
+
+	private final String subtype;
+	private final boolean requestBodySupported;
+
+	BinaryContentType(String subtype, boolean requestBodySupported) {
+		this.subtype = subtype;
+		this.requestBodySupported = requestBodySupported;
+	}
+
+	/**
+	 * @return true if request bodies, including the ones of bulk requests, can be sent in this format.
+	 */
+	public boolean isRequestBodySupported() {
+		return requestBodySupported;
+	}
+
+	/**
+	 * Converts a JSON media type into the media type of this format, keeping the parameters. The vendor specific
+	 * Elasticsearch media types like {@literal application/vnd.elasticsearch+json; compatible-with=9} keep the vendor
+	 * prefix.
+	 *
+	 * @param mediaType the media type, may be {@literal null}
+	 * @return the media type for this format
+	 */
+	public String mediaType(@Nullable String mediaType) {
+		return replaceSubtype(mediaType, subtype);
+	}
+
+	/**
+	 * Converts a media type of this format into the corresponding JSON media type, keeping the parameters.
+	 *
+	 * @param mediaType the media type, may be {@literal null}
+	 * @return the JSON media type
+	 */
+	public String jsonMediaType(@Nullable String mediaType) {
+		return replaceSubtype(mediaType, JSON_SUBTYPE);
+	}
+
+	/**
+	 * @param mediaType the media type to check, may be {@literal null}
+	 * @return true if the media type denotes this format
+	 */
+	public boolean matches(@Nullable String mediaType) {
+
+		if (mediaType == null) {
+			return false;
+		}
+
+		String type = mediaType.split(";", 2)[0].trim().toLowerCase();
+		return type.equals("application/" + subtype) || type.equals("application/vnd.elasticsearch+" + subtype);
+	}
+
+	/**
+	 * @param mediaType the media type to check, may be {@literal null}
+	 * @return true if the media type denotes JSON or newline delimited JSON
+	 */
+	public static boolean isJson(@Nullable String mediaType) {
+
+		if (mediaType == null) {
+			return false;
+		}
+
+		String type = mediaType.split(";", 2)[0].trim().toLowerCase();
+		int plus = type.indexOf('+');
+		String subtype = plus >= 0 ? type.substring(plus + 1) : type.substring(type.indexOf('/') + 1);
+
+		return type.startsWith("application/") && (subtype.equals(JSON_SUBTYPE) || subtype.equals(NDJSON_SUBTYPE));
+	}
+
+	/**
+	 * @param mediaType the media type to check, may be {@literal null}
+	 * @return true if the media type denotes newline delimited JSON, the body of a bulk or multi search request
+	 */
+	public static boolean isNewlineDelimited(@Nullable String mediaType) {
+
+		if (mediaType == null) {
+			return false;
+		}
+
+		String type = mediaType.split(";", 2)[0].trim().toLowerCase();
+		return type.endsWith("/" + NDJSON_SUBTYPE) || type.endsWith("+" + NDJSON_SUBTYPE);
+	}
+
+	private static String replaceSubtype(@Nullable String mediaType, String subtype) {
+
+		if (mediaType == null || mediaType.isBlank()) {
+			return "application/" + subtype;
+		}
+
+		String[] parts = mediaType.split(";", 2);
+		String type = parts[0].trim();
+		int plus = type.indexOf('+');
+		String newType = plus >= 0 ? type.substring(0, plus + 1) + subtype : "application/" + subtype;
+
+		return parts.length > 1 ? newType + ";" + parts[1] : newType;
+	}
+}
@@ -19,6 +19,7 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -181,6 +182,86 @@ public interface ClientConfiguration {
 	 */
 	Supplier<HttpHeaders> getHeadersSupplier();
 
+	/**
+	 * @return the optional strategy to select the nodes requests are sent to. If not set, requests are distributed
+	 *         round-robin over all nodes that are alive.
+	 * @since 6.2
+	 */
+	default Optional<NodeSelectionStrategy> getNodeSelectionStrategy() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return the minimum size in bytes of request bodies that are sent gzip compressed, -1 if request compression is
+	 *         disabled.
+	 * @since 6.2
+	 */
+	default int getRequestCompressionThreshold() {
+		return -1;
+	}
+
+	/**
+	 * @return true if the client asks Elasticsearch to send gzip compressed responses.
+	 * @since 6.2
+	 */
+	default boolean isResponseCompressionEnabled() {
+		return false;
+	}
+
+	/**
+	 * The clients compress according to {@link #getRequestCompressionThreshold()} and
+	 * {@link #isResponseCompressionEnabled()}, whether metrics are provided or not.
+	 *
+	 * @return the metrics of the HTTP compression, empty if neither request nor response compression is enabled or if
+	 *         the configuration does not collect them.
+	 * @since 6.2
+	 */
+	default Optional<CompressionMetrics> getCompressionMetrics() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return the binary content type used for request bodies and for bulk, search, multi search and scroll responses,
+	 *         empty if all requests and responses are sent as JSON.
+	 * @since 6.2
+	 */
+	default Optional<BinaryContentType> getBinaryContentType() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return the maximum number of connections of the connection pool, -1 to use the default of the client.
+	 * @since 6.2
+	 */
+	default int getMaxConnections() {
+		return -1;
+	}
+
+	/**
+	 * @return the maximum number of connections per route, -1 to use the default of the client.
+	 * @since 6.2
+	 */
+	default int getMaxConnectionsPerRoute() {
+		return -1;
+	}
+
+	/**
+	 * @return the maximum number of connections for the routes to single hosts, overriding
+	 *         {@link #getMaxConnectionsPerRoute()}.
+	 * @since 6.2
+	 */
+	default Map<InetSocketAddress, Integer> getMaxConnectionsPerHost() {
+		return Map.of();
+	}
+
+	/**
+	 * @return the statistics of the connection pool, empty if connection pool metrics are not enabled.
+	 * @since 6.2
+	 */
+	default Optional<ConnectionPoolMetrics> getConnectionPoolMetrics() {
+		return Optional.empty();
+	}
+
 	/**
 	 * @author Christoph Strobl
 	 */
@@ -375,6 +456,85 @@ public interface ClientConfiguration {
 		 */
 		TerminalClientConfigurationBuilder withHeaders(Supplier<HttpHeaders> headers);
 
+		/**
+		 * Configure the strategy to select the nodes requests are sent to, for example a
+		 * {@link LatencyAwareNodeSelectionStrategy} that avoids slow and failing nodes.
+		 *
+		 * @param nodeSelectionStrategy the strategy, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 6.2
+		 */
+		TerminalClientConfigurationBuilder withNodeSelectionStrategy(NodeSelectionStrategy nodeSelectionStrategy);
+
+		/**
+		 * Enables gzip compression of request bodies that have at least the given size. Small bodies are sent
+		 * uncompressed as compressing them costs more than it saves.
+		 *
+		 * @param threshold the minimum size in bytes of a request body that is compressed, must not be negative
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 6.2
+		 */
+		TerminalClientConfigurationBuilder withRequestCompression(int threshold);
+
+		/**
+		 * Configures whether Elasticsearch is asked to send gzip compressed responses by sending an
+		 * {@literal Accept-Encoding: gzip} header.
+		 *
+		 * @param enabled true to request compressed responses
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 6.2
+		 */
+		TerminalClientConfigurationBuilder withResponseCompression(boolean enabled);
+
+		/**
+		 * Configures a binary content type for the traffic with Elasticsearch. Request bodies, including the ones of bulk
+		 * requests, are written in this format if it supports them, and Elasticsearch is asked to send the responses of
+		 * bulk, search, multi search and scroll requests in this format. The format is negotiated by the transport that
+		 * {@link org.springframework.data.elasticsearch.client.elc.ElasticsearchClients} creates for the configuration,
+		 * the bodies are read and written directly in the binary format by the
+		 * {@link co.elastic.clients.json.JsonpMapper} of this transport, the converter layer keeps working on
+		 * {@link org.springframework.data.elasticsearch.core.document.Document}. Requires Jackson 2 and the corresponding
+		 * Jackson 2 data format on the classpath and is only supported with the {@literal Rest5Client}.
+		 *
+		 * @param binaryContentType the content type, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 6.2
+		 */
+		TerminalClientConfigurationBuilder withBinaryContentType(BinaryContentType binaryContentType);
+
+		/**
+		 * Configures the size of the connection pool. Only supported with the {@literal Rest5Client}.
+		 *
+		 * @param maxConnections the maximum number of connections, must be greater than 0
+		 * @param maxConnectionsPerRoute the maximum number of connections per route, that is per Elasticsearch node,
+		 *          must be greater than 0
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 6.2
+		 */
+		TerminalClientConfigurationBuilder withMaxConnections(int maxConnections, int maxConnectionsPerRoute);
+
+		/**
+		 * Configures the maximum number of connections to a single host, overriding the maximum number of connections per
+		 * route for this host. Only supported with the {@literal Rest5Client}.
+		 *
+		 * @param hostAndPort the host and port formatted as {@literal host:port}, must not be {@literal null}
+		 * @param maxConnections the maximum number of connections, must be greater than 0
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 6.2
+		 */
+		TerminalClientConfigurationBuilder withMaxConnectionsPerHost(String hostAndPort, int maxConnections);
+
+		/**
+		 * Configures whether the client collects statistics of its connection pool, see
+		 * {@link ClientConfiguration#getConnectionPoolMetrics()} and {@link ConnectionPoolMetricsBinder}. Only supported
+		 * with the {@literal Rest5Client}.
+		 *
+		 * @param enabled true to collect the statistics
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 6.2
+		 */
+		TerminalClientConfigurationBuilder withConnectionPoolMetrics(boolean enabled);
+
 		/**
 		 * Build the {@link ClientConfiguration} object.
 		 *
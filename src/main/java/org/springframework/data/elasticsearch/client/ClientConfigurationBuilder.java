@@ -19,7 +19,9 @@ import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import javax.net.ssl.HostnameVerifier;
@@ -59,6 +61,14 @@ class ClientConfigurationBuilder
 	@Nullable private String proxy;
 	private Supplier<HttpHeaders> headersSupplier = HttpHeaders::new;
 	private final List<ClientConfiguration.ClientConfigurationCallback<?>> clientConfigurers = new ArrayList<>();
+	@Nullable private NodeSelectionStrategy nodeSelectionStrategy;
+	private int requestCompressionThreshold = -1;
+	private boolean responseCompression = false;
+	@Nullable private BinaryContentType binaryContentType;
+	private int maxConnections = -1;
+	private int maxConnectionsPerRoute = -1;
+	private final Map<InetSocketAddress, Integer> maxConnectionsPerHost = new LinkedHashMap<>();
+	private boolean connectionPoolMetrics = false;
 
 	/*
 	 * (non-Javadoc)
@@ -231,6 +241,68 @@ class ClientConfigurationBuilder
 		return this;
 	}
 
+	@Override
+	public TerminalClientConfigurationBuilder withNodeSelectionStrategy(NodeSelectionStrategy nodeSelectionStrategy) {
+
+		Assert.notNull(nodeSelectionStrategy, "nodeSelectionStrategy must not be null");
+
+		this.nodeSelectionStrategy = nodeSelectionStrategy;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withRequestCompression(int threshold) {
+
+		Assert.isTrue(threshold >= 0, "threshold must not be negative");
+
+		this.requestCompressionThreshold = threshold;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withResponseCompression(boolean enabled) {
+
+		this.responseCompression = enabled;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withBinaryContentType(BinaryContentType binaryContentType) {
+
+		Assert.notNull(binaryContentType, "binaryContentType must not be null");
+
+		this.binaryContentType = binaryContentType;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withMaxConnections(int maxConnections, int maxConnectionsPerRoute) {
+
+		Assert.isTrue(maxConnections > 0, "maxConnections must be greater than 0");
+		Assert.isTrue(maxConnectionsPerRoute > 0, "maxConnectionsPerRoute must be greater than 0");
+
+		this.maxConnections = maxConnections;
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withMaxConnectionsPerHost(String hostAndPort, int maxConnections) {
+
+		Assert.hasText(hostAndPort, "hostAndPort must not be empty");
+		Assert.isTrue(maxConnections > 0, "maxConnections must be greater than 0");
+
+		this.maxConnectionsPerHost.put(parse(hostAndPort), maxConnections);
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withConnectionPoolMetrics(boolean enabled) {
+
+		this.connectionPoolMetrics = enabled;
+		return this;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.elasticsearch.client.ClientConfiguration.ClientConfigurationBuilderWithOptionalDefaultHeaders#build()
@@ -247,7 +319,9 @@ class ClientConfigurationBuilder
 		}
 
 		return new DefaultClientConfiguration(hosts, headers, useSsl, sslContext, caFingerprint, soTimeout, connectTimeout,
-				pathPrefix, hostnameVerifier, proxy, clientConfigurers, headersSupplier);
+				pathPrefix, hostnameVerifier, proxy, clientConfigurers, headersSupplier, nodeSelectionStrategy,
+				requestCompressionThreshold, responseCompression, binaryContentType, maxConnections, maxConnectionsPerRoute,
+				maxConnectionsPerHost, connectionPoolMetrics);
 	}
 
 	private static InetSocketAddress parse(String hostAndPort) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the HTTP compression of a client created from a {@link ClientConfiguration} with request or response
+ * compression enabled. The counters are updated by the client and can be read at any time, for example to register
+ * them as gauges in a metrics registry.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class CompressionMetrics {
+
+	private final LongAdder compressedRequests = new LongAdder();
+	private final LongAdder uncompressedRequestBytes = new LongAdder();
+	private final LongAdder compressedRequestBytes = new LongAdder();
+	private final LongAdder compressedResponses = new LongAdder();
+	private final LongAdder compressedResponseBytes = new LongAdder();
+
+	/**
+	 * Records a request body that was sent compressed.
+	 *
+	 * @param uncompressedBytes the size of the body before compression
+	 * @param compressedBytes the size of the compressed body
+	 */
+	public void recordCompressedRequest(long uncompressedBytes, long compressedBytes) {
+		compressedRequests.increment();
+		uncompressedRequestBytes.add(uncompressedBytes);
+		compressedRequestBytes.add(compressedBytes);
+	}
+
+	/**
+	 * Records a response that was received compressed.
+	 *
+	 * @param compressedBytes the size of the compressed body, -1 if it is not known
+	 */
+	public void recordCompressedResponse(long compressedBytes) {
+		compressedResponses.increment();
+
+		if (compressedBytes > 0) {
+			compressedResponseBytes.add(compressedBytes);
+		}
+	}
+
+	/**
+	 * @return the number of request bodies that were sent compressed
+	 */
+	public long getCompressedRequestCount() {
+		return compressedRequests.sum();
+	}
+
+	/**
+	 * @return the total size of the compressed request bodies before compression
+	 */
+	public long getUncompressedRequestBytes() {
+		return uncompressedRequestBytes.sum();
+	}
+
+	/**
+	 * @return the total size of the compressed request bodies after compression
+	 */
+	public long getCompressedRequestBytes() {
+		return compressedRequestBytes.sum();
+	}
+
+	/**
+	 * @return the ratio of the compressed to the uncompressed size of the compressed request bodies, 1 if no request
+	 *         body was compressed.
+	 */
+	public double getRequestCompressionRatio() {
+
+		long uncompressed = uncompressedRequestBytes.sum();
+		return uncompressed > 0 ? (double) compressedRequestBytes.sum() / uncompressed : 1.0;
+	}
+
+	/**
+	 * @return the number of responses that were received compressed
+	 */
+	public long getCompressedResponseCount() {
+		return compressedResponses.sum();
+	}
+
+	/**
+	 * @return the total size of the compressed response bodies of which the size was known
+	 */
+	public long getCompressedResponseBytes() {
+		return compressedResponseBytes.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "CompressionMetrics{" + //
+				"compressedRequests=" + getCompressedRequestCount() + //
+				", uncompressedRequestBytes=" + getUncompressedRequestBytes() + //
+				", compressedRequestBytes=" + getCompressedRequestBytes() + //
+				", compressedResponses=" + getCompressedResponseCount() + //
+				", compressedResponseBytes=" + getCompressedResponseBytes() + //
+				'}';
+	}
+}
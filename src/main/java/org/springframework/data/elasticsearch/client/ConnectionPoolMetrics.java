@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Statistics of the connection pool of a client created from a {@link ClientConfiguration} with connection pool metrics
+ * enabled. The client registers its pool when it is created and records for every request how long it waited for a
+ * connection. The values can be read at any time; {@link ConnectionPoolMetricsBinder} publishes them with Micrometer.
+ * <p>
+ * Routes are identified by the URI of the target host, for example {@literal http://localhost:9200}.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class ConnectionPoolMetrics {
+
+	private static final PoolStats EMPTY = new PoolStats(0, 0, 0, 0);
+
+	@Nullable private volatile ConnectionPool connectionPool;
+	private final Map<String, LeaseTimes> leaseTimes = new ConcurrentHashMap<>();
+	private final CopyOnWriteArrayList<Consumer<String>> routeListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Sets the connection pool of the client, called by the client when it is created.
+	 *
+	 * @param connectionPool the connection pool, must not be {@literal null}
+	 */
+	public void setConnectionPool(ConnectionPool connectionPool) {
+
+		Assert.notNull(connectionPool, "connectionPool must not be null");
+
+		this.connectionPool = connectionPool;
+	}
+
+	/**
+	 * Records a request for a connection.
+	 *
+	 * @param route the route the connection was requested for
+	 * @param waitNanos the time the request waited for the connection in nanoseconds
+	 * @param leased true if a connection was leased, false if the request failed or timed out
+	 */
+	public void recordLease(String route, long waitNanos, boolean leased) {
+
+		LeaseTimes times = leaseTimes.get(route);
+
+		if (times == null) {
+			LeaseTimes newTimes = new LeaseTimes();
+			times = leaseTimes.putIfAbsent(route, newTimes);
+
+			if (times == null) {
+				times = newTimes;
+				routeListeners.forEach(listener -> listener.accept(route));
+			}
+		}
+
+		times.record(waitNanos, leased);
+	}
+
+	/**
+	 * Registers a listener that is called with every route for which a connection is requested for the first time. The
+	 * listener is called immediately for the routes that are already known.
+	 *
+	 * @param listener the listener, must not be {@literal null}
+	 */
+	public void addRouteListener(Consumer<String> listener) {
+
+		Assert.notNull(listener, "listener must not be null");
+
+		routeListeners.add(listener);
+		leaseTimes.keySet().forEach(listener);
+	}
+
+	/**
+	 * @return the routes for which connections were requested
+	 */
+	public Set<String> getRoutes() {
+		return Set.copyOf(leaseTimes.keySet());
+	}
+
+	/**
+	 * @return the statistics of the whole pool, all values are 0 if the pool has not been registered.
+	 */
+	public PoolStats getTotalStats() {
+
+		ConnectionPool pool = connectionPool;
+		return pool != null ? pool.getTotalStats() : EMPTY;
+	}
+
+	/**
+	 * @param route the route
+	 * @return the statistics of the route, all values are 0 if the route is not known.
+	 */
+	public PoolStats getStats(String route) {
+
+		ConnectionPool pool = connectionPool;
+		PoolStats stats = pool != null ? pool.getStats(route) : null;
+		return stats != null ? stats : EMPTY;
+	}
+
+	/**
+	 * @param route the route
+	 * @return the number of connection requests for the route, including the failed ones
+	 */
+	public long getLeaseCount(String route) {
+
+		LeaseTimes times = leaseTimes.get(route);
+		return times != null ? times.count.sum() : 0;
+	}
+
+	/**
+	 * @param route the route
+	 * @return the number of connection requests for the route that failed or timed out
+	 */
+	public long getLeaseFailureCount(String route) {
+
+		LeaseTimes times = leaseTimes.get(route);
+		return times != null ? times.failures.sum() : 0;
+	}
+
+	/**
+	 * @param route the route
+	 * @return the total time in nanoseconds that the requests for the route waited for a connection
+	 */
+	public long getLeaseTimeNanos(String route) {
+
+		LeaseTimes times = leaseTimes.get(route);
+		return times != null ? times.totalNanos.sum() : 0;
+	}
+
+	/**
+	 * @param route the route
+	 * @return the longest time in nanoseconds that a request for the route waited for a connection
+	 */
+	public long getMaxLeaseTimeNanos(String route) {
+
+		LeaseTimes times = leaseTimes.get(route);
+		return times != null ? times.maxNanos.get() : 0;
+	}
+
+	@Override
+	public String toString() {
+		return "ConnectionPoolMetrics{" + //
+				"totalStats=" + getTotalStats() + //
+				", routes=" + getRoutes() + //
+				'}';
+	}
+
+	/**
+	 * Statistics of a connection pool or of one route of it.
+	 *
+	 * @param leased the number of connections that are in use
+	 * @param pending the number of requests waiting for a connection
+	 * @param available the number of idle connections
+	 * @param max the maximum number of connections
+	 */
+	public record PoolStats(int leased, int pending, int available, int max) {
+	}
+
+	/**
+	 * Access to the statistics of the connection pool of a client.
+	 */
+	public interface ConnectionPool {
+
+		/**
+		 * @return the statistics of the whole pool
+		 */
+		PoolStats getTotalStats();
+
+		/**
+		 * @param route the route
+		 * @return the statistics of the route, {@literal null} if the route is not known
+		 */
+		@Nullable
+		PoolStats getStats(String route);
+	}
+
+	private static class LeaseTimes {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder failures = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		void record(long waitNanos, boolean leased) {
+
+			count.increment();
+
+			if (!leased) {
+				failures.increment();
+			}
+
+			totalNanos.add(waitNanos);
+			maxNanos.accumulate(waitNanos);
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import org.springframework.data.elasticsearch.client.ConnectionPoolMetrics.PoolStats;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterBinder} publishing the {@link ConnectionPoolMetrics} of a client with Micrometer:
+ * <ul>
+ * <li>{@literal elasticsearch.client.pool.max.total}: the maximum number of connections of the pool</li>
+ * <li>{@literal elasticsearch.client.pool.leased}, {@literal elasticsearch.client.pool.pending},
+ * {@literal elasticsearch.client.pool.available} and {@literal elasticsearch.client.pool.max}: the number of leased
+ * and idle connections, the number of requests waiting for a connection and the maximum number of connections per
+ * route</li>
+ * <li>{@literal elasticsearch.client.pool.lease}: a timer for the time the requests waited for a connection per
+ * route</li>
+ * <li>{@literal elasticsearch.client.pool.lease.max}: the longest time a request waited for a connection per
+ * route</li>
+ * <li>{@literal elasticsearch.client.pool.lease.failures}: the number of requests per route that did not get a
+ * connection</li>
+ * </ul>
+ * The per route meters have a {@literal route} tag and are registered when the first connection for a route is
+ * requested. The binder can be used like this:
+ *
+ * <pre class="code">
+ * clientConfiguration.getConnectionPoolMetrics()
+ * 		.ifPresent(metrics -> new ConnectionPoolMetricsBinder(metrics).bindTo(meterRegistry));
+ * </pre>
+ *
+ * Requires {@literal micrometer-core} on the classpath.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class ConnectionPoolMetricsBinder implements MeterBinder {
+
+	private static final String PREFIX = "elasticsearch.client.pool";
+
+	private final ConnectionPoolMetrics connectionPoolMetrics;
+	private final Iterable<Tag> tags;
+
+	public ConnectionPoolMetricsBinder(ConnectionPoolMetrics connectionPoolMetrics) {
+		this(connectionPoolMetrics, Tags.empty());
+	}
+
+	/**
+	 * @param connectionPoolMetrics the metrics to publish, must not be {@literal null}
+	 * @param tags additional tags for all meters, for example to distinguish the pools of different clients
+	 */
+	public ConnectionPoolMetricsBinder(ConnectionPoolMetrics connectionPoolMetrics, Iterable<Tag> tags) {
+
+		Assert.notNull(connectionPoolMetrics, "connectionPoolMetrics must not be null");
+		Assert.notNull(tags, "tags must not be null");
+
+		this.connectionPoolMetrics = connectionPoolMetrics;
+		this.tags = tags;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		Gauge.builder(PREFIX + ".max.total", connectionPoolMetrics, metrics -> metrics.getTotalStats().max()) //
+				.description("The maximum number of connections of the pool") //
+				.tags(tags) //
+				.strongReference(true) //
+				.register(registry);
+
+		connectionPoolMetrics.addRouteListener(route -> bindRoute(registry, route));
+	}
+
+	private void bindRoute(MeterRegistry registry, String route) {
+
+		Tags routeTags = Tags.of(tags).and("route", route);
+
+		routeGauge(registry, routeTags, route, "leased", "The number of leased connections", PoolStats::leased);
+		routeGauge(registry, routeTags, route, "pending", "The number of requests waiting for a connection",
+				PoolStats::pending);
+		routeGauge(registry, routeTags, route, "available", "The number of idle connections", PoolStats::available);
+		routeGauge(registry, routeTags, route, "max", "The maximum number of connections", PoolStats::max);
+
+		FunctionTimer.builder(PREFIX + ".lease", connectionPoolMetrics, //
+				metrics -> metrics.getLeaseCount(route), //
+				metrics -> metrics.getLeaseTimeNanos(route), TimeUnit.NANOSECONDS) //
+				.description("The time requests waited for a connection") //
+				.tags(routeTags) //
+				.register(registry);
+
+		TimeGauge.builder(PREFIX + ".lease.max", connectionPoolMetrics, TimeUnit.NANOSECONDS,
+				metrics -> metrics.getMaxLeaseTimeNanos(route)) //
+				.description("The longest time a request waited for a connection") //
+				.tags(routeTags) //
+				.strongReference(true) //
+				.register(registry);
+
+		FunctionCounter.builder(PREFIX + ".lease.failures", connectionPoolMetrics,
+				metrics -> metrics.getLeaseFailureCount(route)) //
+				.description("The number of requests that did not get a connection") //
+				.tags(routeTags) //
+				.register(registry);
+	}
+
+	private void routeGauge(MeterRegistry registry, Tags routeTags, String route, String name, String description,
+			ToIntFunction<PoolStats> value) {
+
+		Gauge.builder(PREFIX + '.' + name, connectionPoolMetrics,
+				metrics -> value.applyAsInt(metrics.getStats(route))) //
+				.description(description) //
+				.tags(routeTags) //
+				.strongReference(true) //
+				.register(registry);
+	}
+}
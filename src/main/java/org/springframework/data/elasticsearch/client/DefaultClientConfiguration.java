@@ -18,6 +18,7 @@ package org.springframework.data.elasticsearch.client;
 import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -50,11 +51,24 @@ class DefaultClientConfiguration implements ClientConfiguration {
 	@Nullable private final String proxy;
 	private final Supplier<HttpHeaders> headersSupplier;
 	private final List<ClientConfigurationCallback<?>> clientConfigurers;
+	@Nullable private final NodeSelectionStrategy nodeSelectionStrategy;
+	private final int requestCompressionThreshold;
+	private final boolean responseCompression;
+	@Nullable private final CompressionMetrics compressionMetrics;
+	@Nullable private final BinaryContentType binaryContentType;
+	private final int maxConnections;
+	private final int maxConnectionsPerRoute;
+	private final Map<InetSocketAddress, Integer> maxConnectionsPerHost;
+	@Nullable private final ConnectionPoolMetrics connectionPoolMetrics;
 
 	DefaultClientConfiguration(List<InetSocketAddress> hosts, HttpHeaders headers, boolean useSsl,
 			@Nullable SSLContext sslContext, @Nullable String caFingerprint, Duration soTimeout, Duration connectTimeout,
 			@Nullable String pathPrefix, @Nullable HostnameVerifier hostnameVerifier, @Nullable String proxy,
-			List<ClientConfigurationCallback<?>> clientConfigurers, Supplier<HttpHeaders> headersSupplier) {
+			List<ClientConfigurationCallback<?>> clientConfigurers, Supplier<HttpHeaders> headersSupplier,
+			@Nullable NodeSelectionStrategy nodeSelectionStrategy, int requestCompressionThreshold,
+			boolean responseCompression, @Nullable BinaryContentType binaryContentType, int maxConnections,
+			int maxConnectionsPerRoute, Map<InetSocketAddress, Integer> maxConnectionsPerHost,
+			boolean connectionPoolMetrics) {
 
 		this.hosts = List.copyOf(hosts);
 		this.headers = headers;
@@ -68,6 +82,16 @@ class DefaultClientConfiguration implements ClientConfiguration {
 		this.proxy = proxy;
 		this.clientConfigurers = clientConfigurers;
 		this.headersSupplier = headersSupplier;
+		this.nodeSelectionStrategy = nodeSelectionStrategy;
+		this.requestCompressionThreshold = requestCompressionThreshold;
+		this.responseCompression = responseCompression;
+		this.compressionMetrics = requestCompressionThreshold >= 0 || responseCompression ? new CompressionMetrics()
+				: null;
+		this.binaryContentType = binaryContentType;
+		this.maxConnections = maxConnections;
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+		this.maxConnectionsPerHost = Map.copyOf(maxConnectionsPerHost);
+		this.connectionPoolMetrics = connectionPoolMetrics ? new ConnectionPoolMetrics() : null;
 	}
 
 	@Override
@@ -130,4 +154,49 @@ class DefaultClientConfiguration implements ClientConfiguration {
 	public Supplier<HttpHeaders> getHeadersSupplier() {
 		return headersSupplier;
 	}
+
+	@Override
+	public Optional<NodeSelectionStrategy> getNodeSelectionStrategy() {
+		return Optional.ofNullable(nodeSelectionStrategy);
+	}
+
+	@Override
+	public int getRequestCompressionThreshold() {
+		return requestCompressionThreshold;
+	}
+
+	@Override
+	public boolean isResponseCompressionEnabled() {
+		return responseCompression;
+	}
+
+	@Override
+	public Optional<CompressionMetrics> getCompressionMetrics() {
+		return Optional.ofNullable(compressionMetrics);
+	}
+
+	@Override
+	public Optional<BinaryContentType> getBinaryContentType() {
+		return Optional.ofNullable(binaryContentType);
+	}
+
+	@Override
+	public int getMaxConnections() {
+		return maxConnections;
+	}
+
+	@Override
+	public int getMaxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+
+	@Override
+	public Map<InetSocketAddress, Integer> getMaxConnectionsPerHost() {
+		return maxConnectionsPerHost;
+	}
+
+	@Override
+	public Optional<ConnectionPoolMetrics> getConnectionPoolMetrics() {
+		return Optional.ofNullable(connectionPoolMetrics);
+	}
 }
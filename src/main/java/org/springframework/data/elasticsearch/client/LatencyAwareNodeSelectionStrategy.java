@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link NodeSelectionStrategy} that prefers the nodes with the lowest expected latency. For each node an exponentially
+ * weighted moving average of the response latency is kept, the weight of a sample decays with its age. The load of a
+ * node is this average multiplied by the number of outstanding requests plus one, so a node that has many requests in
+ * flight is avoided even if it has been fast before. A request is sent to one of the nodes whose load is at most the
+ * configured tolerance factor above the lowest load. Nodes without latency samples are preferred so that they are
+ * probed, and the average of a node that did not get any requests decays, so slow nodes are probed again after a while.
+ * <p>
+ * A node that fails is not selected for a cool-down period, which doubles with every consecutive failure up to a
+ * maximum and is reset by a successful response. If all nodes are cooling down, no node is excluded.
+ * <p>
+ * A request of which the outcome is never reported, for example because it was cancelled in a client that does not
+ * report cancellations, stops counting as outstanding after the maximum request duration, so that it cannot make a
+ * node look busy forever.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class LatencyAwareNodeSelectionStrategy implements NodeSelectionStrategy {
+
+	public static final Duration DEFAULT_DECAY_TIME = Duration.ofSeconds(10);
+	public static final double DEFAULT_TOLERANCE = 2.0;
+	public static final Duration DEFAULT_INITIAL_COOL_DOWN = Duration.ofSeconds(1);
+	public static final Duration DEFAULT_MAX_COOL_DOWN = Duration.ofMinutes(1);
+	public static final Duration DEFAULT_MAX_REQUEST_DURATION = Duration.ofMinutes(1);
+
+	private final double decayNanos;
+	private final double tolerance;
+	private final long initialCoolDownNanos;
+	private final long maxCoolDownNanos;
+	private final long maxRequestDurationNanos;
+	private final LongSupplier nanoTime;
+	private final Map<InetSocketAddress, NodeStatistics> nodes = new ConcurrentHashMap<>();
+
+	public LatencyAwareNodeSelectionStrategy() {
+		this(DEFAULT_DECAY_TIME, DEFAULT_TOLERANCE, DEFAULT_INITIAL_COOL_DOWN, DEFAULT_MAX_COOL_DOWN,
+				DEFAULT_MAX_REQUEST_DURATION);
+	}
+
+	/**
+	 * @param decayTime the time after which the weight of a latency sample has decayed to 1/e, must be positive
+	 * @param tolerance the factor by which the load of a selected node may be higher than the lowest load, must be at
+	 *          least 1
+	 * @param initialCoolDown the time a node is not selected after a failure, must be positive
+	 * @param maxCoolDown the maximum time a node is not selected after consecutive failures, must not be less than
+	 *          {@code initialCoolDown}
+	 */
+	public LatencyAwareNodeSelectionStrategy(Duration decayTime, double tolerance, Duration initialCoolDown,
+			Duration maxCoolDown) {
+		this(decayTime, tolerance, initialCoolDown, maxCoolDown, DEFAULT_MAX_REQUEST_DURATION);
+	}
+
+	/**
+	 * @param decayTime the time after which the weight of a latency sample has decayed to 1/e, must be positive
+	 * @param tolerance the factor by which the load of a selected node may be higher than the lowest load, must be at
+	 *          least 1
+	 * @param initialCoolDown the time a node is not selected after a failure, must be positive
+	 * @param maxCoolDown the maximum time a node is not selected after consecutive failures, must not be less than
+	 *          {@code initialCoolDown}
+	 * @param maxRequestDuration the time after which a request without a reported outcome is no longer counted as
+	 *          outstanding, must be positive
+	 */
+	public LatencyAwareNodeSelectionStrategy(Duration decayTime, double tolerance, Duration initialCoolDown,
+			Duration maxCoolDown, Duration maxRequestDuration) {
+		this(decayTime, tolerance, initialCoolDown, maxCoolDown, maxRequestDuration, System::nanoTime);
+	}
+
+	LatencyAwareNodeSelectionStrategy(Duration decayTime, double tolerance, Duration initialCoolDown,
+			Duration maxCoolDown, Duration maxRequestDuration, LongSupplier nanoTime) {
+
+		Assert.notNull(decayTime, "decayTime must not be null");
+		Assert.isTrue(!decayTime.isNegative() && !decayTime.isZero(), "decayTime must be positive");
+		Assert.isTrue(tolerance >= 1, "tolerance must be at least 1");
+		Assert.notNull(initialCoolDown, "initialCoolDown must not be null");
+		Assert.isTrue(!initialCoolDown.isNegative() && !initialCoolDown.isZero(), "initialCoolDown must be positive");
+		Assert.notNull(maxCoolDown, "maxCoolDown must not be null");
+		Assert.isTrue(maxCoolDown.compareTo(initialCoolDown) >= 0, "maxCoolDown must not be less than initialCoolDown");
+		Assert.notNull(maxRequestDuration, "maxRequestDuration must not be null");
+		Assert.isTrue(!maxRequestDuration.isNegative() && !maxRequestDuration.isZero(),
+				"maxRequestDuration must be positive");
+
+		this.decayNanos = decayTime.toNanos();
+		this.tolerance = tolerance;
+		this.initialCoolDownNanos = initialCoolDown.toNanos();
+		this.maxCoolDownNanos = maxCoolDown.toNanos();
+		this.maxRequestDurationNanos = maxRequestDuration.toNanos();
+		this.nanoTime = nanoTime;
+	}
+
+	@Override
+	public List<InetSocketAddress> select(List<InetSocketAddress> candidates) {
+
+		long now = nanoTime.getAsLong();
+		List<InetSocketAddress> available = new ArrayList<>(candidates.size());
+		List<Double> loads = new ArrayList<>(candidates.size());
+		double lowestLoad = Double.MAX_VALUE;
+
+		for (InetSocketAddress candidate : candidates) {
+			NodeStatistics statistics = statistics(candidate);
+
+			if (statistics.isCoolingDown(now)) {
+				continue;
+			}
+
+			double load = statistics.load(now);
+			available.add(candidate);
+			loads.add(load);
+			lowestLoad = Math.min(lowestLoad, load);
+		}
+
+		List<InetSocketAddress> selected = new ArrayList<>(available.size());
+
+		for (int i = 0; i < available.size(); i++) {
+			if (loads.get(i) <= lowestLoad * tolerance) {
+				selected.add(available.get(i));
+			}
+		}
+
+		return selected;
+	}
+
+	@Override
+	public void requestStarted(InetSocketAddress node) {
+		statistics(node).requestStarted(nanoTime.getAsLong());
+	}
+
+	@Override
+	public void requestSucceeded(InetSocketAddress node, Duration latency) {
+		statistics(node).requestSucceeded(latency.toNanos(), nanoTime.getAsLong());
+	}
+
+	@Override
+	public void requestFailed(InetSocketAddress node) {
+		statistics(node).requestFailed(nanoTime.getAsLong());
+	}
+
+	@Override
+	public void requestCancelled(InetSocketAddress node) {
+		statistics(node).requestCancelled(nanoTime.getAsLong());
+	}
+
+	private NodeStatistics statistics(InetSocketAddress node) {
+		return nodes.computeIfAbsent(node, key -> new NodeStatistics());
+	}
+
+	private final class NodeStatistics {
+
+		/**
+		 * the start times of the outstanding requests, oldest first
+		 */
+		private final Deque<Long> outstanding = new ArrayDeque<>();
+		private double averageLatencyNanos = 0;
+		private long lastSample = 0;
+		private boolean sampled = false;
+		private int consecutiveFailures = 0;
+		private long coolDownUntil = 0;
+
+		synchronized void requestStarted(long now) {
+			outstanding.addLast(now);
+		}
+
+		synchronized void requestSucceeded(long latencyNanos, long now) {
+
+			requestFinished(now);
+			consecutiveFailures = 0;
+
+			if (sampled) {
+				double weight = Math.exp(-(now - lastSample) / decayNanos);
+				averageLatencyNanos = averageLatencyNanos * weight + latencyNanos * (1 - weight);
+			} else {
+				averageLatencyNanos = latencyNanos;
+				sampled = true;
+			}
+
+			lastSample = now;
+		}
+
+		synchronized void requestFailed(long now) {
+
+			requestFinished(now);
+			consecutiveFailures++;
+
+			long coolDown = initialCoolDownNanos << Math.min(consecutiveFailures - 1, 30);
+			coolDownUntil = now + (coolDown <= 0 || coolDown > maxCoolDownNanos ? maxCoolDownNanos : coolDown);
+		}
+
+		synchronized void requestCancelled(long now) {
+			requestFinished(now);
+		}
+
+		private void requestFinished(long now) {
+
+			// the requests are not distinguished, so the oldest one that has not expired is removed. A request may be
+			// reported as failed and as finished with an error response, or may already have been expired
+			outstanding(now);
+			outstanding.pollFirst();
+		}
+
+		private int outstanding(long now) {
+
+			Long oldest;
+			while ((oldest = outstanding.peekFirst()) != null && now - oldest > maxRequestDurationNanos) {
+				outstanding.pollFirst();
+			}
+
+			return outstanding.size();
+		}
+
+		synchronized boolean isCoolingDown(long now) {
+			return consecutiveFailures > 0 && coolDownUntil - now > 0;
+		}
+
+		synchronized double load(long now) {
+
+			// without samples only the outstanding requests count, which is far below any measured latency
+			if (!sampled) {
+				return outstanding(now);
+			}
+
+			double decayedLatency = averageLatencyNanos * Math.exp(-(now - lastSample) / decayNanos);
+			return decayedLatency * (outstanding(now) + 1);
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Strategy to select the nodes a request is sent to. Before each request the client passes the nodes it considers
+ * alive to {@link #select(List)}. The client sends the request to one of the selected nodes and tries the other
+ * selected nodes if this fails. The strategy is informed about the start and the outcome of each request sent to a
+ * node, so that it can base the selection on the observed behaviour of the nodes.
+ * <p>
+ * The nodes are identified by unresolved {@link InetSocketAddress}es built from the host name and port of the
+ * endpoints. Implementations must be thread-safe and must not block.
+ *
+ * @author agent
+ * @since 6.2
+ * @see LatencyAwareNodeSelectionStrategy
+ */
+public interface NodeSelectionStrategy {
+
+	/**
+	 * Selects the nodes for the next request.
+	 *
+	 * @param nodes the candidate nodes, not empty
+	 * @return the nodes to use, a subset of the candidates. If empty, all candidates are used.
+	 */
+	List<InetSocketAddress> select(List<InetSocketAddress> nodes);
+
+	/**
+	 * Called when a request is sent to a node.
+	 */
+	void requestStarted(InetSocketAddress node);
+
+	/**
+	 * Called when a response was received from a node.
+	 *
+	 * @param latency the time between sending the request and receiving the response headers
+	 */
+	void requestSucceeded(InetSocketAddress node, Duration latency);
+
+	/**
+	 * Called when a request to a node failed with an I/O error or the node responded that it is unavailable.
+	 */
+	void requestFailed(InetSocketAddress node);
+
+	/**
+	 * Called when a request to a node was cancelled before a response was received. The request is no longer
+	 * outstanding, but this is not a failure of the node.
+	 */
+	void requestCancelled(InetSocketAddress node);
+
+	/**
+	 * Creates a {@link LatencyAwareNodeSelectionStrategy} with default settings.
+	 */
+	static NodeSelectionStrategy latencyAware() {
+		return new LatencyAwareNodeSelectionStrategy();
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.AggregationBucket;
+import org.springframework.data.elasticsearch.core.query.AggregationStreamOptions;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+
+/**
+ * Iterates over the pages of a composite aggregation or the partitions of a terms aggregation, returning the buckets of
+ * one search per step. Without an {@link Executor} in the {@link AggregationStreamOptions} each search is done on the
+ * calling thread when its buckets are needed. With an executor, the next page of a composite aggregation is requested
+ * as soon as the current one is returned if prefetch is enabled, and up to
+ * {@link AggregationStreamOptions#getParallelism()} partitions are searched concurrently. Closing the iterator cancels
+ * these searches.
+ *
+ * @author agent
+ * @since 6.2
+ */
+class AggregationPageIterator implements CloseableIterator<List<AggregationBucket>> {
+
+	private final AggregationStreamRequests requests;
+	private final Function<SearchRequest, AggregationStreamRequests.Page> search;
+	private final AggregationStreamOptions options;
+	@Nullable private final Executor executor;
+	private final Deque<CompletableFuture<AggregationStreamRequests.Page>> pending = new ArrayDeque<>();
+
+	private int nextPartition = 0;
+	@Nullable private SearchRequest nextCompositeRequest;
+
+	AggregationPageIterator(AggregationStreamRequests requests,
+			Function<SearchRequest, AggregationStreamRequests.Page> search, AggregationStreamOptions options) {
+
+		Assert.notNull(requests, "requests must not be null");
+		Assert.notNull(search, "search must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		this.requests = requests;
+		this.search = search;
+		this.options = options;
+		this.executor = options.getExecutor();
+		this.nextCompositeRequest = requests.isPartitioned() ? null : requests.compositeRequest(null);
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		if (!pending.isEmpty()) {
+			return true;
+		}
+
+		return requests.isPartitioned() ? nextPartition < options.getPartitions() : nextCompositeRequest != null;
+	}
+
+	@Override
+	public List<AggregationBucket> next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return requests.isPartitioned() ? nextPartition() : nextCompositePage();
+	}
+
+	private List<AggregationBucket> nextPartition() {
+
+		int inFlight = executor != null ? options.getParallelism() : 1;
+		fill(inFlight);
+		AggregationStreamRequests.Page page = join(pending.removeFirst());
+
+		if (executor != null) {
+			// keep the partitions searching while the caller consumes this one
+			fill(inFlight);
+		}
+
+		return page.buckets();
+	}
+
+	private void fill(int inFlight) {
+
+		while (pending.size() < inFlight && nextPartition < options.getPartitions()) {
+			pending.addLast(submit(requests.partitionRequest(nextPartition++)));
+		}
+	}
+
+	private List<AggregationBucket> nextCompositePage() {
+
+		AggregationStreamRequests.Page page;
+
+		if (pending.isEmpty()) {
+			// noinspection DataFlowIssue checked in hasNext()
+			page = search.apply(nextCompositeRequest);
+		} else {
+			page = join(pending.removeFirst());
+		}
+
+		nextCompositeRequest = page.hasNext() ? requests.compositeRequest(page.afterKey()) : null;
+
+		if (nextCompositeRequest != null && executor != null && options.getPrefetch() > 0) {
+			pending.addLast(submit(nextCompositeRequest));
+			nextCompositeRequest = null;
+		}
+
+		return page.buckets();
+	}
+
+	private CompletableFuture<AggregationStreamRequests.Page> submit(SearchRequest request) {
+
+		if (executor == null) {
+			return CompletableFuture.completedFuture(search.apply(request));
+		}
+
+		return CompletableFuture.supplyAsync(() -> search.apply(request), executor);
+	}
+
+	private static AggregationStreamRequests.Page join(CompletableFuture<AggregationStreamRequests.Page> future) {
+
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() {
+
+		pending.forEach(future -> future.cancel(true));
+		pending.clear();
+		nextPartition = options.getPartitions();
+		nextCompositeRequest = null;
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.Buckets;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.TermsAggregation;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.search.ResponseBody;
+import co.elastic.clients.json.JsonpMapper;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.AggregationBucket;
+import org.springframework.data.elasticsearch.core.query.AggregationStreamOptions;
+import org.springframework.util.Assert;
+
+/**
+ * Creates the search requests for the pages of a composite aggregation or the partitions of a terms aggregation whose
+ * buckets are streamed, and extracts the buckets from the responses. The converted request of the query is reused for
+ * all searches, only the size of the request and the aggregation are replaced.
+ *
+ * @author agent
+ * @since 6.2
+ */
+class AggregationStreamRequests {
+
+	private final SearchRequest searchRequest;
+	private final String aggregationName;
+	private final Aggregation aggregation;
+	private final AggregationStreamOptions options;
+	private final JsonpMapper jsonpMapper;
+
+	AggregationStreamRequests(SearchRequest searchRequest, String aggregationName, AggregationStreamOptions options,
+			JsonpMapper jsonpMapper) {
+
+		Assert.notNull(searchRequest, "searchRequest must not be null");
+		Assert.notNull(aggregationName, "aggregationName must not be null");
+		Assert.notNull(options, "options must not be null");
+		Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
+
+		Aggregation aggregation = searchRequest.aggregations().get(aggregationName);
+		Assert.notNull(aggregation, "query does not contain an aggregation named " + aggregationName);
+
+		if (options.getPartitions() > 0) {
+			Assert.isTrue(aggregation.isTerms(), "aggregation " + aggregationName + " must be a terms aggregation");
+			// the include of the partition requests selects the partition and would replace the include of the aggregation
+			Assert.isTrue(aggregation.terms().include() == null,
+					"terms aggregation " + aggregationName + " must not have an include when it is partitioned");
+		} else {
+			Assert.isTrue(aggregation.isComposite(), "aggregation " + aggregationName + " must be a composite aggregation");
+		}
+
+		this.searchRequest = searchRequest;
+		this.aggregationName = aggregationName;
+		this.aggregation = aggregation;
+		this.options = options;
+		this.jsonpMapper = jsonpMapper;
+	}
+
+	boolean isPartitioned() {
+		return options.getPartitions() > 0;
+	}
+
+	/**
+	 * @param afterKey the {@code after_key} of the previous page, {@literal null} for the first page
+	 * @return the request for a page of the composite aggregation
+	 */
+	SearchRequest compositeRequest(@Nullable Map<String, FieldValue> afterKey) {
+
+		CompositeAggregation composite = aggregation.composite();
+		Integer size = options.getPageSize() != null ? options.getPageSize() : composite.size();
+
+		Aggregation page = Aggregation.of(a -> a //
+				.composite(c -> {
+					c.sources(composite.sources());
+
+					if (size != null) {
+						c.size(size);
+					}
+
+					if (afterKey != null && !afterKey.isEmpty()) {
+						c.after(afterKey);
+					}
+					return c;
+				}) //
+				.aggregations(aggregation.aggregations()) //
+				.meta(aggregation.meta()));
+
+		return searchRequest.rebuild().size(0).aggregations(aggregationName, page).build();
+	}
+
+	/**
+	 * @param partition the number of the partition, starting with 0
+	 * @return the request for a partition of the terms aggregation
+	 */
+	SearchRequest partitionRequest(int partition) {
+
+		Assert.isTrue(partition >= 0 && partition < options.getPartitions(), "partition out of range");
+
+		// the terms aggregation has too many properties to copy them one by one, it has no include that is replaced
+		String termsJson = JsonUtils.toJson(aggregation.terms(), jsonpMapper);
+		TermsAggregation terms = TermsAggregation.of(t -> {
+			t.withJson(new StringReader(termsJson)) //
+					.include(i -> i.partition(p -> p.partition(partition).numPartitions(options.getPartitions())));
+
+			if (options.getPageSize() != null) {
+				t.size(options.getPageSize());
+			}
+			return t;
+		});
+
+		Aggregation partitionAggregation = Aggregation.of(a -> a //
+				.terms(terms) //
+				.aggregations(aggregation.aggregations()) //
+				.meta(aggregation.meta()));
+
+		return searchRequest.rebuild().size(0).aggregations(aggregationName, partitionAggregation).build();
+	}
+
+	/**
+	 * @param response the response for a page or partition request
+	 * @return the buckets of the response and the {@code after_key} for the next page of a composite aggregation
+	 */
+	Page page(ResponseBody<?> response) {
+
+		Aggregate aggregate = response.aggregations().get(aggregationName);
+
+		if (aggregate == null) {
+			return new Page(Collections.emptyList(), null);
+		}
+
+		return switch (aggregate._kind()) {
+			case Composite -> {
+				CompositeAggregate composite = aggregate.composite();
+				List<AggregationBucket> buckets = buckets(composite.buckets(),
+						bucket -> new ElasticsearchAggregationBucket(toObjects(bucket.key()), bucket));
+				yield new Page(buckets, composite.afterKey());
+			}
+			case Sterms -> new Page(buckets(aggregate.sterms().buckets(),
+					bucket -> new ElasticsearchAggregationBucket(key(TypeUtils.toObject(bucket.key())), bucket)), null);
+			case Lterms -> new Page(
+					buckets(aggregate.lterms().buckets(), bucket -> new ElasticsearchAggregationBucket(key(bucket.key()), bucket)),
+					null);
+			case Dterms -> new Page(
+					buckets(aggregate.dterms().buckets(), bucket -> new ElasticsearchAggregationBucket(key(bucket.key()), bucket)),
+					null);
+			default -> throw new IllegalArgumentException(
+					"aggregation " + aggregationName + " returned an unsupported aggregate of kind " + aggregate._kind());
+		};
+	}
+
+	private static <B> List<AggregationBucket> buckets(Buckets<B> buckets,
+			Function<B, ElasticsearchAggregationBucket> mapper) {
+
+		List<B> list = buckets.isArray() ? buckets.array() : new ArrayList<>(buckets.keyed().values());
+		return list.stream().map(mapper).map(AggregationBucket.class::cast).toList();
+	}
+
+	private static Map<String, Object> toObjects(Map<String, FieldValue> key) {
+
+		Map<String, Object> map = new LinkedHashMap<>();
+		key.forEach((name, value) -> map.put(name, TypeUtils.toObject(value)));
+		return map;
+	}
+
+	private Map<String, Object> key(@Nullable Object value) {
+		return Collections.singletonMap(aggregationName, value);
+	}
+
+	/**
+	 * The buckets of one response.
+	 *
+	 * @param buckets the buckets
+	 * @param afterKey the {@code after_key} of a composite aggregation, {@literal null} or empty for the last page
+	 */
+	record Page(List<AggregationBucket> buckets, @Nullable Map<String, FieldValue> afterKey) {
+
+		/**
+		 * @return {@literal true} if there may be a next page of a composite aggregation
+		 */
+		boolean hasNext() {
+			return afterKey != null && !afterKey.isEmpty() && !buckets.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.data.elasticsearch.core.AsyncElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateResponse;
+import org.springframework.data.elasticsearch.core.routing.RoutingResolver;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of {@link AsyncElasticsearchOperations} using the asynchronous transport of a
+ * {@link ReactiveElasticsearchClient}. The requests are created and the responses are converted by a
+ * {@link ReactiveElasticsearchTemplate}, so both templates behave the same regarding mapping, entity callbacks and
+ * observation; this class only adapts the results to {@link CompletableFuture}s.
+ * <p>
+ * The responses are converted on the thread that received them. When the conversion of large results should not occupy
+ * the I/O threads of the client, an {@link Executor} for the conversion can be set with
+ * {@link #setConversionExecutor(Executor)}.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class AsyncElasticsearchTemplate implements AsyncElasticsearchOperations, ApplicationContextAware {
+
+	private final ReactiveElasticsearchTemplate reactiveTemplate;
+
+	public AsyncElasticsearchTemplate(ReactiveElasticsearchClient client, ElasticsearchConverter converter) {
+		this(new ReactiveElasticsearchTemplate(client, converter));
+	}
+
+	private AsyncElasticsearchTemplate(ReactiveElasticsearchTemplate reactiveTemplate) {
+
+		Assert.notNull(reactiveTemplate, "reactiveTemplate must not be null");
+
+		this.reactiveTemplate = reactiveTemplate;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		reactiveTemplate.setApplicationContext(applicationContext);
+	}
+
+	/**
+	 * Sets the {@link Executor} on which the responses are converted into entities and the returned futures are
+	 * completed.
+	 *
+	 * @param conversionExecutor the executor, {@literal null} to convert the responses on the thread that received them
+	 */
+	public void setConversionExecutor(@Nullable Executor conversionExecutor) {
+		reactiveTemplate
+				.setConversionScheduler(conversionExecutor != null ? Schedulers.fromExecutor(conversionExecutor) : null);
+	}
+
+	/**
+	 * Set the default {@link RefreshPolicy} for write requests.
+	 *
+	 * @param refreshPolicy the refresh policy, may be {@literal null}
+	 */
+	public void setRefreshPolicy(@Nullable RefreshPolicy refreshPolicy) {
+		reactiveTemplate.setRefreshPolicy(refreshPolicy);
+	}
+
+	/**
+	 * @return the {@link ReactiveElasticsearchTemplate} that executes the requests of this template.
+	 */
+	public ReactiveElasticsearchTemplate getReactiveTemplate() {
+		return reactiveTemplate;
+	}
+
+	// region document operations
+	@Override
+	public <T> CompletableFuture<T> save(T entity) {
+		return reactiveTemplate.save(entity).toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<T> save(T entity, IndexCoordinates index) {
+		return reactiveTemplate.save(entity, index).toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> saveAll(Iterable<T> entities, IndexCoordinates index) {
+		return reactiveTemplate.saveAll(entities, index).collectList().toFuture();
+	}
+
+	@Override
+	public CompletableFuture<Void> bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+		return reactiveTemplate.bulkUpdate(queries, bulkOptions, index).toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<@Nullable T> get(String id, Class<T> entityType, IndexCoordinates index) {
+		return reactiveTemplate.get(id, entityType, index).toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<List<MultiGetItem<T>>> multiGet(Query query, Class<T> clazz, IndexCoordinates index) {
+		return reactiveTemplate.multiGet(query, clazz, index).collectList().toFuture();
+	}
+
+	@Override
+	public CompletableFuture<Boolean> exists(String id, IndexCoordinates index) {
+		return reactiveTemplate.exists(id, index).toFuture();
+	}
+
+	@Override
+	public CompletableFuture<String> delete(Object entity) {
+		return reactiveTemplate.delete(entity).toFuture();
+	}
+
+	@Override
+	public CompletableFuture<String> delete(String id, IndexCoordinates index) {
+		return reactiveTemplate.delete(id, index).toFuture();
+	}
+
+	@Override
+	public CompletableFuture<ByQueryResponse> delete(DeleteQuery query, Class<?> entityType, IndexCoordinates index) {
+		return reactiveTemplate.delete(query, entityType, index).toFuture();
+	}
+
+	@Override
+	public CompletableFuture<UpdateResponse> update(UpdateQuery updateQuery, IndexCoordinates index) {
+		return reactiveTemplate.update(updateQuery, index).toFuture();
+	}
+	// endregion
+
+	// region search operations
+	@Override
+	public CompletableFuture<Long> count(Query query, Class<?> entityType, IndexCoordinates index) {
+		return reactiveTemplate.count(query, entityType, index).toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz, IndexCoordinates index) {
+		return reactiveTemplate.searchForPage(query, clazz, clazz, index).map(SearchPage::getSearchHits).toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<@Nullable SearchHit<T>> searchOne(Query query, Class<T> clazz, IndexCoordinates index) {
+		return search(query, clazz, index)
+				.thenApply(searchHits -> searchHits.hasSearchHits() ? searchHits.getSearchHit(0) : null);
+	}
+	// endregion
+
+	@Override
+	public ElasticsearchConverter getElasticsearchConverter() {
+		return reactiveTemplate.getElasticsearchConverter();
+	}
+
+	@Override
+	public IndexCoordinates getIndexCoordinatesFor(Class<?> clazz) {
+		return reactiveTemplate.getIndexCoordinatesFor(clazz);
+	}
+
+	@Override
+	public AsyncElasticsearchOperations withRouting(RoutingResolver routingResolver) {
+		return new AsyncElasticsearchTemplate(
+				(ReactiveElasticsearchTemplate) reactiveTemplate.withRouting(routingResolver));
+	}
+
+	@Override
+	public AsyncElasticsearchOperations withRefreshPolicy(@Nullable RefreshPolicy refreshPolicy) {
+		return new AsyncElasticsearchTemplate(
+				(ReactiveElasticsearchTemplate) reactiveTemplate.withRefreshPolicy(refreshPolicy));
+	}
+}
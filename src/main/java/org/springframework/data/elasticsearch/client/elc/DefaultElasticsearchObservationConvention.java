@@ -59,12 +59,26 @@ public class DefaultElasticsearchObservationConvention implements ElasticsearchO
 	@Override
 	public KeyValues getHighCardinalityKeyValues(ElasticsearchObservationContext context) {
 
+		KeyValues keyValues = KeyValues.empty();
+
 		Integer batchSize = context.getBatchSize();
 		if (batchSize != null) {
-			return KeyValues.of(
-					ElasticsearchObservation.HighCardinalityKeyNames.BATCH_SIZE.withValue(String.valueOf(batchSize)));
+			keyValues = keyValues
+					.and(ElasticsearchObservation.HighCardinalityKeyNames.BATCH_SIZE.withValue(String.valueOf(batchSize)));
+		}
+
+		IsolationPolicy.CircuitState circuitState = context.getCircuitState();
+		if (circuitState != null) {
+			keyValues = keyValues
+					.and(ElasticsearchObservation.IsolationKeyNames.CIRCUIT_STATE.withValue(circuitState.getValue()));
 		}
 
-		return KeyValues.empty();
+		Integer concurrentRequests = context.getConcurrentRequests();
+		if (concurrentRequests != null) {
+			keyValues = keyValues.and(ElasticsearchObservation.IsolationKeyNames.CONCURRENT_REQUESTS
+					.withValue(String.valueOf(concurrentRequests)));
+		}
+
+		return keyValues;
 	}
 }
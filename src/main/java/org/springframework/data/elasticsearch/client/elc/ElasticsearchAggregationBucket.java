@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch._types.aggregations.MultiBucketBase;
+
+import java.util.Map;
+
+import org.springframework.data.elasticsearch.core.AggregationBucket;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AggregationBucket} for a bucket returned by Elasticsearch. The bucket from the client, for example a
+ * {@link co.elastic.clients.elasticsearch._types.aggregations.CompositeBucket}, is available with {@link #bucket()}.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class ElasticsearchAggregationBucket implements AggregationBucket {
+
+	private final Map<String, Object> key;
+	private final MultiBucketBase bucket;
+
+	public ElasticsearchAggregationBucket(Map<String, Object> key, MultiBucketBase bucket) {
+
+		Assert.notNull(key, "key must not be null");
+		Assert.notNull(bucket, "bucket must not be null");
+
+		this.key = key;
+		this.bucket = bucket;
+	}
+
+	@Override
+	public Map<String, Object> getKey() {
+		return key;
+	}
+
+	@Override
+	public long getDocCount() {
+		return bucket.docCount();
+	}
+
+	@Override
+	public ElasticsearchAggregations getAggregations() {
+		return new ElasticsearchAggregations(bucket.aggregations());
+	}
+
+	/**
+	 * @return the bucket returned by Elasticsearch
+	 */
+	public MultiBucketBase bucket() {
+		return bucket;
+	}
+
+	@Override
+	public String toString() {
+		return "ElasticsearchAggregationBucket{" + "key=" + key + ", docCount=" + bucket.docCount() + '}';
+	}
+}
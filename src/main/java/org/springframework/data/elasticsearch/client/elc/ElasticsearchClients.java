@@ -39,6 +39,7 @@ import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.message.BasicNameValuePair;
 import org.elasticsearch.client.RestClient;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.client.BinaryContentType;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
 import org.springframework.data.elasticsearch.support.VersionInfo;
 import org.springframework.util.Assert;
@@ -187,7 +188,7 @@ public final class ElasticsearchClients {
 	 * @return the {@link ElasticsearchClient}
 	 */
 	public static ElasticsearchClient createImperative(ClientConfiguration clientConfiguration) {
-		return createImperative(getRest5Client(clientConfiguration), null, DEFAULT_JSONP_MAPPER);
+		return createImperative(clientConfiguration, null);
 	}
 
 	/**
@@ -200,8 +201,15 @@ public final class ElasticsearchClients {
 	 * @return the {@link ElasticsearchClient}
 	 */
 	public static ElasticsearchClient createImperative(ClientConfiguration clientConfiguration,
-			TransportOptions transportOptions) {
-		return createImperative(getRest5Client(clientConfiguration), transportOptions, DEFAULT_JSONP_MAPPER);
+			@Nullable TransportOptions transportOptions) {
+
+		Assert.notNull(clientConfiguration, "clientConfiguration must not be null");
+
+		ElasticsearchTransport transport = getElasticsearchTransport(getRest5Client(clientConfiguration),
+				IMPERATIVE_CLIENT, transportOptions, DEFAULT_JSONP_MAPPER,
+				clientConfiguration.getBinaryContentType().orElse(null));
+
+		return createImperative(transport);
 	}
 
 	/**
@@ -340,6 +348,25 @@ public final class ElasticsearchClients {
 	 */
 	public static ElasticsearchTransport getElasticsearchTransport(Rest5Client rest5Client, String clientType,
 			@Nullable TransportOptions transportOptions, JsonpMapper jsonpMapper) {
+		return getElasticsearchTransport(rest5Client, clientType, transportOptions, jsonpMapper, null);
+	}
+
+	/**
+	 * Creates an {@link ElasticsearchTransport} that will use the given client that additionally is customized with a
+	 * header to contain the clientType. If a {@link BinaryContentType} is given, the transport exchanges the bodies with
+	 * Elasticsearch in this format, see {@link ClientConfiguration#getBinaryContentType()}.
+	 *
+	 * @param rest5Client the client to use
+	 * @param clientType the client type to pass in each request as header
+	 * @param transportOptions options for the transport
+	 * @param jsonpMapper mapper for the transport
+	 * @param binaryContentType the binary content type, {@literal null} to exchange all bodies as JSON
+	 * @return ElasticsearchTransport
+	 * @since 6.2
+	 */
+	public static ElasticsearchTransport getElasticsearchTransport(Rest5Client rest5Client, String clientType,
+			@Nullable TransportOptions transportOptions, JsonpMapper jsonpMapper,
+			@Nullable BinaryContentType binaryContentType) {
 
 		Assert.notNull(rest5Client, "restClient must not be null");
 		Assert.notNull(clientType, "clientType must not be null");
@@ -353,6 +380,11 @@ public final class ElasticsearchClients {
 		rest5ClientOptionsBuilder.addHeader(X_SPRING_DATA_ELASTICSEARCH_CLIENT,
 				VersionInfo.clientVersions() + " / " + clientType);
 
+		if (binaryContentType != null) {
+			return getBinaryContentTransport(rest5Client, jsonpMapper, rest5ClientOptionsBuilder.build(),
+					binaryContentType);
+		}
+
 		return new Rest5ClientTransport(rest5Client, jsonpMapper, rest5ClientOptionsBuilder.build());
 	}
 	// endregion
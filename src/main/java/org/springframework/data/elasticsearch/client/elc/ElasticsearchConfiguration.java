@@ -82,7 +82,7 @@ public abstract class ElasticsearchConfiguration extends ElasticsearchConfigurat
 		Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
 
 		return ElasticsearchClients.getElasticsearchTransport(rest5Client, ElasticsearchClients.IMPERATIVE_CLIENT,
-				transportOptions(), jsonpMapper);
+				transportOptions(), jsonpMapper, clientConfiguration().getBinaryContentType().orElse(null));
 	}
 
 	/**
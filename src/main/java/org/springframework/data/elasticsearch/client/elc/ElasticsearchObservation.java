@@ -96,4 +96,34 @@ public enum ElasticsearchObservation implements ObservationDocumentation {
 			}
 		}
 	}
+
+	/**
+	 * Key names for the state of an {@link IsolationPolicy}. They are only present when a policy is configured and are
+	 * therefore added as high cardinality key values, so that the tag key sets of the metrics do not depend on the
+	 * configuration. They are not part of the documented key names of the observation.
+	 *
+	 * @since 6.2
+	 */
+	enum IsolationKeyNames implements KeyName {
+
+		/**
+		 * The state of the circuit breaker for the index and operation.
+		 */
+		CIRCUIT_STATE {
+			@Override
+			public String asString() {
+				return "spring.data.circuit.state";
+			}
+		},
+
+		/**
+		 * The number of concurrent requests for the index and operation when the request was sent.
+		 */
+		CONCURRENT_REQUESTS {
+			@Override
+			public String asString() {
+				return "spring.data.concurrent.requests";
+			}
+		}
+	}
 }
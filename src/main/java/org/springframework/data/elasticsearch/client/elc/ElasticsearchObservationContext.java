@@ -32,6 +32,8 @@ public class ElasticsearchObservationContext extends Observation.Context {
 	private final ElasticsearchOperationName operationName;
 	@Nullable private final IndexCoordinates indexCoordinates;
 	@Nullable private Integer batchSize;
+	private IsolationPolicy.@Nullable CircuitState circuitState;
+	@Nullable private Integer concurrentRequests;
 
 	public ElasticsearchObservationContext(ElasticsearchOperationName operationName,
 			@Nullable IndexCoordinates indexCoordinates) {
@@ -78,4 +80,43 @@ public class ElasticsearchObservationContext extends Observation.Context {
 	public void setBatchSize(@Nullable Integer batchSize) {
 		this.batchSize = batchSize;
 	}
+
+	/**
+	 * @return the state of the circuit breaker for the index and operation, or {@literal null} if no
+	 *         {@link IsolationPolicy} is used.
+	 * @since 6.2
+	 */
+	public IsolationPolicy.@Nullable CircuitState getCircuitState() {
+		return circuitState;
+	}
+
+	/**
+	 * Set the state of the circuit breaker for the index and operation.
+	 *
+	 * @param circuitState the state, can be {@literal null}
+	 * @since 6.2
+	 */
+	public void setCircuitState(IsolationPolicy.@Nullable CircuitState circuitState) {
+		this.circuitState = circuitState;
+	}
+
+	/**
+	 * @return the number of concurrent requests for the index and operation, or {@literal null} if no
+	 *         {@link IsolationPolicy} is used.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Integer getConcurrentRequests() {
+		return concurrentRequests;
+	}
+
+	/**
+	 * Set the number of concurrent requests for the index and operation.
+	 *
+	 * @param concurrentRequests the number of requests, can be {@literal null}
+	 * @since 6.2
+	 */
+	public void setConcurrentRequests(@Nullable Integer concurrentRequests) {
+		this.concurrentRequests = concurrentRequests;
+	}
 }
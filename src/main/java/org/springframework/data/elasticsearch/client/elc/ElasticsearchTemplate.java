@@ -25,11 +25,14 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.data.elasticsearch.BulkFailureException;
 import org.springframework.data.elasticsearch.client.UnsupportedBackendOperation;
 import org.springframework.data.elasticsearch.core.AbstractElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.AggregationBucket;
 import org.springframework.data.elasticsearch.core.IndexOperations;
 import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
 import org.springframework.data.elasticsearch.core.MultiGetItem;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchResultCache;
 import org.springframework.data.elasticsearch.core.SearchScrollHits;
+import org.springframework.data.elasticsearch.core.asyncsearch.AsyncSearchResponse;
 import org.springframework.data.elasticsearch.core.cluster.ClusterOperations;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.document.Document;
@@ -51,15 +54,33 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.Time;
+import co.elastic.clients.elasticsearch.async_search.AsyncSearchDocumentResponseBase;
+import co.elastic.clients.elasticsearch.async_search.DeleteAsyncSearchRequest;
+import co.elastic.clients.elasticsearch.async_search.GetAsyncSearchRequest;
+import co.elastic.clients.elasticsearch.async_search.GetAsyncSearchResponse;
+import co.elastic.clients.elasticsearch.async_search.SubmitRequest;
+import co.elastic.clients.elasticsearch.async_search.SubmitResponse;
 import co.elastic.clients.elasticsearch.core.*;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
 import co.elastic.clients.elasticsearch.core.search.ResponseBody;
+import co.elastic.clients.elasticsearch.sql.ElasticsearchSqlAsyncClient;
 import co.elastic.clients.elasticsearch.sql.ElasticsearchSqlClient;
 import co.elastic.clients.elasticsearch.sql.QueryResponse;
 import co.elastic.clients.json.JsonpMapper;
@@ -81,11 +102,28 @@ import io.micrometer.observation.ObservationRegistry;
 public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 	private static final Log LOGGER = LogFactory.getLog(ElasticsearchTemplate.class);
+	/**
+	 * all coalesced searches are put into the same batch, each search of a multi search request has its own header.
+	 */
+	private static final String COALESCED_SEARCH_KEY = "search";
+	// include_named_queries_score is a parameter of the whole multi search, so these searches are batched separately
+	private static final String COALESCED_SEARCH_WITH_NAMED_QUERIES_SCORE_KEY = "search-with-named-queries-score";
+	/**
+	 * the operation that is observed on the current thread, used to apply the {@link IsolationPolicy} to the requests
+	 * sent for it. This is static because an operation may send its requests with a copy of this template.
+	 */
+	private static final ThreadLocal<@Nullable ElasticsearchObservationContext> OBSERVED_OPERATION = new ThreadLocal<>();
 
 	@Nullable private ElasticsearchObservationConvention observationConvention;
+	@Nullable private RequestCoalescer<RequestCoalescer.IndexKey, Query.IdWithRouting, MultiGetItem<Document>> getRequestCoalescer;
+	@Nullable private RequestCoalescer<String, CoalescedSearch, CoalescedSearchResult> searchRequestCoalescer;
+	@Nullable private HedgingPolicy hedgingPolicy;
+	@Nullable private IsolationPolicy isolationPolicy;
 
 	private final ElasticsearchClient client;
 	private final ElasticsearchSqlClient sqlClient;
+	private final ElasticsearchAsyncClient asyncClient;
+	private final ElasticsearchSqlAsyncClient asyncSqlClient;
 	private final RequestConverter requestConverter;
 	private final ResponseConverter responseConverter;
 	private final JsonpMapper jsonpMapper;
@@ -98,6 +136,8 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		this.client = client;
 		this.sqlClient = client.sql();
+		this.asyncClient = new ElasticsearchAsyncClient(client._transport(), client._transportOptions());
+		this.asyncSqlClient = asyncClient.sql();
 		this.jsonpMapper = client._transport().jsonpMapper();
 		requestConverter = new RequestConverter(elasticsearchConverter, jsonpMapper);
 		responseConverter = new ResponseConverter(jsonpMapper);
@@ -111,6 +151,8 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		this.client = client;
 		this.sqlClient = client.sql();
+		this.asyncClient = new ElasticsearchAsyncClient(client._transport(), client._transportOptions());
+		this.asyncSqlClient = asyncClient.sql();
 		this.jsonpMapper = client._transport().jsonpMapper();
 		requestConverter = new RequestConverter(elasticsearchConverter, jsonpMapper);
 		responseConverter = new ResponseConverter(jsonpMapper);
@@ -127,6 +169,10 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		if (copy instanceof ElasticsearchTemplate elasticsearchTemplate) {
 			elasticsearchTemplate.observationConvention = this.observationConvention;
+			elasticsearchTemplate.getRequestCoalescer = this.getRequestCoalescer;
+			elasticsearchTemplate.searchRequestCoalescer = this.searchRequestCoalescer;
+			elasticsearchTemplate.hedgingPolicy = this.hedgingPolicy;
+			elasticsearchTemplate.isolationPolicy = this.isolationPolicy;
 		}
 	}
 
@@ -155,27 +201,126 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		this.observationConvention = observationConvention;
 	}
 
-	private <T> T observe(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index,
-			Supplier<T> action) {
-		Observation observation = createObservation(operationName, index, null);
-		return observation.observe(action);
+	/**
+	 * Enables or disables the coalescing of get requests. When enabled, {@link #get(String, Class, IndexCoordinates)}
+	 * calls for the same index and entity class that are issued concurrently are sent to Elasticsearch as one multi get
+	 * request, and an id that is already requested by a pending or in-flight multi get
+	 * request is not requested again. A request is sent immediately when no multi get request for the same index and
+	 * entity class is in flight; the requests issued in the meantime are sent together by the thread that opened the
+	 * next batch as soon as the request in flight has completed, or at the latest after the time window.
+	 * <p>
+	 * As a get that is coalesced with an in-flight request may return the document in the version from before a
+	 * concurrent write, this should only be enabled when this is acceptable.
+	 *
+	 * @param window the maximum time a batch of requests waits for the request in flight, {@literal null} disables
+	 *          coalescing
+	 * @param maxBatchSize the maximum number of ids in one multi get request
+	 * @since 6.2
+	 */
+	public void setGetCoalescing(@Nullable Duration window, int maxBatchSize) {
+		this.getRequestCoalescer = window != null ? new RequestCoalescer<>(window, maxBatchSize) : null;
+	}
+
+	/**
+	 * Enables or disables the coalescing of search requests. When enabled, {@link #search(Query, Class, IndexCoordinates)}
+	 * calls that are issued concurrently are sent to Elasticsearch as one multi search request. A search is sent
+	 * immediately when no coalesced multi search request is in flight; the searches issued in the meantime are sent
+	 * together as soon as the request in flight has completed, or at the latest after the time window. Each caller gets
+	 * the search hits for its own query, or the exception if its query failed.
+	 * <p>
+	 * Search template queries and queries using a point in time are not coalesced. Coalesced searches are not hedged.
+	 *
+	 * @param window the maximum time a batch of searches waits for the request in flight, {@literal null} disables
+	 *          coalescing
+	 * @param maxBatchSize the maximum number of queries in one multi search request
+	 * @since 6.2
+	 */
+	public void setSearchCoalescing(@Nullable Duration window, int maxBatchSize) {
+		this.searchRequestCoalescer = window != null ? new RequestCoalescer<>(window, maxBatchSize) : null;
+	}
+
+	/**
+	 * Sets the {@link HedgingPolicy} for get, multi get, count and search requests. When set, these requests are sent
+	 * with an {@link ElasticsearchAsyncClient} using the transport of the {@link ElasticsearchClient} and a duplicate
+	 * request is sent when a request has not been answered within the delay determined by the policy.
+	 *
+	 * @param hedgingPolicy the policy, {@literal null} disables hedging
+	 * @since 6.2
+	 */
+	public void setHedgingPolicy(@Nullable HedgingPolicy hedgingPolicy) {
+		this.hedgingPolicy = hedgingPolicy;
 	}
 
-	private <T> T observe(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index, int batchSize,
+	/**
+	 * Sets the {@link IsolationPolicy} that limits the number of concurrent requests per index and operation and stops
+	 * sending requests for an index and operation that keeps failing. Rejected operations throw an
+	 * {@link org.springframework.data.elasticsearch.OperationRejectedException}. A permit is only held while a request is
+	 * sent to Elasticsearch, not while the request is built, waits for a coalesced batch or the response is converted.
+	 * The scroll requests of a stream are isolated as searches on the index of the stream, clearing a scroll is not
+	 * isolated so that the resources in Elasticsearch are always released.
+	 *
+	 * @param isolationPolicy the policy, {@literal null} disables the isolation
+	 * @since 6.2
+	 */
+	public void setIsolationPolicy(@Nullable IsolationPolicy isolationPolicy) {
+		this.isolationPolicy = isolationPolicy;
+	}
+
+	private <T> T observe(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index,
 			Supplier<T> action) {
-		Observation observation = createObservation(operationName, index, batchSize);
-		return observation.observe(action);
+		return observe(operationName, index, null, action);
 	}
 
-	private Observation createObservation(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index,
-			@Nullable Integer batchSize) {
+	private <T> T observe(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index,
+			@Nullable Integer batchSize, Supplier<T> action) {
 
 		ElasticsearchObservationContext context = new ElasticsearchObservationContext(operationName, index);
 		context.setBatchSize(batchSize);
 
+		Observation observation = createObservation(context);
+		ElasticsearchObservationContext outerContext = OBSERVED_OPERATION.get();
+		OBSERVED_OPERATION.set(context);
+
+		try {
+			return observation.observe(action);
+		} finally {
+			if (outerContext != null) {
+				OBSERVED_OPERATION.set(outerContext);
+			} else {
+				OBSERVED_OPERATION.remove();
+			}
+		}
+	}
+
+	private Observation createObservation(ElasticsearchObservationContext context) {
 		return ElasticsearchObservation.ELASTICSEARCH_COMMAND_OBSERVATION.observation(observationConvention,
 				DefaultElasticsearchObservationConvention.INSTANCE, () -> context, observationRegistry);
 	}
+
+	/**
+	 * Sends a request for the operation that is observed on the current thread with a permit of the
+	 * {@link IsolationPolicy}. Requests sent outside an observed operation are not isolated.
+	 */
+	private <T> T isolate(Supplier<T> request) {
+
+		IsolationPolicy isolationPolicy = this.isolationPolicy;
+		ElasticsearchObservationContext context = OBSERVED_OPERATION.get();
+
+		if (isolationPolicy == null || context == null) {
+			return request.get();
+		}
+
+		IsolationPolicy.Permit permit = isolationPolicy.acquire(context);
+
+		try {
+			T result = request.get();
+			permit.release(null);
+			return result;
+		} catch (RuntimeException | Error e) {
+			permit.release(e);
+			throw e;
+		}
+	}
 	// endregion
 
 	// region child templates
@@ -232,15 +377,60 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	public <T> T get(String id, Class<T> clazz, IndexCoordinates index) {
 
 		return observe(ElasticsearchOperationName.GET, index, () -> {
-			GetRequest getRequest = requestConverter.documentGetRequest(elasticsearchConverter.convertId(id),
-					routingResolver.getRouting(), index);
-			GetResponse<EntityAsMap> getResponse = execute(client -> client.get(getRequest, EntityAsMap.class));
-
+			String convertedId = elasticsearchConverter.convertId(id);
 			ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
-			return callback.doWith(DocumentAdapters.from(getResponse));
+			boolean cached = isDocumentCached(clazz, index);
+
+			if (cached) {
+				Document document = documentCache.get(clazz, index.getIndexName(), convertedId);
+
+				if (document != null) {
+					return callback.doWith(document);
+				}
+			}
+
+			long stamp = documentCache.stamp();
+			Document document = doGet(convertedId, routingResolver.getRouting(), clazz, index);
+
+			if (cached && document != null) {
+				documentCache.put(clazz, index.getIndexName(), convertedId, document, stamp);
+			}
+
+			return callback.doWith(document);
 		});
 	}
 
+	@Nullable
+	private Document doGet(String id, @Nullable String routing, Class<?> clazz, IndexCoordinates index) {
+
+		if (getRequestCoalescer != null) {
+			MultiGetItem<Document> multiGetItem = getRequestCoalescer.execute(
+					new RequestCoalescer.IndexKey(index.getIndexName(), clazz), new Query.IdWithRouting(id, routing),
+					idsWithRouting -> doMultiGet(idsWithRouting, clazz, index));
+
+			// a failed item is requested again with a get request to report the error like a non-coalesced get
+			if (!multiGetItem.isFailed()) {
+				return multiGetItem.getItem();
+			}
+		}
+
+		GetRequest getRequest = requestConverter.documentGetRequest(id, routing, index);
+		GetResponse<EntityAsMap> getResponse = executeHedged(ElasticsearchOperationName.GET,
+				client -> client.get(getRequest, EntityAsMap.class), client -> client.get(getRequest, EntityAsMap.class));
+
+		return DocumentAdapters.from(getResponse);
+	}
+
+	private List<MultiGetItem<Document>> doMultiGet(List<Query.IdWithRouting> idsWithRouting, Class<?> clazz,
+			IndexCoordinates index) {
+
+		Query query = NativeQuery.builder().withIdsWithRouting(idsWithRouting).build();
+		MgetRequest request = requestConverter.documentMgetRequest(query, clazz, index);
+		MgetResponse<EntityAsMap> result = executeHedged(ElasticsearchOperationName.MULTI_GET,
+				client -> client.mget(request, EntityAsMap.class), client -> client.mget(request, EntityAsMap.class));
+		return DocumentAdapters.from(result);
+	}
+
 	@Override
 	public <T> List<MultiGetItem<T>> multiGet(Query query, Class<T> clazz, IndexCoordinates index) {
 
@@ -248,18 +438,81 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		Assert.notNull(clazz, "clazz must not be null");
 
 		return observe(ElasticsearchOperationName.MULTI_GET, index, () -> {
-			MgetRequest request = requestConverter.documentMgetRequest(query, clazz, index);
-			MgetResponse<EntityAsMap> result = execute(client -> client.mget(request, EntityAsMap.class));
+			List<MultiGetItem<Document>> multiGetItems;
+
+			if (isDocumentCached(clazz, index) && readsCompleteDocuments(query, clazz)) {
+				multiGetItems = doCachedMultiGet(query.getIdsWithRouting(), clazz, index);
+			} else {
+				MgetRequest request = requestConverter.documentMgetRequest(query, clazz, index);
+				MgetResponse<EntityAsMap> result = executeHedged(ElasticsearchOperationName.MULTI_GET,
+						client -> client.mget(request, EntityAsMap.class), client -> client.mget(request, EntityAsMap.class));
+				multiGetItems = DocumentAdapters.from(result);
+			}
 
 			ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 
-			return DocumentAdapters.from(result).stream() //
+			return multiGetItems.stream() //
 					.map(multiGetItem -> MultiGetItem.of( //
 							multiGetItem.isFailed() ? null : callback.doWith(multiGetItem.getItem()), multiGetItem.getFailure())) //
 					.collect(Collectors.toList());
 		});
 	}
 
+	/**
+	 * @return true if the multi get request for the query returns the complete documents, only these can be cached.
+	 */
+	private boolean readsCompleteDocuments(Query query, Class<?> clazz) {
+
+		elasticsearchConverter.updateQuery(query, clazz);
+		return query.getSourceFilter() == null && query.getFields().isEmpty() && query.getStoredFields() == null;
+	}
+
+	/**
+	 * Takes the documents from the {@link org.springframework.data.elasticsearch.core.DocumentCache} that are cached and
+	 * requests only the other ones from Elasticsearch.
+	 */
+	private List<MultiGetItem<Document>> doCachedMultiGet(List<Query.IdWithRouting> idsWithRouting, Class<?> clazz,
+			IndexCoordinates index) {
+
+		if (idsWithRouting.isEmpty()) {
+			throw new IllegalArgumentException("query does not contain any ids");
+		}
+
+		String indexName = index.getIndexName();
+		List<MultiGetItem<Document>> multiGetItems = new ArrayList<>(idsWithRouting.size());
+		List<Integer> missingPositions = new ArrayList<>();
+		List<Query.IdWithRouting> missingIds = new ArrayList<>();
+
+		for (Query.IdWithRouting idWithRouting : idsWithRouting) {
+			Document document = documentCache.get(clazz, indexName, idWithRouting.id());
+
+			if (document == null) {
+				missingPositions.add(multiGetItems.size());
+				missingIds.add(idWithRouting);
+			}
+
+			multiGetItems.add(MultiGetItem.of(document, null));
+		}
+
+		if (!missingIds.isEmpty()) {
+			long stamp = documentCache.stamp();
+			List<MultiGetItem<Document>> requestedItems = doMultiGet(missingIds, clazz, index);
+
+			for (int i = 0; i < requestedItems.size(); i++) {
+				MultiGetItem<Document> multiGetItem = requestedItems.get(i);
+				Document document = multiGetItem.getItem();
+
+				if (!multiGetItem.isFailed() && document != null) {
+					documentCache.put(clazz, indexName, missingIds.get(i).id(), document, stamp);
+				}
+
+				multiGetItems.set(missingPositions.get(i), multiGetItem);
+			}
+		}
+
+		return multiGetItems;
+	}
+
 	@Override
 	public void bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions, IndexCoordinates index) {
 
@@ -283,9 +536,12 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 			DeleteByQueryRequest request = requestConverter.documentDeleteByQueryRequest(query, routingResolver.getRouting(),
 					clazz, index, getRefreshPolicy());
 
-			DeleteByQueryResponse response = execute(client -> client.deleteByQuery(request));
-
-			return responseConverter.byQueryResponse(response);
+			try {
+				DeleteByQueryResponse response = execute(client -> client.deleteByQuery(request));
+				return responseConverter.byQueryResponse(response);
+			} finally {
+				invalidateCachedDocuments(index);
+			}
 		});
 	}
 
@@ -295,9 +551,13 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		return observe(ElasticsearchOperationName.UPDATE, index, () -> {
 			UpdateRequest<Document, ?> request = requestConverter.documentUpdateRequest(updateQuery, index,
 					getRefreshPolicy(), routingResolver.getRouting());
-			co.elastic.clients.elasticsearch.core.UpdateResponse<Document> response = execute(
-					client -> client.update(request, Document.class));
-			return UpdateResponse.of(result(response.result()));
+			try {
+				co.elastic.clients.elasticsearch.core.UpdateResponse<Document> response = execute(
+						client -> client.update(request, Document.class));
+				return UpdateResponse.of(result(response.result()));
+			} finally {
+				invalidateCachedDocument(index, updateQuery.getId());
+			}
 		});
 	}
 
@@ -311,8 +571,12 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 			UpdateByQueryRequest request = requestConverter.documentUpdateByQueryRequest(updateQuery, index,
 					getRefreshPolicy());
 
-			UpdateByQueryResponse byQueryResponse = execute(client -> client.updateByQuery(request));
-			return responseConverter.byQueryResponse(byQueryResponse);
+			try {
+				UpdateByQueryResponse byQueryResponse = execute(client -> client.updateByQuery(request));
+				return responseConverter.byQueryResponse(byQueryResponse);
+			} finally {
+				invalidateCachedDocuments(index);
+			}
 		});
 	}
 
@@ -324,7 +588,13 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		IndexRequest<?> indexRequest = requestConverter.documentIndexRequest(query, indexCoordinates, refreshPolicy);
 
-		IndexResponse indexResponse = execute(client -> client.index(indexRequest));
+		IndexResponse indexResponse;
+
+		try {
+			indexResponse = execute(client -> client.index(indexRequest));
+		} finally {
+			invalidateCachedDocument(indexCoordinates, query.getId());
+		}
 
 		Object queryObject = query.getObject();
 
@@ -361,9 +631,14 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		Assert.notNull(id, "id must not be null");
 		Assert.notNull(index, "index must not be null");
 
-		DeleteRequest request = requestConverter.documentDeleteRequest(elasticsearchConverter.convertId(id), routing, index,
-				getRefreshPolicy());
-		return execute(client -> client.delete(request)).id();
+		String convertedId = elasticsearchConverter.convertId(id);
+		DeleteRequest request = requestConverter.documentDeleteRequest(convertedId, routing, index, getRefreshPolicy());
+
+		try {
+			return execute(client -> client.delete(request)).id();
+		} finally {
+			invalidateCachedDocument(index, convertedId);
+		}
 	}
 
 	@Override
@@ -398,7 +673,13 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 			IndexCoordinates index) {
 
 		BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, refreshPolicy);
-		BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
+		BulkResponse bulkResponse;
+
+		try {
+			bulkResponse = execute(client -> client.bulk(bulkRequest));
+		} finally {
+			invalidateCachedDocuments(queries, index);
+		}
 		List<IndexedObjectInformation> indexedObjectInformationList = checkForBulkOperationFailure(bulkResponse);
 		updateIndexedObjectsWithQueries(queries, indexedObjectInformationList);
 		return indexedObjectInformationList;
@@ -432,7 +713,9 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 			SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
 					true);
 
-			SearchResponse<EntityAsMap> searchResponse = execute(client -> client.search(searchRequest, EntityAsMap.class));
+			SearchResponse<EntityAsMap> searchResponse = executeHedged(ElasticsearchOperationName.COUNT,
+					client -> client.search(searchRequest, EntityAsMap.class),
+					client -> client.search(searchRequest, EntityAsMap.class));
 
 			return searchResponse.hits().total().value();
 		});
@@ -457,14 +740,72 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	protected <T> SearchHits<T> doSearch(Query query, Class<T> clazz, IndexCoordinates index) {
 		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
 				false);
-		SearchResponse<EntityAsMap> searchResponse = execute(client -> client.search(searchRequest, EntityAsMap.class));
+		SearchResultCache searchResultCache = this.searchResultCache;
+
+		if (searchResultCache != null && isSearchResultCached(query)) {
+			SearchResultCache.Key key = new SearchResultCache.Key(SearchRequestKey.of(searchRequest, jsonpMapper), clazz,
+					index, query.isLazyContentConversion());
+
+			try {
+				return searchResultCache.get(key, searchResultTimeToLive(searchResultCache, clazz),
+						() -> CompletableFuture.completedFuture(doSearch(query, searchRequest, clazz, index))).join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (e.getCause() instanceof Error error) {
+					throw error;
+				}
+				throw e;
+			}
+		}
+
+		return doSearch(query, searchRequest, clazz, index);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> SearchHits<T> doSearch(Query query, SearchRequest searchRequest, Class<T> clazz,
+			IndexCoordinates index) {
+
+		var searchRequestCoalescer = this.searchRequestCoalescer;
+
+		if (searchRequestCoalescer != null && query.getPointInTime() == null) {
+			String key = Boolean.TRUE.equals(searchRequest.includeNamedQueriesScore())
+					? COALESCED_SEARCH_WITH_NAMED_QUERIES_SCORE_KEY
+					: COALESCED_SEARCH_KEY;
+			CoalescedSearchResult result = searchRequestCoalescer.execute(key,
+					new CoalescedSearch(searchRequest, clazz, index, query.isLazyContentConversion()),
+					this::doCoalescedMultiSearch);
+
+			if (result.failure() != null) {
+				throw result.failure();
+			}
+
+			// the hits were converted with the class of this search
+			return (SearchHits<T>) result.searchHits();
+		}
+
+		return doSearch(searchRequest, clazz, index, query.isLazyContentConversion());
+	}
+
+	private <T> SearchHits<T> doSearch(SearchRequest searchRequest, Class<T> clazz, IndexCoordinates index,
+			boolean lazyContentConversion) {
+		SearchResponse<EntityAsMap> searchResponse = executeHedged(ElasticsearchOperationName.SEARCH,
+				client -> client.search(searchRequest, EntityAsMap.class),
+				client -> client.search(searchRequest, EntityAsMap.class));
+
+		return getSearchHits(clazz, index, searchResponse, lazyContentConversion);
+	}
+
+	private <T> SearchHits<T> getSearchHits(Class<T> clazz, IndexCoordinates index, ResponseBody<EntityAsMap> response,
+			boolean lazyContentConversion) {
 
-		// noinspection DuplicatedCode
 		ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 		SearchDocumentResponse.EntityCreator<T> entityCreator = getEntityCreator(readDocumentCallback);
-		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index);
+		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index,
+				lazyContentConversion);
 
-		return callback.doWith(SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
+		return callback.doWith(SearchDocumentResponseBuilder.from(response, entityCreator, jsonpMapper));
 	}
 
 	protected <T> SearchHits<T> doSearch(SearchTemplateQuery query, Class<T> clazz, IndexCoordinates index) {
@@ -474,7 +815,8 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		// noinspection DuplicatedCode
 		ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 		SearchDocumentResponse.EntityCreator<T> entityCreator = getEntityCreator(readDocumentCallback);
-		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index);
+		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index,
+				query.isLazyContentConversion());
 
 		return callback.doWith(SearchDocumentResponseBuilder.from(searchTemplateResponse, entityCreator, jsonpMapper));
 	}
@@ -499,31 +841,42 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		Assert.notNull(query, "query must not be null");
 		Assert.notNull(query.getPageable(), "pageable of query must not be null.");
 
-		SearchRequest request = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index, false,
-				scrollTimeInMillis);
-		SearchResponse<EntityAsMap> response = execute(client -> client.search(request, EntityAsMap.class));
+		// observed, so that the pages of a stream are isolated like any other search
+		return observe(ElasticsearchOperationName.SEARCH, index, () -> {
+			SearchRequest request = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index, false,
+					scrollTimeInMillis);
+			SearchResponse<EntityAsMap> response = execute(client -> client.search(request, EntityAsMap.class));
 
-		return getSearchScrollHits(clazz, index, response);
+			return getSearchScrollHits(clazz, index, response, query.isLazyContentConversion());
+		});
 	}
 
 	@Override
 	public <T> SearchScrollHits<T> searchScrollContinue(String scrollId, long scrollTimeInMillis, Class<T> clazz,
 			IndexCoordinates index) {
+		return searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index, false);
+	}
+
+	@Override
+	protected <T> SearchScrollHits<T> searchScrollContinue(String scrollId, long scrollTimeInMillis, Class<T> clazz,
+			IndexCoordinates index, boolean lazyContentConversion) {
 
 		Assert.notNull(scrollId, "scrollId must not be null");
 
-		ScrollRequest request = ScrollRequest
-				.of(sr -> sr.scrollId(scrollId).scroll(Time.of(t -> t.time(scrollTimeInMillis + "ms"))));
-		ScrollResponse<EntityAsMap> response = execute(client -> client.scroll(request, EntityAsMap.class));
+		return observe(ElasticsearchOperationName.SEARCH, index, () -> {
+			ScrollRequest request = ScrollRequest
+					.of(sr -> sr.scrollId(scrollId).scroll(Time.of(t -> t.time(scrollTimeInMillis + "ms"))));
+			ScrollResponse<EntityAsMap> response = execute(client -> client.scroll(request, EntityAsMap.class));
 
-		return getSearchScrollHits(clazz, index, response);
+			return getSearchScrollHits(clazz, index, response, lazyContentConversion);
+		});
 	}
 
 	private <T> SearchScrollHits<T> getSearchScrollHits(Class<T> clazz, IndexCoordinates index,
-			ResponseBody<EntityAsMap> response) {
+			ResponseBody<EntityAsMap> response, boolean lazyContentConversion) {
 		ReadDocumentCallback<T> documentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 		SearchDocumentResponseCallback<SearchScrollHits<T>> callback = new ReadSearchScrollDocumentResponseCallback<>(clazz,
-				index);
+				index, lazyContentConversion);
 
 		return callback
 				.doWith(SearchDocumentResponseBuilder.from(response, getEntityCreator(documentCallback), jsonpMapper));
@@ -540,6 +893,27 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		}
 	}
 
+	@Override
+	public Stream<AggregationBucket> searchForAggregationStream(Query query, String aggregationName,
+			@Nullable Class<?> clazz, IndexCoordinates index, AggregationStreamOptions options) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(aggregationName, "aggregationName must not be null");
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
+				false);
+		AggregationStreamRequests requests = new AggregationStreamRequests(searchRequest, aggregationName, options,
+				jsonpMapper);
+
+		Function<SearchRequest, AggregationStreamRequests.Page> search = request -> observe(
+				ElasticsearchOperationName.SEARCH, index,
+				() -> requests.page(execute(client -> client.search(request, EntityAsMap.class))));
+
+		return new AggregationPageIterator(requests, search, options).stream().flatMap(List::stream);
+	}
+
 	@Override
 	public <T> List<SearchHits<T>> multiSearch(List<? extends Query> queries, Class<T> clazz, IndexCoordinates index) {
 
@@ -653,6 +1027,39 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		return getSearchHitsFromMsearchResponse(size, classes, indices, responseItems);
 	}
 
+	/**
+	 * Executes a batch of coalesced searches with the already converted search requests. Unlike
+	 * {@link #doMultiSearch(List)}, a failed search is returned as a failed result, so that only the caller of this
+	 * search gets the exception.
+	 */
+	private List<CoalescedSearchResult> doCoalescedMultiSearch(List<CoalescedSearch> searches) {
+
+		MsearchRequest request = requestConverter
+				.searchMsearchRequestOf(searches.stream().map(CoalescedSearch::searchRequest).toList());
+		MsearchResponse<EntityAsMap> msearchResponse = execute(client -> client.msearch(request, EntityAsMap.class));
+		List<MultiSearchResponseItem<EntityAsMap>> responseItems = msearchResponse.responses();
+
+		Assert.isTrue(searches.size() == responseItems.size(),
+				"number of response items does not match number of requests");
+
+		List<CoalescedSearchResult> results = new ArrayList<>(responseItems.size());
+
+		for (int i = 0; i < responseItems.size(); i++) {
+			CoalescedSearch search = searches.get(i);
+			MultiSearchResponseItem<EntityAsMap> responseItem = responseItems.get(i);
+
+			if (responseItem.isResult()) {
+				results.add(new CoalescedSearchResult(getSearchHits(search.clazz(), search.index(), responseItem.result(),
+						search.lazyContentConversion()), null));
+			} else {
+				results.add(new CoalescedSearchResult(null, exceptionTranslator
+						.translateException(new ElasticsearchException("msearch", responseItem.failure()))));
+			}
+		}
+
+		return results;
+	}
+
 	/**
 	 * {@link MsearchResponse} and {@link MsearchTemplateResponse} share the same {@link MultiSearchResponseItem}
 	 */
@@ -703,6 +1110,19 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	record MultiSearchTemplateQueryParameter(SearchTemplateQuery query, Class<?> clazz, IndexCoordinates index) {
 	}
 
+	/**
+	 * a search that is sent in a multi search request together with concurrent searches.
+	 */
+	private record CoalescedSearch(SearchRequest searchRequest, Class<?> clazz, IndexCoordinates index,
+			boolean lazyContentConversion) {
+	}
+
+	/**
+	 * the result of a coalesced search, either the search hits or the failure.
+	 */
+	private record CoalescedSearchResult(@Nullable SearchHits<?> searchHits, @Nullable RuntimeException failure) {
+	}
+
 	@Override
 	public String openPointInTime(IndexCoordinates index, Duration keepAlive, Boolean ignoreUnavailable) {
 
@@ -766,6 +1186,122 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 			throw exceptionTranslator.translateException(e);
 		}
 	}
+
+	@Override
+	public Stream<SqlResponse.Row> searchForStream(SqlQuery query, int prefetch) {
+		Assert.notNull(query, "Query must not be null.");
+		Assert.isTrue(prefetch >= 0, "prefetch must not be negative");
+
+		// Elasticsearch only returns the columns with the first page, the next pages use the columns of the page before
+		BiFunction<co.elastic.clients.elasticsearch.sql.QueryRequest, List<SqlResponse.Column>, //
+				CompletableFuture<SqlResponse>> sqlQuery;
+		Consumer<String> clearCursor;
+
+		if (prefetch > 0) {
+			// pages requested ahead must not block the thread consuming the rows, and cursors of pages that arrive after
+			// the stream was closed are cleared on the thread receiving the response, so no blocking calls are used here
+			sqlQuery = (request, columns) -> asyncSqlClient.query(request).handle((response, throwable) -> {
+				if (throwable != null) {
+					throw exceptionTranslator.translateException(
+							throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause()
+									: throwable);
+				}
+				return responseConverter.sqlResponse(response, columns);
+			});
+			clearCursor = cursor -> asyncSqlClient.clearCursor(requestConverter.sqlClearCursorRequest(cursor))
+					.whenComplete((response, throwable) -> {
+						if (throwable != null && LOGGER.isWarnEnabled()) {
+							LOGGER.warn("Could not clear SQL cursor", throwable);
+						}
+					});
+		} else {
+			sqlQuery = (request, columns) -> {
+				try {
+					return CompletableFuture.completedFuture(responseConverter.sqlResponse(sqlClient.query(request), columns));
+				} catch (Exception e) {
+					throw exceptionTranslator.translateException(e);
+				}
+			};
+			clearCursor = cursor -> {
+				try {
+					sqlClient.clearCursor(requestConverter.sqlClearCursorRequest(cursor));
+				} catch (Exception e) {
+					throw exceptionTranslator.translateException(e);
+				}
+			};
+		}
+
+		SqlCursorIterator iterator = new SqlCursorIterator( //
+				() -> sqlQuery.apply(requestConverter.sqlStreamRequest(query), List.of()), //
+				// noinspection DataFlowIssue the next page is only requested for a page with a cursor
+				previous -> sqlQuery.apply(requestConverter.sqlCursorRequest(query, previous.getCursor()),
+						previous.getColumns()), //
+				clearCursor, //
+				prefetch);
+
+		return iterator.stream().flatMap(page -> page.getRows().stream());
+	}
+	// endregion
+
+	// region async search
+
+	@Override
+	public <T> AsyncSearchResponse<T> submitAsyncSearch(Query query, Class<T> clazz, IndexCoordinates index,
+			AsyncSearchOptions options) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(clazz, "clazz must not be null");
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		return observe(ElasticsearchOperationName.SEARCH, index, () -> {
+			SubmitRequest request = requestConverter.asyncSearchSubmitRequest(query, routingResolver.getRouting(), clazz,
+					index, options);
+			SubmitResponse<EntityAsMap> response = execute(client -> client.asyncSearch().submit(request, EntityAsMap.class));
+			return asyncSearchResponse(response, clazz, index, query.isLazyContentConversion());
+		});
+	}
+
+	@Override
+	public <T> AsyncSearchResponse<T> getAsyncSearch(String id, Class<T> clazz, IndexCoordinates index,
+			AsyncSearchOptions options) {
+
+		Assert.notNull(id, "id must not be null");
+		Assert.notNull(clazz, "clazz must not be null");
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		return observe(ElasticsearchOperationName.SEARCH, index, () -> {
+			GetAsyncSearchRequest request = requestConverter.asyncSearchGetRequest(id, options);
+			GetAsyncSearchResponse<EntityAsMap> response = execute(
+					client -> client.asyncSearch().get(request, EntityAsMap.class));
+			return asyncSearchResponse(response, clazz, index, false);
+		});
+	}
+
+	@Override
+	public boolean deleteAsyncSearch(String id) {
+
+		Assert.notNull(id, "id must not be null");
+
+		DeleteAsyncSearchRequest request = requestConverter.asyncSearchDeleteRequest(id);
+		return execute(client -> client.asyncSearch().delete(request)).acknowledged();
+	}
+
+	private <T> AsyncSearchResponse<T> asyncSearchResponse(AsyncSearchDocumentResponseBase<EntityAsMap> response,
+			Class<T> clazz, IndexCoordinates index, boolean lazyContentConversion) {
+
+		// noinspection DuplicatedCode
+		ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
+		SearchDocumentResponse.EntityCreator<T> entityCreator = getEntityCreator(readDocumentCallback);
+		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index,
+				lazyContentConversion);
+		SearchHits<T> searchHits = callback
+				.doWith(SearchDocumentResponseBuilder.from(response.response(), entityCreator, jsonpMapper));
+
+		return responseConverter.asyncSearchResponse(response, searchHits);
+	}
+
 	// endregion
 
 	// region client callback
@@ -789,12 +1325,75 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		Assert.notNull(callback, "callback must not be null");
 
+		return isolate(() -> {
+			try {
+				return callback.doWithClient(client);
+			} catch (IOException | RuntimeException e) {
+				throw exceptionTranslator.translateException(e);
+			}
+		});
+	}
+
+	/**
+	 * Executes an idempotent read request according to the {@link HedgingPolicy}. Without a policy the callback is
+	 * executed with the {@link ElasticsearchClient}, otherwise the request is sent with the
+	 * {@link ElasticsearchAsyncClient} and hedged when it is not answered within the delay of the policy. The first
+	 * successful response is returned and the other request is cancelled. A hedged operation only fails when both
+	 * requests have failed, both requests are sent with the same permit of the {@link IsolationPolicy}.
+	 */
+	private <T> T executeHedged(ElasticsearchOperationName operationName, ClientCallback<T> callback,
+			Function<ElasticsearchAsyncClient, CompletableFuture<T>> asyncCallback) {
+
+		HedgingPolicy hedgingPolicy = this.hedgingPolicy;
+
+		if (hedgingPolicy == null) {
+			return execute(callback);
+		}
+
+		return isolate(() -> executeHedged(operationName, hedgingPolicy, asyncClient, asyncCallback));
+	}
+
+	private <T> T executeHedged(ElasticsearchOperationName operationName, HedgingPolicy hedgingPolicy,
+			ElasticsearchAsyncClient asyncClient, Function<ElasticsearchAsyncClient, CompletableFuture<T>> asyncCallback) {
+
+		long start = System.nanoTime();
+		Duration delay = hedgingPolicy.requestStarted(operationName);
+		CompletableFuture<T> request = null;
+		CompletableFuture<T> hedge = null;
+
 		try {
-			return callback.doWithClient(client);
-		} catch (IOException | RuntimeException e) {
+			request = asyncCallback.apply(asyncClient);
+
+			if (delay != null) {
+				try {
+					request.get(delay.toNanos(), TimeUnit.NANOSECONDS);
+				} catch (TimeoutException e) {
+					if (hedgingPolicy.tryHedge(operationName)) {
+						hedge = asyncCallback.apply(asyncClient);
+					}
+				}
+			}
+
+			T result = hedge != null ? HedgingPolicy.firstSuccessful(request, hedge).get() : request.get();
+			hedgingPolicy.requestCompleted(operationName, Duration.ofNanos(System.nanoTime() - start));
+			return result;
+		} catch (ExecutionException e) {
+			throw exceptionTranslator.translateException(e.getCause() != null ? e.getCause() : e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw exceptionTranslator.translateException(e);
+		} catch (RuntimeException e) {
 			throw exceptionTranslator.translateException(e);
+		} finally {
+			if (request != null) {
+				request.cancel(true);
+			}
+			if (hedge != null) {
+				hedge.cancel(true);
+			}
 		}
 	}
+
 	// endregion
 
 	// region helper methods
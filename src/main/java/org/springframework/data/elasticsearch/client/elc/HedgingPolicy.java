@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Policy for hedged read requests. When a read operation - get, multi get, count or search - has not been answered
+ * after a delay, a duplicate request is sent and the response that arrives first is used, the other request is
+ * cancelled. The client sends the duplicate to the next node, so a single slow node does not determine the latency of
+ * the operation.
+ * <p>
+ * The delay is the configured percentile of the latencies recently observed for the operation, but not less than a
+ * minimum delay. No requests are hedged until enough latencies have been observed. To limit the additional load, every
+ * operation has a budget: each request adds the configured ratio to the budget, each hedged request consumes one, so
+ * the number of hedged requests stays below this ratio of the number of requests.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class HedgingPolicy {
+
+	public static final double DEFAULT_PERCENTILE = 95.0;
+	public static final double DEFAULT_BUDGET = 0.05;
+	public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(10);
+
+	private static final int SAMPLE_SIZE = 1000;
+	private static final int MIN_SAMPLES = 100;
+	private static final int RECALCULATION_INTERVAL = 100;
+	// the budget is kept in thousandths of a request to avoid rounding errors
+	private static final long HEDGE_COST = 1000;
+	private static final long MAX_BUDGET_BALANCE = 10 * HEDGE_COST;
+
+	private final double percentile;
+	private final long budgetPerRequest;
+	private final long minDelayNanos;
+	private final Map<ElasticsearchOperationName, OperationState> operations = new EnumMap<>(
+			ElasticsearchOperationName.class);
+
+	public HedgingPolicy() {
+		this(DEFAULT_PERCENTILE, DEFAULT_BUDGET, DEFAULT_MIN_DELAY);
+	}
+
+	/**
+	 * @param percentile the percentile of the observed latencies after which a request is hedged, must be greater than 0
+	 *          and less than 100
+	 * @param budget the maximum ratio of hedged requests to requests, {@literal 0.05} allows 5% additional requests. Must
+	 *          be at least 0.001 and not greater than 1.
+	 * @param minDelay the minimum delay before a request is hedged, must not be negative
+	 */
+	public HedgingPolicy(double percentile, double budget, Duration minDelay) {
+
+		Assert.isTrue(percentile > 0 && percentile < 100, "percentile must be greater than 0 and less than 100");
+		Assert.isTrue(budget >= 0.001 && budget <= 1, "budget must be at least 0.001 and not greater than 1");
+		Assert.notNull(minDelay, "minDelay must not be null");
+		Assert.isTrue(!minDelay.isNegative(), "minDelay must not be negative");
+
+		this.percentile = percentile;
+		this.budgetPerRequest = Math.round(budget * HEDGE_COST);
+		this.minDelayNanos = minDelay.toNanos();
+
+		for (ElasticsearchOperationName operationName : ElasticsearchOperationName.values()) {
+			operations.put(operationName, new OperationState());
+		}
+	}
+
+	/**
+	 * Registers a request of the operation and returns the delay after which it should be hedged.
+	 *
+	 * @return the delay or {@literal null} if the request should not be hedged because not enough latencies have been
+	 *         observed yet.
+	 */
+	@Nullable
+	public Duration requestStarted(ElasticsearchOperationName operationName) {
+		return operations.get(operationName).requestStarted();
+	}
+
+	/**
+	 * Checks if a request of the operation may be hedged and consumes the budget for it.
+	 *
+	 * @return true if the budget allows to send the hedged request.
+	 */
+	public boolean tryHedge(ElasticsearchOperationName operationName) {
+		return operations.get(operationName).tryHedge();
+	}
+
+	/**
+	 * Records the latency after which an operation was answered, either by the original or by the hedged request.
+	 */
+	public void requestCompleted(ElasticsearchOperationName operationName, Duration latency) {
+		operations.get(operationName).requestCompleted(latency.toNanos());
+	}
+
+	public Statistics getStatistics(ElasticsearchOperationName operationName) {
+		return operations.get(operationName).statistics();
+	}
+
+	/**
+	 * Combines a request and its hedged request.
+	 *
+	 * @return a future that is completed with the first successful result of the request or the hedged request. It only
+	 *         fails when both have failed, then with the failure of the request.
+	 */
+	static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> request, CompletableFuture<T> hedge) {
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+		AtomicInteger failures = new AtomicInteger();
+
+		hedge.whenComplete((value, throwable) -> {
+			if (throwable == null) {
+				result.complete(value);
+			} else if (failures.incrementAndGet() == 2) {
+				request.whenComplete((ignored, requestThrowable) -> result.completeExceptionally(requestThrowable));
+			}
+		});
+		request.whenComplete((value, throwable) -> {
+			if (throwable == null) {
+				result.complete(value);
+			} else if (failures.incrementAndGet() == 2) {
+				result.completeExceptionally(throwable);
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Hedging statistics of an operation.
+	 *
+	 * @param requestCount the number of requests
+	 * @param hedgeCount the number of hedged requests that were sent
+	 * @param delay the current hedging delay, {@literal null} if not enough latencies have been observed.
+	 */
+	public record Statistics(long requestCount, long hedgeCount, @Nullable Duration delay) {
+	}
+
+	private final class OperationState {
+
+		private final long[] samples = new long[SAMPLE_SIZE];
+		private int sampleCount = 0;
+		private int nextSample = 0;
+		private int samplesSinceCalculation = 0;
+		private long delayNanos = -1;
+		private long budgetBalance = 0;
+		private long requestCount = 0;
+		private long hedgeCount = 0;
+
+		synchronized @Nullable Duration requestStarted() {
+
+			requestCount++;
+			budgetBalance = Math.min(budgetBalance + budgetPerRequest, MAX_BUDGET_BALANCE);
+
+			return delayNanos >= 0 ? Duration.ofNanos(delayNanos) : null;
+		}
+
+		synchronized boolean tryHedge() {
+
+			if (budgetBalance < HEDGE_COST) {
+				return false;
+			}
+
+			budgetBalance -= HEDGE_COST;
+			hedgeCount++;
+			return true;
+		}
+
+		synchronized void requestCompleted(long latencyNanos) {
+
+			samples[nextSample] = latencyNanos;
+			nextSample = (nextSample + 1) % SAMPLE_SIZE;
+			sampleCount = Math.min(sampleCount + 1, SAMPLE_SIZE);
+
+			// sorting the samples on every request is too expensive, the percentile is recalculated in intervals
+			if (sampleCount >= MIN_SAMPLES && (delayNanos < 0 || ++samplesSinceCalculation >= RECALCULATION_INTERVAL)) {
+				long[] sorted = Arrays.copyOf(samples, sampleCount);
+				Arrays.sort(sorted);
+				int index = (int) Math.ceil(percentile / 100 * sampleCount) - 1;
+				delayNanos = Math.max(sorted[Math.max(index, 0)], minDelayNanos);
+				samplesSinceCalculation = 0;
+			}
+		}
+
+		synchronized Statistics statistics() {
+			return new Statistics(requestCount, hedgeCount, delayNanos >= 0 ? Duration.ofNanos(delayNanos) : null);
+		}
+	}
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.elasticsearch.OperationRejectedException;
+import org.springframework.data.elasticsearch.RestStatusException;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.util.Assert;
+
+/**
+ * Policy isolating the operations on different indices from each other. Every combination of index and
+ * {@link ElasticsearchOperationName} has its own compartment with a bulkhead and a circuit breaker:
+ * <ul>
+ * <li>the bulkhead limits the number of concurrent requests, an operation that would exceed the limit is rejected
+ * immediately instead of waiting for a connection from the shared pool.</li>
+ * <li>the circuit breaker opens after a number of consecutive failures. While it is open, operations are rejected
+ * without sending a request. After the open duration a single probe request is let through, its outcome decides
+ * whether the circuit closes again or stays open for another open duration.</li>
+ * </ul>
+ * Rejected operations fail with an {@link OperationRejectedException}. Timeouts, I/O errors and the responses with the
+ * status 429, 502, 503 and 504 count as failures; other errors, like a document that is not found, show that the index
+ * is responsive and count as success.
+ * <p>
+ * The compartments are kept per policy instance. Their number is limited, when the limit is reached the least recently
+ * used compartment is removed; finding it takes a pass over the compartments, which is only done when a compartment is
+ * created while the limit is reached.
+ * Requests that are running in a removed compartment are not counted in the compartment that is created for the next
+ * request on the same index and operation, so applications writing to many time based indices should set a limit
+ * that covers the indices that are in use at the same time.
+ * <p>
+ * The state of the compartment is added to the observation of an operation, see
+ * {@link ElasticsearchObservation.IsolationKeyNames}.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class IsolationPolicy {
+
+	public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+	public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+	public static final int DEFAULT_MAX_COMPARTMENTS = 1000;
+
+	private final int maxConcurrentRequests;
+	private final int failureThreshold;
+	private final long openDurationNanos;
+	private final int maxCompartments;
+	private final LongSupplier nanoTime;
+	private final ConcurrentMap<CompartmentKey, Compartment> compartments = new ConcurrentHashMap<>();
+	// logical clock ordering the uses of the compartments
+	private final AtomicLong uses = new AtomicLong();
+
+	/**
+	 * @param maxConcurrentRequests the maximum number of concurrent requests per index and operation, must be greater
+	 *          than 0
+	 */
+	public IsolationPolicy(int maxConcurrentRequests) {
+		this(maxConcurrentRequests, DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION);
+	}
+
+	/**
+	 * @param maxConcurrentRequests the maximum number of concurrent requests per index and operation, must be greater
+	 *          than 0
+	 * @param failureThreshold the number of consecutive failures after which the circuit is opened, must be greater than
+	 *          0
+	 * @param openDuration the duration for which the circuit stays open before a probe request is sent, must be positive
+	 */
+	public IsolationPolicy(int maxConcurrentRequests, int failureThreshold, Duration openDuration) {
+		this(maxConcurrentRequests, failureThreshold, openDuration, DEFAULT_MAX_COMPARTMENTS);
+	}
+
+	/**
+	 * @param maxConcurrentRequests the maximum number of concurrent requests per index and operation, must be greater
+	 *          than 0
+	 * @param failureThreshold the number of consecutive failures after which the circuit is opened, must be greater than
+	 *          0
+	 * @param openDuration the duration for which the circuit stays open before a probe request is sent, must be positive
+	 * @param maxCompartments the maximum number of index and operation combinations for which the state is kept, must be
+	 *          greater than 0
+	 */
+	public IsolationPolicy(int maxConcurrentRequests, int failureThreshold, Duration openDuration,
+			int maxCompartments) {
+		this(maxConcurrentRequests, failureThreshold, openDuration, maxCompartments, System::nanoTime);
+	}
+
+	IsolationPolicy(int maxConcurrentRequests, int failureThreshold, Duration openDuration, int maxCompartments,
+			LongSupplier nanoTime) {
+
+		Assert.isTrue(maxConcurrentRequests > 0, "maxConcurrentRequests must be greater than 0");
+		Assert.isTrue(failureThreshold > 0, "failureThreshold must be greater than 0");
+		Assert.notNull(openDuration, "openDuration must not be null");
+		Assert.isTrue(!openDuration.isNegative() && !openDuration.isZero(), "openDuration must be positive");
+		Assert.isTrue(maxCompartments > 0, "maxCompartments must be greater than 0");
+		Assert.notNull(nanoTime, "nanoTime must not be null");
+
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		this.failureThreshold = failureThreshold;
+		this.openDurationNanos = openDuration.toNanos();
+		this.maxCompartments = maxCompartments;
+		this.nanoTime = nanoTime;
+	}
+
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	public int getFailureThreshold() {
+		return failureThreshold;
+	}
+
+	public Duration getOpenDuration() {
+		return Duration.ofNanos(openDurationNanos);
+	}
+
+	public int getMaxCompartments() {
+		return maxCompartments;
+	}
+
+	/**
+	 * @param operationName the operation
+	 * @param index the index, {@literal null} for operations that do not target an index
+	 * @return the state of the circuit breaker for the index and operation
+	 */
+	public CircuitState getCircuitState(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index) {
+
+		Compartment compartment = compartment(new CompartmentKey(indexName(index), operationName), false);
+		return compartment != null ? compartment.state() : CircuitState.CLOSED;
+	}
+
+	/**
+	 * @param operationName the operation
+	 * @param index the index, {@literal null} for operations that do not target an index
+	 * @return the number of requests currently executed for the index and operation
+	 */
+	public int getConcurrentRequests(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index) {
+
+		Compartment compartment = compartment(new CompartmentKey(indexName(index), operationName), false);
+		return compartment != null ? compartment.concurrentRequests() : 0;
+	}
+
+	/**
+	 * Acquires a permit for the operation and index of the observation context and sets the state of the compartment on
+	 * the context. The permit must be released when the operation has finished.
+	 *
+	 * @throws OperationRejectedException if the bulkhead is full or the circuit is open
+	 */
+	Permit acquire(ElasticsearchObservationContext context) {
+
+		Compartment compartment = compartment(
+				new CompartmentKey(indexName(context.getIndexCoordinates()), context.getOperationName()), true);
+		Assert.state(compartment != null, "compartment must not be null");
+		return compartment.acquire(context);
+	}
+
+	/**
+	 * @return the number of compartments for which the state is kept
+	 */
+	int getCompartmentCount() {
+		return compartments.size();
+	}
+
+	private @Nullable Compartment compartment(CompartmentKey key, boolean create) {
+
+		if (!create) {
+			return compartments.get(key);
+		}
+
+		Compartment compartment = compartments.computeIfAbsent(key, it -> new Compartment());
+		compartment.lastUsed = uses.incrementAndGet();
+
+		if (compartments.size() > maxCompartments) {
+			removeLeastRecentlyUsed(key);
+		}
+
+		return compartment;
+	}
+
+	private void removeLeastRecentlyUsed(CompartmentKey usedKey) {
+
+		while (compartments.size() > maxCompartments) {
+
+			Map.Entry<CompartmentKey, Compartment> leastRecentlyUsed = null;
+
+			for (Map.Entry<CompartmentKey, Compartment> entry : compartments.entrySet()) {
+				if (!entry.getKey().equals(usedKey) && (leastRecentlyUsed == null
+						|| entry.getValue().lastUsed < leastRecentlyUsed.getValue().lastUsed)) {
+					leastRecentlyUsed = entry;
+				}
+			}
+
+			if (leastRecentlyUsed == null) {
+				return;
+			}
+
+			compartments.remove(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue());
+		}
+	}
+
+	/**
+	 * @return true if the error shows that the index is not available or overloaded.
+	 */
+	static boolean isFailure(Throwable throwable) {
+
+		for (Throwable t = throwable; t != null; t = t.getCause() == t ? null : t.getCause()) {
+
+			if (t instanceof TimeoutException || t instanceof IOException || t instanceof QueryTimeoutException
+					|| t instanceof DataAccessResourceFailureException) {
+				return true;
+			}
+
+			if (t instanceof RestStatusException restStatusException && isFailureStatus(restStatusException.getStatus())) {
+				return true;
+			}
+
+			if (t instanceof UncategorizedElasticsearchException uncategorizedException
+					&& uncategorizedException.getStatusCode() != null
+					&& isFailureStatus(uncategorizedException.getStatusCode())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isFailureStatus(int status) {
+		return status == 429 || status == 502 || status == 503 || status == 504;
+	}
+
+	private static String indexName(@Nullable IndexCoordinates index) {
+		return index != null ? String.join(",", index.getIndexNames()) : "";
+	}
+
+	/**
+	 * The states of a circuit breaker.
+	 */
+	public enum CircuitState {
+		/**
+		 * Requests are sent.
+		 */
+		CLOSED("closed"),
+		/**
+		 * Requests are rejected.
+		 */
+		OPEN("open"),
+		/**
+		 * A single probe request is sent, all other requests are rejected.
+		 */
+		HALF_OPEN("half_open");
+
+		private final String value;
+
+		CircuitState(String value) {
+			this.value = value;
+		}
+
+		public String getValue() {
+			return value;
+		}
+	}
+
+	/**
+	 * A permit for one operation. Releasing a permit more than once has no effect.
+	 */
+	final class Permit {
+
+		private final Compartment compartment;
+		private final boolean probe;
+		private final AtomicBoolean released = new AtomicBoolean(false);
+
+		private Permit(Compartment compartment, boolean probe) {
+			this.compartment = compartment;
+			this.probe = probe;
+		}
+
+		/**
+		 * Releases the permit when the operation has finished.
+		 *
+		 * @param error the error the operation failed with, {@literal null} if it was successful
+		 */
+		void release(@Nullable Throwable error) {
+
+			if (released.compareAndSet(false, true)) {
+				compartment.release(probe, error != null && isFailure(error) ? Outcome.FAILURE : Outcome.SUCCESS);
+			}
+		}
+
+		/**
+		 * Releases the permit when the operation was cancelled before it finished.
+		 */
+		void cancel() {
+
+			if (released.compareAndSet(false, true)) {
+				compartment.release(probe, Outcome.CANCELLED);
+			}
+		}
+	}
+
+	private enum Outcome {
+		SUCCESS, FAILURE, CANCELLED
+	}
+
+	private record CompartmentKey(String indexName, ElasticsearchOperationName operationName) {
+	}
+
+	private final class Compartment {
+
+		private volatile long lastUsed = 0;
+		private CircuitState state = CircuitState.CLOSED;
+		private int concurrentRequests = 0;
+		private int consecutiveFailures = 0;
+		private long openedAt = 0;
+		private boolean probeInFlight = false;
+
+		synchronized CircuitState state() {
+			return state;
+		}
+
+		synchronized int concurrentRequests() {
+			return concurrentRequests;
+		}
+
+		synchronized Permit acquire(ElasticsearchObservationContext context) {
+
+			if (state == CircuitState.OPEN && nanoTime.getAsLong() - openedAt >= openDurationNanos) {
+				state = CircuitState.HALF_OPEN;
+			}
+
+			context.setCircuitState(state);
+			context.setConcurrentRequests(concurrentRequests);
+
+			if (state == CircuitState.OPEN || (state == CircuitState.HALF_OPEN && probeInFlight)) {
+				throw new OperationRejectedException("circuit breaker for operation '" + context.getOperationName().getValue()
+						+ "' on index '" + context.getIndexName() + "' is " + state.getValue());
+			}
+
+			if (concurrentRequests >= maxConcurrentRequests) {
+				throw new OperationRejectedException(
+						"maximum of " + maxConcurrentRequests + " concurrent requests for operation '"
+								+ context.getOperationName().getValue() + "' on index '" + context.getIndexName() + "' reached");
+			}
+
+			boolean probe = state == CircuitState.HALF_OPEN;
+			probeInFlight |= probe;
+			concurrentRequests++;
+			context.setConcurrentRequests(concurrentRequests);
+
+			return new Permit(this, probe);
+		}
+
+		synchronized void release(boolean probe, Outcome outcome) {
+
+			concurrentRequests--;
+
+			if (probe) {
+				probeInFlight = false;
+			}
+
+			switch (outcome) {
+				case SUCCESS -> {
+					consecutiveFailures = 0;
+
+					if (probe) {
+						state = CircuitState.CLOSED;
+					}
+				}
+				case FAILURE -> {
+					consecutiveFailures++;
+
+					if (probe || (state == CircuitState.CLOSED && consecutiveFailures >= failureThreshold)) {
+						state = CircuitState.OPEN;
+						openedAt = nanoTime.getAsLong();
+					}
+				}
+				case CANCELLED -> {
+					// the outcome of the request is unknown, a probe is sent with the next request
+				}
+			}
+		}
+	}
+}
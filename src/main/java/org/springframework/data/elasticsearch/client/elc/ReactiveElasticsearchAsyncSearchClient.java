@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.ApiClient;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import co.elastic.clients.elasticsearch.async_search.DeleteAsyncSearchRequest;
+import co.elastic.clients.elasticsearch.async_search.DeleteAsyncSearchResponse;
+import co.elastic.clients.elasticsearch.async_search.GetAsyncSearchRequest;
+import co.elastic.clients.elasticsearch.async_search.GetAsyncSearchResponse;
+import co.elastic.clients.elasticsearch.async_search.SubmitRequest;
+import co.elastic.clients.elasticsearch.async_search.SubmitResponse;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.JsonEndpoint;
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.endpoints.EndpointWithResponseMapperAttr;
+import reactor.core.publisher.Mono;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Reactive version of {@link co.elastic.clients.elasticsearch.async_search.ElasticsearchAsyncSearchClient}.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class ReactiveElasticsearchAsyncSearchClient
+		extends ApiClient<ElasticsearchTransport, ReactiveElasticsearchAsyncSearchClient> {
+
+	public ReactiveElasticsearchAsyncSearchClient(ElasticsearchTransport transport,
+			@Nullable TransportOptions transportOptions) {
+		super(transport, transportOptions);
+	}
+
+	@Override
+	public ReactiveElasticsearchAsyncSearchClient withTransportOptions(@Nullable TransportOptions transportOptions) {
+		return new ReactiveElasticsearchAsyncSearchClient(transport, transportOptions);
+	}
+
+	/**
+	 * Submits an async search.
+	 */
+	public <T> Mono<SubmitResponse<T>> submit(SubmitRequest request, Class<T> tDocumentClass) {
+
+		Assert.notNull(request, "request must not be null");
+		Assert.notNull(tDocumentClass, "tDocumentClass must not be null");
+
+		// code adapted from
+		// co.elastic.clients.elasticsearch.async_search.ElasticsearchAsyncSearchClient.submit(SubmitRequest, Class)
+		// noinspection unchecked
+		JsonEndpoint<SubmitRequest, SubmitResponse<T>, ErrorResponse> endpoint = (JsonEndpoint<SubmitRequest, SubmitResponse<T>, ErrorResponse>) SubmitRequest._ENDPOINT;
+		endpoint = new EndpointWithResponseMapperAttr<>(endpoint,
+				"co.elastic.clients:Deserializer:async_search.submit.Response.TDocument", getDeserializer(tDocumentClass));
+
+		return Mono.fromFuture(transport.performRequestAsync(request, endpoint, transportOptions));
+	}
+
+	/**
+	 * Gets the state and the results of an async search.
+	 */
+	public <T> Mono<GetAsyncSearchResponse<T>> get(GetAsyncSearchRequest request, Class<T> tDocumentClass) {
+
+		Assert.notNull(request, "request must not be null");
+		Assert.notNull(tDocumentClass, "tDocumentClass must not be null");
+
+		// noinspection unchecked
+		JsonEndpoint<GetAsyncSearchRequest, GetAsyncSearchResponse<T>, ErrorResponse> endpoint = (JsonEndpoint<GetAsyncSearchRequest, GetAsyncSearchResponse<T>, ErrorResponse>) GetAsyncSearchRequest._ENDPOINT;
+		endpoint = new EndpointWithResponseMapperAttr<>(endpoint,
+				"co.elastic.clients:Deserializer:async_search.get.Response.TDocument", getDeserializer(tDocumentClass));
+
+		return Mono.fromFuture(transport.performRequestAsync(request, endpoint, transportOptions));
+	}
+
+	/**
+	 * Deletes an async search.
+	 */
+	public Mono<DeleteAsyncSearchResponse> delete(DeleteAsyncSearchRequest request) {
+
+		Assert.notNull(request, "request must not be null");
+
+		return Mono.fromFuture(transport.performRequestAsync(request, DeleteAsyncSearchRequest._ENDPOINT, transportOptions));
+	}
+}
@@ -78,6 +78,13 @@ public class ReactiveElasticsearchClient extends ApiClient<ElasticsearchTranspor
 		return new ReactiveElasticsearchSqlClient(transport, transportOptions);
 	}
 
+	/**
+	 * @since 6.2
+	 */
+	public ReactiveElasticsearchAsyncSearchClient asyncSearch() {
+		return new ReactiveElasticsearchAsyncSearchClient(transport, transportOptions);
+	}
+
 	// endregion
 	// region info
 
@@ -80,7 +80,7 @@ public abstract class ReactiveElasticsearchConfiguration extends ElasticsearchCo
 		Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
 
 		return ElasticsearchClients.getElasticsearchTransport(rest5Client, ElasticsearchClients.REACTIVE_CLIENT,
-				transportOptions(), jsonpMapper);
+				transportOptions(), jsonpMapper, clientConfiguration().getBinaryContentType().orElse(null));
 	}
 
 	/**
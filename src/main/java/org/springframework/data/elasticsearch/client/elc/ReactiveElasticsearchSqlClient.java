@@ -17,6 +17,8 @@ package org.springframework.data.elasticsearch.client.elc;
 
 import co.elastic.clients.ApiClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.sql.ClearCursorRequest;
+import co.elastic.clients.elasticsearch.sql.ClearCursorResponse;
 import co.elastic.clients.elasticsearch.sql.QueryRequest;
 import co.elastic.clients.elasticsearch.sql.QueryResponse;
 import co.elastic.clients.transport.ElasticsearchTransport;
@@ -70,4 +72,13 @@ public class ReactiveElasticsearchSqlClient extends ApiClient<ElasticsearchTrans
 		return Mono.fromFuture(
 				transport.performRequestAsync(new QueryRequest.Builder().build(), QueryRequest._ENDPOINT, transportOptions));
 	}
+
+	/**
+	 * Clears a SQL cursor.
+	 *
+	 * @since 6.2
+	 */
+	public Mono<ClearCursorResponse> clearCursor(ClearCursorRequest request) {
+		return Mono.fromFuture(transport.performRequestAsync(request, ClearCursorRequest._ENDPOINT, transportOptions));
+	}
 }
@@ -19,6 +19,11 @@ import static co.elastic.clients.util.ApiTypeHelper.*;
 import static org.springframework.data.elasticsearch.client.elc.TypeUtils.*;
 
 import co.elastic.clients.elasticsearch._types.Result;
+import co.elastic.clients.elasticsearch.async_search.AsyncSearchDocumentResponseBase;
+import co.elastic.clients.elasticsearch.async_search.DeleteAsyncSearchRequest;
+import co.elastic.clients.elasticsearch.async_search.DeleteAsyncSearchResponse;
+import co.elastic.clients.elasticsearch.async_search.GetAsyncSearchRequest;
+import co.elastic.clients.elasticsearch.async_search.SubmitRequest;
 import co.elastic.clients.elasticsearch.core.*;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.core.search.ResponseBody;
@@ -29,6 +34,8 @@ import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Scheduler;
 import reactor.util.function.Tuple2;
 
 import java.time.Duration;
@@ -36,9 +43,12 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -52,11 +62,14 @@ import org.springframework.data.elasticsearch.NoSuchIndexException;
 import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.data.elasticsearch.client.UnsupportedBackendOperation;
 import org.springframework.data.elasticsearch.core.AbstractReactiveElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.AggregationBucket;
 import org.springframework.data.elasticsearch.core.AggregationContainer;
 import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
 import org.springframework.data.elasticsearch.core.MultiGetItem;
 import org.springframework.data.elasticsearch.core.ReactiveIndexOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitMapping;
+import org.springframework.data.elasticsearch.core.asyncsearch.AsyncSearchResponse;
 import org.springframework.data.elasticsearch.core.cluster.ReactiveClusterOperations;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.document.Document;
@@ -87,7 +100,19 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 	private static final Log LOGGER = LogFactory.getLog(ReactiveElasticsearchTemplate.class);
 
+	/**
+	 * the default number of pages that are read ahead in an unbounded search.
+	 *
+	 * @since 6.2
+	 */
+	public static final int DEFAULT_UNBOUNDED_SEARCH_PREFETCH = 2;
+
 	@Nullable private ElasticsearchObservationConvention observationConvention;
+	private int unboundedSearchPrefetch = DEFAULT_UNBOUNDED_SEARCH_PREFETCH;
+	@Nullable private RequestCoalescer<RequestCoalescer.IndexKey, Query.IdWithRouting, MultiGetItem<Document>> getRequestCoalescer;
+	@Nullable private HedgingPolicy hedgingPolicy;
+	@Nullable private Scheduler conversionScheduler;
+	@Nullable private IsolationPolicy isolationPolicy;
 
 	private final ReactiveElasticsearchClient client;
 	private final ReactiveElasticsearchSqlClient sqlClient;
@@ -134,49 +159,145 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Sets the number of pages that are read ahead when an unbounded search is processed with point in time and
+	 * search_after. The request for the next page is sent as soon as the sort values of the last hit of the previous page
+	 * are known, as long as no more than this number of pages is buffered waiting for downstream demand. A low value
+	 * bounds the memory needed for a stream, a higher value hides more of the round-trip latency but keeps that many
+	 * pages in memory. Defaults to {@link #DEFAULT_UNBOUNDED_SEARCH_PREFETCH}.
+	 *
+	 * @param unboundedSearchPrefetch the number of pages to read ahead, must be greater than 0.
+	 * @since 6.2
+	 */
+	public void setUnboundedSearchPrefetch(int unboundedSearchPrefetch) {
+
+		Assert.isTrue(unboundedSearchPrefetch > 0, "unboundedSearchPrefetch must be greater than 0");
+
+		this.unboundedSearchPrefetch = unboundedSearchPrefetch;
+	}
+
+	/**
+	 * Enables or disables the coalescing of get requests. When enabled, {@link #get(String, Class, IndexCoordinates)}
+	 * calls for the same index and entity class that are issued concurrently are sent to Elasticsearch as one multi get
+	 * request, and an id that is already requested by a pending or in-flight multi get
+	 * request is not requested again. A request is sent immediately when no multi get request for the same index and
+	 * entity class is in flight; the requests issued in the meantime are sent together as soon as the request in flight
+	 * has completed, or at the latest after the time window.
+	 * <p>
+	 * As a get that is coalesced with an in-flight request may return the document in the version from before a
+	 * concurrent write, this should only be enabled when this is acceptable.
+	 *
+	 * @param window the maximum time a batch of requests waits for the request in flight, {@literal null} disables
+	 *          coalescing
+	 * @param maxBatchSize the maximum number of ids in one multi get request
+	 * @since 6.2
+	 */
+	public void setGetCoalescing(@Nullable Duration window, int maxBatchSize) {
+		this.getRequestCoalescer = window != null ? new RequestCoalescer<>(window, maxBatchSize) : null;
+	}
+
+	/**
+	 * Sets the {@link HedgingPolicy} for get, multi get, count and search requests. When set, a duplicate request is
+	 * sent when a request has not been answered within the delay determined by the policy.
+	 *
+	 * @param hedgingPolicy the policy, {@literal null} disables hedging
+	 * @since 6.2
+	 */
+	public void setHedgingPolicy(@Nullable HedgingPolicy hedgingPolicy) {
+		this.hedgingPolicy = hedgingPolicy;
+	}
+
+	/**
+	 * Sets the {@link Scheduler} on which the responses are processed and converted. When not set, this is done on the
+	 * thread that received the response.
+	 *
+	 * @param conversionScheduler the scheduler, {@literal null} to process the responses on the receiving thread
+	 * @since 6.2
+	 */
+	void setConversionScheduler(@Nullable Scheduler conversionScheduler) {
+		this.conversionScheduler = conversionScheduler;
+	}
+
+	/**
+	 * Sets the {@link IsolationPolicy} that limits the number of concurrent requests per index and operation and stops
+	 * sending requests for an index and operation that keeps failing. Rejected operations fail with an
+	 * {@link org.springframework.data.elasticsearch.OperationRejectedException}. A permit is only held while a request is
+	 * sent to Elasticsearch, not while the request is built, waits for a coalesced batch or the response is converted.
+	 * All page requests of a search are isolated as searches on its index, closing the point in time of a search is not
+	 * isolated so that the resources in Elasticsearch are always released.
+	 *
+	 * @param isolationPolicy the policy, {@literal null} disables the isolation
+	 * @since 6.2
+	 */
+	public void setIsolationPolicy(@Nullable IsolationPolicy isolationPolicy) {
+		this.isolationPolicy = isolationPolicy;
+	}
+
 	private <T> Mono<T> observeMono(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index,
 			Mono<T> mono) {
-		return Mono.defer(() -> {
-			Observation observation = createObservation(operationName, index, null);
-			return mono.doOnError(observation::error) //
-					.doFinally(signalType -> observation.stop())
-					.contextWrite(context -> context.put(Observation.class, observation))
-					.doOnSubscribe(subscription -> observation.start());
-		});
+		return observeMono(operationName, index, null, mono);
 	}
 
 	private <T> Flux<T> observeFlux(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index,
 			Flux<T> flux) {
 		return Flux.defer(() -> {
-			Observation observation = createObservation(operationName, index, null);
+			ElasticsearchObservationContext context = new ElasticsearchObservationContext(operationName, index);
+			Observation observation = createObservation(context);
 			return flux.doOnError(observation::error) //
 					.doFinally(signalType -> observation.stop())
-					.contextWrite(context -> context.put(Observation.class, observation))
+					.contextWrite(ctx -> ctx.put(Observation.class, observation) //
+							.put(ElasticsearchObservationContext.class, context))
 					.doOnSubscribe(subscription -> observation.start());
 		});
 	}
 
 	private <T> Mono<T> observeMono(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index,
-			int batchSize, Mono<T> mono) {
+			@Nullable Integer batchSize, Mono<T> mono) {
 		return Mono.defer(() -> {
-			Observation observation = createObservation(operationName, index, batchSize);
+			ElasticsearchObservationContext context = new ElasticsearchObservationContext(operationName, index);
+			context.setBatchSize(batchSize);
+			Observation observation = createObservation(context);
 			return mono.doOnError(observation::error) //
 					.doFinally(signalType -> observation.stop())
-					.contextWrite(context -> context.put(Observation.class, observation))
+					.contextWrite(ctx -> ctx.put(Observation.class, observation) //
+							.put(ElasticsearchObservationContext.class, context))
 					.doOnSubscribe(subscription -> observation.start());
 		});
 	}
 
-	private Observation createObservation(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index,
-			@Nullable Integer batchSize) {
-
-		ElasticsearchObservationContext context = new ElasticsearchObservationContext(operationName, index);
-		context.setBatchSize(batchSize);
-
+	private Observation createObservation(ElasticsearchObservationContext context) {
 		return ElasticsearchObservation.ELASTICSEARCH_COMMAND_OBSERVATION.observation(observationConvention,
 				DefaultElasticsearchObservationConvention.INSTANCE, () -> context, observationRegistry);
 	}
 
+	/**
+	 * Sends a request for the operation that is observed in the subscriber context with a permit of the
+	 * {@link IsolationPolicy}. The client publishes a single response, so the permit is released with the first element;
+	 * requests sent outside an observed operation are not isolated.
+	 */
+	private <T> Flux<T> isolate(Flux<T> request) {
+
+		IsolationPolicy isolationPolicy = this.isolationPolicy;
+
+		if (isolationPolicy == null) {
+			return request;
+		}
+
+		return Flux.deferContextual(contextView -> {
+			ElasticsearchObservationContext context = contextView.getOrDefault(ElasticsearchObservationContext.class, null);
+
+			if (context == null) {
+				return request;
+			}
+
+			IsolationPolicy.Permit permit = isolationPolicy.acquire(context);
+			return request.doOnNext(value -> permit.release(null)) //
+					.doOnComplete(() -> permit.release(null)) //
+					.doOnError(permit::release) //
+					.doOnCancel(permit::cancel);
+		});
+	}
+
 	// region Document operations
 	@Override
 	public <T> Mono<T> save(T entity, IndexCoordinates index) {
@@ -221,7 +342,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 										indexResponse.seqNo(), //
 										indexResponse.primaryTerm(), //
 										indexResponse.version() //
-								)));
+								)) //
+								.doFinally(signalType -> invalidateSearchResults(index)));
 	}
 
 	@Override
@@ -280,7 +402,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		return observeMono(ElasticsearchOperationName.DELETE_BY_QUERY, index, Mono.defer(() -> {
 			DeleteByQueryRequest request = requestConverter.documentDeleteByQueryRequest(query, routingResolver.getRouting(),
 					entityType, index, getRefreshPolicy());
-			return Mono.from(execute(client -> client.deleteByQuery(request))).map(responseConverter::byQueryResponse);
+			return Mono.from(execute(client -> client.deleteByQuery(request))).map(responseConverter::byQueryResponse)
+					.doFinally(signalType -> invalidateSearchResults(index));
 		}));
 	}
 
@@ -292,16 +415,55 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		Assert.notNull(index, "index must not be null");
 
 		return observeMono(ElasticsearchOperationName.GET, index, Mono.defer(() -> {
-			GetRequest getRequest = requestConverter.documentGetRequest(id, routingResolver.getRouting(), index);
+			String routing = routingResolver.getRouting();
+			ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, entityType, index);
 
-			Mono<GetResponse<EntityAsMap>> getResponse = Mono //
-					.from(execute(client -> client.get(getRequest, EntityAsMap.class)));
+			Mono<T> get = Mono.defer(() -> {
+				GetRequest getRequest = requestConverter.documentGetRequest(id, routing, index);
 
-			ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, entityType, index);
-			return getResponse.flatMap(response -> callback.toEntity(DocumentAdapters.from(response)));
+				Mono<GetResponse<EntityAsMap>> getResponse = executeHedged(ElasticsearchOperationName.GET,
+						client -> client.get(getRequest, EntityAsMap.class));
+
+				return getResponse.flatMap(response -> callback.toEntity(DocumentAdapters.from(response)));
+			});
+
+			if (getRequestCoalescer == null) {
+				return get;
+			}
+
+			// a failed item is requested again with a get request to report the error like a non-coalesced get
+			return coalescedGet(getRequestCoalescer, id, routing, entityType, index) //
+					.flatMap(multiGetItem -> multiGetItem.isFailed() ? get : callback.toEntity(multiGetItem.getItem()));
 		}));
 	}
 
+	private Mono<MultiGetItem<Document>> coalescedGet(
+			RequestCoalescer<RequestCoalescer.IndexKey, Query.IdWithRouting, MultiGetItem<Document>> coalescer, String id,
+			@Nullable String routing, Class<?> entityType, IndexCoordinates index) {
+
+		var registration = coalescer.register(new RequestCoalescer.IndexKey(index.getIndexName(), entityType),
+				new Query.IdWithRouting(id, routing));
+		var batch = registration.batch();
+
+		if (batch != null) {
+			// the batch is executed detached from the subscriber that opened it, as other callers are waiting for it
+			Mono.firstWithSignal(Mono.delay(coalescer.getWindow()).then(), Mono.fromFuture(batch.ready(), true)) //
+					.then(Mono.defer(() -> {
+						Query query = NativeQuery.builder().withIdsWithRouting(coalescer.close(batch)).build();
+						MgetRequest request = requestConverter.documentMgetRequest(query, entityType, index);
+						return Mono.from(execute(client -> client.mget(request, EntityAsMap.class)));
+					})) //
+					.map(DocumentAdapters::from) //
+					.subscribe(items -> coalescer.complete(batch, items),
+							throwable -> coalescer.completeExceptionally(batch, throwable),
+							() -> coalescer.completeExceptionally(batch,
+									new UncategorizedElasticsearchException("multi get request returned no response")));
+		}
+
+		// do not cancel the shared result when a single caller cancels
+		return Mono.fromFuture(registration.result(), true);
+	}
+
 	@Override
 	public Mono<ReindexResponse> reindex(ReindexRequest reindexRequest) {
 
@@ -343,7 +505,7 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 			return Mono.from(execute(client -> client.update(request, Document.class))).flatMap(response -> {
 				UpdateResponse.Result result = result(response.result());
 				return result == null ? Mono.empty() : Mono.just(UpdateResponse.of(result));
-			});
+			}).doFinally(signalType -> invalidateSearchResults(index));
 		}));
 	}
 
@@ -367,6 +529,7 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 		BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, getRefreshPolicy());
 		return client.bulk(bulkRequest)
+				.doFinally(signalType -> invalidateSearchResults(index))
 				.onErrorMap(e -> new UncategorizedElasticsearchException("Error executing bulk request", e))
 				.flatMap(this::checkForBulkOperationFailure) //
 				.flatMapMany(response -> Flux.fromIterable(response.items()));
@@ -402,7 +565,7 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 		return Mono.defer(() -> {
 			DeleteRequest deleteRequest = requestConverter.documentDeleteRequest(id, routing, index, getRefreshPolicy());
-			return doDelete(deleteRequest);
+			return doDelete(deleteRequest).doFinally(signalType -> invalidateSearchResults(index));
 		});
 	}
 
@@ -428,7 +591,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 			ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, clazz, index);
 
-			Publisher<MgetResponse<EntityAsMap>> response = execute(client -> client.mget(request, EntityAsMap.class));
+			Publisher<MgetResponse<EntityAsMap>> response = executeHedged(ElasticsearchOperationName.MULTI_GET,
+					client -> client.mget(request, EntityAsMap.class));
 
 			return Mono.from(response)//
 					.flatMapMany(it -> Flux.fromIterable(DocumentAdapters.from(it))) //
@@ -455,6 +619,11 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 		if (copy instanceof ReactiveElasticsearchTemplate reactiveTemplate) {
 			reactiveTemplate.observationConvention = this.observationConvention;
+			reactiveTemplate.unboundedSearchPrefetch = this.unboundedSearchPrefetch;
+			reactiveTemplate.getRequestCoalescer = this.getRequestCoalescer;
+			reactiveTemplate.hedgingPolicy = this.hedgingPolicy;
+			reactiveTemplate.conversionScheduler = this.conversionScheduler;
+			reactiveTemplate.isolationPolicy = this.isolationPolicy;
 		}
 	}
 
@@ -479,115 +648,99 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 	private Flux<SearchDocument> doFindUnbounded(Query query, Class<?> clazz, IndexCoordinates index) {
 
-		if (query instanceof BaseQuery baseQuery) {
-			var pitKeepAlive = Duration.ofMinutes(5);
-			// setup functions for Flux.usingWhen()
-			Mono<PitSearchAfter> resourceSupplier = openPointInTime(index, pitKeepAlive, true)
-					.map(pit -> new PitSearchAfter(baseQuery, pit));
+		// the query is not modified, so it can be used in concurrent searches
+		var pitKeepAlive = query.getReactivePointInTimeKeepAlive();
 
-			Function<PitSearchAfter, Publisher<?>> asyncComplete = this::cleanupPit;
+		// number of documents requested from downstream and received from Elasticsearch, used for an adaptive batch size
+		AtomicLong requested = new AtomicLong();
+		AtomicLong received = new AtomicLong();
 
-			BiFunction<PitSearchAfter, Throwable, Publisher<?>> asyncError = (psa, ex) -> {
-				if (LOGGER.isErrorEnabled()) {
-					LOGGER.error("Error during pit/search_after", ex);
-				}
-				return cleanupPit(psa);
-			};
+		// setup functions for Flux.usingWhen()
+		Mono<String> resourceSupplier = openPointInTime(index, pitKeepAlive, true);
 
-			Function<PitSearchAfter, Publisher<?>> asyncCancel = psa -> {
-				if (LOGGER.isWarnEnabled()) {
-					LOGGER.warn("pit/search_after was cancelled");
-				}
-				return cleanupPit(psa);
-			};
+		Function<String, Publisher<?>> asyncComplete = this::cleanupPit;
 
-			Function<PitSearchAfter, Publisher<? extends ResponseBody<EntityAsMap>>> resourceClosure = psa -> {
+		BiFunction<String, Throwable, Publisher<?>> asyncError = (pit, ex) -> {
+			if (LOGGER.isErrorEnabled()) {
+				LOGGER.error("Error during pit/search_after", ex);
+			}
+			return cleanupPit(pit);
+		};
 
-				baseQuery.setPointInTime(new Query.PointInTime(psa.getPit(), pitKeepAlive));
+		Function<String, Publisher<?>> asyncCancel = pit -> {
+			if (LOGGER.isWarnEnabled()) {
+				LOGGER.warn("pit/search_after was cancelled");
+			}
+			return cleanupPit(pit);
+		};
 
-				// only add _shard_doc if there is not a field_collapse and a sort with the same name
-				boolean addShardDoc = true;
+		Function<String, Publisher<? extends ResponseBody<EntityAsMap>>> resourceClosure = pit -> {
 
-				if (query instanceof NativeQuery nativeQuery && nativeQuery.getFieldCollapse() != null) {
-					var field = nativeQuery.getFieldCollapse().field();
+			// only add _shard_doc if there is not a field_collapse and a sort with the same name
+			boolean addShardDoc = true;
 
-					if (nativeQuery.getSortOptions().stream()
-							.anyMatch(sortOptions -> sortOptions.isField() && sortOptions.field().field().equals(field))) {
-						addShardDoc = false;
-					}
+			if (query instanceof NativeQuery nativeQuery && nativeQuery.getFieldCollapse() != null) {
+				var field = nativeQuery.getFieldCollapse().field();
 
-					if (query.getSort() != null
-							&& query.getSort().stream().anyMatch(order -> order.getProperty().equals(field))) {
-						addShardDoc = false;
-					}
+				if (nativeQuery.getSortOptions().stream()
+						.anyMatch(sortOptions -> sortOptions.isField() && sortOptions.field().field().equals(field))) {
+					addShardDoc = false;
 				}
 
-				if (addShardDoc) {
-					baseQuery.addSort(Sort.by("_shard_doc"));
+				if (query.getSort() != null
+						&& query.getSort().stream().anyMatch(order -> order.getProperty().equals(field))) {
+					addShardDoc = false;
 				}
+			}
 
-				SearchRequest firstSearchRequest = requestConverter.searchRequest(baseQuery, routingResolver.getRouting(),
-						clazz, index, false, true);
-
-				return Mono.from(execute(client -> client.search(firstSearchRequest, EntityAsMap.class)))
-						.expand(entityAsMapSearchResponse -> {
-
-							var hits = entityAsMapSearchResponse.hits().hits();
-							if (CollectionUtils.isEmpty(hits)) {
-								return Mono.empty();
-							}
+			// the converted request is reused for all pages, only the search_after values and the size are replaced
+			SearchRequest searchRequestTemplate = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz,
+					index, new Query.PointInTime(pit, pitKeepAlive), addShardDoc ? Sort.by("_shard_doc") : null);
 
-							List<Object> sortOptions = hits.get(hits.size() - 1).sort().stream().map(TypeUtils::toObjectNotNull)
-									.collect(Collectors.toList());
-							baseQuery.setSearchAfter(sortOptions);
-							SearchRequest followSearchRequest = requestConverter.searchRequest(baseQuery,
-									routingResolver.getRouting(), clazz, index, false, true);
-							return Mono.from(execute(client -> client.search(followSearchRequest, EntityAsMap.class)));
-						});
+			List<Object> searchAfter = query.getSearchAfter();
+			SearchRequest firstSearchRequest = CollectionUtils.isEmpty(searchAfter) ? searchRequestTemplate
+					: requestConverter.searchAfterRequest(searchRequestTemplate, query,
+							searchAfter.stream().map(TypeUtils::toFieldValue).toList());
 
-			};
+			return Mono.from(execute(client -> client.search(firstSearchRequest, EntityAsMap.class)))
+					.expand(entityAsMapSearchResponse -> {
 
-			Flux<ResponseBody<EntityAsMap>> searchResponses = Flux.usingWhen(resourceSupplier, resourceClosure, asyncComplete,
-					asyncError, asyncCancel);
-			return searchResponses.flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits())
-					.map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
-		} else {
-			return Flux.error(new IllegalArgumentException("Query must be derived from BaseQuery"));
-		}
-	}
+						var hits = entityAsMapSearchResponse.hits().hits();
+						if (CollectionUtils.isEmpty(hits)) {
+							return Mono.empty();
+						}
 
-	private Publisher<?> cleanupPit(PitSearchAfter psa) {
-		var baseQuery = psa.getBaseQuery();
-		baseQuery.setPointInTime(null);
-		baseQuery.setSearchAfter(null);
-		baseQuery.setSort(psa.getSort());
-		var pit = psa.getPit();
-		return StringUtils.hasText(pit) ? closePointInTime(pit) : Mono.empty();
+						Integer size = query.isReactiveBatchSizeAdaptive()
+								? adaptiveBatchSize(query, requested.get(), received.addAndGet(hits.size()))
+								: null;
+						SearchRequest followSearchRequest = requestConverter.searchAfterRequest(searchRequestTemplate, query,
+								hits.get(hits.size() - 1).sort(), size);
+						return Mono.from(execute(client -> client.search(followSearchRequest, EntityAsMap.class)));
+					});
+		};
+
+		Flux<ResponseBody<EntityAsMap>> searchResponses = Flux.usingWhen(resourceSupplier, resourceClosure, asyncComplete,
+				asyncError, asyncCancel);
+		return searchResponses
+				.flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits(),
+						unboundedSearchPrefetch)
+				.map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper))
+				.doOnRequest(n -> requested.accumulateAndGet(n, Operators::addCap));
 	}
 
-	static private class PitSearchAfter {
-		private final BaseQuery baseQuery;
-		@Nullable private final Sort sort;
-		private final String pit;
-
-		PitSearchAfter(BaseQuery baseQuery, String pit) {
-			this.baseQuery = baseQuery;
-			this.sort = baseQuery.getSort();
-			this.pit = pit;
-		}
-
-		public BaseQuery getBaseQuery() {
-			return baseQuery;
-		}
+	/**
+	 * calculates the number of documents to request with the next page from the outstanding downstream demand. The
+	 * result is at least {@link Query#DEFAULT_PAGE_SIZE} and at most the reactive batch size of the query.
+	 */
+	private static int adaptiveBatchSize(Query query, long requested, long received) {
 
-		@Nullable
-		public Sort getSort() {
-			return sort;
-		}
+		long outstanding = requested == Long.MAX_VALUE ? Long.MAX_VALUE : requested - received;
+		int batchSize = query.getReactiveBatchSize();
+		return (int) Math.min(batchSize, Math.max(Math.min(Query.DEFAULT_PAGE_SIZE, batchSize), outstanding));
+	}
 
-		public String getPit() {
-			return pit;
-		}
+	private Publisher<?> cleanupPit(String pit) {
+		return StringUtils.hasText(pit) ? closePointInTime(pit) : Mono.empty();
 	}
 
 	@Override
@@ -599,7 +752,7 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), entityType, index,
 				true);
 
-		return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)))
+		return executeHedged(ElasticsearchOperationName.COUNT, client -> client.search(searchRequest, EntityAsMap.class))
 				.map(searchResponse -> searchResponse.hits().total() != null ? searchResponse.hits().total().value() : 0L);
 	}
 
@@ -608,7 +761,7 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
 				false, false);
 
-		return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class))) //
+		return executeHedged(ElasticsearchOperationName.SEARCH, client -> client.search(searchRequest, EntityAsMap.class)) //
 				.flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits()) //
 				.map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
 	}
@@ -622,6 +775,12 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 				.map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
 	}
 
+	@Override
+	protected Object searchResultCacheKey(Query query, Class<?> clazz, IndexCoordinates index) {
+		return SearchRequestKey.of(
+				requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index, false), jsonpMapper);
+	}
+
 	@Override
 	protected <T> Mono<SearchDocumentResponse> doFindForResponse(Query query, Class<?> clazz, IndexCoordinates index) {
 
@@ -636,7 +795,7 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		SearchDocumentResponse.EntityCreator<T> entityCreator = searchDocument -> callback.toEntity(searchDocument)
 				.toFuture();
 
-		return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)))
+		return executeHedged(ElasticsearchOperationName.SEARCH, client -> client.search(searchRequest, EntityAsMap.class))
 				.map(searchResponse -> SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
 	}
 
@@ -649,6 +808,39 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		});
 	}
 
+	@Override
+	public Flux<AggregationBucket> searchForAggregationStream(Query query, String aggregationName,
+			@Nullable Class<?> entityType, IndexCoordinates index, AggregationStreamOptions options) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(aggregationName, "aggregationName must not be null");
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		return observeFlux(ElasticsearchOperationName.SEARCH, index, Flux.defer(() -> {
+			SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), entityType,
+					index, false);
+			AggregationStreamRequests requests = new AggregationStreamRequests(searchRequest, aggregationName, options,
+					jsonpMapper);
+
+			Function<SearchRequest, Mono<AggregationStreamRequests.Page>> search = request -> Mono
+					.from(execute(client -> client.search(request, EntityAsMap.class))) //
+					.map(requests::page);
+
+			if (requests.isPartitioned()) {
+				return Flux.range(0, options.getPartitions()) //
+						.flatMapSequential(partition -> search.apply(requests.partitionRequest(partition)),
+								options.getParallelism()) //
+						.flatMapIterable(AggregationStreamRequests.Page::buckets, options.getPrefetch() + 1);
+			}
+
+			// the next page can only be requested with the after_key of the current one
+			return search.apply(requests.compositeRequest(null)) //
+					.expand(page -> page.hasNext() ? search.apply(requests.compositeRequest(page.afterKey())) : Mono.empty()) //
+					.flatMapIterable(AggregationStreamRequests.Page::buckets, options.getPrefetch() + 1);
+		}));
+	}
+
 	@Override
 	public Mono<String> openPointInTime(IndexCoordinates index, Duration keepAlive, Boolean ignoreUnavailable) {
 
@@ -666,7 +858,10 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		Assert.notNull(pit, "pit must not be null");
 
 		ClosePointInTimeRequest request = requestConverter.searchClosePointInTime(pit);
-		return Mono.from(execute(client -> client.closePointInTime(request))).map(ClosePointInTimeResponse::succeeded);
+		// not isolated, a search closing its point in time must not be rejected, as this would leak the point in time
+		return Mono.from(execute(client -> client.closePointInTime(request))) //
+				.contextWrite(context -> context.delete(ElasticsearchObservationContext.class)) //
+				.map(ClosePointInTimeResponse::succeeded);
 	}
 
 	// endregion
@@ -763,6 +958,128 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		return sqlClient.query(request).onErrorMap(this::translateException).map(responseConverter::sqlResponse);
 	}
 
+	@Override
+	public Flux<SqlResponse.Row> searchForStream(SqlQuery query, int prefetch) {
+		Assert.notNull(query, "Query must not be null.");
+		Assert.isTrue(prefetch >= 0, "prefetch must not be negative");
+
+		return Flux.defer(() -> {
+			// the cursor of the last page that was read, cleared when the rows are not consumed to the end
+			AtomicReference<@Nullable String> openCursor = new AtomicReference<>();
+
+			// a page is requested when concatMap requests it: up to prefetch pages ahead of the page whose rows are
+			// emitted. Elasticsearch only returns the columns with the first page, the next pages use the columns of the
+			// page before
+			return sqlPageOnRequest(requestConverter.sqlStreamRequest(query), List.of()) //
+					.expand(page -> {
+						String cursor = page.getCursor();
+						return cursor != null
+								? sqlPageOnRequest(requestConverter.sqlCursorRequest(query, cursor), page.getColumns())
+								: Mono.empty();
+					}) //
+					.doOnNext(page -> openCursor.set(page.getCursor())) //
+					.concatMap(page -> Flux.fromIterable(page.getRows()), prefetch) //
+					.doFinally(signalType -> {
+						String cursor = openCursor.getAndSet(null);
+
+						if (cursor != null) {
+							sqlClient.clearCursor(requestConverter.sqlClearCursorRequest(cursor)) //
+									.doOnError(throwable -> {
+										if (LOGGER.isWarnEnabled()) {
+											LOGGER.warn("Could not clear SQL cursor", throwable);
+										}
+									}) //
+									.onErrorComplete() //
+									.subscribe();
+						}
+					});
+		});
+	}
+
+	/**
+	 * Sends the request for a page when the page is requested by the subscriber and not already on subscription, the
+	 * {@link ReactiveElasticsearchSqlClient} sends a request when it is called.
+	 */
+	private Mono<SqlResponse> sqlPageOnRequest(co.elastic.clients.elasticsearch.sql.QueryRequest request,
+			List<SqlResponse.Column> columns) {
+
+		return Mono.create(sink -> {
+			AtomicBoolean sent = new AtomicBoolean(false);
+
+			sink.onRequest(n -> {
+				if (sent.compareAndSet(false, true)) {
+					sink.onDispose(sqlClient.query(request) //
+							.onErrorMap(this::translateException) //
+							.map(response -> responseConverter.sqlResponse(response, columns)) //
+							.subscribe(sink::success, sink::error));
+				}
+			});
+		});
+	}
+
+	@Override
+	public <T> Mono<AsyncSearchResponse<T>> submitAsyncSearch(Query query, Class<T> clazz, IndexCoordinates index,
+			AsyncSearchOptions options) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(clazz, "clazz must not be null");
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		return observeMono(ElasticsearchOperationName.SEARCH, index, Mono.defer(() -> {
+			SubmitRequest request = requestConverter.asyncSearchSubmitRequest(query, routingResolver.getRouting(), clazz,
+					index, options);
+			return Mono.from(execute(client -> client.asyncSearch().submit(request, EntityAsMap.class)))
+					.flatMap(response -> asyncSearchResponse(response, clazz, index));
+		}));
+	}
+
+	@Override
+	public <T> Mono<AsyncSearchResponse<T>> getAsyncSearch(String id, Class<T> clazz, IndexCoordinates index,
+			AsyncSearchOptions options) {
+
+		Assert.notNull(id, "id must not be null");
+		Assert.notNull(clazz, "clazz must not be null");
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		return observeMono(ElasticsearchOperationName.SEARCH, index, Mono.defer(() -> {
+			GetAsyncSearchRequest request = requestConverter.asyncSearchGetRequest(id, options);
+			return Mono.from(execute(client -> client.asyncSearch().get(request, EntityAsMap.class)))
+					.flatMap(response -> asyncSearchResponse(response, clazz, index));
+		}));
+	}
+
+	@Override
+	public Mono<Boolean> deleteAsyncSearch(String id) {
+
+		Assert.notNull(id, "id must not be null");
+
+		DeleteAsyncSearchRequest request = requestConverter.asyncSearchDeleteRequest(id);
+		return Mono.from(execute(client -> client.asyncSearch().delete(request)))
+				.map(DeleteAsyncSearchResponse::acknowledged);
+	}
+
+	private <T> Mono<AsyncSearchResponse<T>> asyncSearchResponse(AsyncSearchDocumentResponseBase<EntityAsMap> response,
+			Class<T> clazz, IndexCoordinates index) {
+
+		SearchDocumentCallback<T> callback = new ReadSearchDocumentCallback<>(clazz, index);
+
+		// the hits are only converted below; the builder converts the documents of completion suggestions, which are
+		// not part of the hits, and needs a converter returning a future for this
+		SearchDocumentResponse.EntityCreator<T> suggestionEntityCreator = searchDocument -> callback
+				.toEntity(searchDocument).toFuture();
+		SearchDocumentResponse searchDocumentResponse = SearchDocumentResponseBuilder.from(response.response(),
+				suggestionEntityCreator, jsonpMapper);
+
+		// the entities are mapped to the search documents by their position, so the order must be kept
+		return Flux.fromIterable(searchDocumentResponse.getSearchDocuments()) //
+				.concatMap(callback::toEntity) //
+				.collectList() //
+				.map(entities -> SearchHitMapping.mappingFor(clazz, converter).mapHits(searchDocumentResponse, entities)) //
+				.map(searchHits -> responseConverter.asyncSearchResponse(response, searchHits));
+	}
+
 	/**
 	 * Callback interface to be used with {@link #execute(ReactiveElasticsearchTemplate.ClientCallback<>)} for operating
 	 * directly on {@link ReactiveElasticsearchClient}.
@@ -782,7 +1099,56 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 	 * @return the callback result
 	 */
 	public <T> Publisher<T> execute(ReactiveElasticsearchTemplate.ClientCallback<Publisher<T>> callback) {
-		return Flux.defer(() -> callback.doWithClient(client)).onErrorMap(this::translateException);
+
+		Flux<T> flux = isolate(Flux.defer(() -> callback.doWithClient(client)).onErrorMap(this::translateException));
+		Scheduler conversionScheduler = this.conversionScheduler;
+		return conversionScheduler != null ? flux.publishOn(conversionScheduler) : flux;
+	}
+
+	/**
+	 * Executes an idempotent read request according to the {@link HedgingPolicy}. When the request is not answered
+	 * within the delay of the policy and the budget allows it, a duplicate request is sent. The first successful
+	 * response is used and the other request is cancelled. A failure of one of the requests is ignored while the other
+	 * one is still in flight, when both fail, the failure of the original request is returned.
+	 */
+	private <T> Mono<T> executeHedged(ElasticsearchOperationName operationName,
+			ReactiveElasticsearchTemplate.ClientCallback<Publisher<T>> callback) {
+
+		HedgingPolicy hedgingPolicy = this.hedgingPolicy;
+
+		if (hedgingPolicy == null) {
+			return Mono.from(execute(callback));
+		}
+
+		return Mono.defer(() -> {
+			long start = System.nanoTime();
+			Duration delay = hedgingPolicy.requestStarted(operationName);
+			Mono<T> request = Mono.from(execute(callback));
+
+			if (delay != null) {
+				// the number of requests in flight, only the failure of the last one is passed on
+				AtomicInteger inFlight = new AtomicInteger(1);
+				AtomicReference<@Nullable Throwable> requestFailure = new AtomicReference<>();
+
+				Mono<T> hedge = Mono.delay(delay) //
+						.filter(it -> hedgingPolicy.tryHedge(operationName)) //
+						.switchIfEmpty(Mono.never()) //
+						.doOnNext(it -> inFlight.incrementAndGet()) //
+						.flatMap(it -> Mono.from(execute(callback))) //
+						.onErrorResume(throwable -> {
+							Throwable failure = requestFailure.get();
+							return inFlight.decrementAndGet() == 0 ? Mono.error(failure != null ? failure : throwable)
+									: Mono.never();
+						});
+				request = Mono.firstWithSignal(request.onErrorResume(throwable -> {
+					requestFailure.set(throwable);
+					return inFlight.decrementAndGet() == 0 ? Mono.error(throwable) : Mono.never();
+				}), hedge);
+			}
+
+			return request.doOnSuccess(
+					it -> hedgingPolicy.requestCompleted(operationName, Duration.ofNanos(System.nanoTime() - start)));
+		});
 	}
 
 	/**
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Collects requests that are issued concurrently, so that they can be sent to Elasticsearch as one multi request like
+ * a multi get or a multi search. Requests are grouped by a key, only requests with the same key are sent together. A
+ * request that is equal to a request with the same key that is pending or in flight is not sent again, it is completed
+ * with the result of that request.
+ * <p>
+ * A batch is sent as soon as no other batch with the same key is in flight, so a request without concurrent requests
+ * is sent without delay. The requests that are issued while a batch is in flight are collected in the next batch,
+ * which is sent when the batch in flight has completed, when it is full or when the time window has passed, whichever
+ * comes first.
+ * <p>
+ * The caller that opens a batch is responsible for executing it: it waits until the batch is {@link Batch#ready()
+ * ready} or the time window has passed, then calls {@link #close(Batch)} and sends the returned requests. The results
+ * must be passed back with {@link #complete(Batch, List)} or {@link #completeExceptionally(Batch, Throwable)}. This
+ * class does not use any threads of its own.
+ *
+ * @param <K> the type of the key by which the requests are grouped
+ * @param <R> the type of the requests
+ * @param <V> the type of the results
+ * @author agent
+ * @since 6.2
+ */
+class RequestCoalescer<K, R, V> {
+
+	private final Duration window;
+	private final int maxBatchSize;
+
+	private final Object lock = new Object();
+	private final Map<K, Batch<K, R, V>> openBatches = new HashMap<>();
+	private final Map<K, Integer> batchesInFlight = new HashMap<>();
+	private final Map<RequestKey<K, R>, CompletableFuture<V>> pending = new HashMap<>();
+
+	/**
+	 * @param window the maximum time a batch waits for the batch in flight before it is sent
+	 * @param maxBatchSize the maximum number of requests in one batch
+	 */
+	RequestCoalescer(Duration window, int maxBatchSize) {
+
+		Assert.notNull(window, "window must not be null");
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "window must be positive");
+		Assert.isTrue(maxBatchSize > 0, "maxBatchSize must be greater than 0");
+
+		this.window = window;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	Duration getWindow() {
+		return window;
+	}
+
+	int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * Registers a request.
+	 *
+	 * @return the registration containing the future for the result and the batch that must be executed by the caller,
+	 *         if the caller opened a new batch.
+	 */
+	Registration<K, R, V> register(K key, R request) {
+
+		Assert.notNull(key, "key must not be null");
+		Assert.notNull(request, "request must not be null");
+
+		RequestKey<K, R> requestKey = new RequestKey<>(key, request);
+		CompletableFuture<Void> ready = null;
+		Registration<K, R, V> registration;
+
+		synchronized (lock) {
+			CompletableFuture<V> existing = pending.get(requestKey);
+
+			if (existing != null) {
+				return new Registration<>(existing, null);
+			}
+
+			Batch<K, R, V> batch = openBatches.get(key);
+			Batch<K, R, V> batchToExecute = null;
+
+			if (batch == null) {
+				batch = new Batch<>(key);
+				openBatches.put(key, batch);
+				batchToExecute = batch;
+
+				if (!batchesInFlight.containsKey(key)) {
+					ready = batch.ready;
+				}
+			}
+
+			CompletableFuture<V> result = new CompletableFuture<>();
+			batch.requests.put(request, result);
+			pending.put(requestKey, result);
+
+			if (batch.requests.size() >= maxBatchSize) {
+				openBatches.remove(key);
+				ready = batch.ready;
+			}
+
+			registration = new Registration<>(result, batchToExecute);
+		}
+
+		// completed outside the lock, as dependent stages may execute the batch
+		if (ready != null) {
+			ready.complete(null);
+		}
+
+		return registration;
+	}
+
+	/**
+	 * Closes the batch for further requests and marks it as in flight.
+	 *
+	 * @return the requests to send, in the order in which the results must be passed to {@link #complete(Batch, List)}.
+	 */
+	List<R> close(Batch<K, R, V> batch) {
+
+		synchronized (lock) {
+			openBatches.remove(batch.key, batch);
+
+			if (!batch.closed && !batch.finished) {
+				batch.closed = true;
+				batchesInFlight.merge(batch.key, 1, Integer::sum);
+			}
+
+			return new ArrayList<>(batch.requests.keySet());
+		}
+	}
+
+	/**
+	 * Completes the requests of a closed batch with the results of the multi request. Does nothing if the batch was
+	 * already completed.
+	 */
+	void complete(Batch<K, R, V> batch, List<V> results) {
+
+		List<CompletableFuture<V>> futures = finish(batch);
+
+		if (futures.isEmpty()) {
+			return;
+		}
+
+		if (results.size() != futures.size()) {
+			IllegalStateException exception = new IllegalStateException(
+					"multi request returned " + results.size() + " results for " + futures.size() + " requests");
+			futures.forEach(future -> future.completeExceptionally(exception));
+			return;
+		}
+
+		for (int i = 0; i < futures.size(); i++) {
+			futures.get(i).complete(results.get(i));
+		}
+	}
+
+	/**
+	 * Completes the requests of a closed batch with an error. Does nothing if the batch was already completed.
+	 */
+	void completeExceptionally(Batch<K, R, V> batch, Throwable throwable) {
+		finish(batch).forEach(future -> future.completeExceptionally(throwable));
+	}
+
+	/**
+	 * Registers a request and blocks until the result is available. If the calling thread opened a new batch, it waits
+	 * until the batch is ready or the time window has passed and then executes the batch with the given function.
+	 *
+	 * @param executor function executing a multi request for the given requests and returning the results in the same
+	 *          order
+	 * @return the result for the request
+	 */
+	V execute(K key, R request, Function<List<R>, List<V>> executor) {
+
+		Registration<K, R, V> registration = register(key, request);
+		Batch<K, R, V> batch = registration.batch();
+
+		if (batch != null) {
+			try {
+				batch.awaitReady(window);
+				complete(batch, executor.apply(close(batch)));
+			} catch (Throwable throwable) {
+				// the other callers are waiting for this batch, so it must be completed whatever the executor throws
+				completeExceptionally(batch, throwable);
+			}
+		}
+
+		try {
+			return registration.result().join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	private List<CompletableFuture<V>> finish(Batch<K, R, V> batch) {
+
+		List<CompletableFuture<V>> futures;
+		CompletableFuture<Void> nextReady = null;
+
+		synchronized (lock) {
+
+			if (batch.finished) {
+				return List.of();
+			}
+
+			batch.finished = true;
+			openBatches.remove(batch.key, batch);
+			batch.requests.forEach((request, future) -> pending.remove(new RequestKey<>(batch.key, request), future));
+
+			if (batch.closed && batchesInFlight.merge(batch.key, -1, Integer::sum) == 0) {
+				batchesInFlight.remove(batch.key);
+
+				Batch<K, R, V> next = openBatches.get(batch.key);
+				if (next != null) {
+					nextReady = next.ready;
+				}
+			}
+
+			futures = new ArrayList<>(batch.requests.values());
+		}
+
+		// the next batch was collected while this one was in flight and can be sent now
+		if (nextReady != null) {
+			nextReady.complete(null);
+		}
+
+		return futures;
+	}
+
+	/**
+	 * The result of a registration.
+	 *
+	 * @param result the future that is completed with the result for the request.
+	 * @param batch the batch that must be executed by the caller, {@literal null} if the request was added to a batch
+	 *          opened by another caller.
+	 */
+	record Registration<K, R, V>(CompletableFuture<V> result, @Nullable Batch<K, R, V> batch) {
+	}
+
+	/**
+	 * The key for requests that are grouped by the index name and the entity class.
+	 */
+	record IndexKey(String index, Class<?> clazz) {
+	}
+
+	private record RequestKey<K, R>(K key, R request) {
+	}
+
+	/**
+	 * A batch of requests with the same key.
+	 */
+	static final class Batch<K, R, V> {
+
+		private final K key;
+		private final Map<R, CompletableFuture<V>> requests = new LinkedHashMap<>();
+		private final CompletableFuture<Void> ready = new CompletableFuture<>();
+		private boolean closed = false;
+		private boolean finished = false;
+
+		private Batch(K key) {
+			this.key = key;
+		}
+
+		K getKey() {
+			return key;
+		}
+
+		/**
+		 * @return a future that is completed when the batch can be sent: when no other batch with the same key is in
+		 *         flight or when the batch has reached the maximum size.
+		 */
+		CompletableFuture<Void> ready() {
+			return ready;
+		}
+
+		/**
+		 * Blocks until the batch is ready or the timeout has passed.
+		 */
+		void awaitReady(Duration timeout) {
+			try {
+				ready.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException | ExecutionException ignored) {
+				// the time window has passed
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -20,6 +20,7 @@ import static org.springframework.util.CollectionUtils.*;
 
 import co.elastic.clients.elasticsearch._types.Conflicts;
 import co.elastic.clients.elasticsearch._types.ExpandWildcard;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.NestedSortValue;
 import co.elastic.clients.elasticsearch._types.OpType;
 import co.elastic.clients.elasticsearch._types.SortOptions;
@@ -31,6 +32,9 @@ import co.elastic.clients.elasticsearch._types.mapping.RuntimeField;
 import co.elastic.clients.elasticsearch._types.mapping.RuntimeFieldType;
 import co.elastic.clients.elasticsearch._types.query_dsl.FieldAndFormat;
 import co.elastic.clients.elasticsearch._types.query_dsl.Like;
+import co.elastic.clients.elasticsearch.async_search.DeleteAsyncSearchRequest;
+import co.elastic.clients.elasticsearch.async_search.GetAsyncSearchRequest;
+import co.elastic.clients.elasticsearch.async_search.SubmitRequest;
 import co.elastic.clients.elasticsearch.cluster.DeleteComponentTemplateRequest;
 import co.elastic.clients.elasticsearch.cluster.ExistsComponentTemplateRequest;
 import co.elastic.clients.elasticsearch.cluster.GetComponentTemplateRequest;
@@ -549,6 +553,58 @@ class RequestConverter extends AbstractQueryProcessor {
 				.format(SqlFormat.Json));
 	}
 
+	/**
+	 * Creates the request for the first page of a SQL query whose rows are streamed. The rows are always requested in row
+	 * format, as the client only reads rows from a response, and the query is run synchronously, so the columnar and async
+	 * settings of the query are not used.
+	 *
+	 * @since 6.2
+	 */
+	public co.elastic.clients.elasticsearch.sql.QueryRequest sqlStreamRequest(SqlQuery query) {
+		Assert.notNull(query, "Query must not be null.");
+
+		return co.elastic.clients.elasticsearch.sql.QueryRequest.of(sqb -> sqb
+				.query(query.getQuery())
+				.catalog(query.getCatalog())
+				.columnar(false)
+				.fetchSize(query.getFetchSize())
+				.fieldMultiValueLeniency(query.getFieldMultiValueLeniency())
+				.indexUsingFrozen(query.getIndexIncludeFrozen())
+				.pageTimeout(time(query.getPageTimeout()))
+				.requestTimeout(time(query.getRequestTimeout()))
+				.filter(getQuery(query.getFilter(), null))
+				.timeZone(Objects.toString(query.getTimeZone(), null))
+				.format(SqlFormat.Json));
+	}
+
+	/**
+	 * Creates the request for the next page of a SQL query whose rows are streamed.
+	 *
+	 * @param query the query that was streamed
+	 * @param cursor the cursor returned with the previous page
+	 * @since 6.2
+	 */
+	public co.elastic.clients.elasticsearch.sql.QueryRequest sqlCursorRequest(SqlQuery query, String cursor) {
+		Assert.notNull(query, "Query must not be null.");
+		Assert.notNull(cursor, "cursor must not be null");
+
+		return co.elastic.clients.elasticsearch.sql.QueryRequest.of(sqb -> sqb
+				.cursor(cursor)
+				.columnar(false)
+				.pageTimeout(time(query.getPageTimeout()))
+				.requestTimeout(time(query.getRequestTimeout()))
+				.format(SqlFormat.Json));
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public co.elastic.clients.elasticsearch.sql.ClearCursorRequest sqlClearCursorRequest(String cursor) {
+		Assert.notNull(cursor, "cursor must not be null");
+
+		return co.elastic.clients.elasticsearch.sql.ClearCursorRequest.of(ccb -> ccb.cursor(cursor));
+	}
+
 	// endregion
 
 	// region documents
@@ -1196,12 +1252,39 @@ class RequestConverter extends AbstractQueryProcessor {
 			IndexCoordinates indexCoordinates, boolean forCount, boolean forBatchedSearch,
 			@Nullable Long scrollTimeInMillis) {
 
+		return searchRequest(query, routing, clazz, indexCoordinates, forCount, forBatchedSearch, scrollTimeInMillis, null);
+	}
+
+	/**
+	 * Creates the request for the first page of a pit/search_after search. The point in time and the additional sort are
+	 * passed in instead of being set on the query, so the query is not modified and can be used in concurrent searches.
+	 * search_after values from the query are not added, they can be set with
+	 * {@link #searchAfterRequest(SearchRequest, Query, List)}.
+	 *
+	 * @param pointInTime the point in time to search in
+	 * @param additionalSort sort that is added after the sort of the query, may be {@literal null}
+	 * @since 6.2
+	 */
+	public <T> SearchRequest searchRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
+			IndexCoordinates indexCoordinates, Query.PointInTime pointInTime, @Nullable Sort additionalSort) {
+
+		Assert.notNull(pointInTime, "pointInTime must not be null");
+
+		return searchRequest(query, routing, clazz, indexCoordinates, false, true, null,
+				new PitSearchAfterParameters(pointInTime, additionalSort));
+	}
+
+	private <T> SearchRequest searchRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
+			IndexCoordinates indexCoordinates, boolean forCount, boolean forBatchedSearch, @Nullable Long scrollTimeInMillis,
+			@Nullable PitSearchAfterParameters pitSearchAfterParameters) {
+
 		Assert.notNull(query, "query must not be null");
 		Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
 
 		elasticsearchConverter.updateQuery(query, clazz);
 		SearchRequest.Builder builder = new SearchRequest.Builder();
-		prepareSearchRequest(query, routing, clazz, indexCoordinates, builder, forCount, forBatchedSearch);
+		prepareSearchRequest(query, routing, clazz, indexCoordinates, builder, forCount, forBatchedSearch,
+				pitSearchAfterParameters);
 
 		if (scrollTimeInMillis != null) {
 			builder.scroll(t -> t.time(scrollTimeInMillis + "ms"));
@@ -1216,6 +1299,49 @@ class RequestConverter extends AbstractQueryProcessor {
 		return builder.build();
 	}
 
+	/**
+	 * Creates the request for the next page of a pit/search_after search from an already converted request. Only the
+	 * search_after values are set, so the query does not need to be converted again for every page.
+	 *
+	 * @param searchRequest the request converted from the query, must not contain search_after values
+	 * @param query the query the request was converted from
+	 * @param searchAfter the sort values of the last hit of the previous page
+	 * @return the request for the next page
+	 * @since 6.2
+	 */
+	public SearchRequest searchAfterRequest(SearchRequest searchRequest, Query query, List<FieldValue> searchAfter) {
+		return searchAfterRequest(searchRequest, query, searchAfter, null);
+	}
+
+	/**
+	 * Creates the request for the next page of a pit/search_after search from an already converted request. Only the
+	 * search_after values and optionally the page size are set, so the query does not need to be converted again for
+	 * every page.
+	 *
+	 * @param searchRequest the request converted from the query, must not contain search_after values
+	 * @param query the query the request was converted from
+	 * @param searchAfter the sort values of the last hit of the previous page
+	 * @param size the number of documents to request, if {@literal null} the size of the converted request is used
+	 * @return the request for the next page
+	 * @since 6.2
+	 */
+	public SearchRequest searchAfterRequest(SearchRequest searchRequest, Query query, List<FieldValue> searchAfter,
+			@Nullable Integer size) {
+
+		Assert.notNull(searchRequest, "searchRequest must not be null");
+		Assert.notNull(query, "query must not be null");
+		Assert.notEmpty(searchAfter, "searchAfter must not be empty");
+		Assert.isTrue(isEmpty(searchRequest.searchAfter()), "searchRequest must not contain search_after values");
+
+		SearchRequest.Builder builder = searchRequest.rebuild().searchAfter(searchAfterValues(query, searchAfter));
+
+		if (size != null) {
+			builder.size(size);
+		}
+
+		return builder.build();
+	}
+
 	public MsearchTemplateRequest searchMsearchTemplateRequest(
 			List<ElasticsearchTemplate.MultiSearchTemplateQueryParameter> multiSearchTemplateQueryParameters,
 			@Nullable String routing) {
@@ -1361,6 +1487,128 @@ class RequestConverter extends AbstractQueryProcessor {
 		});
 	}
 
+	/**
+	 * Creates a multi search request from search requests that were already converted, each with its own header
+	 * containing the index, the routing and the other request parameters of the search request.
+	 * {@literal include_named_queries_score} is not a header parameter but one of the multi search request, so all
+	 * search requests must have the same value for it.
+	 *
+	 * @param searchRequests the search requests, must not use a point in time
+	 * @return the multi search request
+	 * @since 6.2
+	 */
+	public MsearchRequest searchMsearchRequestOf(List<SearchRequest> searchRequests) {
+
+		Assert.notEmpty(searchRequests, "searchRequests must not be empty");
+
+		boolean includeNamedQueriesScore = Boolean.TRUE.equals(searchRequests.get(0).includeNamedQueriesScore());
+		Assert.isTrue(searchRequests.stream().allMatch(
+				searchRequest -> Boolean.TRUE.equals(searchRequest.includeNamedQueriesScore()) == includeNamedQueriesScore),
+				"searchRequests must have the same value for includeNamedQueriesScore");
+
+		return MsearchRequest.of(mrb -> {
+			if (includeNamedQueriesScore) {
+				mrb.includeNamedQueriesScore(true);
+			}
+
+			searchRequests.forEach(searchRequest -> mrb.searches(sb -> sb //
+					.header(h -> {
+						h //
+								.index(searchRequest.index()) //
+								.routing(searchRequest.routing()) //
+								.preference(searchRequest.preference()) //
+								.searchType(searchRequest.searchType()) //
+								.requestCache(searchRequest.requestCache()) //
+								.allowNoIndices(searchRequest.allowNoIndices()) //
+								.ignoreUnavailable(searchRequest.ignoreUnavailable()) //
+						;
+
+						if (!isEmpty(searchRequest.expandWildcards())) {
+							h.expandWildcards(searchRequest.expandWildcards());
+						}
+						return h;
+					}) //
+					.body(bb -> searchRequestBody(searchRequest, bb))));
+			return mrb;
+		});
+	}
+
+	/**
+	 * copies the body properties of a search request, lists and maps only when they are set, so that no empty values are
+	 * sent.
+	 */
+	private SearchRequestBody.Builder searchRequestBody(SearchRequest searchRequest, SearchRequestBody.Builder builder) {
+
+		builder //
+				.query(searchRequest.query()) //
+				.postFilter(searchRequest.postFilter()) //
+				.source(searchRequest.source()) //
+				.from(searchRequest.from()) //
+				.size(searchRequest.size()) //
+				.version(searchRequest.version()) //
+				.seqNoPrimaryTerm(searchRequest.seqNoPrimaryTerm()) //
+				.trackScores(searchRequest.trackScores()) //
+				.trackTotalHits(searchRequest.trackTotalHits()) //
+				.timeout(searchRequest.timeout()) //
+				.minScore(searchRequest.minScore()) //
+				.explain(searchRequest.explain()) //
+				.terminateAfter(searchRequest.terminateAfter()) //
+				.highlight(searchRequest.highlight()) //
+				.collapse(searchRequest.collapse()) //
+				.suggest(searchRequest.suggest()) //
+		;
+
+		if (!isEmpty(searchRequest.sort())) {
+			builder.sort(searchRequest.sort());
+		}
+
+		if (!isEmpty(searchRequest.searchAfter())) {
+			builder.searchAfter(searchRequest.searchAfter());
+		}
+
+		if (!isEmpty(searchRequest.fields())) {
+			builder.fields(searchRequest.fields());
+		}
+
+		if (!isEmpty(searchRequest.docvalueFields())) {
+			builder.docvalueFields(searchRequest.docvalueFields());
+		}
+
+		if (!isEmpty(searchRequest.storedFields())) {
+			builder.storedFields(searchRequest.storedFields());
+		}
+
+		if (!isEmpty(searchRequest.rescore())) {
+			builder.rescore(searchRequest.rescore());
+		}
+
+		if (!isEmpty(searchRequest.knn())) {
+			builder.knn(searchRequest.knn());
+		}
+
+		if (!isEmpty(searchRequest.indicesBoost())) {
+			builder.indicesBoost(searchRequest.indicesBoost());
+		}
+
+		if (!isEmpty(searchRequest.aggregations())) {
+			builder.aggregations(searchRequest.aggregations());
+		}
+
+		if (!isEmpty(searchRequest.scriptFields())) {
+			builder.scriptFields(searchRequest.scriptFields());
+		}
+
+		if (!isEmpty(searchRequest.runtimeMappings())) {
+			builder.runtimeMappings(searchRequest.runtimeMappings());
+		}
+
+		if (!isEmpty(searchRequest.ext())) {
+			builder.ext(searchRequest.ext());
+		}
+
+		return builder;
+	}
+
 	/**
 	 * {@link MsearchRequest} and {@link MsearchTemplateRequest} share the same {@link MultisearchHeader}
 	 */
@@ -1386,8 +1634,26 @@ class RequestConverter extends AbstractQueryProcessor {
 		};
 	}
 
+	private List<FieldValue> searchAfterValues(Query query, List<FieldValue> fieldValues) {
+
+		// when there is a field collapse on a native query, and we have a search_after, then the search_after
+		// must only have one entry
+		if (query instanceof NativeQuery nativeQuery && nativeQuery.getFieldCollapse() != null) {
+			return fieldValues.subList(0, 1);
+		}
+
+		return fieldValues;
+	}
+
+	/**
+	 * Values used instead of the ones from the query when the request for a pit/search_after search is created.
+	 */
+	private record PitSearchAfterParameters(Query.PointInTime pointInTime, @Nullable Sort additionalSort) {
+	}
+
 	private <T> void prepareSearchRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
-			IndexCoordinates indexCoordinates, SearchRequest.Builder builder, boolean forCount, boolean forBatchedSearch) {
+			IndexCoordinates indexCoordinates, SearchRequest.Builder builder, boolean forCount, boolean forBatchedSearch,
+			@Nullable PitSearchAfterParameters pitSearchAfterParameters) {
 
 		String[] indexNames = indexCoordinates.getIndexNames();
 
@@ -1409,7 +1675,8 @@ class RequestConverter extends AbstractQueryProcessor {
 				.includeNamedQueriesScore(query.getIncludeNamedQueriesScore()) //
 		;
 
-		var pointInTime = query.getPointInTime();
+		var pointInTime = pitSearchAfterParameters != null ? pitSearchAfterParameters.pointInTime()
+				: query.getPointInTime();
 		if (pointInTime != null) {
 			builder.pit(pb -> pb.id(pointInTime.id()).keepAlive(time(pointInTime.keepAlive())));
 		} else {
@@ -1463,8 +1730,14 @@ class RequestConverter extends AbstractQueryProcessor {
 		}
 		// query.getSort() must be checked after prepareNativeSearch as this already might have a sort set
 		// that must have higher priority
-		if (query.getSort() != null) {
-			List<SortOptions> sortOptions = getSortOptions(query.getSort(), persistentEntity);
+		Sort sort = query.getSort();
+		if (pitSearchAfterParameters != null && pitSearchAfterParameters.additionalSort() != null) {
+			sort = sort != null ? sort.and(pitSearchAfterParameters.additionalSort())
+					: pitSearchAfterParameters.additionalSort();
+		}
+
+		if (sort != null) {
+			List<SortOptions> sortOptions = getSortOptions(sort, persistentEntity);
 
 			if (!sortOptions.isEmpty()) {
 				builder.sort(sortOptions);
@@ -1483,16 +1756,9 @@ class RequestConverter extends AbstractQueryProcessor {
 			builder.explain(true);
 		}
 
-		if (!isEmpty(query.getSearchAfter())) {
+		if (pitSearchAfterParameters == null && !isEmpty(query.getSearchAfter())) {
 			var fieldValues = query.getSearchAfter().stream().map(TypeUtils::toFieldValue).toList();
-
-			// when there is a field collapse on a native query, and we have a search_after, then the search_after
-			// must only have one entry
-			if (query instanceof NativeQuery nativeQuery && nativeQuery.getFieldCollapse() != null) {
-				builder.searchAfter(fieldValues.get(0));
-			} else {
-				builder.searchAfter(fieldValues);
-			}
+			builder.searchAfter(searchAfterValues(query, fieldValues));
 		}
 
 		query.getRescorerQueries().forEach(rescorerQuery -> builder.rescore(getRescore(rescorerQuery)));
@@ -1882,6 +2148,151 @@ class RequestConverter extends AbstractQueryProcessor {
 
 	// endregion
 
+	// region async search
+
+	/**
+	 * Creates the request to submit an async search. The body of an async search is the body of a search request, so the
+	 * search request for the query is converted as usual and its body properties and url parameters are copied into the
+	 * submit request. Every property that the conversion of a search request sets must be copied here as well, otherwise
+	 * an async search silently differs from the search for the same query.
+	 *
+	 * @since 6.2
+	 */
+	public <T> SubmitRequest asyncSearchSubmitRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
+			IndexCoordinates indexCoordinates, AsyncSearchOptions options) {
+
+		Assert.notNull(options, "options must not be null");
+
+		SearchRequest searchRequest = searchRequest(query, routing, clazz, indexCoordinates, false);
+		Integer batchedReduceSize = options.getBatchedReduceSize();
+
+		return SubmitRequest.of(b -> {
+			b //
+					.index(searchRequest.index()) //
+					.routing(searchRequest.routing()) //
+					.preference(searchRequest.preference()) //
+					.searchType(searchRequest.searchType()) //
+					.requestCache(searchRequest.requestCache()) //
+					.includeNamedQueriesScore(searchRequest.includeNamedQueriesScore()) //
+					.allowNoIndices(searchRequest.allowNoIndices()) //
+					.ignoreUnavailable(searchRequest.ignoreUnavailable()) //
+					.waitForCompletionTimeout(time(options.getWaitForCompletionTimeout())) //
+					.keepAlive(time(options.getKeepAlive())) //
+					.keepOnCompletion(options.getKeepOnCompletion()) //
+					.batchedReduceSize(batchedReduceSize != null ? batchedReduceSize.longValue() : null);
+
+			if (!isEmpty(searchRequest.expandWildcards())) {
+				b.expandWildcards(searchRequest.expandWildcards());
+			}
+
+			return asyncSearchSubmitRequestBody(searchRequest, b);
+		});
+	}
+
+	/**
+	 * copies the body properties of a search request to an async search submit request, like
+	 * {@link #searchRequestBody(SearchRequest, SearchRequestBody.Builder)} does for a multi search.
+	 */
+	private SubmitRequest.Builder asyncSearchSubmitRequestBody(SearchRequest searchRequest,
+			SubmitRequest.Builder builder) {
+
+		builder //
+				.query(searchRequest.query()) //
+				.postFilter(searchRequest.postFilter()) //
+				.source(searchRequest.source()) //
+				.from(searchRequest.from()) //
+				.size(searchRequest.size()) //
+				.version(searchRequest.version()) //
+				.seqNoPrimaryTerm(searchRequest.seqNoPrimaryTerm()) //
+				.trackScores(searchRequest.trackScores()) //
+				.trackTotalHits(searchRequest.trackTotalHits()) //
+				.timeout(searchRequest.timeout()) //
+				.minScore(searchRequest.minScore()) //
+				.explain(searchRequest.explain()) //
+				.terminateAfter(searchRequest.terminateAfter()) //
+				.highlight(searchRequest.highlight()) //
+				.collapse(searchRequest.collapse()) //
+				.suggest(searchRequest.suggest()) //
+				.pit(searchRequest.pit()) //
+		;
+
+		if (!isEmpty(searchRequest.sort())) {
+			builder.sort(searchRequest.sort());
+		}
+
+		if (!isEmpty(searchRequest.searchAfter())) {
+			builder.searchAfter(searchRequest.searchAfter());
+		}
+
+		if (!isEmpty(searchRequest.fields())) {
+			builder.fields(searchRequest.fields());
+		}
+
+		if (!isEmpty(searchRequest.docvalueFields())) {
+			builder.docvalueFields(searchRequest.docvalueFields());
+		}
+
+		if (!isEmpty(searchRequest.storedFields())) {
+			builder.storedFields(searchRequest.storedFields());
+		}
+
+		if (!isEmpty(searchRequest.rescore())) {
+			builder.rescore(searchRequest.rescore());
+		}
+
+		if (!isEmpty(searchRequest.knn())) {
+			builder.knn(searchRequest.knn());
+		}
+
+		if (!isEmpty(searchRequest.indicesBoost())) {
+			builder.indicesBoost(searchRequest.indicesBoost());
+		}
+
+		if (!isEmpty(searchRequest.aggregations())) {
+			builder.aggregations(searchRequest.aggregations());
+		}
+
+		if (!isEmpty(searchRequest.scriptFields())) {
+			builder.scriptFields(searchRequest.scriptFields());
+		}
+
+		if (!isEmpty(searchRequest.runtimeMappings())) {
+			builder.runtimeMappings(searchRequest.runtimeMappings());
+		}
+
+		if (!isEmpty(searchRequest.ext())) {
+			builder.ext(searchRequest.ext());
+		}
+
+		return builder;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public GetAsyncSearchRequest asyncSearchGetRequest(String id, AsyncSearchOptions options) {
+
+		Assert.notNull(id, "id must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		return GetAsyncSearchRequest.of(b -> b //
+				.id(id) //
+				.waitForCompletionTimeout(time(options.getWaitForCompletionTimeout())) //
+				.keepAlive(time(options.getKeepAlive())));
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public DeleteAsyncSearchRequest asyncSearchDeleteRequest(String id) {
+
+		Assert.notNull(id, "id must not be null");
+
+		return DeleteAsyncSearchRequest.of(b -> b.id(id));
+	}
+
+	// endregion
+
 	public PutScriptRequest scriptPut(Script script) {
 
 		Assert.notNull(script, "script must not be null");
@@ -22,6 +22,7 @@ import co.elastic.clients.elasticsearch._types.BulkIndexByScrollFailure;
 import co.elastic.clients.elasticsearch._types.ErrorCause;
 import co.elastic.clients.elasticsearch._types.Time;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.async_search.AsyncSearchResponseBase;
 import co.elastic.clients.elasticsearch.cluster.ComponentTemplateSummaryRes;
 import co.elastic.clients.elasticsearch.cluster.GetComponentTemplateResponse;
 import co.elastic.clients.elasticsearch.cluster.HealthResponse;
@@ -37,6 +38,7 @@ import co.elastic.clients.elasticsearch.sql.QueryResponse;
 import co.elastic.clients.json.JsonData;
 import co.elastic.clients.json.JsonpMapper;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -52,6 +54,8 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.ElasticsearchErrorCause;
 import org.springframework.data.elasticsearch.core.IndexInformation;
 import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.asyncsearch.AsyncSearchResponse;
 import org.springframework.data.elasticsearch.core.cluster.ClusterHealth;
 import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.index.AliasData;
@@ -543,12 +547,28 @@ class ResponseConverter {
 
 	// region sql
 	public SqlResponse sqlResponse(QueryResponse response) {
+		return sqlResponse(response, List.of());
+	}
+
+	/**
+	 * Converts a page of a SQL query. Elasticsearch only returns the columns with the first page, the pages that are
+	 * requested with a cursor use the columns of the first page.
+	 *
+	 * @param response the response to convert
+	 * @param previousColumns the columns of the previous page, used when the response has no columns
+	 * @since 6.2
+	 */
+	public SqlResponse sqlResponse(QueryResponse response, List<SqlResponse.Column> previousColumns) {
+
+		Assert.notNull(response, "response must not be null");
+		Assert.notNull(previousColumns, "previousColumns must not be null");
+
 		SqlResponse.Builder builder = SqlResponse.builder();
 		builder.withRunning(Boolean.TRUE.equals(response.isRunning()))
 				.withPartial(Boolean.TRUE.equals(response.isPartial())).withCursor(response.cursor());
 
-		final List<SqlResponse.Column> columns = response.columns().stream()
-				.map(column -> new SqlResponse.Column(column.name(), column.type())).toList();
+		final List<SqlResponse.Column> columns = response.columns().isEmpty() ? previousColumns
+				: response.columns().stream().map(column -> new SqlResponse.Column(column.name(), column.type())).toList();
 		builder.withColumns(columns);
 
 		for (List<JsonData> rowValues : response.rows()) {
@@ -564,6 +584,24 @@ class ResponseConverter {
 	}
 	// end region
 
+	// region async search
+	/**
+	 * @param response the async search response
+	 * @param searchHits the search hits converted from the search part of the response
+	 * @since 6.2
+	 */
+	public <T> AsyncSearchResponse<T> asyncSearchResponse(AsyncSearchResponseBase response, SearchHits<T> searchHits) {
+
+		Assert.notNull(response, "response must not be null");
+		Assert.notNull(searchHits, "searchHits must not be null");
+
+		Long completionTimeInMillis = response.completionTimeInMillis();
+		return new AsyncSearchResponse<>(response.id(), response.isRunning(), response.isPartial(),
+				Instant.ofEpochMilli(response.startTimeInMillis()), Instant.ofEpochMilli(response.expirationTimeInMillis()),
+				completionTimeInMillis != null ? Instant.ofEpochMilli(completionTimeInMillis) : null, searchHits);
+	}
+	// endregion
+
 	// region helper functions
 
 	private long timeToLong(Time time) {
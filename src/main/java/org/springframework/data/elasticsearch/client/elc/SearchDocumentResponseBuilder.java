@@ -18,6 +18,7 @@ package org.springframework.data.elasticsearch.client.elc;
 import co.elastic.clients.elasticsearch._types.ShardFailure;
 import co.elastic.clients.elasticsearch._types.ShardStatistics;
 import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch.async_search.AsyncSearch;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchTemplateResponse;
 import co.elastic.clients.elasticsearch.core.search.CompletionSuggest;
@@ -119,6 +120,34 @@ class SearchDocumentResponseBuilder {
 				entityCreator, jsonpMapper);
 	}
 
+	/**
+	 * creates a SearchDocumentResponse from the {@link AsyncSearch} of an async search response
+	 *
+	 * @param response the search part of the async search response
+	 * @param entityCreator function to create an entity from a {@link SearchDocument}
+	 * @param jsonpMapper to map JsonData objects
+	 * @return the SearchDocumentResponse
+	 * @since 6.2
+	 */
+	public static <T> SearchDocumentResponse from(AsyncSearch<EntityAsMap> response,
+			SearchDocumentResponse.EntityCreator<T> entityCreator, JsonpMapper jsonpMapper) {
+
+		Assert.notNull(response, "response must not be null");
+		Assert.notNull(entityCreator, "entityCreator must not be null");
+		Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
+
+		var shards = response.shards();
+		var hitsMetadata = response.hits();
+		var scrollId = response.scrollId();
+		var aggregations = response.aggregations();
+		var suggest = response.suggest();
+		var pointInTimeId = response.pitId();
+		var executionDurationInMillis = response.took();
+
+		return from(hitsMetadata, shards, scrollId, pointInTimeId, executionDurationInMillis, aggregations, suggest,
+				entityCreator, jsonpMapper);
+	}
+
 	/**
 	 * creates a {@link SearchDocumentResponseBuilder} from {@link HitsMetadata} with the given scrollId aggregations and
 	 * suggestES
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch._types.ExpandWildcard;
+import co.elastic.clients.elasticsearch._types.SearchType;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.JsonpUtils;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Value object for a {@link SearchRequest} that is used as key in a
+ * {@link org.springframework.data.elasticsearch.core.SearchResultCache}. The request classes of the Elasticsearch client
+ * do not implement {@code equals} and {@code hashCode}, so the request body is kept as JSON string together with the
+ * request parameters that are not part of the body.
+ *
+ * @author agent
+ * @since 6.2
+ */
+record SearchRequestKey(String body, List<String> index, List<String> routing, @Nullable String preference,
+		@Nullable SearchType searchType, @Nullable Boolean allowNoIndices, @Nullable Boolean ignoreUnavailable,
+		List<ExpandWildcard> expandWildcards, @Nullable String timeout, @Nullable Boolean requestCache) {
+
+	static SearchRequestKey of(SearchRequest searchRequest, JsonpMapper jsonpMapper) {
+		return new SearchRequestKey(JsonpUtils.toJsonString(searchRequest, jsonpMapper), //
+				searchRequest.index(), //
+				searchRequest.routing(), //
+				searchRequest.preference(), //
+				searchRequest.searchType(), //
+				searchRequest.allowNoIndices(), //
+				searchRequest.ignoreUnavailable(), //
+				searchRequest.expandWildcards(), //
+				searchRequest.timeout(), //
+				searchRequest.requestCache());
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.sql.SqlResponse;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+
+/**
+ * Iterates over the pages of a SQL query by following the cursor returned with each page. Up to {@code prefetch} pages
+ * are requested ahead, each one as soon as the cursor of the page before is known. When the iterator is closed before
+ * the last page has been read, the cursor is cleared on the cluster; for pages that are still being requested this is
+ * done when their response arrives.
+ *
+ * @author agent
+ * @since 6.2
+ */
+class SqlCursorIterator implements CloseableIterator<SqlResponse> {
+
+	private static final Log LOGGER = LogFactory.getLog(SqlCursorIterator.class);
+
+	private final Supplier<CompletableFuture<SqlResponse>> firstPage;
+	private final Function<SqlResponse, CompletableFuture<SqlResponse>> nextPage;
+	private final Consumer<String> clearCursor;
+	private final int prefetch;
+
+	/**
+	 * the requested pages that have not been returned yet, a {@literal null} result marks the end of the result.
+	 */
+	private final Deque<CompletableFuture<@Nullable SqlResponse>> pending = new ArrayDeque<>();
+	@Nullable private SqlResponse previous;
+	private boolean started = false;
+	private boolean closed = false;
+
+	/**
+	 * @param firstPage requests the first page
+	 * @param nextPage requests the page following the given page with its cursor
+	 * @param clearCursor clears a cursor that is not used anymore
+	 * @param prefetch the number of pages to request ahead
+	 */
+	SqlCursorIterator(Supplier<CompletableFuture<SqlResponse>> firstPage,
+			Function<SqlResponse, CompletableFuture<SqlResponse>> nextPage, Consumer<String> clearCursor, int prefetch) {
+
+		Assert.notNull(firstPage, "firstPage must not be null");
+		Assert.notNull(nextPage, "nextPage must not be null");
+		Assert.notNull(clearCursor, "clearCursor must not be null");
+		Assert.isTrue(prefetch >= 0, "prefetch must not be negative");
+
+		this.firstPage = firstPage;
+		this.nextPage = nextPage;
+		this.clearCursor = clearCursor;
+		this.prefetch = prefetch;
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		if (closed) {
+			return false;
+		}
+
+		if (pending.isEmpty()) {
+
+			if (!started) {
+				started = true;
+				pending.addLast(firstPage.get());
+			} else if (previous != null && previous.getCursor() != null) {
+				pending.addLast(nextPage.apply(previous));
+			} else {
+				return false;
+			}
+		}
+
+		// noinspection DataFlowIssue
+		if (join(pending.peekFirst()) == null) {
+			pending.clear();
+			previous = null;
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override
+	public SqlResponse next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		SqlResponse page = join(pending.removeFirst());
+
+		// noinspection DataFlowIssue checked in hasNext()
+		previous = page;
+
+		CompletableFuture<@Nullable SqlResponse> last = pending.isEmpty() ? CompletableFuture.completedFuture(page)
+				: pending.peekLast();
+
+		while (pending.size() < prefetch) {
+			last = last.thenCompose(previous -> previous != null && previous.getCursor() != null
+					? nextPage.apply(previous)
+					: CompletableFuture.completedFuture(null));
+			pending.addLast(last);
+		}
+
+		return page;
+	}
+
+	private @Nullable SqlResponse join(CompletableFuture<@Nullable SqlResponse> future) {
+
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			close();
+
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+
+		if (pending.isEmpty()) {
+			if (previous != null && previous.getCursor() != null) {
+				clear(previous.getCursor());
+			}
+		} else {
+			// the last requested page has the newest cursor, the pages before are read with the same search context
+			pending.peekLast().thenAccept(page -> {
+				if (page != null && page.getCursor() != null) {
+					clear(page.getCursor());
+				}
+			});
+			pending.clear();
+		}
+
+		previous = null;
+	}
+
+	private void clear(String cursor) {
+
+		try {
+			clearCursor.accept(cursor);
+		} catch (Exception e) {
+			if (LOGGER.isWarnEnabled()) {
+				LOGGER.warn("Could not clear SQL cursor", e);
+			}
+		}
+	}
+}
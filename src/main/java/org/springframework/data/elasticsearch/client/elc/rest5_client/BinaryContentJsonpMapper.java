@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.rest5_client;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpGenerator;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpParser;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonWriter;
+import jakarta.json.JsonWriterFactory;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.client.BinaryContentType;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * {@link JsonpMapper} of the {@link BinaryContentTransport}. Request bodies are written directly in the binary format
+ * if it supports request bodies, otherwise with the given JSON mapper. Response bodies are read directly in the binary
+ * format when the transport received them with the content type of this format and passes them as a
+ * {@link BinaryContentInputStream}, all other input is read with the given JSON mapper.
+ * <p>
+ * The binary format is read and written with the Jackson 2 data formats, as the Elasticsearch client accepts any
+ * Jackson 2 {@link JsonFactory} for its JSON-P implementation.
+ *
+ * @author agent
+ * @since 6.2
+ */
+final class BinaryContentJsonpMapper implements JsonpMapper {
+
+	private final JsonpMapper jsonMapper;
+	private final JsonpMapper binaryMapper;
+	private final BinaryContentType binaryContentType;
+	private final JsonProvider jsonProvider;
+
+	BinaryContentJsonpMapper(JsonpMapper jsonMapper, BinaryContentType binaryContentType) {
+		this(jsonMapper, new JacksonJsonpMapper(new ObjectMapper(factory(binaryContentType))), binaryContentType);
+	}
+
+	private BinaryContentJsonpMapper(JsonpMapper jsonMapper, JsonpMapper binaryMapper,
+			BinaryContentType binaryContentType) {
+
+		Assert.notNull(jsonMapper, "jsonMapper must not be null");
+		Assert.notNull(binaryContentType, "binaryContentType must not be null");
+
+		this.jsonMapper = jsonMapper;
+		this.binaryMapper = binaryMapper;
+		this.binaryContentType = binaryContentType;
+		this.jsonProvider = new BinaryContentJsonProvider(jsonMapper.jsonProvider(), binaryMapper.jsonProvider(),
+				binaryContentType);
+	}
+
+	@Override
+	public JsonProvider jsonProvider() {
+		return jsonProvider;
+	}
+
+	@Override
+	public <T> T deserialize(JsonParser parser, Type type) {
+		return mapperFor(parser).deserialize(parser, type);
+	}
+
+	@Override
+	public <T> T deserialize(JsonParser parser, Type type, JsonParser.Event event) {
+		return mapperFor(parser).deserialize(parser, type, event);
+	}
+
+	@Override
+	public <T> void serialize(T value, JsonGenerator generator) {
+
+		// a Jackson based JSON mapper can write to the binary generator itself and keeps its configuration
+		boolean binary = generator instanceof JacksonJsonpGenerator && !(jsonMapper instanceof JacksonJsonpMapper);
+		(binary ? binaryMapper : jsonMapper).serialize(value, generator);
+	}
+
+	@Override
+	public boolean ignoreUnknownFields() {
+		return jsonMapper.ignoreUnknownFields();
+	}
+
+	@Override
+	public <T> @Nullable T attribute(String name) {
+		return jsonMapper.attribute(name);
+	}
+
+	@Override
+	public <T> T attribute(String name, T defaultValue) {
+		return jsonMapper.attribute(name, defaultValue);
+	}
+
+	@Override
+	public <T> JsonpMapper withAttribute(String name, T value) {
+		return new BinaryContentJsonpMapper(jsonMapper.withAttribute(name, value), binaryMapper.withAttribute(name, value),
+				binaryContentType);
+	}
+
+	/**
+	 * a Jackson based JSON mapper can read from the binary parser itself and keeps its configuration.
+	 */
+	private JsonpMapper mapperFor(JsonParser parser) {
+		return parser instanceof JacksonJsonpParser && !(jsonMapper instanceof JacksonJsonpMapper) ? binaryMapper
+				: jsonMapper;
+	}
+
+	private static JsonFactory factory(BinaryContentType binaryContentType) {
+		return switch (binaryContentType) {
+			case SMILE -> SmileFactoryHolder.create();
+			case CBOR -> CborFactoryHolder.create();
+		};
+	}
+
+	// the factories are created in separate classes so that only the data format that is used must be on the classpath
+	private static final class SmileFactoryHolder {
+
+		/**
+		 * The end marker written after each document is the separator that Elasticsearch expects between the Smile
+		 * documents of a bulk request. Binary data is encoded in 7 bits, so the marker cannot occur within a document.
+		 */
+		private static JsonFactory create() {
+			return SmileFactory.builder() //
+					.enable(SmileGenerator.Feature.WRITE_END_MARKER) //
+					.enable(SmileGenerator.Feature.ENCODE_BINARY_AS_7BIT) //
+					.build();
+		}
+	}
+
+	private static final class CborFactoryHolder {
+
+		private static JsonFactory create() {
+			return new CBORFactory();
+		}
+	}
+
+	/**
+	 * Stream of a response body that the {@link BinaryContentTransport} received in the binary format.
+	 */
+	static final class BinaryContentInputStream extends FilterInputStream {
+
+		BinaryContentInputStream(InputStream in) {
+			super(in);
+		}
+	}
+
+	/**
+	 * Provider creating parsers for the binary format for a {@link BinaryContentInputStream}, and
+	 * generators for the binary format if it supports request bodies. All other calls are passed to the JSON provider.
+	 */
+	private static final class BinaryContentJsonProvider extends JsonProvider {
+
+		private final JsonProvider json;
+		private final JsonProvider binary;
+		private final BinaryContentType binaryContentType;
+
+		private BinaryContentJsonProvider(JsonProvider json, JsonProvider binary, BinaryContentType binaryContentType) {
+			this.json = json;
+			this.binary = binary;
+			this.binaryContentType = binaryContentType;
+		}
+
+		@Override
+		public JsonParser createParser(InputStream in) {
+			return in instanceof BinaryContentInputStream ? binary.createParser(in) : json.createParser(in);
+		}
+
+		@Override
+		public JsonGenerator createGenerator(OutputStream out) {
+			return binaryContentType.isRequestBodySupported() ? binary.createGenerator(out) : json.createGenerator(out);
+		}
+
+		@Override
+		public JsonParser createParser(Reader reader) {
+			return json.createParser(reader);
+		}
+
+		@Override
+		public JsonParserFactory createParserFactory(Map<String, ?> config) {
+			return json.createParserFactory(config);
+		}
+
+		@Override
+		public JsonGenerator createGenerator(Writer writer) {
+			return json.createGenerator(writer);
+		}
+
+		@Override
+		public JsonGeneratorFactory createGeneratorFactory(Map<String, ?> config) {
+			return json.createGeneratorFactory(config);
+		}
+
+		@Override
+		public JsonReader createReader(Reader reader) {
+			return json.createReader(reader);
+		}
+
+		@Override
+		public JsonReader createReader(InputStream in) {
+			return json.createReader(in);
+		}
+
+		@Override
+		public JsonWriter createWriter(Writer writer) {
+			return json.createWriter(writer);
+		}
+
+		@Override
+		public JsonWriter createWriter(OutputStream out) {
+			return json.createWriter(out);
+		}
+
+		@Override
+		public JsonWriterFactory createWriterFactory(Map<String, ?> config) {
+			return json.createWriterFactory(config);
+		}
+
+		@Override
+		public JsonReaderFactory createReaderFactory(Map<String, ?> config) {
+			return json.createReaderFactory(config);
+		}
+
+		@Override
+		public JsonObjectBuilder createObjectBuilder() {
+			return json.createObjectBuilder();
+		}
+
+		@Override
+		public JsonArrayBuilder createArrayBuilder() {
+			return json.createArrayBuilder();
+		}
+
+		@Override
+		public JsonBuilderFactory createBuilderFactory(Map<String, ?> config) {
+			return json.createBuilderFactory(config);
+		}
+	}
+}
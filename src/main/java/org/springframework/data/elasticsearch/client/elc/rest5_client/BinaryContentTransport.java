@@ -0,0 +1,327 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.rest5_client;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransportBase;
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import co.elastic.clients.transport.rest5_client.Rest5ClientHttpClient;
+import co.elastic.clients.transport.rest5_client.Rest5ClientOptions;
+import co.elastic.clients.transport.rest5_client.low_level.Rest5Client;
+import co.elastic.clients.util.BinaryData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.client.BinaryContentType;
+import org.springframework.util.Assert;
+
+/**
+ * Transport for a {@link Rest5Client} exchanging the bodies with Elasticsearch in a {@link BinaryContentType}. The
+ * bodies are read and written by a {@link BinaryContentJsonpMapper}, the content negotiation is done by the
+ * {@link BinaryContentHttpClient} of this transport, so the HTTP client itself only sees the bodies and headers it
+ * sends and receives.
+ *
+ * @author agent
+ * @since 6.2
+ */
+final class BinaryContentTransport extends ElasticsearchTransportBase {
+
+	BinaryContentTransport(Rest5Client rest5Client, JsonpMapper jsonpMapper, Rest5ClientOptions options,
+			BinaryContentType binaryContentType) {
+		super(new BinaryContentHttpClient(new Rest5ClientHttpClient(rest5Client), binaryContentType), options,
+				new BinaryContentJsonpMapper(jsonpMapper, binaryContentType));
+	}
+
+	/**
+	 * {@link TransportHttpClient} negotiating the binary content type with Elasticsearch:
+	 * <ul>
+	 * <li>Request bodies that the {@link BinaryContentJsonpMapper} wrote in the binary format are sent with the content
+	 * type of this format. A newline delimited body is framed by the lines the transport passes in: each line is one
+	 * document followed by the newline that separates the documents of a JSON body. As Smile documents are separated by
+	 * their end marker, this trailing newline is dropped, the documents themselves are not touched. A newline delimited
+	 * body mixing binary and JSON documents cannot be sent and is rejected.</li>
+	 * <li>Binary responses are only requested for the endpoints in {@link #BINARY_RESPONSE_ENDPOINTS}, which are all
+	 * read by the {@link BinaryContentJsonpMapper}. A binary response body is labelled as JSON for the transport, which
+	 * only accepts JSON responses, and is read in the binary format by the mapper as its stream is marked as a
+	 * {@link BinaryContentJsonpMapper.BinaryContentInputStream}. Any other endpoint is sent and answered with its
+	 * original content type.</li>
+	 * </ul>
+	 */
+	static final class BinaryContentHttpClient implements TransportHttpClient {
+
+		/**
+		 * the ids of the Elasticsearch client endpoints whose responses are requested in the binary format.
+		 */
+		static final Set<String> BINARY_RESPONSE_ENDPOINTS = Set.of("es/bulk", "es/search", "es/msearch", "es/scroll");
+
+		private static final String ACCEPT = "Accept";
+		private static final String CONTENT_TYPE = "Content-Type";
+		private static final byte NEWLINE = '\n';
+		private static final byte[] SMILE_HEADER = { ':', ')', '\n' };
+
+		private final TransportHttpClient delegate;
+		private final BinaryContentType binaryContentType;
+
+		BinaryContentHttpClient(TransportHttpClient delegate, BinaryContentType binaryContentType) {
+
+			Assert.notNull(delegate, "delegate must not be null");
+			Assert.notNull(binaryContentType, "binaryContentType must not be null");
+
+			this.delegate = delegate;
+			this.binaryContentType = binaryContentType;
+		}
+
+		@Override
+		public TransportOptions createOptions(@Nullable TransportOptions options) {
+			return delegate.createOptions(options);
+		}
+
+		@Override
+		public Response performRequest(String endpointId, @Nullable Node node, Request request, TransportOptions options)
+				throws IOException {
+
+			boolean binaryResponse = BINARY_RESPONSE_ENDPOINTS.contains(endpointId);
+			Response response = delegate.performRequest(endpointId, node, binaryRequest(request),
+					binaryResponse ? binaryOptions(options) : options);
+
+			return binaryResponse ? new BinaryContentResponse(response) : response;
+		}
+
+		@Override
+		public CompletableFuture<Response> performRequestAsync(String endpointId, @Nullable Node node, Request request,
+				TransportOptions options) {
+
+			Request binaryRequest;
+
+			try {
+				binaryRequest = binaryRequest(request);
+			} catch (IllegalArgumentException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+
+			if (!BINARY_RESPONSE_ENDPOINTS.contains(endpointId)) {
+				return delegate.performRequestAsync(endpointId, node, binaryRequest, options);
+			}
+
+			return delegate.performRequestAsync(endpointId, node, binaryRequest, binaryOptions(options))
+					.thenApply(BinaryContentResponse::new);
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+
+		private TransportOptions binaryOptions(TransportOptions options) {
+
+			String accept = options.headers().stream() //
+					.filter(header -> ACCEPT.equalsIgnoreCase(header.getKey())) //
+					.map(Map.Entry::getValue) //
+					.findFirst() //
+					.orElse(null);
+
+			return options.with(builder -> builder.setHeader(ACCEPT, binaryContentType.mediaType(accept)));
+		}
+
+		/**
+		 * @return the request with the body and content type in the binary format if the body was written in this format,
+		 *         otherwise the request itself.
+		 * @throws IllegalArgumentException if a newline delimited body mixes binary and JSON documents
+		 */
+		Request binaryRequest(Request request) {
+
+			Iterable<ByteBuffer> body = request.body();
+			String contentType = contentType(request.headers());
+
+			if (body == null || !binaryContentType.isRequestBodySupported() || !BinaryContentType.isJson(contentType)) {
+				return request;
+			}
+
+			boolean newlineDelimited = BinaryContentType.isNewlineDelimited(contentType);
+			List<ByteBuffer> binaryBody = new ArrayList<>();
+			int binaryDocuments = 0;
+			int jsonDocuments = 0;
+
+			for (ByteBuffer line : body) {
+
+				ByteBuffer document = newlineDelimited ? withoutTrailingNewline(line) : line;
+
+				if (!document.hasRemaining()) {
+					continue;
+				}
+
+				if (isSmileDocument(document)) {
+					binaryDocuments++;
+				} else {
+					jsonDocuments++;
+				}
+
+				binaryBody.add(document);
+			}
+
+			if (binaryDocuments == 0) {
+				return request;
+			}
+
+			if (jsonDocuments > 0) {
+				throw new IllegalArgumentException(String.format(
+						"The body of the request to %s mixes %s and JSON documents, which cannot be sent with the content type %s",
+						request.path(), binaryContentType, binaryContentType.mediaType(contentType)));
+			}
+
+			Map<String, String> headers = new LinkedHashMap<>();
+			request.headers().forEach((name, value) -> {
+				if (!CONTENT_TYPE.equalsIgnoreCase(name)) {
+					headers.put(name, value);
+				}
+			});
+			headers.put(CONTENT_TYPE, binaryContentType.mediaType(contentType));
+
+			return new Request(request.method(), request.path(), request.queryParams(), headers, binaryBody);
+		}
+
+		private static @Nullable String contentType(Map<String, String> headers) {
+
+			for (Map.Entry<String, String> header : headers.entrySet()) {
+				if (CONTENT_TYPE.equalsIgnoreCase(header.getKey())) {
+					return header.getValue();
+				}
+			}
+
+			return null;
+		}
+
+		private static ByteBuffer withoutTrailingNewline(ByteBuffer line) {
+
+			ByteBuffer document = line.duplicate();
+
+			if (document.hasRemaining() && document.get(document.limit() - 1) == NEWLINE) {
+				document.limit(document.limit() - 1);
+			}
+
+			return document;
+		}
+
+		private static boolean isSmileDocument(ByteBuffer document) {
+
+			if (document.remaining() < SMILE_HEADER.length) {
+				return false;
+			}
+
+			for (int i = 0; i < SMILE_HEADER.length; i++) {
+				if (document.get(document.position() + i) != SMILE_HEADER[i]) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * Response whose body is labelled as JSON and marked for the {@link BinaryContentJsonpMapper} when it is in the
+		 * binary format.
+		 */
+		private final class BinaryContentResponse implements Response {
+
+			private final Response delegate;
+
+			private BinaryContentResponse(Response delegate) {
+				this.delegate = delegate;
+			}
+
+			@Override
+			public Node node() {
+				return delegate.node();
+			}
+
+			@Override
+			public int statusCode() {
+				return delegate.statusCode();
+			}
+
+			@Override
+			public @Nullable String header(String name) {
+				return delegate.header(name);
+			}
+
+			@Override
+			public List<String> headers(String name) {
+				return delegate.headers(name);
+			}
+
+			@Override
+			public @Nullable BinaryData body() throws IOException {
+
+				BinaryData body = delegate.body();
+
+				if (body == null || !binaryContentType.matches(body.contentType())) {
+					return body;
+				}
+
+				return new BinaryContentData(body, binaryContentType.jsonMediaType(body.contentType()));
+			}
+
+			@Override
+			public @Nullable Object originalResponse() {
+				return delegate.originalResponse();
+			}
+
+			@Override
+			public void close() throws IOException {
+				delegate.close();
+			}
+		}
+
+		private record BinaryContentData(BinaryData delegate, String contentType) implements BinaryData {
+
+			@Override
+			public void writeTo(OutputStream out) throws IOException {
+				delegate.writeTo(out);
+			}
+
+			@Override
+			public ByteBuffer asByteBuffer() throws IOException {
+				return delegate.asByteBuffer();
+			}
+
+			@Override
+			public InputStream asInputStream() throws IOException {
+				return new BinaryContentJsonpMapper.BinaryContentInputStream(delegate.asInputStream());
+			}
+
+			@Override
+			public boolean isRepeatable() {
+				return delegate.isRepeatable();
+			}
+
+			@Override
+			public long size() {
+				return delegate.size();
+			}
+		}
+	}
+}
@@ -1,35 +1,77 @@
 package org.springframework.data.elasticsearch.client.elc.rest5_client;
 
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.TransportOptions;
 import co.elastic.clients.transport.TransportUtils;
 import co.elastic.clients.transport.rest5_client.Rest5ClientOptions;
+import co.elastic.clients.transport.rest5_client.low_level.Node;
+import co.elastic.clients.transport.rest5_client.low_level.NodeSelector;
 import co.elastic.clients.transport.rest5_client.low_level.RequestOptions;
 import co.elastic.clients.transport.rest5_client.low_level.Rest5Client;
 import co.elastic.clients.transport.rest5_client.low_level.Rest5ClientBuilder;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
 
 import javax.net.ssl.SSLContext;
 
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.impl.routing.DefaultProxyRoutePlanner;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncConnectionEndpoint;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.http.nio.AsyncDataConsumer;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducerWrapper;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
 import org.apache.hc.core5.http.nio.ssl.BasicClientTlsStrategy;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.reactor.ConnectionInitiator;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.client.BinaryContentType;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.CompressionMetrics;
+import org.springframework.data.elasticsearch.client.ConnectionPoolMetrics;
+import org.springframework.data.elasticsearch.client.NodeSelectionStrategy;
 import org.springframework.data.elasticsearch.support.HttpHeaders;
 import org.springframework.util.Assert;
 
@@ -56,6 +98,30 @@ public final class Rest5Clients {
 		return getRest5ClientBuilder(clientConfiguration).build();
 	}
 
+	/**
+	 * Creates the {@link ElasticsearchTransport} for a {@link Rest5Client} that exchanges the bodies with Elasticsearch
+	 * in the given {@link BinaryContentType}. Request bodies are written in the binary format if it supports them, and
+	 * the responses of bulk, search, multi search and scroll requests are requested in this format. All other responses
+	 * are read as JSON with the given mapper.
+	 *
+	 * @param rest5Client the client of the transport, must not be {@literal null}
+	 * @param jsonpMapper the mapper to use for JSON, must not be {@literal null}
+	 * @param options the options of the transport, must not be {@literal null}
+	 * @param binaryContentType the binary content type, must not be {@literal null}
+	 * @return the transport
+	 * @since 6.2
+	 */
+	public static ElasticsearchTransport getBinaryContentTransport(Rest5Client rest5Client, JsonpMapper jsonpMapper,
+			Rest5ClientOptions options, BinaryContentType binaryContentType) {
+
+		Assert.notNull(rest5Client, "rest5Client must not be null");
+		Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
+		Assert.notNull(options, "options must not be null");
+		Assert.notNull(binaryContentType, "binaryContentType must not be null");
+
+		return new BinaryContentTransport(rest5Client, jsonpMapper, options, binaryContentType);
+	}
+
 	private static Rest5ClientBuilder getRest5ClientBuilder(ClientConfiguration clientConfiguration) {
 
 		HttpHost[] httpHosts = getHttpHosts(clientConfiguration);
@@ -71,6 +137,12 @@ public final class Rest5Clients {
 			builder.setDefaultHeaders(toHeaderArray(headers));
 		}
 
+		NodeSelectionStrategy nodeSelectionStrategy = clientConfiguration.getNodeSelectionStrategy().orElse(null);
+
+		if (nodeSelectionStrategy != null) {
+			builder.setNodeSelector(nodeSelector(nodeSelectionStrategy));
+		}
+
 		// RestClientBuilder configuration callbacks from the consumer
 		for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurationCallback : clientConfiguration
 				.getClientConfigurers()) {
@@ -79,107 +151,192 @@ public final class Rest5Clients {
 			}
 		}
 
-		Duration connectTimeout = clientConfiguration.getConnectTimeout();
-		Duration socketTimeout = clientConfiguration.getSocketTimeout();
+		ConnectionPoolMetrics connectionPoolMetrics = clientConfiguration.getConnectionPoolMetrics().orElse(null);
+		Map<InetSocketAddress, Integer> maxConnectionsPerHost = clientConfiguration.getMaxConnectionsPerHost();
+		boolean instrumented = connectionPoolMetrics != null || !maxConnectionsPerHost.isEmpty();
+
+		// The Rest5ClientBuilder does not expose the connection manager it builds, but calls the connection manager
+		// callback before the http client callback. To set the limits per host and to record the connection lease times,
+		// the configured connection manager builder is kept and the http client callback replaces the connection manager
+		// with an instrumented one built from it. The replaced manager never leases a connection, so it holds no resources.
+		AtomicReference<PoolingAsyncClientConnectionManagerBuilder> connectionManagerBuilder = new AtomicReference<>();
+
+		// the instrumented connection manager is set before the callbacks of the configuration are applied
+		builder.setHttpClientConfigCallback(httpAsyncClientBuilder -> configureHttpClient(instrumented
+				? instrumentConnectionManager(httpAsyncClientBuilder, connectionManagerBuilder.get(), maxConnectionsPerHost,
+						connectionPoolMetrics)
+				: httpAsyncClientBuilder, clientConfiguration));
+		builder.setConnectionConfigCallback(
+				connectionConfigBuilder -> configureConnection(connectionConfigBuilder, clientConfiguration));
+		builder.setConnectionManagerCallback(poolingAsyncClientConnectionManagerBuilder -> connectionManagerBuilder
+				.updateAndGet(it -> configureConnectionManager(poolingAsyncClientConnectionManagerBuilder,
+						clientConfiguration)));
+		builder.setRequestConfigCallback(
+				requestConfigBuilder -> configureRequestConfig(requestConfigBuilder, clientConfiguration));
 
-		builder.setHttpClientConfigCallback(httpAsyncClientBuilder -> {
+		return builder;
+	}
 
-			if (clientConfiguration.getProxy().isPresent()) {
-				var proxy = clientConfiguration.getProxy().get();
-				try {
-					var proxyRoutePlanner = new DefaultProxyRoutePlanner(HttpHost.create(proxy));
-					httpAsyncClientBuilder.setRoutePlanner(proxyRoutePlanner);
-				} catch (URISyntaxException e) {
-					throw new RuntimeException(e);
-				}
+	/**
+	 * Sets an {@link InstrumentedConnectionManager} built from the configured connection manager builder.
+	 */
+	private static HttpAsyncClientBuilder instrumentConnectionManager(HttpAsyncClientBuilder httpAsyncClientBuilder,
+			@Nullable PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder,
+			Map<InetSocketAddress, Integer> maxConnectionsPerHost, @Nullable ConnectionPoolMetrics connectionPoolMetrics) {
+
+		Assert.state(connectionManagerBuilder != null,
+				"the connection manager callback must be called before the http client callback");
+
+		var connectionManager = new InstrumentedConnectionManager(connectionManagerBuilder.build(), maxConnectionsPerHost,
+				connectionPoolMetrics);
+
+		if (connectionPoolMetrics != null) {
+			connectionPoolMetrics.setConnectionPool(connectionManager);
+		}
+
+		return httpAsyncClientBuilder.setConnectionManager(connectionManager);
+	}
+
+	private static HttpAsyncClientBuilder configureHttpClient(HttpAsyncClientBuilder httpAsyncClientBuilder,
+			ClientConfiguration clientConfiguration) {
+
+		if (clientConfiguration.getProxy().isPresent()) {
+			var proxy = clientConfiguration.getProxy().get();
+			try {
+				var proxyRoutePlanner = new DefaultProxyRoutePlanner(HttpHost.create(proxy));
+				httpAsyncClientBuilder.setRoutePlanner(proxyRoutePlanner);
+			} catch (URISyntaxException e) {
+				throw new RuntimeException(e);
 			}
-			httpAsyncClientBuilder.addExecInterceptorFirst("es-rest5-client",
-					(request, entityProducer, scope, chain, asyncExecCallback) -> {
-						clientConfiguration.getHeadersSupplier().get().forEach((header, values) -> {
-							// The accept and content-type headers may already be put on the request, despite this being the
-							// first interceptor.
-							if ("Accept".equalsIgnoreCase(header) || "Content-Type".equalsIgnoreCase(header)) {
-								request.removeHeaders(header);
-							}
-							values.forEach(value -> request.addHeader(header, value));
-						});
-						chain.proceed(request, entityProducer, scope, asyncExecCallback);
+		}
+
+		httpAsyncClientBuilder.addExecInterceptorFirst("es-rest5-client",
+				(request, entityProducer, scope, chain, asyncExecCallback) -> {
+					clientConfiguration.getHeadersSupplier().get().forEach((header, values) -> {
+						// The accept and content-type headers may already be put on the request, despite this being the
+						// first interceptor.
+						if ("Accept".equalsIgnoreCase(header) || "Content-Type".equalsIgnoreCase(header)) {
+							request.removeHeaders(header);
+						}
+						values.forEach(value -> request.addHeader(header, value));
 					});
+					chain.proceed(request, entityProducer, scope, asyncExecCallback);
+				});
 
-			// add httpclient configurator callbacks provided by the configuration
-			for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
-					.getClientConfigurers()) {
-				if (clientConfigurer instanceof ElasticsearchHttpClientConfigurationCallback httpClientConfigurer) {
-					httpAsyncClientBuilder = httpClientConfigurer.configure(httpAsyncClientBuilder);
-				}
-			}
-		});
+		NodeSelectionStrategy nodeSelectionStrategy = clientConfiguration.getNodeSelectionStrategy().orElse(null);
 
-		builder.setConnectionConfigCallback(connectionConfigBuilder -> {
+		if (nodeSelectionStrategy != null) {
+			httpAsyncClientBuilder.addExecInterceptorFirst("es-node-selection",
+					new NodeSelectionExecChainHandler(nodeSelectionStrategy));
+		}
 
-			if (!connectTimeout.isNegative()) {
-				connectionConfigBuilder.setConnectTimeout(
-						Timeout.of(Math.toIntExact(connectTimeout.toMillis()), TimeUnit.MILLISECONDS));
-			}
-			if (!socketTimeout.isNegative()) {
-				var soTimeout = Timeout.of(Math.toIntExact(socketTimeout.toMillis()), TimeUnit.MILLISECONDS);
-				connectionConfigBuilder.setSocketTimeout(soTimeout);
-			} else {
-				connectionConfigBuilder.setSocketTimeout(Timeout.of(DEFAULT_SOCKET_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
-			}
+		int requestCompressionThreshold = clientConfiguration.getRequestCompressionThreshold();
+		boolean responseCompression = clientConfiguration.isResponseCompressionEnabled();
 
-			// add connectionConfig configurator callbacks provided by the configuration
-			for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
-					.getClientConfigurers()) {
-				if (clientConfigurer instanceof ElasticsearchConnectionConfigurationCallback connectionConfigurationCallback) {
-					connectionConfigBuilder = connectionConfigurationCallback.configure(connectionConfigBuilder);
-				}
+		// a custom configuration may enable compression without providing metrics
+		if (requestCompressionThreshold >= 0 || responseCompression) {
+			CompressionMetrics compressionMetrics = clientConfiguration.getCompressionMetrics()
+					.orElseGet(CompressionMetrics::new);
+			httpAsyncClientBuilder.addExecInterceptorFirst("es-compression",
+					new CompressionExecChainHandler(requestCompressionThreshold, responseCompression, compressionMetrics));
+		}
+
+		// add httpclient configurator callbacks provided by the configuration
+		for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
+				.getClientConfigurers()) {
+			if (clientConfigurer instanceof ElasticsearchHttpClientConfigurationCallback httpClientConfigurer) {
+				httpAsyncClientBuilder = httpClientConfigurer.configure(httpAsyncClientBuilder);
 			}
-		});
+		}
 
-		builder.setConnectionManagerCallback(poolingAsyncClientConnectionManagerBuilder -> {
+		return httpAsyncClientBuilder;
+	}
 
-			SSLContext sslContext = null;
-			try {
-				sslContext = clientConfiguration.getCaFingerprint().isPresent()
-						? TransportUtils.sslContextFromCaFingerprint(clientConfiguration.getCaFingerprint().get())
-						: (clientConfiguration.getSslContext().isPresent()
-								? clientConfiguration.getSslContext().get()
-								: SSLContext.getDefault());
-			} catch (NoSuchAlgorithmException e) {
-				throw new IllegalStateException("could not create the default ssl context", e);
-			}
-			poolingAsyncClientConnectionManagerBuilder.setTlsStrategy(new BasicClientTlsStrategy(sslContext));
-
-			// add connectionManager configurator callbacks provided by the configuration
-			for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
-					.getClientConfigurers()) {
-				if (clientConfigurer instanceof ElasticsearchConnectionManagerCallback connectionManagerCallback) {
-					poolingAsyncClientConnectionManagerBuilder = connectionManagerCallback
-							.configure(poolingAsyncClientConnectionManagerBuilder);
-				}
+	private static ConnectionConfig.Builder configureConnection(ConnectionConfig.Builder connectionConfigBuilder,
+			ClientConfiguration clientConfiguration) {
+
+		Duration connectTimeout = clientConfiguration.getConnectTimeout();
+		Duration socketTimeout = clientConfiguration.getSocketTimeout();
+
+		if (!connectTimeout.isNegative()) {
+			connectionConfigBuilder.setConnectTimeout(
+					Timeout.of(Math.toIntExact(connectTimeout.toMillis()), TimeUnit.MILLISECONDS));
+		}
+		if (!socketTimeout.isNegative()) {
+			var soTimeout = Timeout.of(Math.toIntExact(socketTimeout.toMillis()), TimeUnit.MILLISECONDS);
+			connectionConfigBuilder.setSocketTimeout(soTimeout);
+		} else {
+			connectionConfigBuilder.setSocketTimeout(Timeout.of(DEFAULT_SOCKET_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		}
+
+		// add connectionConfig configurator callbacks provided by the configuration
+		for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
+				.getClientConfigurers()) {
+			if (clientConfigurer instanceof ElasticsearchConnectionConfigurationCallback connectionConfigurationCallback) {
+				connectionConfigBuilder = connectionConfigurationCallback.configure(connectionConfigBuilder);
 			}
-		});
+		}
+
+		return connectionConfigBuilder;
+	}
 
-		builder.setRequestConfigCallback(requestConfigBuilder -> {
+	private static PoolingAsyncClientConnectionManagerBuilder configureConnectionManager(
+			PoolingAsyncClientConnectionManagerBuilder poolingAsyncClientConnectionManagerBuilder,
+			ClientConfiguration clientConfiguration) {
+
+		SSLContext sslContext = null;
+		try {
+			sslContext = clientConfiguration.getCaFingerprint().isPresent()
+					? TransportUtils.sslContextFromCaFingerprint(clientConfiguration.getCaFingerprint().get())
+					: (clientConfiguration.getSslContext().isPresent()
+							? clientConfiguration.getSslContext().get()
+							: SSLContext.getDefault());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("could not create the default ssl context", e);
+		}
+		poolingAsyncClientConnectionManagerBuilder.setTlsStrategy(new BasicClientTlsStrategy(sslContext));
+
+		if (clientConfiguration.getMaxConnections() > 0) {
+			poolingAsyncClientConnectionManagerBuilder.setMaxConnTotal(clientConfiguration.getMaxConnections());
+		}
 
-			if (!socketTimeout.isNegative()) {
-				var soTimeout = Timeout.of(Math.toIntExact(socketTimeout.toMillis()), TimeUnit.MILLISECONDS);
-				requestConfigBuilder.setConnectionRequestTimeout(soTimeout);
-			} else {
-				requestConfigBuilder
-						.setConnectionRequestTimeout(Timeout.of(DEFAULT_RESPONSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		if (clientConfiguration.getMaxConnectionsPerRoute() > 0) {
+			poolingAsyncClientConnectionManagerBuilder.setMaxConnPerRoute(clientConfiguration.getMaxConnectionsPerRoute());
+		}
+
+		// add connectionManager configurator callbacks provided by the configuration
+		for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
+				.getClientConfigurers()) {
+			if (clientConfigurer instanceof ElasticsearchConnectionManagerCallback connectionManagerCallback) {
+				poolingAsyncClientConnectionManagerBuilder = connectionManagerCallback
+						.configure(poolingAsyncClientConnectionManagerBuilder);
 			}
-			// add connectionConfig configurator callbacks provided by the configuration
-			for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
-					.getClientConfigurers()) {
-				if (clientConfigurer instanceof ElasticsearchRequestConfigCallback requestConfigCallback) {
-					requestConfigBuilder = requestConfigCallback.configure(requestConfigBuilder);
-				}
+		}
+
+		return poolingAsyncClientConnectionManagerBuilder;
+	}
+
+	private static RequestConfig.Builder configureRequestConfig(RequestConfig.Builder requestConfigBuilder,
+			ClientConfiguration clientConfiguration) {
+
+		Duration socketTimeout = clientConfiguration.getSocketTimeout();
+
+		if (!socketTimeout.isNegative()) {
+			var soTimeout = Timeout.of(Math.toIntExact(socketTimeout.toMillis()), TimeUnit.MILLISECONDS);
+			requestConfigBuilder.setConnectionRequestTimeout(soTimeout);
+		} else {
+			requestConfigBuilder
+					.setConnectionRequestTimeout(Timeout.of(DEFAULT_RESPONSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		}
+		// add connectionConfig configurator callbacks provided by the configuration
+		for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
+				.getClientConfigurers()) {
+			if (clientConfigurer instanceof ElasticsearchRequestConfigCallback requestConfigCallback) {
+				requestConfigBuilder = requestConfigCallback.configure(requestConfigBuilder);
 			}
-		});
+		}
 
-		return builder;
+		return requestConfigBuilder;
 	}
 
 	private static HttpHost[] getHttpHosts(ClientConfiguration clientConfiguration) {
@@ -192,6 +349,27 @@ public final class Rest5Clients {
 				.toArray(HttpHost[]::new);
 	}
 
+	private static NodeSelector nodeSelector(NodeSelectionStrategy nodeSelectionStrategy) {
+		return nodes -> {
+			List<InetSocketAddress> candidates = new ArrayList<>();
+			nodes.forEach(node -> candidates.add(address(node.getHost())));
+
+			List<InetSocketAddress> selected = nodeSelectionStrategy.select(candidates);
+
+			if (!selected.isEmpty()) {
+				for (Iterator<Node> iterator = nodes.iterator(); iterator.hasNext();) {
+					if (!selected.contains(address(iterator.next().getHost()))) {
+						iterator.remove();
+					}
+				}
+			}
+		};
+	}
+
+	private static InetSocketAddress address(HttpHost host) {
+		return InetSocketAddress.createUnresolved(host.getHostName(), host.getPort());
+	}
+
 	private static Header[] toHeaderArray(HttpHeaders headers) {
 		return headers.entrySet().stream() //
 				.flatMap(entry -> entry.getValue().stream() //
@@ -290,6 +468,358 @@ public final class Rest5Clients {
 		}
 	}
 
+	/**
+	 * Reports the start and the outcome of the requests sent to the nodes to a {@link NodeSelectionStrategy}. The outcome
+	 * of each request is reported exactly once.
+	 */
+	private record NodeSelectionExecChainHandler(NodeSelectionStrategy nodeSelectionStrategy)
+			implements AsyncExecChainHandler {
+
+		@Override
+		public void execute(HttpRequest request, @Nullable AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope,
+				AsyncExecChain chain, AsyncExecCallback asyncExecCallback) throws HttpException, IOException {
+
+			InetSocketAddress node = address(scope.route.getTargetHost());
+			AtomicBoolean finished = new AtomicBoolean(false);
+			long start = System.nanoTime();
+
+			nodeSelectionStrategy.requestStarted(node);
+
+			try {
+				chain.proceed(request, entityProducer, scope, new AsyncExecCallback() {
+
+					@Override
+					public AsyncDataConsumer handleResponse(HttpResponse response, EntityDetails entityDetails)
+							throws HttpException, IOException {
+
+						if (finished.compareAndSet(false, true)) {
+							if (isUnavailable(response.getCode())) {
+								nodeSelectionStrategy.requestFailed(node);
+							} else {
+								nodeSelectionStrategy.requestSucceeded(node, Duration.ofNanos(System.nanoTime() - start));
+							}
+						}
+
+						return asyncExecCallback.handleResponse(response, entityDetails);
+					}
+
+					@Override
+					public void handleInformationResponse(HttpResponse response) throws HttpException, IOException {
+						asyncExecCallback.handleInformationResponse(response);
+					}
+
+					@Override
+					public void completed() {
+						asyncExecCallback.completed();
+					}
+
+					@Override
+					public void failed(Exception cause) {
+
+						if (finished.compareAndSet(false, true)) {
+							// a cancelled request is failed by the client, but this is not a failure of the node
+							if (scope.cancellableDependency.isCancelled()) {
+								nodeSelectionStrategy.requestCancelled(node);
+							} else {
+								nodeSelectionStrategy.requestFailed(node);
+							}
+						}
+
+						asyncExecCallback.failed(cause);
+					}
+				});
+			} catch (HttpException | IOException | RuntimeException e) {
+
+				if (finished.compareAndSet(false, true)) {
+					nodeSelectionStrategy.requestFailed(node);
+				}
+
+				throw e;
+			}
+		}
+
+		/**
+		 * the status codes for which the Rest5Client marks a node as dead.
+		 */
+		private static boolean isUnavailable(int statusCode) {
+			return statusCode == 502 || statusCode == 503 || statusCode == 504;
+		}
+	}
+
+	/**
+	 * Compresses request bodies that have at least the threshold size with gzip and asks for gzip compressed responses.
+	 * The Rest5Client decompresses these responses. The request body is compressed before it is passed down the chain,
+	 * so that the content length and encoding headers are set for the compressed body.
+	 *
+	 * @param threshold the minimum size of a request body that is compressed, -1 to not compress requests
+	 * @param acceptCompressedResponses if an {@literal Accept-Encoding: gzip} header should be sent
+	 * @since 6.2
+	 */
+	record CompressionExecChainHandler(int threshold, boolean acceptCompressedResponses,
+			CompressionMetrics compressionMetrics) implements AsyncExecChainHandler {
+
+		private static final String ACCEPT_ENCODING = "Accept-Encoding";
+		private static final String GZIP = "gzip";
+
+		@Override
+		public void execute(HttpRequest request, @Nullable AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope,
+				AsyncExecChain chain, AsyncExecCallback asyncExecCallback) throws HttpException, IOException {
+
+			AsyncEntityProducer producer = mayCompress(entityProducer) ? compress(entityProducer) : entityProducer;
+
+			if (!acceptCompressedResponses) {
+				chain.proceed(request, producer, scope, asyncExecCallback);
+				return;
+			}
+
+			if (!request.containsHeader(ACCEPT_ENCODING)) {
+				request.setHeader(ACCEPT_ENCODING, GZIP);
+			}
+
+			chain.proceed(request, producer, scope, new AsyncExecCallback() {
+
+				@Override
+				public AsyncDataConsumer handleResponse(HttpResponse response, @Nullable EntityDetails entityDetails)
+						throws HttpException, IOException {
+
+					if (entityDetails != null && GZIP.equalsIgnoreCase(entityDetails.getContentEncoding())) {
+						compressionMetrics.recordCompressedResponse(entityDetails.getContentLength());
+					}
+
+					return asyncExecCallback.handleResponse(response, entityDetails);
+				}
+
+				@Override
+				public void handleInformationResponse(HttpResponse response) throws HttpException, IOException {
+					asyncExecCallback.handleInformationResponse(response);
+				}
+
+				@Override
+				public void completed() {
+					asyncExecCallback.completed();
+				}
+
+				@Override
+				public void failed(Exception cause) {
+					asyncExecCallback.failed(cause);
+				}
+			});
+		}
+
+		/**
+		 * @return false if the body is known to be smaller than the threshold, the Elasticsearch client sends most bodies
+		 *         without a content length.
+		 */
+		private boolean mayCompress(@Nullable AsyncEntityProducer entityProducer) {
+			return threshold >= 0 && entityProducer != null && entityProducer.isRepeatable()
+					&& entityProducer.getContentEncoding() == null
+					&& (entityProducer.getContentLength() < 0 || entityProducer.getContentLength() >= threshold);
+		}
+
+		private AsyncEntityProducer compress(AsyncEntityProducer entityProducer) throws IOException {
+
+			byte[] content = content(entityProducer);
+			ContentType contentType = ContentType.parse(entityProducer.getContentType());
+
+			if (content.length < threshold) {
+				return new BasicAsyncEntityProducer(content, contentType);
+			}
+
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(content.length / 4, 64));
+
+			try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+				gzip.write(content);
+			}
+
+			compressionMetrics.recordCompressedRequest(content.length, compressed.size());
+
+			return new AsyncEntityProducerWrapper(new BasicAsyncEntityProducer(compressed.toByteArray(), contentType)) {
+				@Override
+				public String getContentEncoding() {
+					return GZIP;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Connection manager of the clients with connection pool metrics or limits per host delegating to a
+	 * {@link PoolingAsyncClientConnectionManager}. It sets the configured maximum number of connections for a host when
+	 * the first connection to it is requested and records how long the requests wait for a connection.
+	 */
+	private static final class InstrumentedConnectionManager
+			implements AsyncClientConnectionManager, ConnectionPoolMetrics.ConnectionPool {
+
+		private final PoolingAsyncClientConnectionManager delegate;
+		private final Map<InetSocketAddress, Integer> maxConnectionsPerHost;
+		@Nullable private final ConnectionPoolMetrics connectionPoolMetrics;
+		private final Map<String, HttpRoute> routes = new ConcurrentHashMap<>();
+
+		InstrumentedConnectionManager(PoolingAsyncClientConnectionManager delegate,
+				Map<InetSocketAddress, Integer> maxConnectionsPerHost, @Nullable ConnectionPoolMetrics connectionPoolMetrics) {
+			this.delegate = delegate;
+			this.maxConnectionsPerHost = maxConnectionsPerHost;
+			this.connectionPoolMetrics = connectionPoolMetrics;
+		}
+
+		@Override
+		public Future<AsyncConnectionEndpoint> lease(String id, HttpRoute route, @Nullable Object state,
+				Timeout requestTimeout, @Nullable FutureCallback<AsyncConnectionEndpoint> callback) {
+
+			String routeName = route.getTargetHost().toURI();
+
+			if (routes.putIfAbsent(routeName, route) == null) {
+				Integer maxConnections = maxConnectionsPerHost.get(address(route.getTargetHost()));
+
+				if (maxConnections != null) {
+					delegate.setMaxPerRoute(route, maxConnections);
+				}
+			}
+
+			ConnectionPoolMetrics metrics = connectionPoolMetrics;
+
+			if (metrics == null) {
+				return delegate.lease(id, route, state, requestTimeout, callback);
+			}
+
+			long start = System.nanoTime();
+			return delegate.lease(id, route, state, requestTimeout, new FutureCallback<>() {
+				@Override
+				public void completed(AsyncConnectionEndpoint endpoint) {
+					metrics.recordLease(routeName, System.nanoTime() - start, true);
+
+					if (callback != null) {
+						callback.completed(endpoint);
+					}
+				}
+
+				@Override
+				public void failed(Exception ex) {
+					metrics.recordLease(routeName, System.nanoTime() - start, false);
+
+					if (callback != null) {
+						callback.failed(ex);
+					}
+				}
+
+				@Override
+				public void cancelled() {
+					metrics.recordLease(routeName, System.nanoTime() - start, false);
+
+					if (callback != null) {
+						callback.cancelled();
+					}
+				}
+			});
+		}
+
+		@Override
+		public void release(AsyncConnectionEndpoint endpoint, @Nullable Object newState, TimeValue keepAlive) {
+			delegate.release(endpoint, newState, keepAlive);
+		}
+
+		@Override
+		public Future<AsyncConnectionEndpoint> connect(AsyncConnectionEndpoint endpoint,
+				ConnectionInitiator connectionInitiator, Timeout connectTimeout, @Nullable Object attachment,
+				HttpContext context, @Nullable FutureCallback<AsyncConnectionEndpoint> callback) {
+			return delegate.connect(endpoint, connectionInitiator, connectTimeout, attachment, context, callback);
+		}
+
+		@Override
+		public void upgrade(AsyncConnectionEndpoint endpoint, @Nullable Object attachment, HttpContext context) {
+			delegate.upgrade(endpoint, attachment, context);
+		}
+
+		@Override
+		public void upgrade(AsyncConnectionEndpoint endpoint, @Nullable Object attachment, HttpContext context,
+				@Nullable FutureCallback<AsyncConnectionEndpoint> callback) {
+			delegate.upgrade(endpoint, attachment, context, callback);
+		}
+
+		@Override
+		public void close(CloseMode closeMode) {
+			delegate.close(closeMode);
+		}
+
+		@Override
+		public void close() {
+			delegate.close();
+		}
+
+		@Override
+		public ConnectionPoolMetrics.PoolStats getTotalStats() {
+			return poolStats(delegate.getTotalStats());
+		}
+
+		@Override
+		public ConnectionPoolMetrics.@Nullable PoolStats getStats(String route) {
+
+			HttpRoute httpRoute = routes.get(route);
+			return httpRoute != null ? poolStats(delegate.getStats(httpRoute)) : null;
+		}
+
+		private static ConnectionPoolMetrics.PoolStats poolStats(PoolStats poolStats) {
+			return new ConnectionPoolMetrics.PoolStats(poolStats.getLeased(), poolStats.getPending(),
+					poolStats.getAvailable(), poolStats.getMax());
+		}
+	}
+
+	/**
+	 * reads the content of a producer of a request body.
+	 */
+	private static byte[] content(AsyncEntityProducer entityProducer) throws IOException {
+
+		ByteArrayOutputStream content = new ByteArrayOutputStream(
+				(int) Math.max(entityProducer.getContentLength(), 1024));
+		AtomicBoolean ended = new AtomicBoolean(false);
+		DataStreamChannel channel = new DataStreamChannel() {
+
+			@Override
+			public void requestOutput() {}
+
+			@Override
+			public int write(ByteBuffer src) {
+				int length = src.remaining();
+
+				if (src.hasArray()) {
+					content.write(src.array(), src.arrayOffset() + src.position(), length);
+					src.position(src.limit());
+				} else {
+					byte[] bytes = new byte[length];
+					src.get(bytes);
+					content.write(bytes, 0, length);
+				}
+
+				return length;
+			}
+
+			@Override
+			public void endStream() {
+				ended.set(true);
+			}
+
+			@Override
+			public void endStream(List<? extends Header> trailers) {
+				ended.set(true);
+			}
+		};
+
+		try {
+			while (!ended.get()) {
+				int size = content.size();
+				entityProducer.produce(channel);
+
+				if (!ended.get() && content.size() == size) {
+					throw new IOException("request body could not be read");
+				}
+			}
+		} finally {
+			entityProducer.releaseResources();
+		}
+
+		return content.toByteArray();
+	}
+
 	public static Rest5ClientOptions.Builder getRest5ClientOptionsBuilder(@Nullable TransportOptions transportOptions) {
 
 		if (transportOptions instanceof Rest5ClientOptions rest5ClientOptions) {
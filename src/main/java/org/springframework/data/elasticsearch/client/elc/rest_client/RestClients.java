@@ -6,23 +6,33 @@ import co.elastic.clients.transport.rest_client.RestClientOptions;
 
 import java.net.InetSocketAddress;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
 import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.CompressionMetrics;
+import org.springframework.data.elasticsearch.client.NodeSelectionStrategy;
 import org.springframework.data.elasticsearch.support.HttpHeaders;
 import org.springframework.util.Assert;
 
@@ -59,6 +69,23 @@ public final class RestClients {
 			builder.setDefaultHeaders(toHeaderArray(headers));
 		}
 
+		NodeSelectionStrategy nodeSelectionStrategy = clientConfiguration.getNodeSelectionStrategy().orElse(null);
+
+		if (nodeSelectionStrategy != null) {
+			builder.setNodeSelector(nodeSelector(nodeSelectionStrategy));
+			builder.setFailureListener(new RestClient.FailureListener() {
+				@Override
+				public void onFailure(Node node) {
+					nodeSelectionStrategy.requestFailed(address(node.getHost()));
+				}
+			});
+		}
+
+		// the RestClient compresses all request bodies, it does not support a minimum size
+		if (clientConfiguration.getRequestCompressionThreshold() >= 0) {
+			builder.setCompressionEnabled(true);
+		}
+
 		builder.setHttpClientConfigCallback(clientBuilder -> {
 			if (clientConfiguration.getCaFingerprint().isPresent()) {
 				clientBuilder
@@ -68,6 +95,23 @@ public final class RestClients {
 			clientConfiguration.getHostNameVerifier().ifPresent(clientBuilder::setSSLHostnameVerifier);
 			clientBuilder.addInterceptorLast(new CustomHeaderInjector(clientConfiguration.getHeadersSupplier()));
 
+			if (nodeSelectionStrategy != null) {
+				NodeSelectionInterceptor nodeSelectionInterceptor = new NodeSelectionInterceptor(nodeSelectionStrategy);
+				clientBuilder.addInterceptorFirst((HttpRequestInterceptor) nodeSelectionInterceptor);
+				clientBuilder.addInterceptorFirst((HttpResponseInterceptor) nodeSelectionInterceptor);
+			}
+
+			// a custom configuration may enable compression without providing metrics
+			if (clientConfiguration.getRequestCompressionThreshold() >= 0
+					|| clientConfiguration.isResponseCompressionEnabled()) {
+				CompressionMetrics compressionMetrics = clientConfiguration.getCompressionMetrics()
+						.orElseGet(CompressionMetrics::new);
+				CompressionInterceptor compressionInterceptor = new CompressionInterceptor(
+						clientConfiguration.isResponseCompressionEnabled(), compressionMetrics);
+				clientBuilder.addInterceptorLast((HttpRequestInterceptor) compressionInterceptor);
+				clientBuilder.addInterceptorLast((HttpResponseInterceptor) compressionInterceptor);
+			}
+
 			RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
 			Duration connectTimeout = clientConfiguration.getConnectTimeout();
 
@@ -113,6 +157,27 @@ public final class RestClients {
 				.map(HttpHost::create).toArray(HttpHost[]::new);
 	}
 
+	private static NodeSelector nodeSelector(NodeSelectionStrategy nodeSelectionStrategy) {
+		return nodes -> {
+			List<InetSocketAddress> candidates = new ArrayList<>();
+			nodes.forEach(node -> candidates.add(address(node.getHost())));
+
+			List<InetSocketAddress> selected = nodeSelectionStrategy.select(candidates);
+
+			if (!selected.isEmpty()) {
+				for (Iterator<Node> iterator = nodes.iterator(); iterator.hasNext();) {
+					if (!selected.contains(address(iterator.next().getHost()))) {
+						iterator.remove();
+					}
+				}
+			}
+		};
+	}
+
+	private static InetSocketAddress address(HttpHost host) {
+		return InetSocketAddress.createUnresolved(host.getHostName(), host.getPort());
+	}
+
 	private static org.apache.http.Header[] toHeaderArray(HttpHeaders headers) {
 		return headers.entrySet().stream() //
 				.flatMap(entry -> entry.getValue().stream() //
@@ -137,6 +202,75 @@ public final class RestClients {
 		}
 	}
 
+	/**
+	 * Interceptor that reports the start and the successful responses of the requests sent to the nodes to a
+	 * {@link NodeSelectionStrategy}. Failures are reported by the {@link RestClient.FailureListener}, this is called for
+	 * I/O errors and for the status codes on which the RestClient marks a node as dead. Cancelled requests are not
+	 * reported by the RestClient; the {@link org.springframework.data.elasticsearch.client.LatencyAwareNodeSelectionStrategy}
+	 * stops counting them as outstanding after its maximum request duration.
+	 *
+	 * @since 6.2
+	 */
+	record NodeSelectionInterceptor(NodeSelectionStrategy nodeSelectionStrategy)
+			implements HttpRequestInterceptor, HttpResponseInterceptor {
+
+		private static final String START_ATTRIBUTE = NodeSelectionInterceptor.class.getName() + ".start";
+
+		@Override
+		public void process(@Nullable HttpRequest request, @Nullable HttpContext context) {
+
+			if (context != null && context.getAttribute(HttpCoreContext.HTTP_TARGET_HOST) instanceof HttpHost host) {
+				context.setAttribute(START_ATTRIBUTE, System.nanoTime());
+				nodeSelectionStrategy.requestStarted(address(host));
+			}
+		}
+
+		@Override
+		public void process(@Nullable HttpResponse response, @Nullable HttpContext context) {
+
+			if (response != null && context != null && context.getAttribute(START_ATTRIBUTE) instanceof Long start
+					&& context.getAttribute(HttpCoreContext.HTTP_TARGET_HOST) instanceof HttpHost host) {
+				int statusCode = response.getStatusLine().getStatusCode();
+
+				if (statusCode != 502 && statusCode != 503 && statusCode != 504) {
+					nodeSelectionStrategy.requestSucceeded(address(host), Duration.ofNanos(System.nanoTime() - start));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Interceptor that asks for gzip compressed responses and records them in the {@link CompressionMetrics}. The
+	 * RestClient decompresses these responses.
+	 *
+	 * @since 6.2
+	 */
+	record CompressionInterceptor(boolean acceptCompressedResponses, CompressionMetrics compressionMetrics)
+			implements HttpRequestInterceptor, HttpResponseInterceptor {
+
+		private static final String ACCEPT_ENCODING = "Accept-Encoding";
+		private static final String GZIP = "gzip";
+
+		@Override
+		public void process(@Nullable HttpRequest request, @Nullable HttpContext context) {
+
+			if (acceptCompressedResponses && request != null && !request.containsHeader(ACCEPT_ENCODING)) {
+				request.addHeader(ACCEPT_ENCODING, GZIP);
+			}
+		}
+
+		@Override
+		public void process(@Nullable HttpResponse response, @Nullable HttpContext context) {
+
+			HttpEntity entity = response != null ? response.getEntity() : null;
+
+			if (entity != null && entity.getContentEncoding() != null
+					&& GZIP.equalsIgnoreCase(entity.getContentEncoding().getValue())) {
+				compressionMetrics.recordCompressedResponse(entity.getContentLength());
+			}
+		}
+	}
+
 	/**
 	 * {@link org.springframework.data.elasticsearch.client.ClientConfiguration.ClientConfigurationCallback} to configure
 	 * the Elasticsearch RestClient's Http client with a {@link HttpAsyncClientBuilder}
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
@@ -30,9 +31,12 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.convert.DefaultElasticsearchTypeMapper;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchCustomConversions;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchTypeMapper;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexNameCachePolicy;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
 import org.springframework.data.mapping.model.FieldNamingStrategy;
 import org.springframework.data.mapping.model.PropertyNameFieldNamingStrategy;
@@ -52,9 +56,19 @@ public class ElasticsearchConfigurationSupport {
 	public ElasticsearchConverter elasticsearchEntityMapper(SimpleElasticsearchMappingContext elasticsearchMappingContext,
 			ElasticsearchCustomConversions elasticsearchCustomConversions) {
 
+		Map<Class<?>, String> typeAliases = typeAliases();
+		ElasticsearchTypeMapper typeMapper = ElasticsearchTypeMapper.create(elasticsearchMappingContext);
+		if (!typeAliases.isEmpty() || strictTypeHints()) {
+			DefaultElasticsearchTypeMapper aliasingTypeMapper = new DefaultElasticsearchTypeMapper(
+					ElasticsearchTypeMapper.DEFAULT_TYPE_KEY, elasticsearchMappingContext, typeAliases);
+			aliasingTypeMapper.setStrictTypeHints(strictTypeHints());
+			typeMapper = aliasingTypeMapper;
+		}
+
 		MappingElasticsearchConverter elasticsearchConverter = new MappingElasticsearchConverter(
-				elasticsearchMappingContext);
+				elasticsearchMappingContext, null, typeMapper);
 		elasticsearchConverter.setConversions(elasticsearchCustomConversions);
+
 		return elasticsearchConverter;
 	}
 
@@ -75,6 +89,7 @@ public class ElasticsearchConfigurationSupport {
 		mappingContext.setFieldNamingStrategy(fieldNamingStrategy());
 		mappingContext.setWriteTypeHints(writeTypeHints());
 		mappingContext.setServerType(serverType());
+		mappingContext.setIndexNameCachePolicy(indexNameCachePolicy());
 
 		return mappingContext;
 	}
@@ -198,4 +213,38 @@ public class ElasticsearchConfigurationSupport {
 	protected ElasticsearchServerType serverType() {
 		return ElasticsearchServerType.DEFAULT;
 	}
+
+	/**
+	 * Configures the caching of index names that are defined by an expression in the {@literal @Document} annotation.
+	 * The default evaluates the expression for every operation.
+	 *
+	 * @return the {@link IndexNameCachePolicy} to use
+	 * @since 6.2
+	 */
+	protected IndexNameCachePolicy indexNameCachePolicy() {
+		return IndexNameCachePolicy.none();
+	}
+
+	/**
+	 * Configures short aliases that are written as type hints instead of the fully qualified class names. An alias must
+	 * be unique and must not change once documents have been written with it. Aliases defined with
+	 * {@link org.springframework.data.annotation.TypeAlias} on the entities take precedence.
+	 *
+	 * @return the aliases for the classes, never {@literal null}
+	 * @since 6.2
+	 */
+	protected Map<Class<?>, String> typeAliases() {
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * Configures the strict mode for type hints, where no type hint is written for documents of final classes and
+	 * records that cannot be read polymorphically, see {@link DefaultElasticsearchTypeMapper#setStrictTypeHints(boolean)}.
+	 *
+	 * @return flag if the strict mode is enabled
+	 * @since 6.2
+	 */
+	protected boolean strictTypeHints() {
+		return false;
+	}
 }
@@ -21,10 +21,13 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.BeansException;
@@ -32,7 +35,9 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.data.convert.EntityReader;
 import org.springframework.data.elasticsearch.client.UnsupportedClientOperationException;
+import org.springframework.data.elasticsearch.core.asyncsearch.AsyncSearchResponse;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchTypeMapper;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
@@ -44,6 +49,8 @@ import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersiste
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.AggregationStreamOptions;
+import org.springframework.data.elasticsearch.core.query.AsyncSearchOptions;
 import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.IndexQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
@@ -88,6 +95,9 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	@Nullable protected RefreshPolicy refreshPolicy;
 	protected RoutingResolver routingResolver;
 	protected ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+	protected DocumentCache documentCache = new DocumentCache();
+	@Nullable protected SearchResultCache searchResultCache;
+	@Nullable protected DirtyTracker dirtyTracker;
 
 	public AbstractElasticsearchTemplate() {
 		this(null);
@@ -121,6 +131,9 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		copy.setRoutingResolver(routingResolver);
 		copy.setRefreshPolicy(refreshPolicy);
 		copy.setObservationRegistry(observationRegistry);
+		copy.setDocumentCache(documentCache);
+		copy.setSearchResultCache(searchResultCache);
+		copy.setDirtyTracker(dirtyTracker);
 		customizeCopy(copy);
 
 		return copy;
@@ -189,6 +202,74 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		this.observationRegistry = observationRegistry;
 	}
 
+	/**
+	 * Set the {@link DocumentCache} that is used for documents read by id. Caching is only done for the entity classes
+	 * that are enabled in the cache.
+	 *
+	 * @param documentCache must not be {@literal null}.
+	 * @since 6.2
+	 */
+	public void setDocumentCache(DocumentCache documentCache) {
+
+		Assert.notNull(documentCache, "documentCache must not be null");
+
+		this.documentCache = documentCache;
+	}
+
+	/**
+	 * @return the {@link DocumentCache} used by this template.
+	 * @since 6.2
+	 */
+	public DocumentCache getDocumentCache() {
+		return documentCache;
+	}
+
+	/**
+	 * Set the {@link SearchResultCache} that is used for the results of searches, {@literal null} disables caching of
+	 * search results, which is the default. Searches with a point in time, scrolled searches and searches of queries
+	 * that disable the request cache are never cached.
+	 * A cached result is not copied, the returned entities are shared with all callers of identical searches and must not
+	 * be modified.
+	 *
+	 * @param searchResultCache can be {@literal null}.
+	 * @since 6.2
+	 */
+	public void setSearchResultCache(@Nullable SearchResultCache searchResultCache) {
+		this.searchResultCache = searchResultCache;
+	}
+
+	/**
+	 * @return the {@link SearchResultCache} used by this template, {@literal null} if search results are not cached.
+	 * @since 6.2
+	 */
+	@Nullable
+	public SearchResultCache getSearchResultCache() {
+		return searchResultCache;
+	}
+
+	/**
+	 * Set the {@link DirtyTracker} that keeps snapshots of the entities read through this template, {@literal null}
+	 * disables dirty tracking, which is the default. With a tracker {@link #update(Object)} sends only the changed
+	 * properties of an entity that was read before, and {@link #save(Object)} does the same for entities without a
+	 * version or sequence number property, using the whole document as upsert. Taking the snapshot hashes the fields of
+	 * the document every entity is read from; without a tracker the read documents are not hashed.
+	 *
+	 * @param dirtyTracker can be {@literal null}.
+	 * @since 6.2
+	 */
+	public void setDirtyTracker(@Nullable DirtyTracker dirtyTracker) {
+		this.dirtyTracker = dirtyTracker;
+	}
+
+	/**
+	 * @return the {@link DirtyTracker} used by this template, {@literal null} if dirty tracking is disabled.
+	 * @since 6.2
+	 */
+	@Nullable
+	public DirtyTracker getDirtyTracker() {
+		return dirtyTracker;
+	}
+
 	/**
 	 * Hook for subclasses to copy additional state during {@link #copy()}. Called after all common fields have been
 	 * copied. The default implementation does nothing.
@@ -224,8 +305,15 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		Assert.notNull(index, "index must not be null");
 
 		T entityAfterBeforeConvert = maybeCallbackBeforeConvert(entity, index);
-
 		IndexQuery query = getIndexQuery(entityAfterBeforeConvert);
+
+		if (isDirtyTrackedUpdate(entityAfterBeforeConvert, query)) {
+			Document document = elasticsearchConverter.mapObject(entityAfterBeforeConvert);
+			update(buildUpdateQueryByEntity(entityAfterBeforeConvert, document, true), index);
+			Objects.requireNonNull(dirtyTracker).track(entityAfterBeforeConvert, document);
+			return maybeCallbackAfterSave(entityAfterBeforeConvert, index);
+		}
+
 		doIndex(query, index);
 
 		// noinspection unchecked
@@ -400,18 +488,41 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		Assert.notNull(entity, "entity must not be null");
 		Assert.notNull(index, "index must not be null");
 
-		return update(buildUpdateQueryByEntity(entity), index);
+		if (dirtyTracker == null) {
+			return update(buildUpdateQueryByEntity(entity), index);
+		}
+
+		Document document = elasticsearchConverter.mapObject(entity);
+		UpdateResponse updateResponse = update(buildUpdateQueryByEntity(entity, document, false), index);
+		dirtyTracker.track(entity, document);
+		return updateResponse;
 	}
 
 	protected <T> UpdateQuery buildUpdateQueryByEntity(T entity) {
+		return buildUpdateQueryByEntity(entity, elasticsearchConverter.mapObject(entity), false);
+	}
+
+	/**
+	 * @param document the document the entity is mapped to
+	 * @param upsert if the whole document should be used as upsert in case the document does not exist
+	 * @since 6.2
+	 */
+	private <T> UpdateQuery buildUpdateQueryByEntity(T entity, Document document, boolean upsert) {
 
 		Assert.notNull(entity, "entity must not be null");
 
 		String id = getEntityId(entity);
 		Assert.notNull(id, "entity must have an id that is notnull");
 
+		// with dirty tracking only the changed fields are sent for an entity that was read before
+		Document changes = dirtyTracker != null ? dirtyTracker.changes(entity, document) : null;
+
 		UpdateQuery.Builder updateQueryBuilder = UpdateQuery.builder(id)
-				.withDocument(elasticsearchConverter.mapObject(entity));
+				.withDocument(changes != null ? changes : document);
+
+		if (upsert) {
+			updateQueryBuilder.withUpsert(document);
+		}
 
 		String routing = getEntityRouting(entity);
 		if (StringUtils.hasText(routing)) {
@@ -433,6 +544,12 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		return searchForStream(query, clazz, getIndexCoordinatesFor(clazz));
 	}
 
+	@Override
+	public Stream<AggregationBucket> searchForAggregationStream(Query query, String aggregationName, Class<?> clazz) {
+		return searchForAggregationStream(query, aggregationName, clazz, getIndexCoordinatesFor(clazz),
+				AggregationStreamOptions.defaultOptions());
+	}
+
 	@Override
 	public <T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, IndexCoordinates index) {
 
@@ -444,7 +561,8 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		return StreamQueries.streamResults( //
 				maxCount, //
 				searchScrollStart(scrollTimeInMillis, query, clazz, index), //
-				scrollId -> searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index), //
+				scrollId -> searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index,
+						query.isLazyContentConversion()), //
 				this::searchScrollClear);
 	}
 
@@ -479,6 +597,18 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	abstract public <T> SearchScrollHits<T> searchScrollContinue(String scrollId, long scrollTimeInMillis, Class<T> clazz,
 			IndexCoordinates index);
 
+	/**
+	 * Continues a scrolled search like {@link #searchScrollContinue(String, long, Class, IndexCoordinates)}, converting
+	 * the entities lazily if requested. Implementations that do not support lazy conversion can rely on this default
+	 * which converts the entities immediately.
+	 *
+	 * @since 6.2
+	 */
+	protected <T> SearchScrollHits<T> searchScrollContinue(String scrollId, long scrollTimeInMillis, Class<T> clazz,
+			IndexCoordinates index, boolean lazyContentConversion) {
+		return searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index);
+	}
+
 	public void searchScrollClear(String scrollId) {
 		searchScrollClear(Collections.singletonList(scrollId));
 	}
@@ -521,6 +651,48 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		return getRequiredPersistentEntity(clazz).getIndexCoordinates();
 	}
 
+	/**
+	 * @param query the index query the entity would be saved with
+	 * @return true if the entity is tracked by the dirty tracker and can be saved with a partial update. An index query
+	 *         with an explicit {@link IndexQuery.OpType} is always sent as it is, as an update does not have the
+	 *         semantics of a create operation.
+	 */
+	private boolean isDirtyTrackedUpdate(Object entity, IndexQuery query) {
+
+		if (dirtyTracker == null || query.getOpType() != null || !dirtyTracker.isTracked(entity)) {
+			return false;
+		}
+
+		ElasticsearchPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+		return !persistentEntity.hasVersionProperty() && !persistentEntity.hasSeqNoPrimaryTermProperty();
+	}
+
+	/**
+	 * Tracks an entity with the document it was read from instead of writing the entity again. Only the fields that are
+	 * written when the entity is saved are kept, so that fields the entity does not map are not removed by an update.
+	 */
+	private void trackReadDocument(DirtyTracker dirtyTracker, Object entity, Document document) {
+
+		ElasticsearchPersistentEntity<?> persistentEntity = elasticsearchConverter.getMappingContext()
+				.getPersistentEntity(entity.getClass());
+
+		if (persistentEntity == null) {
+			return;
+		}
+
+		Map<String, @Nullable Object> writtenFields = new LinkedHashMap<>(document.size());
+		document.forEach((fieldName, value) -> {
+			ElasticsearchPersistentProperty property = persistentEntity.getPersistentPropertyWithFieldName(fieldName);
+
+			if (ElasticsearchTypeMapper.DEFAULT_TYPE_KEY.equals(fieldName)
+					|| (property != null && property.isWritable() && !property.isIndexedIndexNameProperty())) {
+				writtenFields.put(fieldName, value);
+			}
+		});
+
+		dirtyTracker.track(entity, writtenFields);
+	}
+
 	ElasticsearchPersistentEntity<?> getRequiredPersistentEntity(Class<?> clazz) {
 		return elasticsearchConverter.getMappingContext().getRequiredPersistentEntity(clazz);
 	}
@@ -728,6 +900,90 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		}
 	}
 
+	/**
+	 * @return true if documents of the given class read from the given index are cached. Documents are only cached when
+	 *         they are read from a single index.
+	 * @since 6.2
+	 */
+	protected boolean isDocumentCached(Class<?> clazz, IndexCoordinates index) {
+		return index.getIndexNames().length == 1 && documentCache.isEnabled(clazz);
+	}
+
+	/**
+	 * Removes a document that was written or deleted from the {@link DocumentCache} and the results of searches on the
+	 * index from the {@link SearchResultCache}.
+	 *
+	 * @param id the id of the document, if {@literal null} no document is removed
+	 * @since 6.2
+	 */
+	protected void invalidateCachedDocument(IndexCoordinates index, @Nullable String id) {
+
+		for (String indexName : index.getIndexNames()) {
+			if (id != null) {
+				documentCache.invalidate(indexName, id);
+			}
+
+			if (searchResultCache != null) {
+				searchResultCache.invalidate(indexName);
+			}
+		}
+	}
+
+	/**
+	 * Removes all documents and search results of an index from the caches, used after by-query operations.
+	 *
+	 * @since 6.2
+	 */
+	protected void invalidateCachedDocuments(IndexCoordinates index) {
+
+		for (String indexName : index.getIndexNames()) {
+			documentCache.invalidate(indexName);
+
+			if (searchResultCache != null) {
+				searchResultCache.invalidate(indexName);
+			}
+		}
+	}
+
+	/**
+	 * Removes the documents that were written or deleted by a bulk operation from the {@link DocumentCache}.
+	 *
+	 * @since 6.2
+	 */
+	protected void invalidateCachedDocuments(List<?> queries, IndexCoordinates index) {
+
+		for (Object query : queries) {
+			if (query instanceof IndexQuery indexQuery) {
+				invalidateCachedDocument(index, indexQuery.getId());
+			} else if (query instanceof UpdateQuery updateQuery) {
+				invalidateCachedDocument(index, updateQuery.getId());
+			}
+		}
+	}
+
+	/**
+	 * @return true if the result of a search for the query can be taken from the {@link SearchResultCache}.
+	 * @since 6.2
+	 */
+	protected boolean isSearchResultCached(Query query) {
+		return searchResultCache != null && !Boolean.FALSE.equals(query.getRequestCache())
+				&& query.getPointInTime() == null && !query.hasScrollTime();
+	}
+
+	/**
+	 * @return the time to live for cached results of searches for the given class, derived from the refresh interval of
+	 *         the entity's index.
+	 * @since 6.2
+	 */
+	protected Duration searchResultTimeToLive(SearchResultCache searchResultCache, Class<?> clazz) {
+
+		var mappingContext = elasticsearchConverter.getMappingContext();
+		ElasticsearchPersistentEntity<?> persistentEntity = mappingContext.hasPersistentEntityFor(clazz)
+				? mappingContext.getPersistentEntity(clazz)
+				: null;
+		return searchResultCache.timeToLive(persistentEntity != null ? persistentEntity.getRefreshInterval() : null);
+	}
+
 	// region script operations
 
 	@Override
@@ -751,6 +1007,20 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 
 	// endregion
 
+	// region async search operations
+
+	@Override
+	public <T> AsyncSearchResponse<T> submitAsyncSearch(Query query, Class<T> clazz) {
+		return submitAsyncSearch(query, clazz, getIndexCoordinatesFor(clazz), AsyncSearchOptions.defaultOptions());
+	}
+
+	@Override
+	public <T> AsyncSearchResponse<T> getAsyncSearch(String id, Class<T> clazz) {
+		return getAsyncSearch(id, clazz, getIndexCoordinatesFor(clazz), AsyncSearchOptions.defaultOptions());
+	}
+
+	// endregion
+
 	// region Document callbacks
 	protected interface DocumentCallback<T> {
 		@Contract("null -> null")
@@ -795,7 +1065,13 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 					elasticsearchConverter,
 					routingResolver);
 
-			return maybeCallbackAfterConvert(entity, documentAfterLoad, index);
+			T result = maybeCallbackAfterConvert(entity, documentAfterLoad, index);
+
+			if (dirtyTracker != null && result != null) {
+				trackReadDocument(dirtyTracker, result, documentAfterLoad);
+			}
+
+			return result;
 		}
 	}
 
@@ -806,17 +1082,34 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	protected class ReadSearchDocumentResponseCallback<T> implements SearchDocumentResponseCallback<SearchHits<T>> {
 		private final DocumentCallback<T> delegate;
 		private final Class<T> type;
+		private final boolean lazyContentConversion;
 
 		public ReadSearchDocumentResponseCallback(Class<T> type, IndexCoordinates index) {
+			this(type, index, false);
+		}
+
+		/**
+		 * @param lazyContentConversion if {@literal true}, the entities are converted on the first access to the content
+		 *          of a search hit
+		 * @since 6.2
+		 */
+		public ReadSearchDocumentResponseCallback(Class<T> type, IndexCoordinates index, boolean lazyContentConversion) {
 
 			Assert.notNull(type, "type is null");
 
 			this.delegate = new ReadDocumentCallback<>(elasticsearchConverter, type, index);
 			this.type = type;
+			this.lazyContentConversion = lazyContentConversion;
 		}
 
 		@Override
 		public SearchHits<T> doWith(SearchDocumentResponse response) {
+
+			if (lazyContentConversion) {
+				// noinspection NullableProblems,DataFlowIssue
+				return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapHitsLazily(response, delegate::doWith);
+			}
+
 			// noinspection NullableProblems,DataFlowIssue
 			List<T> entities = response.getSearchDocuments().stream().map(delegate::doWith).collect(Collectors.toList());
 			return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapHits(response, entities);
@@ -827,17 +1120,36 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 			implements SearchDocumentResponseCallback<SearchScrollHits<T>> {
 		private final DocumentCallback<T> delegate;
 		private final Class<T> type;
+		private final boolean lazyContentConversion;
 
 		public ReadSearchScrollDocumentResponseCallback(Class<T> type, IndexCoordinates index) {
+			this(type, index, false);
+		}
+
+		/**
+		 * @param lazyContentConversion if {@literal true}, the entities are converted on the first access to the content
+		 *          of a search hit
+		 * @since 6.2
+		 */
+		public ReadSearchScrollDocumentResponseCallback(Class<T> type, IndexCoordinates index,
+				boolean lazyContentConversion) {
 
 			Assert.notNull(type, "type is null");
 
 			this.delegate = new ReadDocumentCallback<>(elasticsearchConverter, type, index);
 			this.type = type;
+			this.lazyContentConversion = lazyContentConversion;
 		}
 
 		@Override
 		public SearchScrollHits<T> doWith(SearchDocumentResponse response) {
+
+			if (lazyContentConversion) {
+				// noinspection NullableProblems,DataFlowIssue
+				return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapScrollHitsLazily(response,
+						delegate::doWith);
+			}
+
 			// noinspection DataFlowIssue,NullableProblems
 			List<T> entities = response.getSearchDocuments().stream().map(delegate::doWith).collect(Collectors.toList());
 			return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapScrollHits(response, entities);
@@ -35,6 +35,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.data.convert.EntityReader;
 import org.springframework.data.elasticsearch.client.UnsupportedClientOperationException;
+import org.springframework.data.elasticsearch.core.asyncsearch.AsyncSearchResponse;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.document.Document;
@@ -47,6 +48,8 @@ import org.springframework.data.elasticsearch.core.event.ReactiveBeforeConvertCa
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.AggregationStreamOptions;
+import org.springframework.data.elasticsearch.core.query.AsyncSearchOptions;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQuery;
@@ -70,6 +73,11 @@ import org.springframework.util.Assert;
 abstract public class AbstractReactiveElasticsearchTemplate
 		implements ReactiveElasticsearchOperations, ApplicationContextAware {
 
+	/**
+	 * the wait for completion timeout of the polls of an async search when the options do not set one.
+	 */
+	private static final Duration DEFAULT_POLL_WAIT_FOR_COMPLETION_TIMEOUT = Duration.ofSeconds(1);
+
 	protected final ElasticsearchConverter converter;
 	protected final SimpleElasticsearchMappingContext mappingContext;
 	protected final EntityOperations entityOperations;
@@ -79,6 +87,7 @@ abstract public class AbstractReactiveElasticsearchTemplate
 
 	protected @Nullable ReactiveEntityCallbacks entityCallbacks;
 	protected ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+	protected @Nullable SearchResultCache searchResultCache;
 
 	// region Initialization
 	protected AbstractReactiveElasticsearchTemplate(@Nullable ElasticsearchConverter converter) {
@@ -112,6 +121,7 @@ abstract public class AbstractReactiveElasticsearchTemplate
 
 		copy.setRoutingResolver(routingResolver);
 		copy.setObservationRegistry(observationRegistry);
+		copy.setSearchResultCache(searchResultCache);
 		customizeCopy(copy);
 		return copy;
 	}
@@ -179,6 +189,28 @@ abstract public class AbstractReactiveElasticsearchTemplate
 		this.observationRegistry = observationRegistry;
 	}
 
+	/**
+	 * Set the {@link SearchResultCache} that is used for the results of {@code searchForHits} searches, {@literal null}
+	 * disables caching of search results, which is the default. Searches with a point in time, scrolled searches and
+	 * searches of queries that disable the request cache are never cached.
+	 * A cached result is not copied, the returned entities are shared with all callers of identical searches and must not
+	 * be modified.
+	 *
+	 * @param searchResultCache can be {@literal null}.
+	 * @since 6.2
+	 */
+	public void setSearchResultCache(@Nullable SearchResultCache searchResultCache) {
+		this.searchResultCache = searchResultCache;
+	}
+
+	/**
+	 * @return the {@link SearchResultCache} used by this template, {@literal null} if search results are not cached.
+	 * @since 6.2
+	 */
+	public @Nullable SearchResultCache getSearchResultCache() {
+		return searchResultCache;
+	}
+
 	/**
 	 * Hook for subclasses to copy additional state during {@link #copy()}. Called after all common fields have been
 	 * copied. The default implementation does nothing.
@@ -502,13 +534,83 @@ abstract public class AbstractReactiveElasticsearchTemplate
 
 		SearchDocumentCallback<T> callback = new ReadSearchDocumentCallback<>(resultType, index);
 
-		return doFindForResponse(query, entityType, index)
+		Mono<SearchHits<T>> search = doFindForResponse(query, entityType, index)
 				.flatMap(searchDocumentResponse -> Flux.fromIterable(searchDocumentResponse.getSearchDocuments())
 						.flatMap(callback::toEntity)
 						.collectList()
 						.map(entities -> SearchHitMapping.mappingFor(resultType, converter)
-								.mapHits(searchDocumentResponse, entities)))
-				.map(ReactiveSearchHitSupport::searchHitsFor);
+								.mapHits(searchDocumentResponse, entities)));
+
+		SearchResultCache searchResultCache = this.searchResultCache;
+		Mono<SearchHits<T>> searchHits = search;
+
+		if (searchResultCache != null && isSearchResultCached(query)) {
+			searchHits = Mono.defer(() -> {
+				Object request = searchResultCacheKey(query, entityType, index);
+
+				if (request == null) {
+					return search;
+				}
+
+				SearchResultCache.Key key = new SearchResultCache.Key(request, resultType, index,
+						query.isLazyContentConversion());
+				Duration timeToLive = searchResultTimeToLive(searchResultCache, entityType);
+				return Mono.fromFuture(searchResultCache.get(key, timeToLive, search::toFuture), true);
+			});
+		}
+
+		return searchHits.map(ReactiveSearchHitSupport::searchHitsFor);
+	}
+
+	/**
+	 * @return true if the result of a search for the query can be taken from the {@link SearchResultCache}.
+	 * @since 6.2
+	 */
+	protected boolean isSearchResultCached(Query query) {
+		return searchResultCache != null && !Boolean.FALSE.equals(query.getRequestCache())
+				&& query.getPointInTime() == null && !query.hasScrollTime();
+	}
+
+	/**
+	 * Returns the converted request for a search that is used in the key of the {@link SearchResultCache}. It must
+	 * contain everything that is sent to Elasticsearch and implement {@link Object#equals(Object)} and
+	 * {@link Object#hashCode()}. The default implementation returns {@literal null}, so search results are not cached.
+	 *
+	 * @return the converted request, {@literal null} if the result of the search must not be cached.
+	 * @since 6.2
+	 */
+	protected @Nullable Object searchResultCacheKey(Query query, Class<?> clazz, IndexCoordinates index) {
+		return null;
+	}
+
+	/**
+	 * @return the time to live for cached results of searches for the given class, derived from the refresh interval of
+	 *         the entity's index.
+	 * @since 6.2
+	 */
+	protected Duration searchResultTimeToLive(SearchResultCache searchResultCache, Class<?> clazz) {
+
+		ElasticsearchPersistentEntity<?> persistentEntity = mappingContext.hasPersistentEntityFor(clazz)
+				? mappingContext.getPersistentEntity(clazz)
+				: null;
+		return searchResultCache.timeToLive(persistentEntity != null ? persistentEntity.getRefreshInterval() : null);
+	}
+
+	/**
+	 * Removes the results of searches on the index from the {@link SearchResultCache}, called after documents in the
+	 * index were written or deleted.
+	 *
+	 * @since 6.2
+	 */
+	protected void invalidateSearchResults(IndexCoordinates index) {
+
+		SearchResultCache searchResultCache = this.searchResultCache;
+
+		if (searchResultCache != null) {
+			for (String indexName : index.getIndexNames()) {
+				searchResultCache.invalidate(indexName);
+			}
+		}
 	}
 
 	abstract protected Flux<SearchDocument> doFind(Query query, Class<?> clazz, IndexCoordinates index);
@@ -522,6 +624,13 @@ abstract public class AbstractReactiveElasticsearchTemplate
 		return aggregate(query, entityType, getIndexCoordinatesFor(entityType));
 	}
 
+	@Override
+	public Flux<AggregationBucket> searchForAggregationStream(Query query, String aggregationName,
+			Class<?> entityType) {
+		return searchForAggregationStream(query, aggregationName, entityType, getIndexCoordinatesFor(entityType),
+				AggregationStreamOptions.defaultOptions());
+	}
+
 	@Override
 	public Mono<Suggest> suggest(Query query, Class<?> entityType) {
 		return suggest(query, entityType, getIndexCoordinatesFor(entityType));
@@ -726,6 +835,38 @@ abstract public class AbstractReactiveElasticsearchTemplate
 	}
 	// endregion
 
+	// region async search operations
+	@Override
+	public <T> Mono<AsyncSearchResponse<T>> submitAsyncSearch(Query query, Class<T> clazz) {
+		return submitAsyncSearch(query, clazz, getIndexCoordinatesFor(clazz), AsyncSearchOptions.defaultOptions());
+	}
+
+	@Override
+	public <T> Mono<AsyncSearchResponse<T>> getAsyncSearch(String id, Class<T> clazz) {
+		return getAsyncSearch(id, clazz, getIndexCoordinatesFor(clazz), AsyncSearchOptions.defaultOptions());
+	}
+
+	@Override
+	public <T> Flux<AsyncSearchResponse<T>> pollAsyncSearch(String id, Class<T> clazz, IndexCoordinates index,
+			AsyncSearchOptions options) {
+
+		Assert.notNull(id, "id must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		// each poll waits on the cluster for the search to complete, without a timeout it would return immediately and
+		// the polls would be sent one after the other
+		Duration waitForCompletionTimeout = options.getWaitForCompletionTimeout();
+		Assert.isTrue(waitForCompletionTimeout == null || !waitForCompletionTimeout.isZero(),
+				"waitForCompletionTimeout must be greater than 0 for polling");
+		AsyncSearchOptions pollOptions = waitForCompletionTimeout != null ? options
+				: options.toBuilder().withWaitForCompletionTimeout(DEFAULT_POLL_WAIT_FOR_COMPLETION_TIMEOUT).build();
+
+		// the next poll is only sent when the previous response is consumed
+		return getAsyncSearch(id, clazz, index, pollOptions).expand(
+				response -> response.isRunning() ? getAsyncSearch(id, clazz, index, pollOptions) : Mono.empty());
+	}
+	// endregion
+
 	// region Helper methods
 	@Override
 	public IndexCoordinates getIndexCoordinatesFor(Class<?> clazz) {
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.Map;
+
+/**
+ * A bucket of a multi bucket aggregation that is returned when the buckets of an aggregation are streamed with
+ * {@link SearchOperations#searchForAggregationStream} or {@link ReactiveSearchOperations#searchForAggregationStream}.
+ * The concrete implementations must be provided by the code handling the direct communication with Elasticsearch.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public interface AggregationBucket {
+
+	/**
+	 * @return the key of the bucket. For a composite aggregation these are the values of the sources keyed by the source
+	 *         names, for a terms aggregation this is the term keyed by the aggregation name.
+	 */
+	Map<String, Object> getKey();
+
+	/**
+	 * @return the number of documents in the bucket
+	 */
+	long getDocCount();
+
+	/**
+	 * @return the sub aggregations of the bucket
+	 */
+	AggregationsContainer<?> getAggregations();
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateResponse;
+import org.springframework.data.elasticsearch.core.routing.RoutingResolver;
+
+/**
+ * Interface that specifies the document, search and bulk operations of Elasticsearch executed asynchronously. The
+ * methods do not block, they return a {@link CompletableFuture} that is completed when the response has been received
+ * and converted, or completed exceptionally with the translated exception. Cancelling a returned future cancels the
+ * request.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public interface AsyncElasticsearchOperations {
+
+	// region document operations
+	/**
+	 * Index the given entity extracting index from entity metadata.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return a future completed with the saved entity.
+	 */
+	<T> CompletableFuture<T> save(T entity);
+
+	/**
+	 * Index the entity in the given {@literal index}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param index the target index, must not be {@literal null}
+	 * @return a future completed with the saved entity.
+	 */
+	<T> CompletableFuture<T> save(T entity, IndexCoordinates index);
+
+	/**
+	 * Indexes the entities in one bulk request into the index extracted from entity metadata.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param clazz the class to get the index name from
+	 * @return a future completed with the saved entities.
+	 */
+	default <T> CompletableFuture<List<T>> saveAll(Iterable<T> entities, Class<T> clazz) {
+		return saveAll(entities, getIndexCoordinatesFor(clazz));
+	}
+
+	/**
+	 * Indexes the entities in one bulk request into the given index.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param index the target index, must not be {@literal null}
+	 * @return a future completed with the saved entities.
+	 */
+	<T> CompletableFuture<List<T>> saveAll(Iterable<T> entities, IndexCoordinates index);
+
+	/**
+	 * Executes the given updates in one bulk request.
+	 *
+	 * @param queries the queries to execute in bulk
+	 * @param bulkOptions options to be added to the bulk request
+	 * @param index the index to run the query against
+	 * @return a future completed when the bulk request has been executed.
+	 */
+	CompletableFuture<Void> bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions, IndexCoordinates index);
+
+	/**
+	 * Fetch the entity with given id.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param entityType the domain type used for mapping the document.
+	 * @return a future completed with the found entity or with {@literal null} if there is none.
+	 */
+	default <T> CompletableFuture<@Nullable T> get(String id, Class<T> entityType) {
+		return get(id, entityType, getIndexCoordinatesFor(entityType));
+	}
+
+	/**
+	 * Fetch the entity with given id from the given index.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param entityType the domain type used for mapping the document.
+	 * @param index the target index, must not be {@literal null}
+	 * @return a future completed with the found entity or with {@literal null} if there is none.
+	 */
+	<T> CompletableFuture<@Nullable T> get(String id, Class<T> entityType, IndexCoordinates index);
+
+	/**
+	 * Execute a multiGet against elasticsearch for the given ids.
+	 *
+	 * @param query the query defining the ids of the objects to get
+	 * @param clazz the type of the object to be returned, used to determine the index
+	 * @return a future completed with the items in the order of the requested ids.
+	 */
+	default <T> CompletableFuture<List<MultiGetItem<T>>> multiGet(Query query, Class<T> clazz) {
+		return multiGet(query, clazz, getIndexCoordinatesFor(clazz));
+	}
+
+	/**
+	 * Execute a multiGet against elasticsearch for the given ids.
+	 *
+	 * @param query the query defining the ids of the objects to get
+	 * @param clazz the type of the object to be returned
+	 * @param index the index(es) from which the objects are read.
+	 * @return a future completed with the items in the order of the requested ids.
+	 */
+	<T> CompletableFuture<List<MultiGetItem<T>>> multiGet(Query query, Class<T> clazz, IndexCoordinates index);
+
+	/**
+	 * Check if an entity with given {@literal id} exists.
+	 *
+	 * @param id the {@literal _id} of the document to look for.
+	 * @param entityType the domain type used.
+	 * @return a future completed with {@literal true} if a matching document exists.
+	 */
+	default CompletableFuture<Boolean> exists(String id, Class<?> entityType) {
+		return exists(id, getIndexCoordinatesFor(entityType));
+	}
+
+	/**
+	 * Check if a document with given {@literal id} exists in the given index.
+	 *
+	 * @param id the {@literal _id} of the document to look for.
+	 * @param index the target index, must not be {@literal null}
+	 * @return a future completed with {@literal true} if a matching document exists.
+	 */
+	CompletableFuture<Boolean> exists(String id, IndexCoordinates index);
+
+	/**
+	 * Delete the given entity extracting index from entity metadata.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return a future completed with the id of the deleted entity.
+	 */
+	CompletableFuture<String> delete(Object entity);
+
+	/**
+	 * Delete the document with the given id from the given index.
+	 *
+	 * @param id the document id, must not be {@literal null}.
+	 * @param index the target index, must not be {@literal null}
+	 * @return a future completed with the id of the deleted document.
+	 */
+	CompletableFuture<String> delete(String id, IndexCoordinates index);
+
+	/**
+	 * Delete the documents matching the given {@link DeleteQuery} extracting index from entity metadata.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @return a future completed with the response of the delete by query request.
+	 */
+	default CompletableFuture<ByQueryResponse> delete(DeleteQuery query, Class<?> entityType) {
+		return delete(query, entityType, getIndexCoordinatesFor(entityType));
+	}
+
+	/**
+	 * Delete the documents matching the given {@link DeleteQuery} from the given index.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param index the target index, must not be {@literal null}
+	 * @return a future completed with the response of the delete by query request.
+	 */
+	CompletableFuture<ByQueryResponse> delete(DeleteQuery query, Class<?> entityType, IndexCoordinates index);
+
+	/**
+	 * Partial update of the document.
+	 *
+	 * @param updateQuery query defining the update
+	 * @param index the index where to update the records
+	 * @return a future completed with the update response
+	 */
+	CompletableFuture<UpdateResponse> update(UpdateQuery updateQuery, IndexCoordinates index);
+	// endregion
+
+	// region search operations
+	/**
+	 * Count the number of documents matching the given {@link Query}.
+	 *
+	 * @param query the query, must not be {@literal null}
+	 * @param entityType the entity type used to determine the index, must not be {@literal null}
+	 * @return a future completed with the number of matching documents.
+	 */
+	default CompletableFuture<Long> count(Query query, Class<?> entityType) {
+		return count(query, entityType, getIndexCoordinatesFor(entityType));
+	}
+
+	/**
+	 * Count the number of documents matching the given {@link Query} in the given index.
+	 *
+	 * @param query the query, must not be {@literal null}
+	 * @param entityType the entity type used for mapping the query, must not be {@literal null}
+	 * @param index the target index, must not be {@literal null}
+	 * @return a future completed with the number of matching documents.
+	 */
+	CompletableFuture<Long> count(Query query, Class<?> entityType, IndexCoordinates index);
+
+	/**
+	 * Execute the query against elasticsearch and return the hits of the page requested by the query.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping and index name extraction
+	 * @return a future completed with the {@link SearchHits}.
+	 */
+	default <T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz) {
+		return search(query, clazz, getIndexCoordinatesFor(clazz));
+	}
+
+	/**
+	 * Execute the query against elasticsearch and return the hits of the page requested by the query.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping
+	 * @param index the index to run the query against
+	 * @return a future completed with the {@link SearchHits}.
+	 */
+	<T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz, IndexCoordinates index);
+
+	/**
+	 * Execute the query against elasticsearch and return the first returned object.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping and index name extraction
+	 * @return a future completed with the first found hit or {@literal null} if there is none.
+	 */
+	default <T> CompletableFuture<@Nullable SearchHit<T>> searchOne(Query query, Class<T> clazz) {
+		return searchOne(query, clazz, getIndexCoordinatesFor(clazz));
+	}
+
+	/**
+	 * Execute the query against elasticsearch and return the first returned object.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping
+	 * @param index the index to run the query against
+	 * @return a future completed with the first found hit or {@literal null} if there is none.
+	 */
+	<T> CompletableFuture<@Nullable SearchHit<T>> searchOne(Query query, Class<T> clazz, IndexCoordinates index);
+	// endregion
+
+	/**
+	 * Get the {@link ElasticsearchConverter} used.
+	 *
+	 * @return never {@literal null}
+	 */
+	ElasticsearchConverter getElasticsearchConverter();
+
+	/**
+	 * @param clazz the entity class
+	 * @return the IndexCoordinates defined on the entity.
+	 */
+	IndexCoordinates getIndexCoordinatesFor(Class<?> clazz);
+
+	/**
+	 * Returns a copy of the current instance that uses the given routing resolver.
+	 *
+	 * @param routingResolver the {@link RoutingResolver} value, must not be {@literal null}.
+	 * @return a copy of this instance with the given routing resolver.
+	 */
+	AsyncElasticsearchOperations withRouting(RoutingResolver routingResolver);
+
+	/**
+	 * Returns a copy of the current instance that uses the given refresh policy.
+	 *
+	 * @param refreshPolicy the refresh policy, may be {@literal null}
+	 * @return a copy of this instance with the given refresh policy.
+	 */
+	AsyncElasticsearchOperations withRefreshPolicy(@Nullable RefreshPolicy refreshPolicy);
+}
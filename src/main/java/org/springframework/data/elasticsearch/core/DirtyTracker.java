@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.util.Assert;
+
+/**
+ * Keeps a snapshot of the properties of entities that were read through a template, so that an update of such an
+ * entity only needs to send the properties that were changed since it was read. Set on a template with
+ * {@link AbstractElasticsearchTemplate#setDirtyTracker(DirtyTracker)}; without a tracker - the default - the whole
+ * entity is sent.
+ * <p>
+ * The snapshot contains a 64-bit hash of the JSON representation of every top level field of the document, it is kept
+ * as long as the entity object itself is reachable. Entities are identified by object identity, not by {@code equals}.
+ * Nested objects are compared as a whole, so a change in a nested object sends the complete top level field. A change
+ * that results in the same hash is not detected; with a 64-bit hash this is negligible.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class DirtyTracker {
+
+	// the entries of maps are sorted, so that equal maps have the same hash independent of their order
+	private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+			.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).build();
+
+	private final Map<IdentityKey, Map<String, Long>> snapshots = new ConcurrentHashMap<>();
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	/**
+	 * Stores the snapshot of an entity, replacing an existing one.
+	 *
+	 * @param entity the entity, must not be {@literal null}
+	 * @param document the document the entity is mapped to, must not be {@literal null}
+	 */
+	public void track(Object entity, Map<String, @Nullable Object> document) {
+
+		Assert.notNull(entity, "entity must not be null");
+		Assert.notNull(document, "document must not be null");
+
+		expungeStaleEntries();
+
+		Map<String, Long> snapshot = new HashMap<>(document.size());
+		document.forEach((key, value) -> snapshot.put(key, hash(value)));
+		snapshots.put(new IdentityKey(entity, queue), snapshot);
+	}
+
+	/**
+	 * Removes the snapshot of an entity.
+	 */
+	public void untrack(Object entity) {
+
+		Assert.notNull(entity, "entity must not be null");
+
+		snapshots.remove(new IdentityKey(entity, null));
+	}
+
+	/**
+	 * @return true if there is a snapshot for the entity.
+	 */
+	public boolean isTracked(Object entity) {
+
+		Assert.notNull(entity, "entity must not be null");
+
+		return snapshots.containsKey(new IdentityKey(entity, null));
+	}
+
+	/**
+	 * Returns the fields of the document that were changed since the entity's snapshot was taken. A field that is no
+	 * longer contained in the document is returned with a {@literal null} value.
+	 *
+	 * @param entity the entity, must not be {@literal null}
+	 * @param document the document the entity is mapped to now, must not be {@literal null}
+	 * @return a document with the changed fields, {@literal null} if the entity is not tracked.
+	 */
+	@Nullable
+	public Document changes(Object entity, Map<String, @Nullable Object> document) {
+
+		Assert.notNull(entity, "entity must not be null");
+		Assert.notNull(document, "document must not be null");
+
+		Map<String, Long> snapshot = snapshots.get(new IdentityKey(entity, null));
+
+		if (snapshot == null) {
+			return null;
+		}
+
+		Document changes = Document.create();
+
+		document.forEach((key, value) -> {
+			Long snapshotHash = snapshot.get(key);
+
+			if (snapshotHash == null || snapshotHash != hash(value)) {
+				changes.put(key, value);
+			}
+		});
+
+		snapshot.keySet().forEach(key -> {
+			if (!document.containsKey(key)) {
+				changes.put(key, null);
+			}
+		});
+
+		return changes;
+	}
+
+	/**
+	 * @return the number of tracked entities.
+	 */
+	public int size() {
+
+		expungeStaleEntries();
+
+		return snapshots.size();
+	}
+
+	/**
+	 * @return the 64-bit FNV-1a hash of the JSON representation of the value, computed while it is written.
+	 */
+	private static long hash(@Nullable Object value) {
+
+		HashingOutputStream out = new HashingOutputStream();
+		OBJECT_MAPPER.writeValue(out, value);
+		return out.hash;
+	}
+
+	private void expungeStaleEntries() {
+
+		Reference<?> reference;
+		while ((reference = queue.poll()) != null) {
+			// noinspection SuspiciousMethodCalls
+			snapshots.remove(reference);
+		}
+	}
+
+	private static final class HashingOutputStream extends OutputStream {
+
+		private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+		private static final long FNV_PRIME = 0x100000001b3L;
+
+		private long hash = FNV_OFFSET_BASIS;
+
+		@Override
+		public void write(int b) {
+			hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+
+			long h = hash;
+			for (int i = off; i < off + len; i++) {
+				h = (h ^ (b[i] & 0xff)) * FNV_PRIME;
+			}
+			hash = h;
+		}
+	}
+
+	/**
+	 * Weak key comparing the referenced objects by identity.
+	 */
+	private static final class IdentityKey extends WeakReference<Object> {
+
+		private final int hash;
+
+		IdentityKey(Object referent, @Nullable ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof IdentityKey other)) {
+				return false;
+			}
+
+			Object referent = get();
+			return referent != null && referent == other.get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.elasticsearch.annotations.EntityCache;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded client side cache for documents that are read by id. Caching is enabled per entity class, either by
+ * annotating the class with {@link EntityCache} or by calling {@link #configure(Class, int, Duration)}. Each entity
+ * class has its own region with a maximum size, when this is reached the least recently used documents are evicted.
+ * Documents expire after the configured time to live.
+ * <p>
+ * The templates put documents into the cache that they read with get or multi get operations and remove documents that
+ * are indexed, updated or deleted through them. Documents are identified by the name of the index and the id, so the
+ * cache only works when reads and writes use the same index name and not for example an alias for one and the index
+ * name for the other. Changes that are made by other clients are only seen after the cached document has expired.
+ * <p>
+ * The cached documents keep their sequence number and primary term, so an entity that was read from the cache can be
+ * used for an optimistic locking write that fails if the document was changed in the meantime.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class DocumentCache {
+
+	private final LongSupplier nanoTime;
+	private final Map<Class<?>, Optional<Region>> regions = new ConcurrentHashMap<>();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public DocumentCache() {
+		this(System::nanoTime);
+	}
+
+	DocumentCache(LongSupplier nanoTime) {
+		this.nanoTime = nanoTime;
+	}
+
+	/**
+	 * Enables caching for an entity class, overriding the settings of an {@link EntityCache} annotation on the class.
+	 * Documents that were already cached for the class are dropped.
+	 *
+	 * @param clazz the entity class, must not be {@literal null}
+	 * @param maxSize the maximum number of cached documents, must be greater than 0
+	 * @param timeToLive the time after which a cached document expires, must be positive
+	 */
+	public void configure(Class<?> clazz, int maxSize, Duration timeToLive) {
+
+		Assert.notNull(clazz, "clazz must not be null");
+
+		regions.put(clazz, Optional.of(new Region(maxSize, timeToLive)));
+	}
+
+	/**
+	 * Disables caching for an entity class, even if it is annotated with {@link EntityCache}.
+	 *
+	 * @param clazz the entity class, must not be {@literal null}
+	 */
+	public void disable(Class<?> clazz) {
+
+		Assert.notNull(clazz, "clazz must not be null");
+
+		regions.put(clazz, Optional.empty());
+	}
+
+	/**
+	 * @return true if documents of the given entity class are cached.
+	 */
+	public boolean isEnabled(Class<?> clazz) {
+		return region(clazz) != null;
+	}
+
+	/**
+	 * Returns the cached document, a hit or a miss is recorded in the statistics if caching is enabled for the class.
+	 *
+	 * @return a copy of the cached document, {@literal null} if there is none or it has expired.
+	 */
+	@Nullable
+	public Document get(Class<?> clazz, String index, String id) {
+
+		Region region = region(clazz);
+
+		if (region == null) {
+			return null;
+		}
+
+		Document document = region.get(new Key(index, id), nanoTime.getAsLong());
+		return document != null ? copy(document) : null;
+	}
+
+	/**
+	 * Returns the stamp that must be passed to {@link #put(Class, String, String, Document, long)}. It must be taken
+	 * before the document is read from Elasticsearch.
+	 */
+	public long stamp() {
+		return invalidations.get();
+	}
+
+	/**
+	 * Puts a document into the cache. The document is not cached if any document was invalidated since the stamp was
+	 * taken, as the document might then have been read before a change that was made in the meantime.
+	 *
+	 * @param stamp the value of {@link #stamp()} taken before the document was read
+	 */
+	public void put(Class<?> clazz, String index, String id, Document document, long stamp) {
+
+		Region region = region(clazz);
+
+		if (region != null) {
+			region.put(new Key(index, id), copy(document), nanoTime.getAsLong(), () -> invalidations.get() == stamp);
+		}
+	}
+
+	/**
+	 * Removes the document with the given id from all regions.
+	 */
+	public void invalidate(String index, String id) {
+
+		invalidations.incrementAndGet();
+		Key key = new Key(index, id);
+		regions.values().forEach(region -> region.ifPresent(it -> it.remove(key)));
+	}
+
+	/**
+	 * Removes all documents of the given index from all regions.
+	 */
+	public void invalidate(String index) {
+
+		invalidations.incrementAndGet();
+		regions.values().forEach(region -> region.ifPresent(it -> it.removeIndex(index)));
+	}
+
+	/**
+	 * Removes all documents from all regions.
+	 */
+	public void clear() {
+
+		invalidations.incrementAndGet();
+		regions.values().forEach(region -> region.ifPresent(Region::clear));
+	}
+
+	/**
+	 * @return the statistics for an entity class, all values are 0 if caching is not enabled for the class.
+	 */
+	public Statistics getStatistics(Class<?> clazz) {
+
+		Region region = region(clazz);
+		return region != null ? region.statistics() : new Statistics(0, 0, 0, 0);
+	}
+
+	/**
+	 * @return the statistics summed up over all entity classes.
+	 */
+	public Statistics getStatistics() {
+
+		long hitCount = 0, missCount = 0, evictionCount = 0, size = 0;
+
+		for (Optional<Region> region : regions.values()) {
+			if (region.isPresent()) {
+				Statistics statistics = region.get().statistics();
+				hitCount += statistics.hitCount();
+				missCount += statistics.missCount();
+				evictionCount += statistics.evictionCount();
+				size += statistics.size();
+			}
+		}
+
+		return new Statistics(hitCount, missCount, evictionCount, size);
+	}
+
+	@Nullable
+	private Region region(Class<?> clazz) {
+
+		return regions.computeIfAbsent(clazz, key -> {
+			EntityCache entityCache = AnnotatedElementUtils.findMergedAnnotation(key, EntityCache.class);
+			return entityCache != null
+					? Optional.of(new Region(entityCache.maxSize(),
+							Duration.of(entityCache.timeToLive(), entityCache.timeUnit().toChronoUnit())))
+					: Optional.empty();
+		}).orElse(null);
+	}
+
+	private static Document copy(Document document) {
+
+		Document copy = Document.create();
+		copy.putAll(document);
+
+		if (document.hasId()) {
+			copy.setId(document.getId());
+		}
+
+		copy.setIndex(document.getIndex());
+
+		if (document.hasVersion()) {
+			copy.setVersion(document.getVersion());
+		}
+
+		if (document.hasSeqNo()) {
+			copy.setSeqNo(document.getSeqNo());
+		}
+
+		if (document.hasPrimaryTerm()) {
+			copy.setPrimaryTerm(document.getPrimaryTerm());
+		}
+
+		return copy;
+	}
+
+	/**
+	 * Cache statistics.
+	 *
+	 * @param hitCount the number of reads that returned a cached document
+	 * @param missCount the number of reads that did not find a cached document
+	 * @param evictionCount the number of documents that were removed because the maximum size was reached or they
+	 *          expired
+	 * @param size the number of currently cached documents
+	 */
+	public record Statistics(long hitCount, long missCount, long evictionCount, long size) {
+	}
+
+	private record Key(String index, String id) {
+	}
+
+	private record Entry(Document document, long expiresAt) {
+	}
+
+	private static final class Region {
+
+		private final int maxSize;
+		private final long timeToLiveNanos;
+		private final LongAdder hitCount = new LongAdder();
+		private final LongAdder missCount = new LongAdder();
+		private final LongAdder evictionCount = new LongAdder();
+		private final LinkedHashMap<Key, Entry> entries;
+
+		Region(int maxSize, Duration timeToLive) {
+
+			Assert.isTrue(maxSize > 0, "maxSize must be greater than 0");
+			Assert.notNull(timeToLive, "timeToLive must not be null");
+			Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+
+			this.maxSize = maxSize;
+			this.timeToLiveNanos = timeToLive.toNanos();
+			this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+
+					if (size() > Region.this.maxSize) {
+						evictionCount.increment();
+						return true;
+					}
+
+					return false;
+				}
+			};
+		}
+
+		@Nullable
+		synchronized Document get(Key key, long now) {
+
+			Entry entry = entries.get(key);
+
+			if (entry != null && entry.expiresAt() - now <= 0) {
+				entries.remove(key);
+				evictionCount.increment();
+				entry = null;
+			}
+
+			if (entry == null) {
+				missCount.increment();
+				return null;
+			}
+
+			hitCount.increment();
+			return entry.document();
+		}
+
+		synchronized void put(Key key, Document document, long now, BooleanSupplier condition) {
+
+			if (condition.getAsBoolean()) {
+				entries.put(key, new Entry(document, now + timeToLiveNanos));
+			}
+		}
+
+		synchronized void remove(Key key) {
+			entries.remove(key);
+		}
+
+		synchronized void removeIndex(String index) {
+			entries.keySet().removeIf(key -> key.index().equals(index));
+		}
+
+		synchronized void clear() {
+			entries.clear();
+		}
+
+		synchronized Statistics statistics() {
+			return new Statistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), entries.size());
+		}
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.elasticsearch.core;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.asyncsearch.AsyncSearchOperations;
 import org.springframework.data.elasticsearch.core.cluster.ClusterOperations;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
@@ -36,7 +37,8 @@ import org.springframework.data.elasticsearch.core.sql.SqlOperations;
  * @author Dmitriy Yakovlev
  * @author Peter-Josef Meisch
  */
-public interface ElasticsearchOperations extends DocumentOperations, SearchOperations, ScriptOperations, SqlOperations {
+public interface ElasticsearchOperations
+		extends DocumentOperations, SearchOperations, ScriptOperations, SqlOperations, AsyncSearchOperations {
 
 	/**
 	 * get an {@link IndexOperations} that is bound to the given class
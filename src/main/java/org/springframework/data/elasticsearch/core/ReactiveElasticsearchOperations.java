@@ -16,6 +16,7 @@
 package org.springframework.data.elasticsearch.core;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.asyncsearch.ReactiveAsyncSearchOperations;
 import org.springframework.data.elasticsearch.core.cluster.ReactiveClusterOperations;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
@@ -32,7 +33,8 @@ import org.springframework.data.elasticsearch.core.sql.ReactiveSqlOperations;
  * @since 3.2
  */
 public interface ReactiveElasticsearchOperations
-		extends ReactiveDocumentOperations, ReactiveSearchOperations, ReactiveScriptOperations, ReactiveSqlOperations {
+		extends ReactiveDocumentOperations, ReactiveSearchOperations, ReactiveScriptOperations, ReactiveSqlOperations,
+		ReactiveAsyncSearchOperations {
 
 	/**
 	 * Get the {@link ElasticsearchConverter} used.
@@ -21,7 +21,9 @@ import reactor.core.publisher.Mono;
 import java.time.Duration;
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.AggregationStreamOptions;
 import org.springframework.data.elasticsearch.core.query.BaseQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.suggest.response.Suggest;
@@ -240,6 +242,37 @@ public interface ReactiveSearchOperations {
 	 */
 	Flux<? extends AggregationContainer<?>> aggregate(Query query, Class<?> entityType, IndexCoordinates index);
 
+	/**
+	 * Streams the buckets of a multi bucket aggregation of the given query. The query is run repeatedly: a composite
+	 * aggregation is paged with its {@code after_key}, a terms aggregation is run once for each partition when
+	 * {@link AggregationStreamOptions#getPartitions()} is set. The query should not request any documents, the size of
+	 * the search requests is set to 0.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param aggregationName the name of the composite or terms aggregation, must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @return a {@link Flux} emitting the buckets one by one.
+	 * @since 6.2
+	 */
+	Flux<AggregationBucket> searchForAggregationStream(Query query, String aggregationName, Class<?> entityType);
+
+	/**
+	 * Streams the buckets of a multi bucket aggregation of the given query. The query is run repeatedly: a composite
+	 * aggregation is paged with its {@code after_key}, a terms aggregation is run once for each partition when
+	 * {@link AggregationStreamOptions#getPartitions()} is set. The query should not request any documents, the size of
+	 * the search requests is set to 0.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param aggregationName the name of the composite or terms aggregation, must not be {@literal null}.
+	 * @param entityType may be {@literal null}.
+	 * @param index the target index, must not be {@literal null}
+	 * @param options the page size, prefetch and partitioning options, must not be {@literal null}.
+	 * @return a {@link Flux} emitting the buckets one by one.
+	 * @since 6.2
+	 */
+	Flux<AggregationBucket> searchForAggregationStream(Query query, String aggregationName, @Nullable Class<?> entityType,
+			IndexCoordinates index, AggregationStreamOptions options);
+
 	/**
 	 * Does a suggest query.
 	 *
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
@@ -42,7 +43,8 @@ public class SearchHit<T> {
 	@Nullable private final String id;
 	private final float score;
 	private final List<Object> sortValues;
-	private final T content;
+	@Nullable private volatile T content;
+	@Nullable private volatile Supplier<? extends T> contentSupplier;
 	private final Map<String, List<String>> highlightFields = new LinkedHashMap<>();
 	private final Map<String, SearchHits<?>> innerHits = new LinkedHashMap<>();
 	@Nullable private final NestedMetaData nestedMetaData;
@@ -54,6 +56,15 @@ public class SearchHit<T> {
 			Object @Nullable [] sortValues, @Nullable Map<String, List<String>> highlightFields,
 			@Nullable Map<String, SearchHits<?>> innerHits, @Nullable NestedMetaData nestedMetaData,
 			@Nullable Explanation explanation, @Nullable Map<String, Double> matchedQueries, T content) {
+		this(index, id, routing, score, sortValues, highlightFields, innerHits, nestedMetaData, explanation, matchedQueries,
+				content, null);
+	}
+
+	private SearchHit(@Nullable String index, @Nullable String id, @Nullable String routing, float score,
+			Object @Nullable [] sortValues, @Nullable Map<String, List<String>> highlightFields,
+			@Nullable Map<String, SearchHits<?>> innerHits, @Nullable NestedMetaData nestedMetaData,
+			@Nullable Explanation explanation, @Nullable Map<String, Double> matchedQueries, @Nullable T content,
+			@Nullable Supplier<? extends T> contentSupplier) {
 		this.index = index;
 		this.id = id;
 		this.routing = routing;
@@ -71,12 +82,31 @@ public class SearchHit<T> {
 		this.nestedMetaData = nestedMetaData;
 		this.explanation = explanation;
 		this.content = content;
+		this.contentSupplier = contentSupplier;
 
 		if (matchedQueries != null) {
 			this.matchedQueries.putAll(matchedQueries);
 		}
 	}
 
+	/**
+	 * Creates a {@link SearchHit} whose content is created by the given supplier on the first call to
+	 * {@link #getContent()}.
+	 *
+	 * @since 6.2
+	 */
+	static <T> SearchHit<T> lazy(@Nullable String index, @Nullable String id, @Nullable String routing, float score,
+			Object @Nullable [] sortValues, @Nullable Map<String, List<String>> highlightFields,
+			@Nullable Map<String, SearchHits<?>> innerHits, @Nullable NestedMetaData nestedMetaData,
+			@Nullable Explanation explanation, @Nullable Map<String, Double> matchedQueries,
+			Supplier<? extends T> contentSupplier) {
+
+		Assert.notNull(contentSupplier, "contentSupplier must not be null");
+
+		return new SearchHit<>(index, id, routing, score, sortValues, highlightFields, innerHits, nestedMetaData,
+				explanation, matchedQueries, null, contentSupplier);
+	}
+
 	/**
 	 * @return the index name where the hit's document was found
 	 * @since 4.1
@@ -99,12 +129,35 @@ public class SearchHit<T> {
 	}
 
 	/**
-	 * @return the object data from the search.
+	 * @return the object data from the search. If the hit was created with lazy content conversion, the content is
+	 *         converted on the first call and then kept.
 	 */
 	public T getContent() {
+
+		if (contentSupplier != null) {
+			synchronized (this) {
+				Supplier<? extends T> supplier = contentSupplier;
+
+				if (supplier != null) {
+					content = supplier.get();
+					contentSupplier = null;
+				}
+			}
+		}
+
+		// noinspection DataFlowIssue the content is only null for a lazy hit before the conversion
 		return content;
 	}
 
+	/**
+	 * @return {@literal false} if the content of this hit is converted lazily and {@link #getContent()} has not been
+	 *         called yet.
+	 * @since 6.2
+	 */
+	public boolean isContentConverted() {
+		return contentSupplier == null;
+	}
+
 	/**
 	 * @return the sort values if the query had a sort criterion.
 	 */
@@ -169,7 +222,7 @@ public class SearchHit<T> {
 	@Override
 	public String toString() {
 		return "SearchHit{" + "id='" + id + '\'' + ", score=" + score + ", sortValues=" + sortValues + ", content="
-				+ content + ", highlightFields=" + highlightFields + '}';
+				+ (isContentConverted() ? content : "<not converted>") + ", highlightFields=" + highlightFields + '}';
 	}
 
 	/**
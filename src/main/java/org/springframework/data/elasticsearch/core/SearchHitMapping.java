@@ -21,6 +21,8 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
@@ -78,6 +80,25 @@ public class SearchHitMapping<T> {
 		return mapHitsFromResponse(searchDocumentResponse, contents);
 	}
 
+	/**
+	 * Maps the response to {@link SearchHits} whose contents are created with the given function on the first call to
+	 * {@link SearchHit#getContent()} instead of when the hits are mapped.
+	 *
+	 * @param searchDocumentResponse the response to map
+	 * @param contentCreator function creating the content for a search document
+	 * @return the search hits
+	 * @since 6.2
+	 */
+	SearchHits<T> mapHitsLazily(SearchDocumentResponse searchDocumentResponse,
+			Function<SearchDocument, T> contentCreator) {
+		return mapLazyHitsFromResponse(searchDocumentResponse, contentCreator);
+	}
+
+	SearchScrollHits<T> mapScrollHitsLazily(SearchDocumentResponse searchDocumentResponse,
+			Function<SearchDocument, T> contentCreator) {
+		return mapLazyHitsFromResponse(searchDocumentResponse, contentCreator);
+	}
+
 	private SearchHitsImpl<T> mapHitsFromResponse(SearchDocumentResponse searchDocumentResponse, List<T> contents) {
 
 		Assert.notNull(searchDocumentResponse, "searchDocumentResponse is null");
@@ -86,13 +107,6 @@ public class SearchHitMapping<T> {
 		Assert.isTrue(searchDocumentResponse.getSearchDocuments().size() == contents.size(),
 				"Count of documents must match the count of entities");
 
-		long totalHits = searchDocumentResponse.getTotalHits();
-		SearchShardStatistics shardStatistics = searchDocumentResponse.getSearchShardStatistics();
-		float maxScore = searchDocumentResponse.getMaxScore();
-		Duration executionDuration = searchDocumentResponse.getExecutionDuration();
-		String scrollId = searchDocumentResponse.getScrollId();
-		String pointInTimeId = searchDocumentResponse.getPointInTimeId();
-
 		List<SearchHit<T>> searchHits = new ArrayList<>();
 		List<SearchDocument> searchDocuments = searchDocumentResponse.getSearchDocuments();
 		for (int i = 0; i < searchDocuments.size(); i++) {
@@ -101,6 +115,34 @@ public class SearchHitMapping<T> {
 			SearchHit<T> hit = mapHit(document, content);
 			searchHits.add(hit);
 		}
+
+		return createSearchHits(searchDocumentResponse, searchHits);
+	}
+
+	private SearchHitsImpl<T> mapLazyHitsFromResponse(SearchDocumentResponse searchDocumentResponse,
+			Function<SearchDocument, T> contentCreator) {
+
+		Assert.notNull(searchDocumentResponse, "searchDocumentResponse is null");
+		Assert.notNull(contentCreator, "contentCreator is null");
+
+		List<SearchHit<T>> searchHits = new ArrayList<>();
+		for (SearchDocument document : searchDocumentResponse.getSearchDocuments()) {
+			searchHits.add(mapLazyHit(document, () -> contentCreator.apply(document)));
+		}
+
+		return createSearchHits(searchDocumentResponse, searchHits);
+	}
+
+	private SearchHitsImpl<T> createSearchHits(SearchDocumentResponse searchDocumentResponse,
+			List<SearchHit<T>> searchHits) {
+
+		long totalHits = searchDocumentResponse.getTotalHits();
+		SearchShardStatistics shardStatistics = searchDocumentResponse.getSearchShardStatistics();
+		float maxScore = searchDocumentResponse.getMaxScore();
+		Duration executionDuration = searchDocumentResponse.getExecutionDuration();
+		String scrollId = searchDocumentResponse.getScrollId();
+		String pointInTimeId = searchDocumentResponse.getPointInTimeId();
+
 		AggregationsContainer<?> aggregations = searchDocumentResponse.getAggregations();
 		TotalHitsRelation totalHitsRelation = TotalHitsRelation.valueOf(searchDocumentResponse.getTotalHitsRelation());
 
@@ -146,6 +188,21 @@ public class SearchHitMapping<T> {
 				content); //
 	}
 
+	private SearchHit<T> mapLazyHit(SearchDocument searchDocument, Supplier<T> contentSupplier) {
+
+		return SearchHit.lazy(searchDocument.getIndex(), //
+				searchDocument.hasId() ? searchDocument.getId() : null, //
+				searchDocument.getRouting(), //
+				searchDocument.getScore(), //
+				searchDocument.getSortValues(), //
+				getHighlightsAndRemapFieldNames(searchDocument), //
+				mapInnerHits(searchDocument), //
+				searchDocument.getNestedMetaData(), //
+				searchDocument.getExplanation(), //
+				searchDocument.getMatchedQueries(), //
+				contentSupplier); //
+	}
+
 	@Nullable
 	private Map<String, List<String>> getHighlightsAndRemapFieldNames(SearchDocument searchDocument) {
 		Map<String, List<String>> highlightFields = searchDocument.getHighlightFields();
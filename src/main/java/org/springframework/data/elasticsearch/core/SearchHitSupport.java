@@ -16,6 +16,7 @@
 package org.springframework.data.elasticsearch.core;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +26,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.data.core.ReactiveWrappers;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.util.CloseableIterator;
 import org.springframework.lang.Contract;
 
@@ -82,11 +84,19 @@ public final class SearchHitSupport {
 			return new PageImpl<>(content, searchPage.getPageable(), searchPage.getTotalElements());
 		}
 
+		if (result instanceof Window<?> window) {
+			return window.map(SearchHitSupport::unwrapSearchHits);
+		}
+
 		if (ReactiveWrappers.isAvailable(ReactiveWrappers.ReactiveLibrary.PROJECT_REACTOR)) {
 
 			if (result instanceof Flux<?> flux) {
 				return flux.map(SearchHitSupport::unwrapSearchHits);
 			}
+
+			if (result instanceof Mono<?> mono) {
+				return mono.map(SearchHitSupport::unwrapSearchHits);
+			}
 		}
 
 		return result;
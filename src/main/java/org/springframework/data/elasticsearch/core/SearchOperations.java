@@ -17,9 +17,11 @@ package org.springframework.data.elasticsearch.core;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.AggregationStreamOptions;
 import org.springframework.data.elasticsearch.core.query.BaseQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.MoreLikeThisQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
@@ -213,6 +215,37 @@ public interface SearchOperations {
 	 */
 	<T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, IndexCoordinates index);
 
+	/**
+	 * Streams the buckets of a multi bucket aggregation of the given query. The query is run repeatedly and the buckets
+	 * are returned lazily: a composite aggregation is paged with its {@code after_key}, a terms aggregation is run once
+	 * for each partition when {@link AggregationStreamOptions#getPartitions()} is set. The query should not request any
+	 * documents, the size of the search requests is set to 0.
+	 *
+	 * @param query the query containing the aggregation
+	 * @param aggregationName the name of the composite or terms aggregation
+	 * @param clazz the entity clazz used for property mapping and index name extraction
+	 * @return a stream of the buckets, it should be closed to cancel a page that is prefetched.
+	 * @since 6.2
+	 */
+	Stream<AggregationBucket> searchForAggregationStream(Query query, String aggregationName, Class<?> clazz);
+
+	/**
+	 * Streams the buckets of a multi bucket aggregation of the given query. The query is run repeatedly and the buckets
+	 * are returned lazily: a composite aggregation is paged with its {@code after_key}, a terms aggregation is run once
+	 * for each partition when {@link AggregationStreamOptions#getPartitions()} is set. The query should not request any
+	 * documents, the size of the search requests is set to 0.
+	 *
+	 * @param query the query containing the aggregation
+	 * @param aggregationName the name of the composite or terms aggregation
+	 * @param clazz the entity clazz used for property mapping, may be {@literal null}
+	 * @param index the index to run the query against
+	 * @param options the page size, prefetch and partitioning options
+	 * @return a stream of the buckets, it should be closed to cancel a page that is prefetched.
+	 * @since 6.2
+	 */
+	Stream<AggregationBucket> searchForAggregationStream(Query query, String aggregationName, @Nullable Class<?> clazz,
+			IndexCoordinates index, AggregationStreamOptions options);
+
 	/**
 	 * Creates a {@link Query} to get all documents. Must be implemented by the concrete implementations to provide an
 	 * appropriate query using the respective client.
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded client side cache for the results of searches. Identical searches - with the same converted request, result
+ * class and index - that are executed while the result of a previous one is cached, are answered from the cache.
+ * Identical searches that are executed while one of them is in flight are not sent to Elasticsearch again, they get
+ * the result of the search in flight.
+ * <p>
+ * Results expire after a time to live that is derived from the refresh interval of the index: changes become visible to
+ * searches only after a refresh, so within this time a search could return the same result anyway. Results of searches
+ * on an index are dropped when documents in this index are written through the template that uses the cache.
+ * <p>
+ * The cache is bounded by the total weight of the cached results, when this is exceeded the least recently used results
+ * are evicted. By default the weight of a result is its number of hits, so that a few large results cannot use the
+ * space of many small ones; a custom weigher can for example estimate the memory size of the entities. Results with
+ * more than a maximum number of hits are not cached.
+ * <p>
+ * The results are not copied: the same {@link SearchHits} instance and the same entities in it are returned to every
+ * caller that gets the result from the cache or from a search in flight. Callers must therefore treat them as read
+ * only, modifying an entity changes the result of all later identical searches until the result expires.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class SearchResultCache {
+
+	private static final Pattern TIME_VALUE = Pattern.compile("(\\d+)\\s*(nanos|micros|ms|s|m|h|d)");
+
+	private final long maxWeight;
+	private final ToLongFunction<SearchHits<?>> weigher;
+	private final int maxHits;
+	private final Duration maxTimeToLive;
+	private final LongSupplier nanoTime;
+
+	private final Object lock = new Object();
+	private final LinkedHashMap<Key, Entry> entries;
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder coalescedCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private long weight = 0;
+
+	/**
+	 * Creates a cache that weighs a result by its number of hits, a result without hits has a weight of 1.
+	 *
+	 * @param maxWeight the maximum total weight of the cached search results, must be greater than 0
+	 * @param maxHits the maximum number of hits of a search result that is cached, must not be negative
+	 * @param maxTimeToLive the maximum time to live of a cached result, also used for indices with a disabled refresh
+	 *          interval or a refresh interval that is unknown, must be positive.
+	 */
+	public SearchResultCache(long maxWeight, int maxHits, Duration maxTimeToLive) {
+		this(maxWeight, SearchResultCache::numberOfHits, maxHits, maxTimeToLive);
+	}
+
+	/**
+	 * @param maxWeight the maximum total weight of the cached search results, must be greater than 0
+	 * @param weigher function returning the weight of a search result, must return a value greater than 0
+	 * @param maxHits the maximum number of hits of a search result that is cached, must not be negative
+	 * @param maxTimeToLive the maximum time to live of a cached result, also used for indices with a disabled refresh
+	 *          interval or a refresh interval that is unknown, must be positive.
+	 */
+	public SearchResultCache(long maxWeight, ToLongFunction<SearchHits<?>> weigher, int maxHits,
+			Duration maxTimeToLive) {
+		this(maxWeight, weigher, maxHits, maxTimeToLive, System::nanoTime);
+	}
+
+	SearchResultCache(long maxWeight, ToLongFunction<SearchHits<?>> weigher, int maxHits, Duration maxTimeToLive,
+			LongSupplier nanoTime) {
+
+		Assert.isTrue(maxWeight > 0, "maxWeight must be greater than 0");
+		Assert.notNull(weigher, "weigher must not be null");
+		Assert.isTrue(maxHits >= 0, "maxHits must not be negative");
+		Assert.notNull(maxTimeToLive, "maxTimeToLive must not be null");
+		Assert.isTrue(!maxTimeToLive.isNegative() && !maxTimeToLive.isZero(), "maxTimeToLive must be positive");
+
+		this.maxWeight = maxWeight;
+		this.weigher = weigher;
+		this.maxHits = maxHits;
+		this.maxTimeToLive = maxTimeToLive;
+		this.nanoTime = nanoTime;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Returns the cached result for the key. If there is none, the search is executed by calling the given supplier,
+	 * unless an identical search is in flight. The supplier is called on the calling thread.
+	 *
+	 * @param key the key of the search
+	 * @param timeToLive the time to live of the result
+	 * @param search supplier that executes the search
+	 * @return a future that is completed with the result
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<SearchHits<T>> get(Key key, Duration timeToLive,
+			Supplier<CompletableFuture<SearchHits<T>>> search) {
+
+		Assert.notNull(key, "key must not be null");
+		Assert.notNull(timeToLive, "timeToLive must not be null");
+		Assert.notNull(search, "search must not be null");
+
+		Entry entry;
+
+		synchronized (lock) {
+			entry = entries.get(key);
+
+			if (entry != null) {
+				if (!entry.result.isDone()) {
+					coalescedCount.increment();
+					return (CompletableFuture<SearchHits<T>>) (CompletableFuture<?>) entry.result;
+				}
+
+				if (entry.expiresAt - nanoTime.getAsLong() > 0) {
+					hitCount.increment();
+					return (CompletableFuture<SearchHits<T>>) (CompletableFuture<?>) entry.result;
+				}
+
+				remove(key);
+				evictionCount.increment();
+			}
+
+			missCount.increment();
+			entry = new Entry();
+			entries.put(key, entry);
+		}
+
+		Entry searchEntry = entry;
+		long timeToLiveNanos = Math.min(timeToLive.toNanos(), maxTimeToLive.toNanos());
+
+		try {
+			search.get().whenComplete((searchHits, throwable) -> finish(key, searchEntry, searchHits, throwable,
+					timeToLiveNanos));
+		} catch (Throwable throwable) {
+			// identical searches are waiting for this entry, so it must be completed whatever the search throws
+			finish(key, searchEntry, null, throwable, timeToLiveNanos);
+		}
+
+		return (CompletableFuture<SearchHits<T>>) (CompletableFuture<?>) searchEntry.result;
+	}
+
+	private void finish(Key key, Entry entry, @Nullable SearchHits<?> searchHits, @Nullable Throwable throwable,
+			long timeToLiveNanos) {
+
+		try {
+			synchronized (lock) {
+				if (entries.get(key) == entry) {
+					if (throwable != null || searchHits == null || searchHits.getSearchHits().size() > maxHits) {
+						entries.remove(key);
+					} else {
+						cache(key, entry, searchHits, timeToLiveNanos);
+					}
+				}
+			}
+		} catch (Throwable e) {
+			// a failing weigher must not leave the waiting searches without a result
+			synchronized (lock) {
+				entries.remove(key, entry);
+			}
+			throwable = throwable != null ? throwable : e;
+		}
+
+		if (throwable != null) {
+			entry.result.completeExceptionally(throwable);
+		} else {
+			entry.result.complete(searchHits);
+		}
+	}
+
+	/**
+	 * Stores the weight and expiry of a completed result and evicts the least recently used results until the total
+	 * weight does not exceed the maximum. A result that alone exceeds the maximum weight is not cached.
+	 */
+	private void cache(Key key, Entry entry, SearchHits<?> searchHits, long timeToLiveNanos) {
+
+		long entryWeight = weigher.applyAsLong(searchHits);
+		Assert.isTrue(entryWeight > 0, "weight must be greater than 0");
+
+		if (entryWeight > maxWeight) {
+			entries.remove(key);
+			return;
+		}
+
+		entry.weight = entryWeight;
+		entry.expiresAt = nanoTime.getAsLong() + timeToLiveNanos;
+		weight += entryWeight;
+
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (weight > maxWeight && iterator.hasNext()) {
+			Entry eldest = iterator.next();
+
+			// searches in flight have no weight yet, and the new result is the most recently used one
+			if (eldest.weight > 0 && eldest != entry) {
+				iterator.remove();
+				weight -= eldest.weight;
+				evictionCount.increment();
+			}
+		}
+	}
+
+	private void remove(Key key) {
+
+		Entry entry = entries.remove(key);
+
+		if (entry != null) {
+			weight -= entry.weight;
+		}
+	}
+
+	static long numberOfHits(SearchHits<?> searchHits) {
+		return Math.max(1, searchHits.getSearchHits().size());
+	}
+
+	/**
+	 * Removes the results of all searches that included the given index. A search in flight is not cached when it
+	 * completes.
+	 */
+	public void invalidate(String index) {
+
+		synchronized (lock) {
+			Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+
+			while (iterator.hasNext()) {
+				Map.Entry<Key, Entry> entry = iterator.next();
+
+				if (Arrays.asList(entry.getKey().index().getIndexNames()).contains(index)) {
+					iterator.remove();
+					weight -= entry.getValue().weight;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public void clear() {
+
+		synchronized (lock) {
+			entries.clear();
+			weight = 0;
+		}
+	}
+
+	/**
+	 * Returns the time to live for the results of searches on an index with the given refresh interval. This is the
+	 * refresh interval, limited to the maximum time to live.
+	 *
+	 * @param refreshInterval the refresh interval in the Elasticsearch time unit format like "1s" or "500ms", may be
+	 *          {@literal null}
+	 */
+	public Duration timeToLive(@Nullable String refreshInterval) {
+
+		if (refreshInterval == null) {
+			return maxTimeToLive;
+		}
+
+		Matcher matcher = TIME_VALUE.matcher(refreshInterval.trim());
+
+		if (!matcher.matches()) {
+			return maxTimeToLive;
+		}
+
+		long value = Long.parseLong(matcher.group(1));
+		Duration duration = switch (matcher.group(2)) {
+			case "nanos" -> Duration.ofNanos(value);
+			case "micros" -> Duration.ofNanos(value * 1000);
+			case "ms" -> Duration.ofMillis(value);
+			case "s" -> Duration.ofSeconds(value);
+			case "m" -> Duration.ofMinutes(value);
+			case "h" -> Duration.ofHours(value);
+			default -> Duration.ofDays(value);
+		};
+
+		return duration.isZero() || duration.compareTo(maxTimeToLive) > 0 ? maxTimeToLive : duration;
+	}
+
+	public Statistics getStatistics() {
+
+		synchronized (lock) {
+			return new Statistics(hitCount.sum(), missCount.sum(), coalescedCount.sum(), evictionCount.sum(),
+					entries.size(), weight);
+		}
+	}
+
+	/**
+	 * The key of a cached search result.
+	 *
+	 * @param request the converted request, must implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+	 * @param clazz the class of the returned entities
+	 * @param index the index the search is executed on
+	 * @param lazyContentConversion whether the content of the returned hits is converted on first access, a result with
+	 *          lazily converted hits is not returned for a search that expects converted hits, and vice versa
+	 */
+	public record Key(Object request, Class<?> clazz, IndexCoordinates index, boolean lazyContentConversion) {
+	}
+
+	/**
+	 * Cache statistics.
+	 *
+	 * @param hitCount the number of searches that were answered with a cached result
+	 * @param missCount the number of searches that were sent to Elasticsearch
+	 * @param coalescedCount the number of searches that got the result of an identical search in flight
+	 * @param evictionCount the number of results that were removed because the maximum weight was reached or they
+	 *          expired
+	 * @param size the number of currently cached results and searches in flight
+	 * @param weight the total weight of the currently cached results
+	 */
+	public record Statistics(long hitCount, long missCount, long coalescedCount, long evictionCount, long size,
+			long weight) {
+	}
+
+	private static final class Entry {
+
+		private final CompletableFuture<SearchHits<?>> result = new CompletableFuture<>();
+		private volatile long expiresAt;
+		private long weight = 0;
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.asyncsearch;
+
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.AsyncSearchOptions;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+/**
+ * The operations for the
+ * <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/async-search.html">async search API</a>.
+ * A long-running search is submitted and returns after the wait for completion timeout with the results available so
+ * far; the results are then polled with the id of the search until it is no longer running.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public interface AsyncSearchOperations {
+
+	/**
+	 * Submits an async search for the query in the index of the given class, using the default
+	 * {@link AsyncSearchOptions}.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity class, used to determine the index and to convert the hits
+	 * @param <T> the entity type
+	 * @return the state and the results of the search available when the wait for completion timeout expired
+	 */
+	<T> AsyncSearchResponse<T> submitAsyncSearch(Query query, Class<T> clazz);
+
+	/**
+	 * Submits an async search for the query.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity class, used to convert the hits
+	 * @param index the index to search
+	 * @param options the options for the async search
+	 * @param <T> the entity type
+	 * @return the state and the results of the search available when the wait for completion timeout expired
+	 */
+	<T> AsyncSearchResponse<T> submitAsyncSearch(Query query, Class<T> clazz, IndexCoordinates index,
+			AsyncSearchOptions options);
+
+	/**
+	 * Gets the state and the results of an async search without waiting for its completion.
+	 *
+	 * @param id the id of the async search
+	 * @param clazz the entity class, used to convert the hits
+	 * @param <T> the entity type
+	 * @return the state and the results of the search
+	 */
+	<T> AsyncSearchResponse<T> getAsyncSearch(String id, Class<T> clazz);
+
+	/**
+	 * Gets the state and the results of an async search. The wait for completion timeout and the keep alive of the
+	 * options are used, the other properties are ignored.
+	 *
+	 * @param id the id of the async search
+	 * @param clazz the entity class, used to convert the hits
+	 * @param index the index that was searched, used when converting the hits
+	 * @param options the options for getting the results
+	 * @param <T> the entity type
+	 * @return the state and the results of the search
+	 */
+	<T> AsyncSearchResponse<T> getAsyncSearch(String id, Class<T> clazz, IndexCoordinates index,
+			AsyncSearchOptions options);
+
+	/**
+	 * Deletes an async search, cancelling it if it is still running.
+	 *
+	 * @param id the id of the async search
+	 * @return {@literal true} if the deletion was acknowledged
+	 */
+	boolean deleteAsyncSearch(String id);
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.asyncsearch;
+
+import java.time.Instant;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.util.Assert;
+
+/**
+ * The state and the - possibly partial - results of an async search.
+ *
+ * @param <T> the result data class.
+ * @author agent
+ * @since 6.2
+ */
+public class AsyncSearchResponse<T> {
+
+	@Nullable private final String id;
+	private final boolean running;
+	private final boolean partial;
+	private final Instant startTime;
+	private final Instant expirationTime;
+	@Nullable private final Instant completionTime;
+	private final SearchHits<T> searchHits;
+
+	public AsyncSearchResponse(@Nullable String id, boolean running, boolean partial, Instant startTime,
+			Instant expirationTime, @Nullable Instant completionTime, SearchHits<T> searchHits) {
+
+		Assert.notNull(startTime, "startTime must not be null");
+		Assert.notNull(expirationTime, "expirationTime must not be null");
+		Assert.notNull(searchHits, "searchHits must not be null");
+
+		this.id = id;
+		this.running = running;
+		this.partial = partial;
+		this.startTime = startTime;
+		this.expirationTime = expirationTime;
+		this.completionTime = completionTime;
+		this.searchHits = searchHits;
+	}
+
+	/**
+	 * @return the id of the async search, {@literal null} if the search completed within the wait for completion timeout
+	 *         and was not kept on completion.
+	 */
+	@Nullable
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * @return {@literal true} if the search is still running.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * @return {@literal true} if the search hits do not contain the results of all shards, either because the search is
+	 *         still running or because it failed on some shards.
+	 */
+	public boolean isPartial() {
+		return partial;
+	}
+
+	public Instant getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * @return the time after which the search and its results are removed from the cluster.
+	 */
+	public Instant getExpirationTime() {
+		return expirationTime;
+	}
+
+	/**
+	 * @return the time the search completed, {@literal null} while it is running.
+	 */
+	@Nullable
+	public Instant getCompletionTime() {
+		return completionTime;
+	}
+
+	/**
+	 * @return the search hits that are available so far.
+	 */
+	public SearchHits<T> getSearchHits() {
+		return searchHits;
+	}
+
+	@Override
+	public String toString() {
+		return "AsyncSearchResponse{" + "id='" + id + '\'' + ", running=" + running + ", partial=" + partial
+				+ ", startTime=" + startTime + ", expirationTime=" + expirationTime + ", completionTime=" + completionTime
+				+ ", totalHits=" + searchHits.getTotalHits() + '}';
+	}
+}
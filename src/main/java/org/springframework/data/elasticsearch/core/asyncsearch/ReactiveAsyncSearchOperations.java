@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.asyncsearch;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.AsyncSearchOptions;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+/**
+ * The reactive operations for the
+ * <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/async-search.html">async search API</a>.
+ *
+ * @author agent
+ * @since 6.2
+ * @see AsyncSearchOperations
+ */
+public interface ReactiveAsyncSearchOperations {
+
+	/**
+	 * Submits an async search for the query in the index of the given class, using the default
+	 * {@link AsyncSearchOptions}.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity class, used to determine the index and to convert the hits
+	 * @param <T> the entity type
+	 * @return the state and the results of the search available when the wait for completion timeout expired
+	 */
+	<T> Mono<AsyncSearchResponse<T>> submitAsyncSearch(Query query, Class<T> clazz);
+
+	/**
+	 * Submits an async search for the query.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity class, used to convert the hits
+	 * @param index the index to search
+	 * @param options the options for the async search
+	 * @param <T> the entity type
+	 * @return the state and the results of the search available when the wait for completion timeout expired
+	 */
+	<T> Mono<AsyncSearchResponse<T>> submitAsyncSearch(Query query, Class<T> clazz, IndexCoordinates index,
+			AsyncSearchOptions options);
+
+	/**
+	 * Gets the state and the results of an async search without waiting for its completion.
+	 *
+	 * @param id the id of the async search
+	 * @param clazz the entity class, used to convert the hits
+	 * @param <T> the entity type
+	 * @return the state and the results of the search
+	 */
+	<T> Mono<AsyncSearchResponse<T>> getAsyncSearch(String id, Class<T> clazz);
+
+	/**
+	 * Gets the state and the results of an async search. The wait for completion timeout and the keep alive of the
+	 * options are used, the other properties are ignored.
+	 *
+	 * @param id the id of the async search
+	 * @param clazz the entity class, used to convert the hits
+	 * @param index the index that was searched, used when converting the hits
+	 * @param options the options for getting the results
+	 * @param <T> the entity type
+	 * @return the state and the results of the search
+	 */
+	<T> Mono<AsyncSearchResponse<T>> getAsyncSearch(String id, Class<T> clazz, IndexCoordinates index,
+			AsyncSearchOptions options);
+
+	/**
+	 * Polls an async search until it is no longer running. Each poll waits on the cluster up to the wait for completion
+	 * timeout of the options before the next poll is sent; if the options do not set one, a timeout of 1 second is
+	 * used, a timeout of 0 is rejected. The partial results of every poll are emitted, the last element contains the
+	 * final results.
+	 *
+	 * @param id the id of the async search
+	 * @param clazz the entity class, used to convert the hits
+	 * @param index the index that was searched, used when converting the hits
+	 * @param options the options for getting the results
+	 * @param <T> the entity type
+	 * @return the state and the results of the search after each poll
+	 */
+	<T> Flux<AsyncSearchResponse<T>> pollAsyncSearch(String id, Class<T> clazz, IndexCoordinates index,
+			AsyncSearchOptions options);
+
+	/**
+	 * Deletes an async search, cancelling it if it is still running.
+	 *
+	 * @param id the id of the async search
+	 * @return {@literal true} if the deletion was acknowledged
+	 */
+	Mono<Boolean> deleteAsyncSearch(String id);
+}
@@ -15,12 +15,15 @@
  */
 package org.springframework.data.elasticsearch.core.convert;
 
+import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.data.convert.ConfigurableTypeInformationMapper;
 import org.springframework.data.convert.DefaultTypeMapper;
 import org.springframework.data.convert.SimpleTypeInformationMapper;
 import org.springframework.data.convert.TypeAliasAccessor;
@@ -31,7 +34,10 @@ import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.MappingContext;
 
 /**
- * Elasticsearch specific {@link org.springframework.data.convert.TypeMapper} implementation.
+ * Elasticsearch specific {@link org.springframework.data.convert.TypeMapper} implementation. Besides the aliases
+ * defined with {@link org.springframework.data.annotation.TypeAlias} on the entities, short aliases can be registered
+ * for classes with {@link #DefaultElasticsearchTypeMapper(String, MappingContext, Map)}, these are written instead of
+ * the fully qualified class name. The alias for a class is cached when it is first written.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -44,6 +50,9 @@ public class DefaultElasticsearchTypeMapper extends DefaultTypeMapper<Map<String
 	private static final TypeInformation<Map> MAP_TYPE_INFO = TypeInformation.of(Map.class);
 
 	private final @Nullable String typeKey;
+	private final TypeAliasAccessor<Map<String, Object>> accessor;
+	private final Map<Class<?>, Alias> aliasCache = new ConcurrentHashMap<>();
+	private boolean strictTypeHints = false;
 
 	public DefaultElasticsearchTypeMapper(@Nullable String typeKey) {
 		this(typeKey, Collections.singletonList(new SimpleTypeInformationMapper()));
@@ -55,6 +64,21 @@ public class DefaultElasticsearchTypeMapper extends DefaultTypeMapper<Map<String
 				Collections.singletonList(new SimpleTypeInformationMapper()));
 	}
 
+	/**
+	 * Creates a type mapper that uses the given aliases for the type hints of the classes. An alias must be unique and
+	 * must not change once documents have been written with it.
+	 *
+	 * @param typeKey the key of the type hint
+	 * @param mappingContext the mapping context
+	 * @param typeAliases the aliases for the classes
+	 * @since 6.2
+	 */
+	public DefaultElasticsearchTypeMapper(@Nullable String typeKey,
+			MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext, Map<? extends Class<?>, String> typeAliases) {
+		this(typeKey, new MapTypeAliasAccessor(typeKey), mappingContext,
+				List.of(new ConfigurableTypeInformationMapper(typeAliases), new SimpleTypeInformationMapper()));
+	}
+
 	public DefaultElasticsearchTypeMapper(@Nullable String typeKey, List<? extends TypeInformationMapper> mappers) {
 		this(typeKey, new MapTypeAliasAccessor(typeKey), null, mappers);
 	}
@@ -65,6 +89,54 @@ public class DefaultElasticsearchTypeMapper extends DefaultTypeMapper<Map<String
 
 		super(accessor, mappingContext, mappers);
 		this.typeKey = typeKey;
+		this.accessor = accessor;
+	}
+
+	/**
+	 * Sets the strict mode. In strict mode no type hint is written for documents of leaf types: final classes and
+	 * records that neither extend another class nor implement an interface outside of the {@literal java} packages.
+	 * Documents of these types cannot be read polymorphically, so the type hint is not needed. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param strictTypeHints the strict mode flag
+	 * @since 6.2
+	 */
+	public void setStrictTypeHints(boolean strictTypeHints) {
+		this.strictTypeHints = strictTypeHints;
+	}
+
+	/**
+	 * @return the strict mode flag
+	 * @since 6.2
+	 */
+	public boolean isStrictTypeHints() {
+		return strictTypeHints;
+	}
+
+	@Override
+	public boolean isTypeHintRequired(Class<?> type) {
+		return !strictTypeHints || !isLeafType(type);
+	}
+
+	@Override
+	public void writeType(Class<?> type, Map<String, Object> dbObject) {
+
+		Alias alias = aliasCache.computeIfAbsent(type, t -> getAliasFor(TypeInformation.of(t)));
+
+		if (alias.isPresent()) {
+			accessor.writeTypeTo(dbObject, alias.getRequiredValue());
+		}
+	}
+
+	@Override
+	public void writeType(TypeInformation<?> info, Map<String, Object> dbObject) {
+
+		// the generic information is not part of the alias
+		if (info.getType().getTypeParameters().length == 0) {
+			writeType(info.getType(), dbObject);
+		} else {
+			super.writeType(info, dbObject);
+		}
 	}
 
 	@Override
@@ -87,6 +159,26 @@ public class DefaultElasticsearchTypeMapper extends DefaultTypeMapper<Map<String
 		return MAP_TYPE_INFO;
 	}
 
+	private static boolean isLeafType(Class<?> type) {
+
+		if (type.isInterface() || type.isArray() || !Modifier.isFinal(type.getModifiers())) {
+			return false;
+		}
+
+		Class<?> superclass = type.getSuperclass();
+		if (superclass != Object.class && superclass != Record.class && superclass != Enum.class) {
+			return false;
+		}
+
+		for (Class<?> implementedInterface : type.getInterfaces()) {
+			if (!implementedInterface.getName().startsWith("java.")) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	/**
 	 * {@link TypeAliasAccessor} to store aliases in a {@link Map}.
 	 *
@@ -17,8 +17,11 @@ package org.springframework.data.elasticsearch.core.convert;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -27,8 +30,10 @@ import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQuery;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.util.Assert;
 
@@ -87,7 +92,7 @@ final public class ElasticsearchDateConverter {
 
 		Assert.notNull(accessor, "accessor must not be null");
 
-		if (accessor instanceof Instant instant) {
+		if (accessor instanceof Instant instant && dateFormatter instanceof PatternDateFormatter) {
 			ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(instant, ZoneId.of("UTC"));
 			return dateFormatter.format(zonedDateTime);
 		}
@@ -105,7 +110,7 @@ final public class ElasticsearchDateConverter {
 
 		Assert.notNull(date, "accessor must not be null");
 
-		return dateFormatter.format(Instant.ofEpochMilli(date.getTime()));
+		return format(Instant.ofEpochMilli(date.getTime()));
 	}
 
 	/**
@@ -166,7 +171,17 @@ final public class ElasticsearchDateConverter {
 		}
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(resolvedPattern);
-		return new PatternDateFormatter(dateTimeFormatter);
+		PatternDateFormatter patternDateFormatter = new PatternDateFormatter(dateTimeFormatter);
+
+		if (IsoDateTimeFormatter.EXTENDED_PATTERNS.contains(resolvedPattern)) {
+			return new IsoDateTimeFormatter(false, patternDateFormatter);
+		}
+
+		if (IsoDateTimeFormatter.BASIC_PATTERNS.contains(resolvedPattern)) {
+			return new IsoDateTimeFormatter(true, patternDateFormatter);
+		}
+
+		return patternDateFormatter;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -259,7 +274,8 @@ final public class ElasticsearchDateConverter {
 
 			Assert.notNull(accessor, "accessor must not be null");
 
-			return Long.toString(Instant.from(accessor).toEpochMilli());
+			Instant instant = accessor instanceof Instant i ? i : Instant.from(accessor);
+			return Long.toString(instant.toEpochMilli());
 		}
 
 		@Override
@@ -269,6 +285,11 @@ final public class ElasticsearchDateConverter {
 			Assert.notNull(type, "type must not be null");
 
 			Instant instant = Instant.ofEpochMilli(Long.parseLong(input));
+
+			if (type == Instant.class) {
+				return type.cast(instant);
+			}
+
 			TemporalQuery<T> query = getTemporalQuery(type);
 			return query.queryFrom(instant);
 		}
@@ -284,13 +305,24 @@ final public class ElasticsearchDateConverter {
 
 			Assert.notNull(accessor, "accessor must not be null");
 
-			long epochMilli = Instant.from(accessor).toEpochMilli();
+			Instant instant = accessor instanceof Instant i ? i : Instant.from(accessor);
+			long epochMilli = instant.toEpochMilli();
 			long fraction = epochMilli % 1_000;
 			if (fraction == 0) {
 				return Long.toString(epochMilli / 1_000);
-			} else {
+			} else if (epochMilli == Long.MIN_VALUE) {
 				Double d = ((double) epochMilli) / 1_000;
 				return String.format(Locale.ROOT, "%.03f", d);
+			} else {
+				// same output as formatting the double value with "%.03f", without the formatter
+				long absolute = Math.abs(epochMilli);
+				StringBuilder sb = new StringBuilder(24);
+				if (epochMilli < 0) {
+					sb.append('-');
+				}
+				sb.append(absolute / 1_000).append('.');
+				IsoDateTimeFormatter.appendPadded(sb, (int) (absolute % 1_000), 3);
+				return sb.toString();
 			}
 		}
 
@@ -300,11 +332,255 @@ final public class ElasticsearchDateConverter {
 			Assert.notNull(input, "input must not be null");
 			Assert.notNull(type, "type must not be null");
 
-			Double epochMilli = Double.parseDouble(input) * 1_000;
-			Instant instant = Instant.ofEpochMilli(epochMilli.longValue());
+			Instant instant;
+
+			if (isShortInteger(input)) {
+				// exact in a double as well, so no need to go through double parsing
+				instant = Instant.ofEpochMilli(Long.parseLong(input) * 1_000);
+			} else {
+				Double epochMilli = Double.parseDouble(input) * 1_000;
+				instant = Instant.ofEpochMilli(epochMilli.longValue());
+			}
+
+			if (type == Instant.class) {
+				return type.cast(instant);
+			}
+
 			TemporalQuery<T> query = getTemporalQuery(type);
 			return query.queryFrom(instant);
 		}
+
+		private static boolean isShortInteger(String input) {
+
+			int start = input.startsWith("-") ? 1 : 0;
+			int length = input.length() - start;
+
+			if (length == 0 || length > 12) {
+				return false;
+			}
+
+			for (int i = start; i < input.length(); i++) {
+				char c = input.charAt(i);
+				if (c < '0' || c > '9') {
+					return false;
+				}
+			}
+
+			return true;
+		}
+	}
+
+	/**
+	 * a DateFormatter for the ISO 8601 based formats like {@link DateFormat#date_time},
+	 * {@link DateFormat#strict_date_optional_time} and {@link DateFormat#basic_date_time} which are formatted and parsed
+	 * without a {@link DateTimeFormatter}. Types and values that are not handled here - like {@link LocalDate} values or
+	 * input without the time part - are passed on to the {@link PatternDateFormatter} for the same pattern.
+	 *
+	 * @since 6.2
+	 */
+	static class IsoDateTimeFormatter implements DateFormatter {
+
+		static final Set<String> EXTENDED_PATTERNS = Set.of(DateFormat.date_time.getPattern(),
+				DateFormat.strict_date_optional_time.getPattern());
+		static final Set<String> BASIC_PATTERNS = Set.of(DateFormat.basic_date_time.getPattern());
+
+		private final boolean basic;
+		private final DateFormatter fallback;
+
+		IsoDateTimeFormatter(boolean basic, DateFormatter fallback) {
+			this.basic = basic;
+			this.fallback = fallback;
+		}
+
+		@Override
+		public String format(TemporalAccessor accessor) {
+
+			Assert.notNull(accessor, "accessor must not be null");
+
+			LocalDateTime dateTime;
+			ZoneOffset offset;
+
+			if (accessor instanceof Instant instant) {
+				dateTime = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), ZoneOffset.UTC);
+				offset = ZoneOffset.UTC;
+			} else if (accessor instanceof ZonedDateTime zonedDateTime) {
+				dateTime = zonedDateTime.toLocalDateTime();
+				offset = zonedDateTime.getOffset();
+			} else if (accessor instanceof OffsetDateTime offsetDateTime) {
+				dateTime = offsetDateTime.toLocalDateTime();
+				offset = offsetDateTime.getOffset();
+			} else {
+				return fallback.format(accessor);
+			}
+
+			int year = dateTime.getYear();
+			int offsetSeconds = offset.getTotalSeconds();
+
+			if (year < 0 || year > 9999 || offsetSeconds % 60 != 0) {
+				return fallback.format(accessor);
+			}
+
+			StringBuilder sb = new StringBuilder(29);
+			appendPadded(sb, year, 4);
+			if (!basic) {
+				sb.append('-');
+			}
+			appendPadded(sb, dateTime.getMonthValue(), 2);
+			if (!basic) {
+				sb.append('-');
+			}
+			appendPadded(sb, dateTime.getDayOfMonth(), 2);
+			sb.append('T');
+			appendPadded(sb, dateTime.getHour(), 2);
+			if (!basic) {
+				sb.append(':');
+			}
+			appendPadded(sb, dateTime.getMinute(), 2);
+			if (!basic) {
+				sb.append(':');
+			}
+			appendPadded(sb, dateTime.getSecond(), 2);
+			sb.append('.');
+			appendPadded(sb, dateTime.getNano() / 1_000_000, 3);
+
+			if (offsetSeconds == 0) {
+				sb.append('Z');
+			} else {
+				int absoluteMinutes = Math.abs(offsetSeconds) / 60;
+				sb.append(offsetSeconds < 0 ? '-' : '+');
+				appendPadded(sb, absoluteMinutes / 60, 2);
+				sb.append(':');
+				appendPadded(sb, absoluteMinutes % 60, 2);
+			}
+
+			return sb.toString();
+		}
+
+		@Override
+		public <T extends TemporalAccessor> T parse(String input, Class<T> type) {
+
+			Assert.notNull(input, "input must not be null");
+			Assert.notNull(type, "type must not be null");
+
+			if (type == Instant.class || type == OffsetDateTime.class || type == ZonedDateTime.class
+					|| type == LocalDateTime.class) {
+
+				OffsetDateTime dateTime = parseOffsetDateTime(input);
+
+				if (dateTime != null) {
+					Object result;
+					if (type == Instant.class) {
+						result = dateTime.toInstant();
+					} else if (type == OffsetDateTime.class) {
+						result = dateTime;
+					} else if (type == ZonedDateTime.class) {
+						result = dateTime.toZonedDateTime();
+					} else {
+						result = dateTime.toLocalDateTime();
+					}
+					return type.cast(result);
+				}
+			}
+
+			return fallback.parse(input, type);
+		}
+
+		/**
+		 * parses input that has exactly the form of the pattern.
+		 *
+		 * @return the parsed value or {@literal null} if the input must be parsed by the fallback formatter.
+		 */
+		private @Nullable OffsetDateTime parseOffsetDateTime(String input) {
+
+			// positions of the fields in the input
+			int month = basic ? 4 : 5;
+			int day = basic ? 6 : 8;
+			int t = basic ? 8 : 10;
+			int hour = t + 1;
+			int minute = basic ? 11 : 14;
+			int second = basic ? 13 : 17;
+			int dot = basic ? 15 : 19;
+			int offset = dot + 4;
+
+			int length = input.length();
+			if (length != offset + 1 && length != offset + 6) {
+				return null;
+			}
+
+			if ((!basic && (input.charAt(4) != '-' || input.charAt(7) != '-' || input.charAt(13) != ':'
+					|| input.charAt(16) != ':')) || input.charAt(t) != 'T' || input.charAt(dot) != '.') {
+				return null;
+			}
+
+			int yearValue = digits(input, 0, 4);
+			int monthValue = digits(input, month, 2);
+			int dayValue = digits(input, day, 2);
+			int hourValue = digits(input, hour, 2);
+			int minuteValue = digits(input, minute, 2);
+			int secondValue = digits(input, second, 2);
+			int milliValue = digits(input, dot + 1, 3);
+
+			if (yearValue < 0 || monthValue < 0 || dayValue < 0 || hourValue < 0 || minuteValue < 0 || secondValue < 0
+					|| milliValue < 0) {
+				return null;
+			}
+
+			ZoneOffset zoneOffset;
+			char sign = input.charAt(offset);
+
+			if (length == offset + 1) {
+				if (sign != 'Z') {
+					return null;
+				}
+				zoneOffset = ZoneOffset.UTC;
+			} else {
+				int offsetHours = digits(input, offset + 1, 2);
+				int offsetMinutes = digits(input, offset + 4, 2);
+
+				if ((sign != '+' && sign != '-') || input.charAt(offset + 3) != ':' || offsetHours < 0 || offsetMinutes < 0) {
+					return null;
+				}
+
+				try {
+					zoneOffset = ZoneOffset.ofHoursMinutes(sign == '-' ? -offsetHours : offsetHours,
+							sign == '-' ? -offsetMinutes : offsetMinutes);
+				} catch (DateTimeException e) {
+					return null;
+				}
+			}
+
+			try {
+				return OffsetDateTime.of(yearValue, monthValue, dayValue, hourValue, minuteValue, secondValue,
+						milliValue * 1_000_000, zoneOffset);
+			} catch (DateTimeException e) {
+				// values like February 30th or 24:00 are resolved by the fallback formatter
+				return null;
+			}
+		}
+
+		/**
+		 * @return the value of the digits or -1 if there is a non digit character
+		 */
+		private static int digits(String input, int start, int count) {
+
+			int value = 0;
+			for (int i = start; i < start + count; i++) {
+				char c = input.charAt(i);
+				if (c < '0' || c > '9') {
+					return -1;
+				}
+				value = value * 10 + (c - '0');
+			}
+			return value;
+		}
+
+		static void appendPadded(StringBuilder sb, int value, int width) {
+
+			for (int divisor = (int) Math.pow(10, width - 1); divisor > 1 && value < divisor; divisor /= 10) {
+				sb.append('0');
+			}
+			sb.append(value);
+		}
 	}
 
 	static class PatternDateFormatter implements DateFormatter {
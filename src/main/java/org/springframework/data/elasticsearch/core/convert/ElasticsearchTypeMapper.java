@@ -47,6 +47,18 @@ public interface ElasticsearchTypeMapper extends TypeMapper<Map<String, @Nullabl
 	@Nullable
 	String getTypeKey();
 
+	/**
+	 * Returns whether a type hint must be written for a document of the given type. A mapper may decide to omit the type
+	 * hint for types where no polymorphism is possible.
+	 *
+	 * @param type the type of the document
+	 * @return {@literal true} if a type hint must be written.
+	 * @since 6.2
+	 */
+	default boolean isTypeHintRequired(Class<?> type) {
+		return true;
+	}
+
 	default boolean containsTypeInformation(Map<String, @Nullable Object> source) {
 		return readType(source) != null;
 	}
@@ -118,12 +118,28 @@ public class MappingElasticsearchConverter
 	public MappingElasticsearchConverter(
 			MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
 			@Nullable GenericConversionService conversionService) {
+		this(mappingContext, conversionService, ElasticsearchTypeMapper.create(mappingContext));
+	}
+
+	/**
+	 * Creates a converter writing and reading the type hints with the given {@link ElasticsearchTypeMapper}, for example
+	 * a {@link DefaultElasticsearchTypeMapper} with registered type aliases.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param conversionService the conversion service to use, a {@link DefaultConversionService} if {@literal null}.
+	 * @param typeMapper must not be {@literal null}.
+	 * @since 6.2
+	 */
+	public MappingElasticsearchConverter(
+			MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
+			@Nullable GenericConversionService conversionService, ElasticsearchTypeMapper typeMapper) {
 
 		Assert.notNull(mappingContext, "MappingContext must not be null!");
+		Assert.notNull(typeMapper, "typeMapper must not be null");
 
 		this.mappingContext = mappingContext;
 		this.conversionService = conversionService != null ? conversionService : new DefaultConversionService();
-		this.typeMapper = ElasticsearchTypeMapper.create(mappingContext);
+		this.typeMapper = typeMapper;
 	}
 
 	@Override
@@ -564,6 +580,14 @@ public class MappingElasticsearchConverter
 
 			Assert.notNull(targetType, "Target type must not be null!");
 
+			if (targetType.getType().isArray() && targetType.getType().getComponentType().isPrimitive()) {
+				Object primitiveArray = readPrimitiveArray(source, targetType.getType().getComponentType());
+
+				if (primitiveArray != null) {
+					return primitiveArray;
+				}
+			}
+
 			Class<?> collectionType = targetType.isSubTypeOf(Collection.class) //
 					? targetType.getType() //
 					: List.class;
@@ -593,7 +617,11 @@ public class MappingElasticsearchConverter
 									String.format(INCOMPATIBLE_TYPES, element, element.getClass(), rawComponentType));
 						}
 					}
-					if (element instanceof List) {
+					Object number = element instanceof Number n ? readNumber(n, rawComponentType) : null;
+
+					if (number != null) {
+						items.add(number);
+					} else if (element instanceof List) {
 						items.add(readCollectionOrArray(componentType, (Collection<Object>) element));
 					} else {
 						items.add(getPotentiallyConvertedSimpleRead(element, rawComponentType));
@@ -604,6 +632,105 @@ public class MappingElasticsearchConverter
 			return getPotentiallyConvertedSimpleRead(items, targetType.getType());
 		}
 
+		/**
+		 * Reads a collection of numbers - like a dense_vector - into a primitive array without an intermediate collection
+		 * and without the conversion service. The elements of the source are already boxed, as the source of a document
+		 * is parsed into maps and lists by the client before it is converted.
+		 *
+		 * @param source the source collection
+		 * @param componentType the primitive component type of the array
+		 * @return the array or {@literal null} if the source cannot be read on this fast path
+		 * @since 6.2
+		 */
+		@Nullable
+		private Object readPrimitiveArray(Collection<?> source, Class<?> componentType) {
+
+			if (componentType != float.class && componentType != double.class && componentType != int.class
+					&& componentType != long.class) {
+				return null;
+			}
+
+			int size = source.size();
+			float[] floats = componentType == float.class ? new float[size] : null;
+			double[] doubles = componentType == double.class ? new double[size] : null;
+			int[] ints = componentType == int.class ? new int[size] : null;
+			long[] longs = componentType == long.class ? new long[size] : null;
+
+			Class<?> checkedElementType = null;
+			int i = 0;
+
+			for (Object element : source) {
+
+				if (!(element instanceof Number number)) {
+					return null;
+				}
+
+				if (element.getClass() != checkedElementType) {
+					if (conversions.hasCustomReadTarget(element.getClass(), componentType)) {
+						return null;
+					}
+					checkedElementType = element.getClass();
+				}
+
+				if (floats != null) {
+					floats[i++] = number.floatValue();
+				} else if (doubles != null) {
+					doubles[i++] = number.doubleValue();
+				} else if (ints != null && isIntegral(number, false)) {
+					ints[i++] = number.intValue();
+				} else if (longs != null && isIntegral(number, true)) {
+					longs[i++] = number.longValue();
+				} else {
+					// values that need a range check are handled by the conversion service
+					return null;
+				}
+			}
+
+			if (floats != null) {
+				return floats;
+			} else if (doubles != null) {
+				return doubles;
+			} else if (ints != null) {
+				return ints;
+			}
+			return longs;
+		}
+
+		/**
+		 * Converts a number read from Elasticsearch to the given wrapper type without going through the conversion
+		 * service.
+		 *
+		 * @return the converted number or {@literal null} if the number must be converted by the conversion service.
+		 * @since 6.2
+		 */
+		@Nullable
+		private Object readNumber(Number number, Class<?> targetType) {
+
+			if (targetType == number.getClass()) {
+				return number;
+			}
+
+			if ((targetType != Float.class && targetType != Double.class && targetType != Integer.class
+					&& targetType != Long.class) || conversions.hasCustomReadTarget(number.getClass(), targetType)) {
+				return null;
+			}
+
+			if (targetType == Float.class) {
+				return number.floatValue();
+			} else if (targetType == Double.class) {
+				return number.doubleValue();
+			} else if (targetType == Integer.class) {
+				return isIntegral(number, false) ? number.intValue() : null;
+			} else {
+				return isIntegral(number, true) ? number.longValue() : null;
+			}
+		}
+
+		private static boolean isIntegral(Number number, boolean includeLong) {
+			return number instanceof Integer || number instanceof Short || number instanceof Byte
+					|| (includeLong && number instanceof Long);
+		}
+
 		@Nullable
 		private Object getPotentiallyConvertedSimpleRead(@Nullable Object value, TypeInformation<?> targetType) {
 			return getPotentiallyConvertedSimpleRead(value, targetType.getType());
@@ -798,7 +925,7 @@ public class MappingElasticsearchConverter
 
 			TypeInformation<?> typeInformation = TypeInformation.of(entityType);
 
-			if (writeTypeHints && requiresTypeHint(entityType)) {
+			if (writeTypeHints && requiresTypeHint(entityType) && typeMapper.isTypeHintRequired(entityType)) {
 				typeMapper.writeType(typeInformation, sink);
 			}
 
@@ -1169,6 +1296,7 @@ public class MappingElasticsearchConverter
 				if (value instanceof byte[]) {
 					return value;
 				}
+
 				return asCollection(value);
 			}
 
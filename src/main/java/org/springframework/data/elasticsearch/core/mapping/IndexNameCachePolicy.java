@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.mapping;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.util.Assert;
+
+/**
+ * Policy for caching the index name of an entity that is defined by an expression like
+ * {@literal @Document(indexName = "log-#{T(java.time.LocalDate).now().toString()}")}. Without caching, the expression
+ * is evaluated for every operation. Index names without an expression are always cached.
+ * <ul>
+ * <li>{@link #none()} evaluates the expression on every call, this is the default.</li>
+ * <li>{@link #timeBuckets(Duration)} caches the index name for a time bucket. The buckets are aligned to the time zone
+ * of the clock, so an index name with a date suffix is evaluated again right after midnight when using daily
+ * buckets.</li>
+ * <li>{@link #untilEvicted()} caches the index name until the cache is evicted with
+ * {@link SimpleElasticsearchMappingContext#evictIndexNameCaches()} or
+ * {@link SimpleElasticsearchPersistentEntity#evictIndexNameCache()}.</li>
+ * </ul>
+ *
+ * @author agent
+ * @since 6.2
+ */
+public final class IndexNameCachePolicy {
+
+	private static final IndexNameCachePolicy NONE = new IndexNameCachePolicy(false, 0, Clock.systemUTC());
+	private static final IndexNameCachePolicy UNTIL_EVICTED = new IndexNameCachePolicy(true, 0, Clock.systemUTC());
+
+	private final boolean enabled;
+	private final long bucketMillis;
+	private final Clock clock;
+
+	private IndexNameCachePolicy(boolean enabled, long bucketMillis, Clock clock) {
+		this.enabled = enabled;
+		this.bucketMillis = bucketMillis;
+		this.clock = clock;
+	}
+
+	/**
+	 * @return a policy that does not cache index names with expressions.
+	 */
+	public static IndexNameCachePolicy none() {
+		return NONE;
+	}
+
+	/**
+	 * @return a policy that caches the index names until the cache is evicted.
+	 */
+	public static IndexNameCachePolicy untilEvicted() {
+		return UNTIL_EVICTED;
+	}
+
+	/**
+	 * @param bucket the length of a time bucket, must be at least one millisecond
+	 * @return a policy that caches the index names for time buckets aligned to the system default time zone.
+	 */
+	public static IndexNameCachePolicy timeBuckets(Duration bucket) {
+		return timeBuckets(bucket, Clock.systemDefaultZone());
+	}
+
+	/**
+	 * @param bucket the length of a time bucket, must be at least one millisecond
+	 * @param clock the clock used to determine the current bucket, the buckets are aligned to its time zone
+	 * @return a policy that caches the index names for time buckets.
+	 */
+	public static IndexNameCachePolicy timeBuckets(Duration bucket, Clock clock) {
+
+		Assert.notNull(bucket, "bucket must not be null");
+		Assert.isTrue(bucket.toMillis() > 0, "bucket must be at least one millisecond");
+		Assert.notNull(clock, "clock must not be null");
+
+		return new IndexNameCachePolicy(true, bucket.toMillis(), clock);
+	}
+
+	/**
+	 * @return true if index names with expressions are cached.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return the current time bucket, a cached value from another bucket must not be used. Always 0 for a policy without
+	 *         time buckets.
+	 */
+	long currentBucket() {
+
+		if (bucketMillis == 0) {
+			return 0;
+		}
+
+		Instant now = clock.instant();
+		long offsetMillis = clock.getZone().getRules().getOffset(now).getTotalSeconds() * 1000L;
+		return Math.floorDiv(now.toEpochMilli() + offsetMillis, bucketMillis);
+	}
+
+	@Override
+	public String toString() {
+		return "IndexNameCachePolicy{" + //
+				"enabled=" + enabled + //
+				", bucketMillis=" + bucketMillis + //
+				'}';
+	}
+}
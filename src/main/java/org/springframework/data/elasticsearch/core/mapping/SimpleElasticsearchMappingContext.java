@@ -42,6 +42,7 @@ public class SimpleElasticsearchMappingContext
 	private FieldNamingStrategy fieldNamingStrategy = DEFAULT_NAMING_STRATEGY;
 	private boolean writeTypeHints = true;
 	private ElasticsearchServerType serverType = ElasticsearchServerType.DEFAULT;
+	private IndexNameCachePolicy indexNameCachePolicy = IndexNameCachePolicy.none();
 
 	/**
 	 * Configures the {@link FieldNamingStrategy} to be used to determine the field name if no manual mapping is applied.
@@ -76,6 +77,27 @@ public class SimpleElasticsearchMappingContext
 		this.serverType = serverType == null ? ElasticsearchServerType.DEFAULT : serverType;
 	}
 
+	/**
+	 * Sets the policy for caching index names that are defined by an expression. Must be set before the persistent
+	 * entities are created.
+	 *
+	 * @param indexNameCachePolicy the policy, {@literal null} sets the default {@link IndexNameCachePolicy#none()}
+	 * @since 6.2
+	 */
+	public void setIndexNameCachePolicy(@Nullable IndexNameCachePolicy indexNameCachePolicy) {
+		this.indexNameCachePolicy = indexNameCachePolicy == null ? IndexNameCachePolicy.none() : indexNameCachePolicy;
+	}
+
+	/**
+	 * Evicts the cached index names of all persistent entities, so that index names defined by an expression are
+	 * evaluated again.
+	 *
+	 * @since 6.2
+	 */
+	public void evictIndexNameCaches() {
+		getPersistentEntities().forEach(SimpleElasticsearchPersistentEntity::evictIndexNameCache);
+	}
+
 	@Override
 	protected boolean shouldCreatePersistentEntityFor(TypeInformation<?> type) {
 		return !ElasticsearchSimpleTypes.HOLDER.isSimpleType(type.getType());
@@ -84,7 +106,8 @@ public class SimpleElasticsearchMappingContext
 	@Override
 	protected <T> SimpleElasticsearchPersistentEntity<?> createPersistentEntity(TypeInformation<T> typeInformation) {
 		return new SimpleElasticsearchPersistentEntity<>(typeInformation,
-				new SimpleElasticsearchPersistentEntity.ContextConfiguration(fieldNamingStrategy, writeTypeHints, serverType));
+				new SimpleElasticsearchPersistentEntity.ContextConfiguration(fieldNamingStrategy, writeTypeHints, serverType,
+						indexNameCachePolicy));
 	}
 
 	@Override
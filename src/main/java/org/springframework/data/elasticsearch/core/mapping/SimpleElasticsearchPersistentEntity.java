@@ -89,6 +89,8 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 	private final Set<Alias> aliases = new HashSet<>();
 	private final boolean storeIdInSource;
 	private final boolean storeVersionInSource;
+	private final Lazy<Boolean> indexNameIsExpression;
+	private volatile @Nullable CachedIndexCoordinates cachedIndexCoordinates;
 
 	public SimpleElasticsearchPersistentEntity(TypeInformation<T> typeInformation,
 			ContextConfiguration contextConfiguration) {
@@ -124,6 +126,11 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 			this.createIndexAndMapping = false;
 			this.alwaysWriteMapping = false;
 		}
+		this.indexNameIsExpression = Lazy.of(() -> {
+			ValueExpression expression = ExpressionUtils.detectExpression(unresolvedIndexName);
+			return expression != null && !expression.isLiteral();
+		});
+
 		Routing routingAnnotation = AnnotatedElementUtils.findMergedAnnotation(clazz, Routing.class);
 
 		if (routingAnnotation != null) {
@@ -136,7 +143,35 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 
 	@Override
 	public IndexCoordinates getIndexCoordinates() {
-		return resolve(IndexCoordinates.of(unresolvedIndexName));
+
+		boolean isExpression = indexNameIsExpression.get();
+		IndexNameCachePolicy cachePolicy = contextConfiguration.getIndexNameCachePolicy();
+
+		if (isExpression && !cachePolicy.isEnabled()) {
+			return resolve(IndexCoordinates.of(unresolvedIndexName));
+		}
+
+		// a literal index name never changes, so it is always cached in bucket 0
+		long bucket = isExpression ? cachePolicy.currentBucket() : 0;
+		CachedIndexCoordinates cached = cachedIndexCoordinates;
+
+		if (cached == null || cached.bucket() != bucket) {
+			cached = new CachedIndexCoordinates(bucket, resolve(IndexCoordinates.of(unresolvedIndexName)));
+			cachedIndexCoordinates = cached;
+		}
+
+		return cached.indexCoordinates();
+	}
+
+	/**
+	 * Evicts the cached index name, so that an index name defined by an expression is evaluated again on the next call
+	 * to {@link #getIndexCoordinates()}.
+	 *
+	 * @see IndexNameCachePolicy
+	 * @since 6.2
+	 */
+	public void evictIndexNameCache() {
+		cachedIndexCoordinates = null;
 	}
 
 	@Override
@@ -357,6 +392,9 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 		return IndexCoordinates.of(resolvedNames);
 	}
 
+	private record CachedIndexCoordinates(long bucket, IndexCoordinates indexCoordinates) {
+	}
+
 	/**
 	 * tries to resolve the given name. If this is not successful, the original value is returned
 	 *
@@ -652,6 +690,7 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 		private final FieldNamingStrategy fieldNamingStrategy;
 		private final boolean writeTypeHints;
 		private final ElasticsearchServerType serverType;
+		private final IndexNameCachePolicy indexNameCachePolicy;
 
 		ContextConfiguration(FieldNamingStrategy fieldNamingStrategy, boolean writeTypeHints) {
 			this(fieldNamingStrategy, writeTypeHints, ElasticsearchServerType.DEFAULT);
@@ -659,9 +698,15 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 
 		ContextConfiguration(FieldNamingStrategy fieldNamingStrategy, boolean writeTypeHints,
 				ElasticsearchServerType serverType) {
+			this(fieldNamingStrategy, writeTypeHints, serverType, IndexNameCachePolicy.none());
+		}
+
+		ContextConfiguration(FieldNamingStrategy fieldNamingStrategy, boolean writeTypeHints,
+				ElasticsearchServerType serverType, IndexNameCachePolicy indexNameCachePolicy) {
 			this.fieldNamingStrategy = fieldNamingStrategy;
 			this.writeTypeHints = writeTypeHints;
 			this.serverType = serverType;
+			this.indexNameCachePolicy = indexNameCachePolicy;
 		}
 
 		public FieldNamingStrategy getFieldNamingStrategy() {
@@ -675,6 +720,13 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 		public ElasticsearchServerType getServerType() {
 			return serverType;
 		}
+
+		/**
+		 * @since 6.2
+		 */
+		public IndexNameCachePolicy getIndexNameCachePolicy() {
+			return indexNameCachePolicy;
+		}
 	}
 
 	@Override
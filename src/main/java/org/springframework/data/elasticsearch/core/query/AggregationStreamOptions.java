@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Options that may be passed to a
+ * {@link org.springframework.data.elasticsearch.core.SearchOperations#searchForAggregationStream} or
+ * {@link org.springframework.data.elasticsearch.core.ReactiveSearchOperations#searchForAggregationStream} call. <br/>
+ * Without partitions, the aggregation must be a composite aggregation that is paged with its {@code after_key}. With
+ * {@link AggregationStreamOptionsBuilder#withPartitions(int) partitions}, the aggregation must be a terms aggregation
+ * that is run once for each partition of its terms. The include of each of these requests selects the partition, so the
+ * terms aggregation must not have an include of its own; an exclude is kept.
+ * <p>
+ * Use {@link AggregationStreamOptions#builder()} to obtain a builder, then set the desired properties and call
+ * {@link AggregationStreamOptionsBuilder#build()} to get the AggregationStreamOptions object.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class AggregationStreamOptions {
+
+	private static final AggregationStreamOptions defaultOptions = builder().build();
+
+	private final @Nullable Integer pageSize;
+	private final int prefetch;
+	private final int partitions;
+	private final int parallelism;
+	private final @Nullable Executor executor;
+
+	private AggregationStreamOptions(@Nullable Integer pageSize, int prefetch, int partitions, int parallelism,
+			@Nullable Executor executor) {
+		this.pageSize = pageSize;
+		this.prefetch = prefetch;
+		this.partitions = partitions;
+		this.parallelism = parallelism;
+		this.executor = executor;
+	}
+
+	/**
+	 * @return the number of buckets requested with one search, {@literal null} if the size defined in the aggregation is
+	 *         used
+	 */
+	@Nullable
+	public Integer getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * @return the number of pages that are requested before they are consumed, 0 if the next page is only requested
+	 *         when all buckets of the current one are consumed. The next page of a composite aggregation needs the
+	 *         {@code after_key} of the current one, so the imperative code reads at most one page ahead.
+	 */
+	public int getPrefetch() {
+		return prefetch;
+	}
+
+	/**
+	 * @return the number of partitions of a terms aggregation, 0 if a composite aggregation is paged
+	 */
+	public int getPartitions() {
+		return partitions;
+	}
+
+	/**
+	 * @return the maximum number of partitions that are searched concurrently
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return the executor the imperative code uses to prefetch pages and to search partitions concurrently,
+	 *         {@literal null} if the searches are done one after the other on the calling thread
+	 */
+	@Nullable
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Create a new {@link AggregationStreamOptionsBuilder} to build {@link AggregationStreamOptions}.
+	 *
+	 * @return a new {@link AggregationStreamOptionsBuilder} to build {@link AggregationStreamOptions}.
+	 */
+	public static AggregationStreamOptionsBuilder builder() {
+		return new AggregationStreamOptionsBuilder();
+	}
+
+	/**
+	 * Return default {@link AggregationStreamOptions}.
+	 *
+	 * @return default {@link AggregationStreamOptions}.
+	 */
+	public static AggregationStreamOptions defaultOptions() {
+		return defaultOptions;
+	}
+
+	/**
+	 * Builder for {@link AggregationStreamOptions}.
+	 */
+	public static class AggregationStreamOptionsBuilder {
+
+		private @Nullable Integer pageSize;
+		private int prefetch = 0;
+		private int partitions = 0;
+		private int parallelism = 1;
+		private @Nullable Executor executor;
+
+		private AggregationStreamOptionsBuilder() {}
+
+		public AggregationStreamOptionsBuilder withPageSize(int pageSize) {
+
+			Assert.isTrue(pageSize > 0, "pageSize must be greater than 0");
+
+			this.pageSize = pageSize;
+			return this;
+		}
+
+		public AggregationStreamOptionsBuilder withPrefetch(int prefetch) {
+
+			Assert.isTrue(prefetch >= 0, "prefetch must not be negative");
+
+			this.prefetch = prefetch;
+			return this;
+		}
+
+		public AggregationStreamOptionsBuilder withPartitions(int partitions) {
+
+			Assert.isTrue(partitions >= 0, "partitions must not be negative");
+
+			this.partitions = partitions;
+			return this;
+		}
+
+		public AggregationStreamOptionsBuilder withParallelism(int parallelism) {
+
+			Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
+
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		public AggregationStreamOptionsBuilder withExecutor(@Nullable Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		public AggregationStreamOptions build() {
+			return new AggregationStreamOptions(pageSize, prefetch, partitions, parallelism, executor);
+		}
+	}
+}
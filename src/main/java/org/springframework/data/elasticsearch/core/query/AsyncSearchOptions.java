@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Options that may be passed when submitting an async search with
+ * {@link org.springframework.data.elasticsearch.core.asyncsearch.AsyncSearchOperations} or
+ * {@link org.springframework.data.elasticsearch.core.asyncsearch.ReactiveAsyncSearchOperations}, or when getting its
+ * results. Properties that are not set are not sent to Elasticsearch, so the server defaults apply. <br/>
+ * Use {@link AsyncSearchOptions#builder()} to obtain a builder, then set the desired properties and call
+ * {@link AsyncSearchOptionsBuilder#build()} to get the AsyncSearchOptions object.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public class AsyncSearchOptions {
+
+	private static final AsyncSearchOptions defaultOptions = builder().build();
+
+	private final @Nullable Duration waitForCompletionTimeout;
+	private final @Nullable Duration keepAlive;
+	private final @Nullable Boolean keepOnCompletion;
+	private final @Nullable Integer batchedReduceSize;
+
+	private AsyncSearchOptions(@Nullable Duration waitForCompletionTimeout, @Nullable Duration keepAlive,
+			@Nullable Boolean keepOnCompletion, @Nullable Integer batchedReduceSize) {
+		this.waitForCompletionTimeout = waitForCompletionTimeout;
+		this.keepAlive = keepAlive;
+		this.keepOnCompletion = keepOnCompletion;
+		this.batchedReduceSize = batchedReduceSize;
+	}
+
+	/**
+	 * @return how long the request waits for the search to complete before the partial results are returned
+	 */
+	@Nullable
+	public Duration getWaitForCompletionTimeout() {
+		return waitForCompletionTimeout;
+	}
+
+	/**
+	 * @return how long the search and its results are kept on the cluster
+	 */
+	@Nullable
+	public Duration getKeepAlive() {
+		return keepAlive;
+	}
+
+	/**
+	 * @return if the results of a search that completes within the wait for completion timeout are stored on the cluster
+	 */
+	@Nullable
+	public Boolean getKeepOnCompletion() {
+		return keepOnCompletion;
+	}
+
+	/**
+	 * @return the number of shard results after which the partial results are reduced
+	 */
+	@Nullable
+	public Integer getBatchedReduceSize() {
+		return batchedReduceSize;
+	}
+
+	/**
+	 * Create a new {@link AsyncSearchOptionsBuilder} that is initialized with the properties of these options.
+	 *
+	 * @return a new {@link AsyncSearchOptionsBuilder} with the properties of these options.
+	 */
+	public AsyncSearchOptionsBuilder toBuilder() {
+
+		AsyncSearchOptionsBuilder builder = new AsyncSearchOptionsBuilder();
+		builder.waitForCompletionTimeout = waitForCompletionTimeout;
+		builder.keepAlive = keepAlive;
+		builder.keepOnCompletion = keepOnCompletion;
+		builder.batchedReduceSize = batchedReduceSize;
+		return builder;
+	}
+
+	/**
+	 * Create a new {@link AsyncSearchOptionsBuilder} to build {@link AsyncSearchOptions}.
+	 *
+	 * @return a new {@link AsyncSearchOptionsBuilder} to build {@link AsyncSearchOptions}.
+	 */
+	public static AsyncSearchOptionsBuilder builder() {
+		return new AsyncSearchOptionsBuilder();
+	}
+
+	/**
+	 * Return default {@link AsyncSearchOptions}.
+	 *
+	 * @return default {@link AsyncSearchOptions}.
+	 */
+	public static AsyncSearchOptions defaultOptions() {
+		return defaultOptions;
+	}
+
+	/**
+	 * Builder for {@link AsyncSearchOptions}.
+	 */
+	public static class AsyncSearchOptionsBuilder {
+
+		private @Nullable Duration waitForCompletionTimeout;
+		private @Nullable Duration keepAlive;
+		private @Nullable Boolean keepOnCompletion;
+		private @Nullable Integer batchedReduceSize;
+
+		private AsyncSearchOptionsBuilder() {}
+
+		public AsyncSearchOptionsBuilder withWaitForCompletionTimeout(Duration waitForCompletionTimeout) {
+
+			Assert.notNull(waitForCompletionTimeout, "waitForCompletionTimeout must not be null");
+			Assert.isTrue(!waitForCompletionTimeout.isNegative(), "waitForCompletionTimeout must not be negative");
+
+			this.waitForCompletionTimeout = waitForCompletionTimeout;
+			return this;
+		}
+
+		public AsyncSearchOptionsBuilder withKeepAlive(Duration keepAlive) {
+
+			Assert.notNull(keepAlive, "keepAlive must not be null");
+			Assert.isTrue(!keepAlive.isNegative() && !keepAlive.isZero(), "keepAlive must be positive");
+
+			this.keepAlive = keepAlive;
+			return this;
+		}
+
+		public AsyncSearchOptionsBuilder withKeepOnCompletion(boolean keepOnCompletion) {
+			this.keepOnCompletion = keepOnCompletion;
+			return this;
+		}
+
+		public AsyncSearchOptionsBuilder withBatchedReduceSize(int batchedReduceSize) {
+
+			Assert.isTrue(batchedReduceSize > 1, "batchedReduceSize must be greater than 1");
+
+			this.batchedReduceSize = batchedReduceSize;
+			return this;
+		}
+
+		public AsyncSearchOptions build() {
+			return new AsyncSearchOptions(waitForCompletionTimeout, keepAlive, keepOnCompletion, batchedReduceSize);
+		}
+	}
+}
@@ -51,6 +51,7 @@ public class BaseQuery implements Query {
 	public static final int INDEX_MAX_RESULT_WINDOW = 10_000;
 
 	private static final int DEFAULT_REACTIVE_BATCH_SIZE = 500;
+	private static final Duration DEFAULT_REACTIVE_POINT_IN_TIME_KEEP_ALIVE = Duration.ofMinutes(5);
 	// the instance to mark the query pageable initial status, needed to distinguish between the initial
 	// value and a user-set unpaged value; values don't matter, the RequestConverter compares to the isntance.
 	private static final Pageable UNSET_PAGE = PageRequest.of(0, 1);
@@ -84,6 +85,9 @@ public class BaseQuery implements Query {
 	@Nullable protected Boolean includeNamedQueriesScore;
 	private boolean queryIsUpdatedByConverter = false;
 	@Nullable private Integer reactiveBatchSize = null;
+	@Nullable private Duration reactivePointInTimeKeepAlive = null;
+	private boolean reactiveBatchSizeAdaptive = false;
+	private boolean lazyContentConversion = false;
 	@Nullable private Boolean allowNoIndices = null;
 	private EnumSet<IndicesOptions.WildcardStates> expandWildcards = EnumSet.noneOf(IndicesOptions.WildcardStates.class);
 	private List<DocValueField> docValueFields = new ArrayList<>();
@@ -119,6 +123,9 @@ public class BaseQuery implements Query {
 		this.idsWithRouting = builder.getIdsWithRouting();
 		this.pointInTime = builder.getPointInTime();
 		this.reactiveBatchSize = builder.getReactiveBatchSize();
+		this.reactivePointInTimeKeepAlive = builder.getReactivePointInTimeKeepAlive();
+		this.reactiveBatchSizeAdaptive = builder.isReactiveBatchSizeAdaptive();
+		this.lazyContentConversion = builder.isLazyContentConversion();
 		this.allowNoIndices = builder.getAllowNoIndices();
 		this.expandWildcards = builder.getExpandWildcards();
 		this.docValueFields = builder.getDocValueFields();
@@ -543,6 +550,43 @@ public class BaseQuery implements Query {
 		this.reactiveBatchSize = reactiveBatchSize;
 	}
 
+	@Override
+	public Duration getReactivePointInTimeKeepAlive() {
+		return reactivePointInTimeKeepAlive != null ? reactivePointInTimeKeepAlive
+				: DEFAULT_REACTIVE_POINT_IN_TIME_KEEP_ALIVE;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public void setReactivePointInTimeKeepAlive(@Nullable Duration reactivePointInTimeKeepAlive) {
+		this.reactivePointInTimeKeepAlive = reactivePointInTimeKeepAlive;
+	}
+
+	@Override
+	public boolean isReactiveBatchSizeAdaptive() {
+		return reactiveBatchSizeAdaptive;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public void setReactiveBatchSizeAdaptive(boolean reactiveBatchSizeAdaptive) {
+		this.reactiveBatchSizeAdaptive = reactiveBatchSizeAdaptive;
+	}
+
+	@Override
+	public boolean isLazyContentConversion() {
+		return lazyContentConversion;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public void setLazyContentConversion(boolean lazyContentConversion) {
+		this.lazyContentConversion = lazyContentConversion;
+	}
+
 	@Nullable
 	public Boolean getAllowNoIndices() {
 		return allowNoIndices;
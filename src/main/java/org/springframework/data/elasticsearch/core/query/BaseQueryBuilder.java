@@ -69,6 +69,9 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 	private EnumSet<IndicesOptions.WildcardStates> expandWildcards = EnumSet.noneOf(IndicesOptions.WildcardStates.class);
 
 	@Nullable Integer reactiveBatchSize;
+	@Nullable private Duration reactivePointInTimeKeepAlive;
+	private boolean reactiveBatchSizeAdaptive = false;
+	private boolean lazyContentConversion = false;
 	private final List<DocValueField> docValueFields = new ArrayList<>();
 	private final List<ScriptedField> scriptedFields = new ArrayList<>();
 	@Nullable private Boolean includeNamedQueryScore;
@@ -212,6 +215,27 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 		return reactiveBatchSize;
 	}
 
+	/**
+	 * @since 6.2
+	 */
+	public @Nullable Duration getReactivePointInTimeKeepAlive() {
+		return reactivePointInTimeKeepAlive;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public boolean isReactiveBatchSizeAdaptive() {
+		return reactiveBatchSizeAdaptive;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public boolean isLazyContentConversion() {
+		return lazyContentConversion;
+	}
+
 	/**
 	 * @since 5.1
 	 */
@@ -454,6 +478,30 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 		return self();
 	}
 
+	/**
+	 * @since 6.2
+	 */
+	public SELF withReactivePointInTimeKeepAlive(@Nullable Duration reactivePointInTimeKeepAlive) {
+		this.reactivePointInTimeKeepAlive = reactivePointInTimeKeepAlive;
+		return self();
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public SELF withReactiveBatchSizeAdaptive(boolean reactiveBatchSizeAdaptive) {
+		this.reactiveBatchSizeAdaptive = reactiveBatchSizeAdaptive;
+		return self();
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public SELF withLazyContentConversion(boolean lazyContentConversion) {
+		this.lazyContentConversion = lazyContentConversion;
+		return self();
+	}
+
 	public SELF withAllowNoIndices(@Nullable Boolean allowNoIndices) {
 		this.allowNoIndices = allowNoIndices;
 		return self();
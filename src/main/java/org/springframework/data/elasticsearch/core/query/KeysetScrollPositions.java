@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.util.Assert;
+
+/**
+ * Helper methods to create and read the {@link KeysetScrollPosition}s that are used for scrolling with
+ * {@code search_after}. The keys of such a position are the sort values of a search hit in the order of the sort of
+ * the query. A position can additionally contain the id and keep alive of a point in time that is used for the
+ * searches; these are stored under the {@link #POINT_IN_TIME_ID_KEY} and {@link #POINT_IN_TIME_KEEP_ALIVE_KEY} keys.
+ *
+ * @author agent
+ * @since 6.2
+ */
+public final class KeysetScrollPositions {
+
+	/**
+	 * key of a {@link KeysetScrollPosition} that contains the point in time id.
+	 */
+	public static final String POINT_IN_TIME_ID_KEY = "_pit";
+
+	/**
+	 * key of a {@link KeysetScrollPosition} that contains the point in time keep alive in milliseconds.
+	 */
+	public static final String POINT_IN_TIME_KEEP_ALIVE_KEY = "_pit_keep_alive";
+
+	private KeysetScrollPositions() {}
+
+	/**
+	 * Creates the initial position for a scroll that uses the given point in time. The searches of the scroll then use
+	 * {@code _shard_doc} as tiebreaker, and the positions of the returned windows contain the point in time as well.
+	 *
+	 * @param pointInTimeId the id of an opened point in time, must not be {@literal null}
+	 * @param keepAlive the keep alive that is sent with each search, must not be {@literal null}
+	 * @return the initial forward position
+	 */
+	public static KeysetScrollPosition withPointInTime(String pointInTimeId, Duration keepAlive) {
+
+		Assert.hasText(pointInTimeId, "pointInTimeId must not be empty");
+		Assert.notNull(keepAlive, "keepAlive must not be null");
+
+		return ScrollPosition.forward(pointInTimeKeys(pointInTimeId, keepAlive));
+	}
+
+	/**
+	 * Creates a position from the sort values of a search hit.
+	 *
+	 * @param sortKeys the names used for the sort values, must have the same size as sortValues
+	 * @param sortValues the sort values of the search hit
+	 * @param pointInTime optional point in time to store in the position
+	 * @param direction the scroll direction
+	 * @return the position
+	 */
+	public static KeysetScrollPosition of(List<String> sortKeys, List<Object> sortValues,
+			Query.@Nullable PointInTime pointInTime, ScrollPosition.Direction direction) {
+
+		Assert.notNull(sortKeys, "sortKeys must not be null");
+		Assert.notNull(sortValues, "sortValues must not be null");
+		Assert.isTrue(sortKeys.size() == sortValues.size(), "sortKeys and sortValues must have the same size");
+		Assert.notNull(direction, "direction must not be null");
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		for (int i = 0; i < sortKeys.size(); i++) {
+			keys.put(sortKeys.get(i), sortValues.get(i));
+		}
+
+		if (pointInTime != null) {
+			keys.putAll(pointInTimeKeys(pointInTime.id(), pointInTime.keepAlive()));
+		}
+
+		return ScrollPosition.of(keys, direction);
+	}
+
+	/**
+	 * @param position the position
+	 * @return the point in time stored in the position, {@literal null} if there is none
+	 */
+	public static Query.@Nullable PointInTime getPointInTime(KeysetScrollPosition position) {
+
+		Assert.notNull(position, "position must not be null");
+
+		Object id = position.getKeys().get(POINT_IN_TIME_ID_KEY);
+
+		if (!(id instanceof String pointInTimeId) || pointInTimeId.isEmpty()) {
+			return null;
+		}
+
+		Object keepAlive = position.getKeys().get(POINT_IN_TIME_KEEP_ALIVE_KEY);
+		Duration duration;
+
+		if (keepAlive instanceof Duration d) {
+			duration = d;
+		} else if (keepAlive instanceof Number millis) {
+			duration = Duration.ofMillis(millis.longValue());
+		} else if (keepAlive instanceof String s) {
+			duration = Duration.parse(s);
+		} else {
+			throw new IllegalArgumentException("position contains a point in time without a keep alive");
+		}
+
+		return new Query.PointInTime(pointInTimeId, duration);
+	}
+
+	/**
+	 * Returns the sort values stored in the position in the order of the given sort keys, so that the order of the keys
+	 * in the position does not matter. If the position does not contain exactly these keys - for example because the
+	 * sort of a native query was used to create it - the values are returned in the order of the position.
+	 *
+	 * @param position the position
+	 * @param sortKeys the names of the sort values in the order of the sort of the query
+	 * @return the sort values to be used as {@code search_after} values, empty for an initial position
+	 */
+	public static List<Object> getSearchAfter(KeysetScrollPosition position, List<String> sortKeys) {
+
+		Assert.notNull(position, "position must not be null");
+		Assert.notNull(sortKeys, "sortKeys must not be null");
+
+		Map<String, Object> sortValues = new LinkedHashMap<>();
+		position.getKeys().forEach((key, value) -> {
+			if (!POINT_IN_TIME_ID_KEY.equals(key) && !POINT_IN_TIME_KEEP_ALIVE_KEY.equals(key)) {
+				sortValues.put(key, value);
+			}
+		});
+
+		if (sortValues.size() == sortKeys.size() && sortValues.keySet().containsAll(sortKeys)) {
+			List<Object> searchAfter = new ArrayList<>(sortKeys.size());
+
+			for (String sortKey : sortKeys) {
+				searchAfter.add(sortValues.get(sortKey));
+			}
+
+			return searchAfter;
+		}
+
+		return new ArrayList<>(sortValues.values());
+	}
+
+	private static Map<String, Object> pointInTimeKeys(String pointInTimeId, Duration keepAlive) {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put(POINT_IN_TIME_ID_KEY, pointInTimeId);
+		keys.put(POINT_IN_TIME_KEEP_ALIVE_KEY, keepAlive.toMillis());
+		return keys;
+	}
+}
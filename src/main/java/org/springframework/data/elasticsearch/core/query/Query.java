@@ -460,6 +460,40 @@ public interface Query {
 		return 500;
 	}
 
+	/**
+	 * returns the keep alive value for the point in time that the reactive code opens for a batched search operation.
+	 *
+	 * @return the keep alive duration, defaults to 5 minutes in {@link BaseQuery}
+	 * @since 6.2
+	 */
+	default Duration getReactivePointInTimeKeepAlive() {
+		return Duration.ofMinutes(5);
+	}
+
+	/**
+	 * If {@literal true}, the reactive code adapts the number of documents requested in a batched search operation to
+	 * the outstanding downstream demand, using {@link #getReactiveBatchSize()} as the upper limit.
+	 *
+	 * @return whether the batch size is adapted, defaults to {@literal false}
+	 * @since 6.2
+	 */
+	default boolean isReactiveBatchSizeAdaptive() {
+		return false;
+	}
+
+	/**
+	 * If {@literal true}, the entities of the returned {@link org.springframework.data.elasticsearch.core.SearchHit}s are
+	 * not converted when the response is received, but on the first call to
+	 * {@link org.springframework.data.elasticsearch.core.SearchHit#getContent()}. The after-load and after-convert
+	 * callbacks are invoked at that time.
+	 *
+	 * @return whether the entities are converted lazily, defaults to {@literal false}
+	 * @since 6.2
+	 */
+	default boolean isLazyContentConversion() {
+		return false;
+	}
+
 	/**
 	 * @since 5.1
 	 */
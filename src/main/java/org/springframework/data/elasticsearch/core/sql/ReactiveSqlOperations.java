@@ -17,6 +17,7 @@ package org.springframework.data.elasticsearch.core.sql;
 
 import org.springframework.data.elasticsearch.core.query.SqlQuery;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -34,4 +35,31 @@ public interface ReactiveSqlOperations {
 	 * @return {@link SqlResponse} containing the list of found objects
 	 */
 	Mono<SqlResponse> search(SqlQuery query);
+
+	/**
+	 * Execute the sql {@code query} against elasticsearch and return the rows of all pages of the result. The next page
+	 * is requested with the cursor of the previous one when its rows are needed. The cursor is closed on the cluster when
+	 * the subscription is cancelled before all rows have been read.
+	 *
+	 * @param query the query to execute
+	 * @return the rows of the result
+	 * @since 6.2
+	 */
+	default Flux<SqlResponse.Row> searchForStream(SqlQuery query) {
+		return searchForStream(query, 0);
+	}
+
+	/**
+	 * Execute the sql {@code query} against elasticsearch and return the rows of all pages of the result. Up to
+	 * {@code prefetch} pages are requested ahead with the cursor of the previous page while the rows of the current page
+	 * are consumed. The cursor is closed on the cluster when the subscription is cancelled before all rows have been
+	 * read. The rows are always requested in row format and the query is run synchronously, the columnar and async
+	 * settings of the query are not used.
+	 *
+	 * @param query the query to execute
+	 * @param prefetch the number of pages to request ahead, 0 to request a page only when its rows are needed
+	 * @return the rows of the result
+	 * @since 6.2
+	 */
+	Flux<SqlResponse.Row> searchForStream(SqlQuery query, int prefetch);
 }
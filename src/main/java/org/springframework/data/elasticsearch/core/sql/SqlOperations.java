@@ -15,6 +15,8 @@
  */
 package org.springframework.data.elasticsearch.core.sql;
 
+import java.util.stream.Stream;
+
 import org.springframework.data.elasticsearch.core.query.SqlQuery;
 
 /**
@@ -32,4 +34,31 @@ public interface SqlOperations {
 	 * @return {@link SqlResponse} containing the list of found objects
 	 */
 	SqlResponse search(SqlQuery query);
+
+	/**
+	 * Execute the sql {@code query} against elasticsearch and return the rows of all pages of the result as a
+	 * {@link Stream}. The next page is requested with the cursor of the previous one when its rows are consumed. The
+	 * stream must be closed when it is not consumed to the end, so that the cursor is closed on the cluster.
+	 *
+	 * @param query the query to execute
+	 * @return the rows of the result
+	 * @since 6.2
+	 */
+	default Stream<SqlResponse.Row> searchForStream(SqlQuery query) {
+		return searchForStream(query, 0);
+	}
+
+	/**
+	 * Execute the sql {@code query} against elasticsearch and return the rows of all pages of the result as a
+	 * {@link Stream}. Up to {@code prefetch} pages are requested ahead with the cursor of the previous page while the rows
+	 * of the current page are consumed. The stream must be closed when it is not consumed to the end, so that the cursor
+	 * is closed on the cluster. The rows are always requested in row format and the query is run synchronously, the
+	 * columnar and async settings of the query are not used.
+	 *
+	 * @param query the query to execute
+	 * @param prefetch the number of pages to request ahead, 0 to request a page only when its rows are needed
+	 * @return the rows of the result
+	 * @since 6.2
+	 */
+	Stream<SqlResponse.Row> searchForStream(SqlQuery query, int prefetch);
 }
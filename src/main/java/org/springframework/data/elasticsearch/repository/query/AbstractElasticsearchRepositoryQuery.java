@@ -18,8 +18,11 @@ package org.springframework.data.elasticsearch.repository.query;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Window;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHitSupport;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
@@ -117,6 +120,8 @@ public abstract class AbstractElasticsearchRepositoryQuery implements Repository
 			} else {
 				result = SearchHitSupport.unwrapSearchHits(SearchHitSupport.searchPageFor(searchHits, query.getPageable()));
 			}
+		} else if (queryMethod.isScrollQuery()) {
+			result = executeScrollQuery(query, parameterAccessor, clazz, index);
 		} else if (queryMethod.isStreamQuery()) {
 			query.setPageable(parameterAccessor.getPageable().isPaged() ? parameterAccessor.getPageable()
 					: PageRequest.of(0, DEFAULT_STREAM_BATCH_SIZE));
@@ -137,9 +142,41 @@ public abstract class AbstractElasticsearchRepositoryQuery implements Repository
 			result = elasticsearchOperations.searchOne(query, clazz, index);
 		}
 
-		return (queryMethod.isNotSearchHitMethod() && queryMethod.isNotSearchPageMethod())
-				? SearchHitSupport.unwrapSearchHits(result)
-				: result;
+		if (queryMethod.isNotSearchHitMethod() && queryMethod.isNotSearchPageMethod()) {
+			return processResult(resultProcessor, SearchHitSupport.unwrapSearchHits(result));
+		}
+
+		// search hits are returned as they are, the result processor would turn a SearchPage into a plain Page
+		return result;
+	}
+
+	/**
+	 * Creates the projections of the read entities for interface and DTO return types, the same way the reactive
+	 * repository queries do.
+	 *
+	 * @since 6.2
+	 */
+	@Nullable
+	private Object processResult(ResultProcessor resultProcessor, @Nullable Object result) {
+
+		if (ClassUtils.isPrimitiveOrWrapper(resultProcessor.getReturnedType().getReturnedType())) {
+			return result;
+		}
+
+		return resultProcessor.processResult(result);
+	}
+
+	private Window<? extends SearchHit<?>> executeScrollQuery(Query query,
+			ElasticsearchParametersParameterAccessor parameterAccessor, Class<?> clazz, IndexCoordinates index) {
+
+		if (!(query instanceof BaseQuery baseQuery) || query instanceof SearchTemplateQuery) {
+			throw new InvalidDataAccessApiUsageException("scrolling is not supported for search template queries");
+		}
+
+		KeysetScrollDelegate scrollDelegate = KeysetScrollDelegate.prepare(baseQuery,
+				parameterAccessor.getScrollPosition(), parameterAccessor);
+		SearchHits<?> searchHits = elasticsearchOperations.search(query, clazz, index);
+		return scrollDelegate.window(searchHits.getSearchHits(), searchHits.getPointInTimeId());
 	}
 
 	public Query createQuery(Object[] parameters) {
@@ -23,6 +23,7 @@ import java.util.Objects;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHitSupport;
@@ -33,6 +34,7 @@ import org.springframework.data.elasticsearch.core.query.BaseQuery;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.SearchTemplateQuery;
 import org.springframework.data.elasticsearch.repository.query.ReactiveElasticsearchQueryExecution.ResultProcessingConverter;
 import org.springframework.data.elasticsearch.repository.query.ReactiveElasticsearchQueryExecution.ResultProcessingExecution;
 import org.springframework.data.expression.ValueEvaluationContextProvider;
@@ -148,6 +150,19 @@ abstract class AbstractReactiveElasticsearchRepositoryQuery implements Repositor
 		} else if (isExistsQuery()) {
 			return (query, type, targetType, indexCoordinates) -> operations.count(query, type, indexCoordinates)
 					.map(count -> count > 0);
+		} else if (queryMethod.isScrollQuery()) {
+			return (query, type, targetType, indexCoordinates) -> {
+
+				if (!(query instanceof BaseQuery baseQuery) || query instanceof SearchTemplateQuery) {
+					throw new InvalidDataAccessApiUsageException("scrolling is not supported for search template queries");
+				}
+
+				KeysetScrollDelegate scrollDelegate = KeysetScrollDelegate.prepare(baseQuery, accessor.getScrollPosition(),
+						accessor);
+				return operations.searchForHits(query, type, Objects.requireNonNull(targetType), indexCoordinates)
+						.flatMap(searchHits -> searchHits.getSearchHits().collectList()
+								.map(hits -> scrollDelegate.window(hits, searchHits.getPointInTimeId())));
+			};
 		} else if (queryMethod.isCollectionQuery()) {
 			return (query, type, targetType, indexCoordinates) -> operations.search(query.setPageable(accessor.getPageable()),
 					type, Objects.requireNonNull(targetType), indexCoordinates);
@@ -15,12 +15,15 @@
  */
 package org.springframework.data.elasticsearch.repository.query;
 
+import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
@@ -29,6 +32,7 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.core.TypeInformation;
+import org.springframework.data.domain.Window;
 import org.springframework.data.elasticsearch.annotations.Highlight;
 import org.springframework.data.elasticsearch.annotations.Query;
 import org.springframework.data.elasticsearch.annotations.SearchTemplateQuery;
@@ -50,10 +54,12 @@ import org.springframework.data.elasticsearch.repository.support.QueryStringProc
 import org.springframework.data.expression.ValueEvaluationContextProvider;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersSource;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.util.QueryExecutionConverters;
 import org.springframework.data.repository.util.ReactiveWrapperConverters;
 import org.springframework.util.Assert;
@@ -82,6 +88,7 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 	@Nullable private Boolean unwrappedReturnTypeFromSearchHit = null;
 
 	private final MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext;
+	private final ProjectionFactory projectionFactory;
 	@Nullable private ElasticsearchEntityMetadata<?> metadata;
 	@Nullable private final Query queryAnnotation;
 	@Nullable private final Highlight highlightAnnotation;
@@ -97,6 +104,7 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 
 		this.method = method;
 		this.mappingContext = mappingContext;
+		this.projectionFactory = factory;
 		this.queryAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
 		this.highlightAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Highlight.class);
 		this.sourceFilters = AnnotatedElementUtils.findMergedAnnotation(method, SourceFilters.class);
@@ -276,7 +284,8 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 
 	protected boolean isAllowedGenericType(ParameterizedType methodGenericReturnType) {
 		return Collection.class.isAssignableFrom((Class<?>) methodGenericReturnType.getRawType())
-				|| Stream.class.isAssignableFrom((Class<?>) methodGenericReturnType.getRawType());
+				|| Stream.class.isAssignableFrom((Class<?>) methodGenericReturnType.getRawType())
+				|| Window.class.isAssignableFrom((Class<?>) methodGenericReturnType.getRawType());
 	}
 
 	/**
@@ -347,6 +356,96 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 		return fetchSourceFilterBuilder.build();
 	}
 
+	/**
+	 * Creates a {@link SourceFilter} that only includes the fields that are needed to create the projection that is
+	 * returned by the query method. Properties of closed interface projections that are projections themselves are
+	 * resolved to the nested fields.
+	 *
+	 * @param returnedType the type returned by the query method, with a dynamic projection already resolved
+	 * @return source filter with the includes for the projection, {@literal null} if the method does not return a
+	 *         projection, or if the projection is open and may need any field of the document.
+	 * @since 6.2
+	 */
+	@Nullable
+	SourceFilter getProjectionSourceFilter(ReturnedType returnedType) {
+
+		if (!returnedType.isProjecting() || returnedType.getInputProperties().isEmpty()
+				|| SearchHit.class.isAssignableFrom(returnedType.getReturnedType())
+				|| SearchHits.class.isAssignableFrom(returnedType.getReturnedType())) {
+			return null;
+		}
+
+		ElasticsearchPersistentEntity<?> entity = mappingContext.getPersistentEntity(returnedType.getDomainType());
+
+		if (entity == null) {
+			return null;
+		}
+
+		Set<String> fieldNames = new LinkedHashSet<>();
+
+		if (returnedType.getReturnedType().isInterface()) {
+
+			// the input properties of an open projection do not contain the properties used in its @Value expressions
+			if (!projectionFactory.getProjectionInformation(returnedType.getReturnedType()).isClosed()) {
+				return null;
+			}
+
+			addProjectedFieldNames(returnedType.getReturnedType(), entity, "", fieldNames);
+		} else {
+			for (String propertyName : returnedType.getInputProperties()) {
+				ElasticsearchPersistentProperty property = entity.getPersistentProperty(propertyName);
+
+				if (property != null && property.isReadable()) {
+					fieldNames.add(property.getFieldName());
+				}
+			}
+		}
+
+		if (fieldNames.isEmpty()) {
+			return null;
+		}
+
+		return new FetchSourceFilterBuilder().withIncludes(fieldNames.toArray(new String[0])).build();
+	}
+
+	/**
+	 * Adds the field names for the properties of a closed interface projection. A property whose type is a closed
+	 * interface projection of a nested entity adds the nested fields, every other property adds the whole field.
+	 */
+	private void addProjectedFieldNames(Class<?> projectionType, ElasticsearchPersistentEntity<?> entity, String prefix,
+			Set<String> fieldNames) {
+
+		for (PropertyDescriptor descriptor : projectionFactory.getProjectionInformation(projectionType)
+				.getInputProperties()) {
+
+			ElasticsearchPersistentProperty property = entity.getPersistentProperty(descriptor.getName());
+
+			if (property == null || !property.isReadable()) {
+				continue;
+			}
+
+			String fieldName = prefix + property.getFieldName();
+			Method readMethod = descriptor.getReadMethod();
+			Class<?> projectedType = readMethod != null
+					? TypeInformation.fromReturnTypeOf(readMethod).getRequiredActualType().getType()
+					: property.getActualType();
+
+			if (property.isEntity() && projectedType.isInterface()
+					&& !projectedType.isAssignableFrom(property.getActualType())) {
+
+				ProjectionInformation projectionInformation = projectionFactory.getProjectionInformation(projectedType);
+				ElasticsearchPersistentEntity<?> nestedEntity = mappingContext.getPersistentEntity(property.getActualType());
+
+				if (projectionInformation.isClosed() && nestedEntity != null) {
+					addProjectedFieldNames(projectedType, nestedEntity, fieldName + '.', fieldNames);
+					continue;
+				}
+			}
+
+			fieldNames.add(fieldName);
+		}
+	}
+
 	private String[] mapParameters(String[] source, ElasticsearchParametersParameterAccessor parameterAccessor,
 			ConversionService conversionService, ValueEvaluationContextProvider evaluationContextProvider) {
 
@@ -384,6 +483,9 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 	 */
 	private Class<?> potentiallyUnwrapReturnTypeFor(RepositoryMetadata metadata, Method method) {
 		TypeInformation<?> returnType = metadata.getReturnType(method);
+		if (Window.class.isAssignableFrom(returnType.getType())) {
+			return unwrapWindowComponentType(returnType, method);
+		}
 		if (!QueryExecutionConverters.supports(returnType.getType())
 				&& !ReactiveWrapperConverters.supports(returnType.getType())) {
 			return returnType.getType();
@@ -397,6 +499,8 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 				if (SearchHit.class.isAssignableFrom(componentType.getType())) {
 					unwrappedReturnTypeFromSearchHit = true;
 					return componentType.getComponentType().getType();
+				} else if (Window.class.isAssignableFrom(componentType.getType())) {
+					return unwrapWindowComponentType(componentType, method);
 				} else {
 					return componentType.getType();
 				}
@@ -404,6 +508,26 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 		}
 	}
 
+	/*
+	 * Window<T> and Window<SearchHit<T>>, the QueryMethod base class handles the Window type in isScrollQuery().
+	 */
+	private Class<?> unwrapWindowComponentType(TypeInformation<?> windowType, Method method) {
+
+		TypeInformation<?> componentType = windowType.getComponentType();
+
+		if (componentType == null) {
+			throw new IllegalStateException(
+					String.format("Couldn't find component type for return value of method %s", method));
+		}
+
+		if (SearchHit.class.isAssignableFrom(componentType.getType())) {
+			unwrappedReturnTypeFromSearchHit = true;
+			return componentType.getRequiredComponentType().getType();
+		}
+
+		return componentType.getType();
+	}
+
 	void addSpecialMethodParameters(BaseQuery query, ElasticsearchParametersParameterAccessor parameterAccessor,
 			ElasticsearchConverter elasticsearchConverter,
 			ValueEvaluationContextProvider evaluationContextProvider) {
@@ -448,6 +572,15 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 				query.addSourceFilter(FetchSourceFilter.of(b -> b.withIncludes("*")));
 			}
 		}
+
+		if (sourceFilter == null && query.getSourceFilter() == null) {
+			var projectionSourceFilter = getProjectionSourceFilter(
+					getResultProcessor().withDynamicProjection(parameterAccessor).getReturnedType());
+
+			if (projectionSourceFilter != null) {
+				query.addSourceFilter(projectionSourceFilter);
+			}
+		}
 	}
 	// endregion
 
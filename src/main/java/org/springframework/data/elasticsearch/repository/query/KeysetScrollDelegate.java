@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.query.BaseQuery;
+import org.springframework.data.elasticsearch.core.query.KeysetScrollPositions;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+/**
+ * Prepares the query for a repository method returning a {@link Window} and creates the window from the returned
+ * search hits. Scrolling is done with {@code search_after}: the sort of the query is completed with a tiebreaker, which
+ * is {@code _shard_doc} when the position contains a point in time and {@code _id} otherwise. A query without a sort
+ * is sorted by score. The {@code search_after} values are taken from the position in the order of this sort. One
+ * document more than the window size is requested to find out if there is a next window.
+ * <p>
+ * Only {@link KeysetScrollPosition}s are supported, an offset based scroll would need {@code from}, which is what
+ * scrolling is meant to avoid.
+ *
+ * @author agent
+ * @since 6.2
+ */
+final class KeysetScrollDelegate {
+
+	static final int DEFAULT_WINDOW_SIZE = 500;
+	private static final String SCORE = "_score";
+	private static final String SHARD_DOC = "_shard_doc";
+	private static final String ID = "_id";
+
+	private final KeysetScrollPosition position;
+	private final int windowSize;
+	private final List<String> sortKeys;
+	private final Query.@Nullable PointInTime pointInTime;
+
+	private KeysetScrollDelegate(KeysetScrollPosition position, int windowSize, List<String> sortKeys,
+			Query.@Nullable PointInTime pointInTime) {
+		this.position = position;
+		this.windowSize = windowSize;
+		this.sortKeys = sortKeys;
+		this.pointInTime = pointInTime;
+	}
+
+	/**
+	 * Sets sort, point in time, {@code search_after} values and size on the query.
+	 *
+	 * @param query the query created for the repository method
+	 * @param scrollPosition the position passed to the repository method
+	 * @param accessor the accessor for the method parameters, used to get a {@link org.springframework.data.domain.Limit}
+	 *          or a {@link org.springframework.data.domain.Pageable}
+	 * @return the delegate to create the window from the search result
+	 */
+	static KeysetScrollDelegate prepare(BaseQuery query, @Nullable ScrollPosition scrollPosition,
+			ElasticsearchParameterAccessor accessor) {
+
+		if (scrollPosition == null) {
+			throw new InvalidDataAccessApiUsageException("a query method returning a Window needs a ScrollPosition");
+		}
+
+		if (!(scrollPosition instanceof KeysetScrollPosition keysetScrollPosition)) {
+			throw new InvalidDataAccessApiUsageException(
+					"only KeysetScrollPosition is supported for scrolling, got " + scrollPosition.getClass().getSimpleName());
+		}
+
+		int windowSize = windowSize(query, accessor);
+		Query.PointInTime pointInTime = KeysetScrollPositions.getPointInTime(keysetScrollPosition);
+
+		Sort querySort = query.getSort();
+		Sort sort = querySort != null && querySort.isSorted() ? querySort : Sort.by(Sort.Direction.DESC, SCORE);
+		sort = sort.and(tiebreaker(sort, pointInTime));
+
+		if (keysetScrollPosition.scrollsBackward()) {
+			sort = Sort.by(sort.stream().map(order -> order.with(order.isAscending() ? Sort.Direction.DESC
+					: Sort.Direction.ASC)).toList());
+		}
+
+		List<String> sortKeys = sort.stream().map(Sort.Order::getProperty).toList();
+
+		// the sort was already added to the query, it is set again with the tiebreaker
+		query.setPageable(PageRequest.of(0, windowSize + 1));
+		query.setSort(sort);
+
+		if (query.isLimiting()) {
+			query.setMaxResults(windowSize + 1);
+		}
+
+		if (pointInTime != null) {
+			query.setPointInTime(pointInTime);
+		}
+
+		List<Object> searchAfter = KeysetScrollPositions.getSearchAfter(keysetScrollPosition, sortKeys);
+		query.setSearchAfter(searchAfter.isEmpty() ? null : searchAfter);
+
+		return new KeysetScrollDelegate(keysetScrollPosition, windowSize, sortKeys, pointInTime);
+	}
+
+	/**
+	 * Creates the window from the returned search hits.
+	 *
+	 * @param searchHits the returned search hits, at most window size + 1
+	 * @param pointInTimeId the point in time id returned by Elasticsearch, may have changed from the one in the request
+	 * @return the window
+	 */
+	<T> Window<SearchHit<T>> window(List<SearchHit<T>> searchHits, @Nullable String pointInTimeId) {
+
+		boolean hasNext = searchHits.size() > windowSize;
+		List<SearchHit<T>> content = new ArrayList<>(hasNext ? searchHits.subList(0, windowSize) : searchHits);
+
+		if (position.scrollsBackward()) {
+			Collections.reverse(content);
+		}
+
+		Query.PointInTime nextPointInTime = pointInTime != null && pointInTimeId != null
+				? new Query.PointInTime(pointInTimeId, pointInTime.keepAlive())
+				: pointInTime;
+
+		return Window.from(content, index -> positionOf(content.get(index), nextPointInTime), hasNext);
+	}
+
+	private KeysetScrollPosition positionOf(SearchHit<?> searchHit, Query.@Nullable PointInTime pointInTime) {
+
+		List<Object> sortValues = searchHit.getSortValues();
+		List<String> keys = sortKeys;
+
+		if (keys.size() != sortValues.size()) {
+			// the sort was changed by a NativeQuery, the keys are only informational
+			keys = new ArrayList<>(sortValues.size());
+
+			for (int i = 0; i < sortValues.size(); i++) {
+				keys.add("sort_" + i);
+			}
+		}
+
+		return KeysetScrollPositions.of(keys, sortValues, pointInTime, position.getDirection());
+	}
+
+	private static int windowSize(BaseQuery query, ElasticsearchParameterAccessor accessor) {
+
+		if (query.isLimiting()) {
+			// noinspection DataFlowIssue maxResults is not null here, this is checked with isLimiting()
+			return query.getMaxResults();
+		}
+
+		if (accessor.getLimit().isLimited()) {
+			return accessor.getLimit().max();
+		}
+
+		if (accessor.getPageable().isPaged()) {
+			return accessor.getPageable().getPageSize();
+		}
+
+		return DEFAULT_WINDOW_SIZE;
+	}
+
+	/**
+	 * {@code _shard_doc} is only available in a search with a point in time. Without one, {@code _id} is used, sorting by
+	 * it needs the {@code indices.id_field_data.enabled} cluster setting.
+	 */
+	private static Sort tiebreaker(Sort sort, Query.@Nullable PointInTime pointInTime) {
+
+		String tiebreaker = pointInTime != null ? SHARD_DOC : ID;
+
+		if (sort.getOrderFor(tiebreaker) != null) {
+			return Sort.unsorted();
+		}
+
+		return Sort.by(Sort.Direction.ASC, tiebreaker);
+	}
+}
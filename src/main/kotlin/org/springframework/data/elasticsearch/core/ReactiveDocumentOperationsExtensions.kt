@@ -1,5 +1,12 @@
 package org.springframework.data.elasticsearch.core
 
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.flow.channelFlow
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.reactive.asFlow
+import kotlinx.coroutines.sync.Semaphore
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates
 import org.springframework.data.elasticsearch.core.query.Query
 import reactor.core.publisher.Flux
@@ -17,3 +24,71 @@ inline fun <reified T : Any> ReactiveDocumentOperations.multiGet(query: Query, i
 inline fun <reified T : Any> ReactiveDocumentOperations.get(id: String): Mono<T> = get(id, T::class.java)
 inline fun <reified T : Any> ReactiveDocumentOperations.get(id: String, index: IndexCoordinates): Mono<T> = get(id, T::class.java, index)
 inline fun <reified T : Any> ReactiveDocumentOperations.exists(id: String): Mono<Boolean> = exists(id, T::class.java)
+
+/**
+ * Saves the entities of the [Flow] in bulk requests of up to [batchSize] entities with at most [concurrency] requests
+ * in flight. The flow of entities is collected only as long as there is a free slot for the next request, and a request
+ * only completes when the collector has taken the saved entities, so a slow consumer slows down the producer. The
+ * returned flow emits the saved entities; with a concurrency greater than 1 the batches may complete in a different
+ * order. Cancelling the collecting coroutine cancels the requests in flight.
+ * @since 6.2
+ */
+inline fun <reified T : Any> ReactiveDocumentOperations.saveAll(
+    entities: Flow<T>,
+    batchSize: Int,
+    concurrency: Int
+): Flow<T> = saveAllInBatches(entities, batchSize, concurrency) { batch -> saveAll(Mono.just(batch), T::class.java) }
+
+/**
+ * Saves the entities of the [Flow] in the given index, see [saveAll].
+ * @since 6.2
+ */
+fun <T : Any> ReactiveDocumentOperations.saveAll(
+    entities: Flow<T>,
+    batchSize: Int,
+    concurrency: Int,
+    index: IndexCoordinates
+): Flow<T> = saveAllInBatches(entities, batchSize, concurrency) { batch -> saveAll(Mono.just(batch), index) }
+
+@PublishedApi
+internal fun <T : Any> saveAllInBatches(
+    entities: Flow<T>,
+    batchSize: Int,
+    concurrency: Int,
+    save: (List<T>) -> Flux<T>
+): Flow<T> {
+
+    require(batchSize > 0) { "batchSize must be greater than 0" }
+    require(concurrency > 0) { "concurrency must be greater than 0" }
+
+    // the saved entities are handed to the collector without a buffer, so a request only completes when the collector
+    // has taken its entities; the default buffer of a channelFlow would let the requests run ahead of the collector
+    return channelFlow {
+        val requests = Semaphore(concurrency)
+
+        suspend fun submit(batch: List<T>) {
+            // suspends the collection of the entities until a request has completed
+            requests.acquire()
+            launch {
+                try {
+                    save(batch).asFlow().collect { send(it) }
+                } finally {
+                    requests.release()
+                }
+            }
+        }
+
+        var batch = ArrayList<T>(batchSize)
+        entities.collect { entity ->
+            batch.add(entity)
+            if (batch.size == batchSize) {
+                submit(batch)
+                batch = ArrayList(batchSize)
+            }
+        }
+
+        if (batch.isNotEmpty()) {
+            submit(batch)
+        }
+    }.buffer(Channel.RENDEZVOUS)
+}
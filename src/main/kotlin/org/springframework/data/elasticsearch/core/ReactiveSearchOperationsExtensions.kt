@@ -2,6 +2,9 @@
 
 package org.springframework.data.elasticsearch.core
 
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.reactive.asFlow
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates
 import org.springframework.data.elasticsearch.core.query.Query
 import org.springframework.data.elasticsearch.core.suggest.response.Suggest
@@ -27,6 +30,27 @@ inline fun <reified T : Any> ReactiveSearchOperations.search(
     index: IndexCoordinates
 ): Flux<SearchHit<T>> = search(query, T::class.java, index)
 
+/**
+ * Returns the search hits as a [Flow]. For an unpaged query the documents are read with point in time and search_after
+ * in batches of the [Query.getReactiveBatchSize], and the flow requests the hits from the search in batches of this size
+ * as well. The pages are read from Elasticsearch independently of the collector: the template reads the number of pages
+ * set with `ReactiveElasticsearchTemplate.setUnboundedSearchPrefetch` ahead, so besides the hits buffered by the flow
+ * that many pages are held in memory. Cancelling the collecting coroutine cancels the request in flight and closes the
+ * point in time.
+ * @since 6.2
+ */
+inline fun <reified T : Any> ReactiveSearchOperations.searchAsFlow(query: Query): Flow<SearchHit<T>> =
+    search(query, T::class.java).asFlow().buffer(query.reactiveBatchSize)
+
+/**
+ * Returns the search hits in the given index as a [Flow], see [searchAsFlow].
+ * @since 6.2
+ */
+inline fun <reified T : Any> ReactiveSearchOperations.searchAsFlow(
+    query: Query,
+    index: IndexCoordinates
+): Flow<SearchHit<T>> = search(query, T::class.java, index).asFlow().buffer(query.reactiveBatchSize)
+
 inline fun <reified T : Any> ReactiveSearchOperations.searchForPage(query: Query): Mono<SearchPage<T>> =
     searchForPage(query, T::class.java)
 
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class BinaryContentTypeUnitTests {
+
+	@Test
+	@DisplayName("should convert media types and keep the parameters")
+	void shouldConvertMediaTypesAndKeepTheParameters() {
+
+		assertThat(BinaryContentType.SMILE.mediaType("application/vnd.elasticsearch+x-ndjson; compatible-with=9"))
+				.isEqualTo("application/vnd.elasticsearch+smile; compatible-with=9");
+		assertThat(BinaryContentType.CBOR.mediaType("application/json")).isEqualTo("application/cbor");
+		assertThat(BinaryContentType.SMILE.mediaType(null)).isEqualTo("application/smile");
+		assertThat(BinaryContentType.SMILE.jsonMediaType("application/vnd.elasticsearch+smile;compatible-with=9"))
+				.isEqualTo("application/vnd.elasticsearch+json;compatible-with=9");
+		assertThat(BinaryContentType.SMILE.matches("application/vnd.elasticsearch+smile;compatible-with=9")).isTrue();
+		assertThat(BinaryContentType.SMILE.matches("application/json")).isFalse();
+		assertThat(BinaryContentType.CBOR.matches("application/cbor")).isTrue();
+	}
+
+	@Test
+	@DisplayName("should detect JSON media types")
+	void shouldDetectJsonMediaTypes() {
+
+		assertThat(BinaryContentType.isJson("application/json")).isTrue();
+		assertThat(BinaryContentType.isJson("application/vnd.elasticsearch+json; compatible-with=9")).isTrue();
+		assertThat(BinaryContentType.isJson("application/vnd.elasticsearch+x-ndjson; compatible-with=9")).isTrue();
+		assertThat(BinaryContentType.isJson("application/x-ndjson")).isTrue();
+		assertThat(BinaryContentType.isJson("application/smile")).isFalse();
+		assertThat(BinaryContentType.isJson("text/plain")).isFalse();
+		assertThat(BinaryContentType.isJson(null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("should detect newline delimited media types")
+	void shouldDetectNewlineDelimitedMediaTypes() {
+
+		assertThat(BinaryContentType.isNewlineDelimited("application/vnd.elasticsearch+x-ndjson; compatible-with=9"))
+				.isTrue();
+		assertThat(BinaryContentType.isNewlineDelimited("application/x-ndjson")).isTrue();
+		assertThat(BinaryContentType.isNewlineDelimited("application/vnd.elasticsearch+json; compatible-with=9"))
+				.isFalse();
+		assertThat(BinaryContentType.isNewlineDelimited(null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("should only support request bodies in Smile")
+	void shouldOnlySupportRequestBodiesInSmile() {
+
+		assertThat(BinaryContentType.SMILE.isRequestBodySupported()).isTrue();
+		assertThat(BinaryContentType.CBOR.isRequestBodySupported()).isFalse();
+	}
+}
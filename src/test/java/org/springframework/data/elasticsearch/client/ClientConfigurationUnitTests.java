@@ -169,4 +169,60 @@ public class ClientConfigurationUnitTests {
 		((ClientConfiguration.ClientConfigurationCallback<Object>) clientConfigurer).configure(new Object());
 		assertThat(callCounter.get()).isEqualTo(1);
 	}
+
+	@Test
+	@DisplayName("should configure compression")
+	void shouldConfigureCompression() {
+
+		ClientConfiguration defaultConfiguration = ClientConfiguration.create("localhost:9200");
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder() //
+				.connectedTo("foo", "bar") //
+				.withRequestCompression(1024) //
+				.withResponseCompression(true) //
+				.build();
+
+		assertThat(defaultConfiguration.getRequestCompressionThreshold()).isEqualTo(-1);
+		assertThat(defaultConfiguration.isResponseCompressionEnabled()).isFalse();
+		assertThat(defaultConfiguration.getCompressionMetrics()).isEmpty();
+		assertThat(clientConfiguration.getRequestCompressionThreshold()).isEqualTo(1024);
+		assertThat(clientConfiguration.isResponseCompressionEnabled()).isTrue();
+		assertThat(clientConfiguration.getCompressionMetrics()).isPresent();
+	}
+
+	@Test
+	@DisplayName("should configure the binary content type")
+	void shouldConfigureTheBinaryContentType() {
+
+		ClientConfiguration defaultConfiguration = ClientConfiguration.create("localhost:9200");
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder() //
+				.connectedTo("foo", "bar") //
+				.withBinaryContentType(BinaryContentType.SMILE) //
+				.build();
+
+		assertThat(defaultConfiguration.getBinaryContentType()).isEmpty();
+		assertThat(clientConfiguration.getBinaryContentType()).contains(BinaryContentType.SMILE);
+	}
+
+	@Test
+	@DisplayName("should configure the connection pool")
+	void shouldConfigureTheConnectionPool() {
+
+		ClientConfiguration defaultConfiguration = ClientConfiguration.create("localhost:9200");
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder() //
+				.connectedTo("foo:9200", "bar:9200") //
+				.withMaxConnections(100, 20) //
+				.withMaxConnectionsPerHost("bar:9200", 5) //
+				.withConnectionPoolMetrics(true) //
+				.build();
+
+		assertThat(defaultConfiguration.getMaxConnections()).isEqualTo(-1);
+		assertThat(defaultConfiguration.getMaxConnectionsPerRoute()).isEqualTo(-1);
+		assertThat(defaultConfiguration.getMaxConnectionsPerHost()).isEmpty();
+		assertThat(defaultConfiguration.getConnectionPoolMetrics()).isEmpty();
+		assertThat(clientConfiguration.getMaxConnections()).isEqualTo(100);
+		assertThat(clientConfiguration.getMaxConnectionsPerRoute()).isEqualTo(20);
+		assertThat(clientConfiguration.getMaxConnectionsPerHost())
+				.containsExactly(entry(InetSocketAddress.createUnresolved("bar", 9200), 5));
+		assertThat(clientConfiguration.getConnectionPoolMetrics()).isPresent();
+	}
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.ConnectionPoolMetrics.PoolStats;
+
+/**
+ * @author agent
+ */
+class ConnectionPoolMetricsBinderUnitTests {
+
+	private static final String ROUTE = "http://localhost:9200";
+
+	@Test
+	@DisplayName("should publish the pool statistics and lease times per route")
+	void shouldPublishThePoolStatisticsAndLeaseTimesPerRoute() {
+
+		ConnectionPoolMetrics metrics = new ConnectionPoolMetrics();
+		metrics.setConnectionPool(new ConnectionPoolMetrics.ConnectionPool() {
+			@Override
+			public PoolStats getTotalStats() {
+				return new PoolStats(3, 2, 1, 50);
+			}
+
+			@Override
+			public @Nullable PoolStats getStats(String route) {
+				return ROUTE.equals(route) ? new PoolStats(3, 2, 1, 10) : null;
+			}
+		});
+		MeterRegistry registry = new SimpleMeterRegistry();
+
+		new ConnectionPoolMetricsBinder(metrics, Tags.of("client", "test")).bindTo(registry);
+
+		assertThat(registry.get("elasticsearch.client.pool.max.total").tag("client", "test").gauge().value())
+				.isEqualTo(50);
+		assertThat(registry.find("elasticsearch.client.pool.leased").gauges()).isEmpty();
+
+		metrics.recordLease(ROUTE, TimeUnit.MILLISECONDS.toNanos(4), true);
+		metrics.recordLease(ROUTE, TimeUnit.MILLISECONDS.toNanos(6), false);
+
+		assertThat(gauge(registry, "leased").value()).isEqualTo(3);
+		assertThat(gauge(registry, "pending").value()).isEqualTo(2);
+		assertThat(gauge(registry, "available").value()).isEqualTo(1);
+		assertThat(gauge(registry, "max").value()).isEqualTo(10);
+
+		FunctionTimer lease = registry.get("elasticsearch.client.pool.lease").tags("client", "test", "route", ROUTE)
+				.functionTimer();
+		assertThat(lease.count()).isEqualTo(2);
+		assertThat(lease.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(10);
+		TimeGauge maxLease = registry.get("elasticsearch.client.pool.lease.max").tag("route", ROUTE).timeGauge();
+		assertThat(maxLease.value(TimeUnit.MILLISECONDS)).isEqualTo(6);
+		FunctionCounter failures = registry.get("elasticsearch.client.pool.lease.failures").tag("route", ROUTE)
+				.functionCounter();
+		assertThat(failures.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should register the meters of routes known before binding")
+	void shouldRegisterTheMetersOfRoutesKnownBeforeBinding() {
+
+		ConnectionPoolMetrics metrics = new ConnectionPoolMetrics();
+		metrics.recordLease(ROUTE, 1000, true);
+		MeterRegistry registry = new SimpleMeterRegistry();
+
+		new ConnectionPoolMetricsBinder(metrics).bindTo(registry);
+
+		assertThat(registry.get("elasticsearch.client.pool.lease").tag("route", ROUTE).functionTimer().count())
+				.isEqualTo(1);
+		// no pool registered yet
+		assertThat(registry.get("elasticsearch.client.pool.leased").tag("route", ROUTE).gauge().value()).isZero();
+	}
+
+	private static Gauge gauge(MeterRegistry registry, String name) {
+		return registry.get("elasticsearch.client.pool." + name).tags("client", "test", "route", ROUTE).gauge();
+	}
+}
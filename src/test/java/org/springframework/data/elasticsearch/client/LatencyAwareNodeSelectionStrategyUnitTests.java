@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class LatencyAwareNodeSelectionStrategyUnitTests {
+
+	private static final InetSocketAddress NODE_1 = InetSocketAddress.createUnresolved("node-1", 9200);
+	private static final InetSocketAddress NODE_2 = InetSocketAddress.createUnresolved("node-2", 9200);
+	private static final InetSocketAddress NODE_3 = InetSocketAddress.createUnresolved("node-3", 9200);
+	private static final List<InetSocketAddress> NODES = List.of(NODE_1, NODE_2, NODE_3);
+
+	private final AtomicLong now = new AtomicLong();
+	private final LatencyAwareNodeSelectionStrategy strategy = new LatencyAwareNodeSelectionStrategy(
+			Duration.ofSeconds(10), 2.0, Duration.ofSeconds(1), Duration.ofSeconds(4), Duration.ofSeconds(60), now::get);
+
+	@Test
+	@DisplayName("should select all nodes without samples")
+	void shouldSelectAllNodesWithoutSamples() {
+		assertThat(strategy.select(NODES)).containsExactlyElementsOf(NODES);
+	}
+
+	@Test
+	@DisplayName("should prefer nodes without samples")
+	void shouldPreferNodesWithoutSamples() {
+
+		respond(NODE_1, Duration.ofMillis(10));
+
+		assertThat(strategy.select(NODES)).containsExactly(NODE_2, NODE_3);
+	}
+
+	@Test
+	@DisplayName("should select the nodes within the tolerance of the lowest latency")
+	void shouldSelectTheNodesWithinTheToleranceOfTheLowestLatency() {
+
+		respond(NODE_1, Duration.ofMillis(10));
+		respond(NODE_2, Duration.ofMillis(15));
+		respond(NODE_3, Duration.ofMillis(100));
+
+		assertThat(strategy.select(NODES)).containsExactly(NODE_1, NODE_2);
+	}
+
+	@Test
+	@DisplayName("should avoid nodes with outstanding requests")
+	void shouldAvoidNodesWithOutstandingRequests() {
+
+		respond(NODE_1, Duration.ofMillis(10));
+		respond(NODE_2, Duration.ofMillis(15));
+		strategy.requestStarted(NODE_1);
+		strategy.requestStarted(NODE_1);
+		strategy.requestStarted(NODE_1);
+
+		assertThat(strategy.select(List.of(NODE_1, NODE_2))).containsExactly(NODE_2);
+	}
+
+	@Test
+	@DisplayName("should not count cancelled requests as outstanding or failed")
+	void shouldNotCountCancelledRequestsAsOutstandingOrFailed() {
+
+		respond(NODE_1, Duration.ofMillis(10));
+		respond(NODE_2, Duration.ofMillis(15));
+		for (int i = 0; i < 3; i++) {
+			strategy.requestStarted(NODE_1);
+			strategy.requestCancelled(NODE_1);
+		}
+
+		assertThat(strategy.select(List.of(NODE_1, NODE_2))).containsExactly(NODE_1, NODE_2);
+	}
+
+	@Test
+	@DisplayName("should stop counting requests without outcome after the maximum request duration")
+	void shouldStopCountingRequestsWithoutOutcomeAfterTheMaximumRequestDuration() {
+
+		respond(NODE_1, Duration.ofMillis(10));
+		strategy.requestStarted(NODE_1);
+		strategy.requestStarted(NODE_1);
+		strategy.requestStarted(NODE_1);
+		now.addAndGet(Duration.ofSeconds(61).toNanos());
+		respond(NODE_1, Duration.ofMillis(10));
+		respond(NODE_2, Duration.ofMillis(15));
+
+		assertThat(strategy.select(List.of(NODE_1, NODE_2))).containsExactly(NODE_1, NODE_2);
+	}
+
+	@Test
+	@DisplayName("should probe slow nodes again when their latency decayed")
+	void shouldProbeSlowNodesAgainWhenTheirLatencyDecayed() {
+
+		respond(NODE_1, Duration.ofMillis(100));
+		respond(NODE_2, Duration.ofMillis(10));
+		now.addAndGet(Duration.ofSeconds(30).toNanos());
+		respond(NODE_2, Duration.ofMillis(10));
+
+		assertThat(strategy.select(List.of(NODE_1, NODE_2))).contains(NODE_1);
+	}
+
+	@Test
+	@DisplayName("should exclude failed nodes for a doubling cool-down")
+	void shouldExcludeFailedNodesForADoublingCoolDown() {
+
+		fail(NODE_1);
+		assertThat(strategy.select(NODES)).containsExactly(NODE_2, NODE_3);
+
+		now.addAndGet(Duration.ofSeconds(1).toNanos());
+		assertThat(strategy.select(NODES)).contains(NODE_1);
+
+		fail(NODE_1);
+		now.addAndGet(Duration.ofSeconds(1).toNanos());
+		assertThat(strategy.select(NODES)).doesNotContain(NODE_1);
+
+		now.addAndGet(Duration.ofSeconds(1).toNanos());
+		assertThat(strategy.select(NODES)).contains(NODE_1);
+
+		fail(NODE_1);
+		fail(NODE_1);
+		now.addAndGet(Duration.ofSeconds(4).toNanos());
+		assertThat(strategy.select(NODES)).contains(NODE_1);
+	}
+
+	@Test
+	@DisplayName("should reset the cool-down on success")
+	void shouldResetTheCoolDownOnSuccess() {
+
+		fail(NODE_1);
+		fail(NODE_1);
+		respond(NODE_1, Duration.ofMillis(10));
+		respond(NODE_2, Duration.ofMillis(10));
+		respond(NODE_3, Duration.ofMillis(10));
+
+		fail(NODE_1);
+		now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+		assertThat(strategy.select(NODES)).contains(NODE_1);
+	}
+
+	@Test
+	@DisplayName("should select nothing when all nodes are cooling down")
+	void shouldSelectNothingWhenAllNodesAreCoolingDown() {
+
+		NODES.forEach(this::fail);
+
+		assertThat(strategy.select(NODES)).isEmpty();
+	}
+
+	private void respond(InetSocketAddress node, Duration latency) {
+		strategy.requestStarted(node);
+		strategy.requestSucceeded(node, latency);
+	}
+
+	private void fail(InetSocketAddress node) {
+		strategy.requestStarted(node);
+		strategy.requestFailed(node);
+	}
+}
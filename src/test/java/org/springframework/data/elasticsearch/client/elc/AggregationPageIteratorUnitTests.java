@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeBucket;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.AggregationBucket;
+import org.springframework.data.elasticsearch.core.query.AggregationStreamOptions;
+
+/**
+ * @author agent
+ */
+class AggregationPageIteratorUnitTests {
+
+	private static final String AGGREGATION_NAME = "by_customer";
+
+	private final JacksonJsonpMapper jsonpMapper = new JacksonJsonpMapper();
+
+	@Test
+	@DisplayName("should create composite page requests with size 0, page size and after key")
+	void shouldCreateCompositePageRequestsWithSizeZeroPageSizeAndAfterKey() {
+
+		var requests = new AggregationStreamRequests(compositeSearchRequest(), AGGREGATION_NAME,
+				AggregationStreamOptions.builder().withPageSize(100).build(), jsonpMapper);
+
+		SearchRequest first = requests.compositeRequest(null);
+		SearchRequest next = requests.compositeRequest(Map.of("customer", FieldValue.of("c-42")));
+
+		assertThat(first.size()).isEqualTo(0);
+		assertThat(first.aggregations().get(AGGREGATION_NAME).composite().size()).isEqualTo(100);
+		assertThat(first.aggregations().get(AGGREGATION_NAME).composite().after()).isEmpty();
+		assertThat(next.aggregations().get(AGGREGATION_NAME).composite().after().get("customer").stringValue())
+				.isEqualTo("c-42");
+		assertThat(next.aggregations().get(AGGREGATION_NAME).aggregations()).containsKey("total");
+	}
+
+	@Test
+	@DisplayName("should create partition requests for a terms aggregation")
+	void shouldCreatePartitionRequestsForATermsAggregation() {
+
+		var searchRequest = SearchRequest.of(sr -> sr //
+				.index("orders") //
+				.aggregations(AGGREGATION_NAME, a -> a.terms(t -> t.field("customer").size(10))));
+		var requests = new AggregationStreamRequests(searchRequest, AGGREGATION_NAME,
+				AggregationStreamOptions.builder().withPartitions(20).withPageSize(1000).build(), jsonpMapper);
+
+		var terms = requests.partitionRequest(3).aggregations().get(AGGREGATION_NAME).terms();
+
+		assertThat(terms.field()).isEqualTo("customer");
+		assertThat(terms.size()).isEqualTo(1000);
+		assertThat(terms.include().partition().partition()).isEqualTo(3);
+		assertThat(terms.include().partition().numPartitions()).isEqualTo(20);
+	}
+
+	@Test
+	@DisplayName("should keep the exclude and reject an include of a partitioned terms aggregation")
+	void shouldKeepTheExcludeAndRejectAnIncludeOfAPartitionedTermsAggregation() {
+
+		var options = AggregationStreamOptions.builder().withPartitions(20).build();
+		var withExclude = SearchRequest.of(sr -> sr //
+				.index("orders") //
+				.aggregations(AGGREGATION_NAME, a -> a.terms(t -> t.field("customer").exclude("test-.*"))));
+		var withInclude = SearchRequest.of(sr -> sr //
+				.index("orders") //
+				.aggregations(AGGREGATION_NAME, a -> a.terms(t -> t.field("customer").include(i -> i.regexp("vip-.*")))));
+
+		var terms = new AggregationStreamRequests(withExclude, AGGREGATION_NAME, options, jsonpMapper).partitionRequest(0)
+				.aggregations().get(AGGREGATION_NAME).terms();
+
+		assertThat(terms.exclude()).containsExactly("test-.*");
+		assertThat(terms.include().partition().numPartitions()).isEqualTo(20);
+		assertThatThrownBy(() -> new AggregationStreamRequests(withInclude, AGGREGATION_NAME, options, jsonpMapper))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("should reject an aggregation that is not a composite aggregation")
+	void shouldRejectAnAggregationThatIsNotACompositeAggregation() {
+
+		var searchRequest = SearchRequest.of(sr -> sr //
+				.index("orders") //
+				.aggregations(AGGREGATION_NAME, a -> a.terms(t -> t.field("customer"))));
+
+		assertThatThrownBy(() -> new AggregationStreamRequests(searchRequest, AGGREGATION_NAME,
+				AggregationStreamOptions.defaultOptions(), jsonpMapper)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("should page a composite aggregation until there is no after key")
+	void shouldPageACompositeAggregationUntilThereIsNoAfterKey() {
+
+		var requests = new AggregationStreamRequests(compositeSearchRequest(), AGGREGATION_NAME,
+				AggregationStreamOptions.defaultOptions(), jsonpMapper);
+		List<SearchRequest> sent = new CopyOnWriteArrayList<>();
+
+		var iterator = new AggregationPageIterator(requests, request -> {
+			sent.add(request);
+			var after = request.aggregations().get(AGGREGATION_NAME).composite().after();
+			return after.isEmpty() ? page("a", "b") : "b".equals(after.get("customer").stringValue()) ? page("c") : page();
+		}, AggregationStreamOptions.defaultOptions());
+
+		List<Object> keys = iterator.stream().flatMap(List::stream).map(bucket -> bucket.getKey().get("customer"))
+				.collect(Collectors.toList());
+
+		assertThat(keys).containsExactly("a", "b", "c");
+		assertThat(sent).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("should not request the next page before it is needed without prefetch")
+	void shouldNotRequestTheNextPageBeforeItIsNeededWithoutPrefetch() {
+
+		var requests = new AggregationStreamRequests(compositeSearchRequest(), AGGREGATION_NAME,
+				AggregationStreamOptions.defaultOptions(), jsonpMapper);
+		List<SearchRequest> sent = new CopyOnWriteArrayList<>();
+
+		var iterator = new AggregationPageIterator(requests, request -> {
+			sent.add(request);
+			return page("a");
+		}, AggregationStreamOptions.defaultOptions());
+
+		assertThat(iterator.next()).hasSize(1);
+		assertThat(sent).hasSize(1);
+
+		iterator.close();
+
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	@DisplayName("should search all partitions concurrently and return them in order")
+	void shouldSearchAllPartitionsConcurrentlyAndReturnThemInOrder() {
+
+		var searchRequest = SearchRequest.of(sr -> sr //
+				.index("orders") //
+				.aggregations(AGGREGATION_NAME, a -> a.terms(t -> t.field("customer"))));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			var options = AggregationStreamOptions.builder().withPartitions(8).withParallelism(4).withExecutor(executor)
+					.build();
+			var requests = new AggregationStreamRequests(searchRequest, AGGREGATION_NAME, options, jsonpMapper);
+
+			var iterator = new AggregationPageIterator(requests, request -> page(
+					String.valueOf(request.aggregations().get(AGGREGATION_NAME).terms().include().partition().partition())),
+					options);
+
+			List<Object> keys = iterator.stream().flatMap(List::stream).map(bucket -> bucket.getKey().get("customer"))
+					.collect(Collectors.toList());
+
+			assertThat(keys).containsExactly("0", "1", "2", "3", "4", "5", "6", "7");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static SearchRequest compositeSearchRequest() {
+		return SearchRequest.of(sr -> sr //
+				.index("orders") //
+				.size(10) //
+				.aggregations(AGGREGATION_NAME, a -> a //
+						.composite(c -> c.sources(Map.of("customer", cs -> cs.terms(t -> t.field("customer"))))) //
+						.aggregations("total", sub -> sub.sum(s -> s.field("amount")))));
+	}
+
+	private static AggregationStreamRequests.Page page(String... keys) {
+
+		List<AggregationBucket> buckets = Arrays.stream(keys)
+				.map(key -> (AggregationBucket) new ElasticsearchAggregationBucket(Map.of("customer", key),
+						CompositeBucket.of(b -> b.key(Map.of("customer", FieldValue.of(key))).docCount(1))))
+				.toList();
+		@Nullable
+		Map<String, FieldValue> afterKey = keys.length > 0 ? Map.of("customer", FieldValue.of(keys[keys.length - 1]))
+				: null;
+		return new AggregationStreamRequests.Page(buckets, afterKey);
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class HedgingPolicyUnitTests {
+
+	private final HedgingPolicy hedgingPolicy = new HedgingPolicy(90, 0.1, Duration.ofMillis(5));
+
+	@Test
+	@DisplayName("should not hedge before enough latencies have been observed")
+	void shouldNotHedgeBeforeEnoughLatenciesHaveBeenObserved() {
+
+		record(ElasticsearchOperationName.SEARCH, 99);
+
+		assertThat(hedgingPolicy.requestStarted(ElasticsearchOperationName.SEARCH)).isNull();
+	}
+
+	@Test
+	@DisplayName("should use the percentile of the observed latencies as delay")
+	void shouldUseThePercentileOfTheObservedLatenciesAsDelay() {
+
+		record(ElasticsearchOperationName.SEARCH, 100);
+
+		assertThat(hedgingPolicy.requestStarted(ElasticsearchOperationName.SEARCH)).isEqualTo(Duration.ofMillis(90));
+		assertThat(hedgingPolicy.requestStarted(ElasticsearchOperationName.GET)).isNull();
+	}
+
+	@Test
+	@DisplayName("should not use a delay below the minimum delay")
+	void shouldNotUseADelayBelowTheMinimumDelay() {
+
+		for (int i = 0; i < 100; i++) {
+			hedgingPolicy.requestCompleted(ElasticsearchOperationName.GET, Duration.ofMillis(1));
+		}
+
+		assertThat(hedgingPolicy.requestStarted(ElasticsearchOperationName.GET)).isEqualTo(Duration.ofMillis(5));
+	}
+
+	@Test
+	@DisplayName("should limit the hedged requests to the budget")
+	void shouldLimitTheHedgedRequestsToTheBudget() {
+
+		int hedged = 0;
+
+		for (int i = 0; i < 100; i++) {
+			hedgingPolicy.requestStarted(ElasticsearchOperationName.COUNT);
+
+			if (hedgingPolicy.tryHedge(ElasticsearchOperationName.COUNT)) {
+				hedged++;
+			}
+		}
+
+		assertThat(hedged).isEqualTo(10);
+		assertThat(hedgingPolicy.tryHedge(ElasticsearchOperationName.MULTI_GET)).isFalse();
+
+		HedgingPolicy.Statistics statistics = hedgingPolicy.getStatistics(ElasticsearchOperationName.COUNT);
+		assertThat(statistics.requestCount()).isEqualTo(100);
+		assertThat(statistics.hedgeCount()).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("should use the hedged response when the request fails while the hedge is in flight")
+	void shouldUseTheHedgedResponseWhenTheRequestFailsWhileTheHedgeIsInFlight() {
+
+		CompletableFuture<String> request = new CompletableFuture<>();
+		CompletableFuture<String> hedge = new CompletableFuture<>();
+		var result = HedgingPolicy.firstSuccessful(request, hedge);
+
+		request.completeExceptionally(new IllegalStateException("request"));
+
+		assertThat(result).isNotDone();
+
+		hedge.complete("hedge");
+
+		assertThat(result).isCompletedWithValue("hedge");
+	}
+
+	@Test
+	@DisplayName("should use the response of the request when the hedge fails")
+	void shouldUseTheResponseOfTheRequestWhenTheHedgeFails() {
+
+		CompletableFuture<String> request = new CompletableFuture<>();
+		CompletableFuture<String> hedge = new CompletableFuture<>();
+		var result = HedgingPolicy.firstSuccessful(request, hedge);
+
+		hedge.completeExceptionally(new IllegalStateException("hedge"));
+		request.complete("request");
+
+		assertThat(result).isCompletedWithValue("request");
+	}
+
+	@Test
+	@DisplayName("should fail with the failure of the request when both fail")
+	void shouldFailWithTheFailureOfTheRequestWhenBothFail() {
+
+		CompletableFuture<String> request = new CompletableFuture<>();
+		CompletableFuture<String> hedge = new CompletableFuture<>();
+		var result = HedgingPolicy.firstSuccessful(request, hedge);
+
+		request.completeExceptionally(new IllegalStateException("request"));
+		hedge.completeExceptionally(new IllegalStateException("hedge"));
+
+		assertThat(result).failsWithin(Duration.ZERO).withThrowableOfType(ExecutionException.class)
+				.withCauseInstanceOf(IllegalStateException.class).withMessageContaining("request");
+	}
+
+	private void record(ElasticsearchOperationName operationName, int count) {
+
+		for (int i = 1; i <= count; i++) {
+			hedgingPolicy.requestCompleted(operationName, Duration.ofMillis(i));
+		}
+	}
+}
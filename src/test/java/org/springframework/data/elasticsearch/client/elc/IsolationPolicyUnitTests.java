@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.common.KeyValue;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.OperationRejectedException;
+import org.springframework.data.elasticsearch.ResourceNotFoundException;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.data.elasticsearch.client.elc.IsolationPolicy.CircuitState;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * @author agent
+ */
+class IsolationPolicyUnitTests {
+
+	private static final IndexCoordinates LOGS = IndexCoordinates.of("logs");
+	private static final IndexCoordinates ORDERS = IndexCoordinates.of("orders");
+
+	private final AtomicLong nanoTime = new AtomicLong();
+	private final IsolationPolicy policy = new IsolationPolicy(2, 2, Duration.ofSeconds(10), 2,
+			nanoTime::get);
+
+	@Test
+	@DisplayName("should reject requests exceeding the maximum number of concurrent requests per index and operation")
+	void shouldRejectRequestsExceedingTheMaximumNumberOfConcurrentRequestsPerIndexAndOperation() {
+
+		var first = policy.acquire(context(ElasticsearchOperationName.SEARCH, LOGS));
+		policy.acquire(context(ElasticsearchOperationName.SEARCH, LOGS));
+
+		var rejected = context(ElasticsearchOperationName.SEARCH, LOGS);
+		assertThatThrownBy(() -> policy.acquire(rejected)).isInstanceOf(OperationRejectedException.class);
+		assertThat(rejected.getConcurrentRequests()).isEqualTo(2);
+
+		// other indices and operations are not affected
+		policy.acquire(context(ElasticsearchOperationName.SEARCH, ORDERS));
+		policy.acquire(context(ElasticsearchOperationName.GET, LOGS));
+
+		first.release(null);
+		first.release(null);
+
+		var next = context(ElasticsearchOperationName.SEARCH, LOGS);
+		policy.acquire(next);
+		assertThat(next.getConcurrentRequests()).isEqualTo(2);
+		assertThat(next.getCircuitState()).isEqualTo(CircuitState.CLOSED);
+	}
+
+	@Test
+	@DisplayName("should open the circuit after consecutive failures and close it after a successful probe")
+	void shouldOpenTheCircuitAfterConsecutiveFailuresAndCloseItAfterASuccessfulProbe() {
+
+		fail(ElasticsearchOperationName.SEARCH, LOGS, new DataAccessResourceFailureException("timeout"));
+		assertThat(policy.getCircuitState(ElasticsearchOperationName.SEARCH, LOGS)).isEqualTo(CircuitState.CLOSED);
+		fail(ElasticsearchOperationName.SEARCH, LOGS, new DataAccessResourceFailureException("timeout"));
+		assertThat(policy.getCircuitState(ElasticsearchOperationName.SEARCH, LOGS)).isEqualTo(CircuitState.OPEN);
+
+		var rejected = context(ElasticsearchOperationName.SEARCH, LOGS);
+		assertThatThrownBy(() -> policy.acquire(rejected)).isInstanceOf(OperationRejectedException.class);
+		assertThat(rejected.getCircuitState()).isEqualTo(CircuitState.OPEN);
+		policy.acquire(context(ElasticsearchOperationName.SEARCH, ORDERS)).release(null);
+
+		nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+
+		var probeContext = context(ElasticsearchOperationName.SEARCH, LOGS);
+		var probe = policy.acquire(probeContext);
+		assertThat(probeContext.getCircuitState()).isEqualTo(CircuitState.HALF_OPEN);
+		assertThatThrownBy(() -> policy.acquire(context(ElasticsearchOperationName.SEARCH, LOGS)))
+				.isInstanceOf(OperationRejectedException.class);
+
+		probe.release(null);
+
+		assertThat(policy.getCircuitState(ElasticsearchOperationName.SEARCH, LOGS)).isEqualTo(CircuitState.CLOSED);
+		policy.acquire(context(ElasticsearchOperationName.SEARCH, LOGS));
+	}
+
+	@Test
+	@DisplayName("should open the circuit again when the probe fails")
+	void shouldOpenTheCircuitAgainWhenTheProbeFails() {
+
+		fail(ElasticsearchOperationName.SEARCH, LOGS, new SocketTimeoutException());
+		fail(ElasticsearchOperationName.SEARCH, LOGS, new SocketTimeoutException());
+		nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+
+		fail(ElasticsearchOperationName.SEARCH, LOGS, new SocketTimeoutException());
+
+		assertThat(policy.getCircuitState(ElasticsearchOperationName.SEARCH, LOGS)).isEqualTo(CircuitState.OPEN);
+		assertThatThrownBy(() -> policy.acquire(context(ElasticsearchOperationName.SEARCH, LOGS)))
+				.isInstanceOf(OperationRejectedException.class);
+	}
+
+	@Test
+	@DisplayName("should only count errors showing an unavailable or overloaded index as failures")
+	void shouldOnlyCountErrorsShowingAnUnavailableOrOverloadedIndexAsFailures() {
+
+		assertThat(IsolationPolicy.isFailure(new DataAccessResourceFailureException("io", new SocketTimeoutException())))
+				.isTrue();
+		assertThat(IsolationPolicy.isFailure(new UncategorizedElasticsearchException("busy", 429, null, null))).isTrue();
+		assertThat(IsolationPolicy.isFailure(new UncategorizedElasticsearchException("bad request", 400, null, null)))
+				.isFalse();
+		assertThat(IsolationPolicy.isFailure(new ResourceNotFoundException("not found"))).isFalse();
+
+		fail(ElasticsearchOperationName.GET, LOGS, new ResourceNotFoundException("not found"));
+		fail(ElasticsearchOperationName.GET, LOGS, new ResourceNotFoundException("not found"));
+
+		assertThat(policy.getCircuitState(ElasticsearchOperationName.GET, LOGS)).isEqualTo(CircuitState.CLOSED);
+	}
+
+	@Test
+	@DisplayName("should remove the least recently used compartment when the maximum number is reached")
+	void shouldRemoveTheLeastRecentlyUsedCompartmentWhenTheMaximumNumberIsReached() {
+
+		fail(ElasticsearchOperationName.SEARCH, ORDERS, new SocketTimeoutException());
+		fail(ElasticsearchOperationName.SEARCH, ORDERS, new SocketTimeoutException());
+		fail(ElasticsearchOperationName.SEARCH, LOGS, new SocketTimeoutException());
+		fail(ElasticsearchOperationName.SEARCH, LOGS, new SocketTimeoutException());
+
+		policy.acquire(context(ElasticsearchOperationName.SEARCH, IndexCoordinates.of("logs-2026.10.18"))).release(null);
+
+		assertThat(policy.getCompartmentCount()).isEqualTo(2);
+		assertThat(policy.getCircuitState(ElasticsearchOperationName.SEARCH, ORDERS)).isEqualTo(CircuitState.CLOSED);
+		assertThat(policy.getCircuitState(ElasticsearchOperationName.SEARCH, LOGS)).isEqualTo(CircuitState.OPEN);
+	}
+
+	@Test
+	@DisplayName("should bound the compartments when they are created concurrently")
+	void shouldBoundTheCompartmentsWhenTheyAreCreatedConcurrently() throws Exception {
+
+		var boundedPolicy = new IsolationPolicy(2, 2, Duration.ofSeconds(10), 16);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<?>> futures = IntStream.range(0, 8).<Future<?>> mapToObj(thread -> executor.submit(() -> {
+				for (int i = 0; i < 500; i++) {
+					IndexCoordinates index = IndexCoordinates.of("index-" + thread + "-" + i);
+					boundedPolicy.acquire(context(ElasticsearchOperationName.SEARCH, index)).release(null);
+				}
+			})).toList();
+
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(boundedPolicy.getCompartmentCount()).isLessThanOrEqualTo(16);
+	}
+
+	@Test
+	@DisplayName("should add the state of the compartment as high cardinality key values to the observation")
+	void shouldAddTheStateOfTheCompartmentAsHighCardinalityKeyValuesToTheObservation() {
+
+		var convention = DefaultElasticsearchObservationConvention.INSTANCE;
+		var context = context(ElasticsearchOperationName.SEARCH, LOGS);
+		policy.acquire(context);
+
+		assertThat(convention.getLowCardinalityKeyValues(context)).extracting(KeyValue::getKey)
+				.containsExactlyInAnyOrder("spring.data.operation", "spring.data.collection");
+		assertThat(convention.getHighCardinalityKeyValues(context)).containsExactlyInAnyOrder(
+				KeyValue.of("spring.data.circuit.state", "closed"), KeyValue.of("spring.data.concurrent.requests", "1"));
+	}
+
+	@Test
+	@DisplayName("should reject an invalid maximum number of compartments")
+	void shouldRejectAnInvalidMaximumNumberOfCompartments() {
+		assertThatThrownBy(() -> new IsolationPolicy(2, 2, Duration.ofSeconds(10), 0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private void fail(ElasticsearchOperationName operationName, IndexCoordinates index, Throwable error) {
+		policy.acquire(context(operationName, index)).release(error);
+	}
+
+	private static ElasticsearchObservationContext context(ElasticsearchOperationName operationName,
+			IndexCoordinates index) {
+		return new ElasticsearchObservationContext(operationName, index);
+	}
+}
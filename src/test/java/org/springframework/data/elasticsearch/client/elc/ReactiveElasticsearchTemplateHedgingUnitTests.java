@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+/**
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveElasticsearchTemplateHedgingUnitTests {
+
+	private static final Duration HEDGING_DELAY = Duration.ofMillis(10);
+	private static final Duration SLOW_RESPONSE = Duration.ofMillis(500);
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("hedged");
+
+	@Mock private ReactiveElasticsearchClient client;
+	@Mock private ElasticsearchTransport transport;
+
+	private final HedgingPolicy hedgingPolicy = new HedgingPolicy(50, 1, HEDGING_DELAY);
+	private ReactiveElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		when(client._transport()).thenReturn(transport);
+		when(transport.jsonpMapper()).thenReturn(new JacksonJsonpMapper());
+
+		template = new ReactiveElasticsearchTemplate(client,
+				new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
+		template.setHedgingPolicy(hedgingPolicy);
+
+		// enough observed latencies for the policy to hedge after the minimum delay
+		for (int i = 0; i < 100; i++) {
+			hedgingPolicy.requestCompleted(ElasticsearchOperationName.COUNT, Duration.ofMillis(1));
+		}
+	}
+
+	@Test
+	@DisplayName("should use the response of the hedged request when the original request fails after the delay")
+	void shouldUseTheResponseOfTheHedgedRequestWhenTheOriginalRequestFailsAfterTheDelay() {
+
+		when(client.search(any(SearchRequest.class), eq(EntityAsMap.class))) //
+				.thenReturn(Mono.delay(SLOW_RESPONSE).then(Mono.error(new IllegalStateException("original failed")))) //
+				.thenReturn(Mono.just(response(42)));
+
+		template.count(Query.findAll(), HedgedEntity.class, INDEX) //
+				.as(StepVerifier::create) //
+				.expectNext(42L) //
+				.verifyComplete();
+
+		assertThat(hedgingPolicy.getStatistics(ElasticsearchOperationName.COUNT).hedgeCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should use the response of the original request when the hedged request fails")
+	void shouldUseTheResponseOfTheOriginalRequestWhenTheHedgedRequestFails() {
+
+		when(client.search(any(SearchRequest.class), eq(EntityAsMap.class))) //
+				.thenReturn(Mono.delay(SLOW_RESPONSE).thenReturn(response(42))) //
+				.thenReturn(Mono.error(new IllegalStateException("hedge failed")));
+
+		template.count(Query.findAll(), HedgedEntity.class, INDEX) //
+				.as(StepVerifier::create) //
+				.expectNext(42L) //
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("should return the failure of the original request when both requests fail")
+	void shouldReturnTheFailureOfTheOriginalRequestWhenBothRequestsFail() {
+
+		when(client.search(any(SearchRequest.class), eq(EntityAsMap.class))) //
+				.thenReturn(Mono.delay(SLOW_RESPONSE).then(Mono.error(new IllegalStateException("original failed")))) //
+				.thenReturn(Mono.error(new IllegalStateException("hedge failed")));
+
+		template.count(Query.findAll(), HedgedEntity.class, INDEX) //
+				.as(StepVerifier::create) //
+				.expectErrorSatisfies(throwable -> assertThat(throwable).hasMessageContaining("original failed")) //
+				.verify();
+	}
+
+	@Test
+	@DisplayName("should return the failure of the original request without hedging when it fails before the delay")
+	void shouldReturnTheFailureOfTheOriginalRequestWithoutHedgingWhenItFailsBeforeTheDelay() {
+
+		when(client.search(any(SearchRequest.class), eq(EntityAsMap.class))) //
+				.thenReturn(Mono.error(new IllegalStateException("original failed")));
+
+		template.count(Query.findAll(), HedgedEntity.class, INDEX) //
+				.as(StepVerifier::create) //
+				.expectErrorSatisfies(throwable -> assertThat(throwable).hasMessageContaining("original failed")) //
+				.verify();
+
+		verify(client, times(1)).search(any(SearchRequest.class), eq(EntityAsMap.class));
+		assertThat(hedgingPolicy.getStatistics(ElasticsearchOperationName.COUNT).hedgeCount()).isEqualTo(0);
+	}
+
+	private static SearchResponse<EntityAsMap> response(long totalHits) {
+		return SearchResponse.of(r -> r //
+				.took(1) //
+				.timedOut(false) //
+				.shards(s -> s.total(1).successful(1).failed(0)) //
+				.hits(h -> h.total(t -> t.value(totalHits).relation(TotalHitsRelation.Eq)).hits(List.of())));
+	}
+
+	static class HedgedEntity {
+		@Nullable
+		@Id private String id;
+	}
+}
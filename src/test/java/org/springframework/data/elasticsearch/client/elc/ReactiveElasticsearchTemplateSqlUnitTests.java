@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import co.elastic.clients.elasticsearch.sql.ClearCursorRequest;
+import co.elastic.clients.elasticsearch.sql.ClearCursorResponse;
+import co.elastic.clients.elasticsearch.sql.QueryRequest;
+import co.elastic.clients.elasticsearch.sql.QueryResponse;
+import co.elastic.clients.json.JsonData;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import jakarta.json.JsonString;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.SqlQuery;
+import org.springframework.data.elasticsearch.core.sql.SqlResponse;
+
+/**
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveElasticsearchTemplateSqlUnitTests {
+
+	private static final SqlResponse.Column COLUMN = new SqlResponse.Column("name", "keyword");
+
+	@Mock private ReactiveElasticsearchClient client;
+	@Mock private ReactiveElasticsearchSqlClient sqlClient;
+	@Mock private ElasticsearchTransport transport;
+
+	private final List<String> requestedCursors = new CopyOnWriteArrayList<>();
+	private final List<String> clearedCursors = new CopyOnWriteArrayList<>();
+	private ReactiveElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		when(client.sql()).thenReturn(sqlClient);
+		when(client._transport()).thenReturn(transport);
+		when(transport.jsonpMapper()).thenReturn(new JacksonJsonpMapper());
+
+		template = new ReactiveElasticsearchTemplate(client,
+				new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
+	}
+
+	@Test
+	@DisplayName("should emit the rows of all pages with the columns of the first page")
+	void shouldEmitTheRowsOfAllPagesWithTheColumnsOfTheFirstPage() {
+
+		givenThreePages();
+
+		values(template.searchForStream(query())) //
+				.as(StepVerifier::create) //
+				.expectNext("a", "b", "c", "d", "e") //
+				.verifyComplete();
+
+		assertThat(requestedCursors).containsExactly("c1", "c2");
+		assertThat(clearedCursors).isEmpty();
+	}
+
+	@Test
+	@DisplayName("should request the next page only when its rows are needed without prefetch")
+	void shouldRequestTheNextPageOnlyWhenItsRowsAreNeededWithoutPrefetch() {
+
+		givenThreePages();
+
+		StepVerifier.create(values(template.searchForStream(query(), 0)), 0) //
+				.thenRequest(1) //
+				.expectNext("a") //
+				.then(() -> assertThat(requestedCursors).isEmpty()) //
+				.thenRequest(2) //
+				.expectNext("b", "c") //
+				.then(() -> assertThat(requestedCursors).containsExactly("c1")) //
+				.thenRequest(Long.MAX_VALUE) //
+				.expectNext("d", "e") //
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("should request the next page ahead with prefetch")
+	void shouldRequestTheNextPageAheadWithPrefetch() {
+
+		givenThreePages();
+
+		StepVerifier.create(values(template.searchForStream(query(), 1)), 0) //
+				.thenRequest(1) //
+				.expectNext("a") //
+				.then(() -> assertThat(requestedCursors).containsExactly("c1")) //
+				.thenRequest(Long.MAX_VALUE) //
+				.expectNext("b", "c", "d", "e") //
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("should clear the cursor when cancelled before the last page")
+	void shouldClearTheCursorWhenCancelledBeforeTheLastPage() {
+
+		givenThreePages();
+
+		when(sqlClient.clearCursor(any(ClearCursorRequest.class))).thenAnswer(invocation -> {
+			clearedCursors.add(invocation.<ClearCursorRequest> getArgument(0).cursor());
+			return Mono.just(ClearCursorResponse.of(r -> r.succeeded(true)));
+		});
+
+		StepVerifier.create(values(template.searchForStream(query(), 0)), 0) //
+				.thenRequest(1) //
+				.expectNext("a") //
+				.thenCancel() //
+				.verify();
+
+		assertThat(clearedCursors).containsExactly("c1");
+	}
+
+	@Test
+	@DisplayName("should reject a negative prefetch")
+	void shouldRejectANegativePrefetch() {
+		assertThatThrownBy(() -> template.searchForStream(query(), -1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private void givenThreePages() {
+
+		when(sqlClient.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+			QueryRequest request = invocation.getArgument(0);
+			String cursor = request.cursor();
+
+			if (cursor == null) {
+				return Mono.just(page("c1", true, "a", "b"));
+			}
+
+			requestedCursors.add(cursor);
+			return Mono.just(switch (cursor) {
+				case "c1" -> page("c2", false, "c", "d");
+				case "c2" -> page(null, false, "e");
+				default -> throw new IllegalArgumentException(cursor);
+			});
+		});
+	}
+
+	private static SqlQuery query() {
+		return SqlQuery.builder("SELECT name FROM test").build();
+	}
+
+	private static Flux<String> values(Flux<SqlResponse.Row> rows) {
+		return rows.map(row -> ((JsonString) row.get(COLUMN)).getString());
+	}
+
+	/**
+	 * Elasticsearch only returns the columns with the first page.
+	 */
+	private static QueryResponse page(@Nullable String cursor, boolean withColumns, String... values) {
+
+		return QueryResponse.of(r -> {
+			if (withColumns) {
+				r.columns(c -> c.name(COLUMN.name()).type(COLUMN.type()));
+			}
+
+			for (String value : values) {
+				r.rows(List.of(JsonData.of(value)));
+			}
+
+			return r.cursor(cursor);
+		});
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+/**
+ * Checks the page sizes that are requested by an unbounded reactive search.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveElasticsearchTemplateUnboundedSearchUnitTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("unbounded");
+	private static final int NUMBER_OF_DOCUMENTS = 300;
+	private static final int BATCH_SIZE = 50;
+
+	@Mock private ReactiveElasticsearchClient client;
+	@Mock private ElasticsearchTransport transport;
+
+	private final List<Integer> requestedSizes = new CopyOnWriteArrayList<>();
+	private ReactiveElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		when(client._transport()).thenReturn(transport);
+		when(transport.jsonpMapper()).thenReturn(new JacksonJsonpMapper());
+
+		when(client.openPointInTime(any(OpenPointInTimeRequest.class))).thenReturn(Mono.just(
+				OpenPointInTimeResponse.of(r -> r.id("pit-id").shards(s -> s.total(1).successful(1).failed(0)))));
+		when(client.closePointInTime(any(ClosePointInTimeRequest.class)))
+				.thenReturn(Mono.just(ClosePointInTimeResponse.of(r -> r.succeeded(true).numFreed(1))));
+		when(client.search(any(SearchRequest.class), eq(EntityAsMap.class)))
+				.thenAnswer(invocation -> Mono.just(page(invocation.getArgument(0))));
+
+		template = new ReactiveElasticsearchTemplate(client,
+				new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
+	}
+
+	@Test
+	@DisplayName("should shrink the page size without demand and grow it with demand when adaptive")
+	void shouldShrinkThePageSizeWithoutDemandAndGrowItWithDemandWhenAdaptive() {
+
+		StepVerifier.create(template.doFind(query(true), UnboundedEntity.class, INDEX), 0) //
+				.then(() -> {
+					// the first page is requested with the batch size, the page read ahead without demand with the minimum
+					assertThat(requestedSizes).hasSizeGreaterThanOrEqualTo(2);
+					assertThat(requestedSizes.get(0)).isEqualTo(BATCH_SIZE);
+					assertThat(requestedSizes.get(1)).isEqualTo(Query.DEFAULT_PAGE_SIZE);
+				}) //
+				.thenRequest(Long.MAX_VALUE) //
+				.expectNextCount(NUMBER_OF_DOCUMENTS) //
+				.verifyComplete();
+
+		// with unbounded demand the page size grows back to the batch size
+		assertThat(requestedSizes.get(requestedSizes.size() - 1)).isEqualTo(BATCH_SIZE);
+		assertThat(requestedSizes.subList(2, requestedSizes.size())).contains(BATCH_SIZE);
+	}
+
+	@Test
+	@DisplayName("should request pages between the minimum and the batch size for a bounded demand when adaptive")
+	void shouldRequestPagesBetweenTheMinimumAndTheBatchSizeForABoundedDemandWhenAdaptive() {
+
+		StepVerifier.create(template.doFind(query(true), UnboundedEntity.class, INDEX), 0) //
+				.thenRequest(BATCH_SIZE + 25) //
+				.expectNextCount(BATCH_SIZE + 25) //
+				.then(() -> {
+					assertThat(requestedSizes.get(0)).isEqualTo(BATCH_SIZE);
+					assertThat(requestedSizes.subList(1, requestedSizes.size())).contains(Query.DEFAULT_PAGE_SIZE);
+					assertThat(requestedSizes)
+							.allSatisfy(size -> assertThat(size).isBetween(Query.DEFAULT_PAGE_SIZE, BATCH_SIZE));
+				}) //
+				.thenCancel() //
+				.verify();
+	}
+
+	@Test
+	@DisplayName("should request all pages with the batch size when not adaptive")
+	void shouldRequestAllPagesWithTheBatchSizeWhenNotAdaptive() {
+
+		StepVerifier.create(template.doFind(query(false), UnboundedEntity.class, INDEX), 0) //
+				.thenRequest(Long.MAX_VALUE) //
+				.expectNextCount(NUMBER_OF_DOCUMENTS) //
+				.verifyComplete();
+
+		assertThat(requestedSizes).isNotEmpty().containsOnly(BATCH_SIZE);
+	}
+
+	private static Query query(boolean adaptive) {
+		return CriteriaQuery.builder(new Criteria("message").is("test")) //
+				.withPageable(Pageable.unpaged()) //
+				.withReactiveBatchSize(BATCH_SIZE) //
+				.withReactiveBatchSizeAdaptive(adaptive) //
+				.build();
+	}
+
+	/**
+	 * returns the documents following the search_after value of the request, the sort value of a hit is its number.
+	 */
+	private SearchResponse<EntityAsMap> page(SearchRequest request) {
+
+		int size = request.size() != null ? request.size() : 10;
+		requestedSizes.add(size);
+
+		long from = request.searchAfter().isEmpty() ? 0 : request.searchAfter().get(0).longValue() + 1;
+		List<Hit<EntityAsMap>> hits = LongStream.range(from, Math.min(from + size, NUMBER_OF_DOCUMENTS)) //
+				.mapToObj(ReactiveElasticsearchTemplateUnboundedSearchUnitTests::hit) //
+				.toList();
+
+		return SearchResponse.of(r -> r //
+				.took(1) //
+				.timedOut(false) //
+				.shards(s -> s.total(1).successful(1).failed(0)) //
+				.hits(h -> h.hits(hits)));
+	}
+
+	private static Hit<EntityAsMap> hit(long number) {
+
+		EntityAsMap source = new EntityAsMap();
+		source.put("id", String.valueOf(number));
+		source.put("message", "test");
+
+		return Hit.of(h -> h //
+				.index(INDEX.getIndexName()) //
+				.id(String.valueOf(number)) //
+				.source(source) //
+				.sort(List.of(FieldValue.of(number))));
+	}
+
+	static class UnboundedEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable private String message;
+	}
+}
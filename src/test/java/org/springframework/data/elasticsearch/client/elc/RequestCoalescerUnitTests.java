@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class RequestCoalescerUnitTests {
+
+	private final RequestCoalescer<String, String, String> coalescer = new RequestCoalescer<>(Duration.ofSeconds(10),
+			100);
+
+	@Test
+	@DisplayName("should put concurrent requests into one batch and deduplicate requests")
+	void shouldPutConcurrentRequestsIntoOneBatchAndDeduplicateRequests() {
+
+		var first = coalescer.register("key", "1");
+		var second = coalescer.register("key", "2");
+		var duplicate = coalescer.register("key", "1");
+
+		assertThat(first.batch()).isNotNull();
+		assertThat(second.batch()).isNull();
+		assertThat(duplicate.batch()).isNull();
+		assertThat(duplicate.result()).isSameAs(first.result());
+
+		assertThat(coalescer.close(first.batch())).containsExactly("1", "2");
+
+		coalescer.complete(first.batch(), List.of("result-1", "result-2"));
+
+		assertThat(first.result().join()).isEqualTo("result-1");
+		assertThat(second.result().join()).isEqualTo("result-2");
+	}
+
+	@Test
+	@DisplayName("should not put requests with different keys into the same batch")
+	void shouldNotPutRequestsWithDifferentKeysIntoTheSameBatch() {
+
+		var first = coalescer.register("key", "1");
+		var otherKey = coalescer.register("other-key", "1");
+
+		assertThat(otherKey.batch()).isNotNull().isNotSameAs(first.batch());
+		assertThat(otherKey.result()).isNotSameAs(first.result());
+	}
+
+	@Test
+	@DisplayName("should have a batch ready immediately when no batch is in flight")
+	void shouldHaveABatchReadyImmediatelyWhenNoBatchIsInFlight() {
+
+		var first = coalescer.register("key", "1");
+
+		assertThat(first.batch().ready()).isDone();
+	}
+
+	@Test
+	@DisplayName("should make the next batch ready when the batch in flight completes")
+	void shouldMakeTheNextBatchReadyWhenTheBatchInFlightCompletes() {
+
+		var first = coalescer.register("key", "1");
+		coalescer.close(first.batch());
+		var next = coalescer.register("key", "2");
+
+		assertThat(next.batch()).isNotNull().isNotSameAs(first.batch());
+		assertThat(next.batch().ready()).isNotDone();
+
+		coalescer.complete(first.batch(), List.of("result-1"));
+
+		assertThat(next.batch().ready()).isDone();
+	}
+
+	@Test
+	@DisplayName("should deduplicate requests that are in flight")
+	void shouldDeduplicateRequestsThatAreInFlight() {
+
+		var first = coalescer.register("key", "1");
+		coalescer.close(first.batch());
+		var inFlight = coalescer.register("key", "1");
+
+		assertThat(inFlight.batch()).isNull();
+		assertThat(inFlight.result()).isSameAs(first.result());
+
+		coalescer.complete(first.batch(), List.of("result-1"));
+		var afterCompletion = coalescer.register("key", "1");
+
+		assertThat(afterCompletion.result()).isNotSameAs(first.result());
+	}
+
+	@Test
+	@DisplayName("should make a full batch ready")
+	void shouldMakeAFullBatchReady() {
+
+		var smallCoalescer = new RequestCoalescer<String, String, String>(Duration.ofSeconds(10), 2);
+		var inFlight = smallCoalescer.register("key", "0");
+		smallCoalescer.close(inFlight.batch());
+
+		var first = smallCoalescer.register("key", "1");
+		assertThat(first.batch().ready()).isNotDone();
+
+		smallCoalescer.register("key", "2");
+		var next = smallCoalescer.register("key", "3");
+
+		assertThat(first.batch().ready()).isDone();
+		assertThat(next.batch()).isNotNull().isNotSameAs(first.batch());
+	}
+
+	@Test
+	@DisplayName("should complete all requests of a batch with an error")
+	void shouldCompleteAllRequestsOfABatchWithAnError() {
+
+		var first = coalescer.register("key", "1");
+		var second = coalescer.register("key", "2");
+		coalescer.close(first.batch());
+
+		coalescer.completeExceptionally(first.batch(), new IllegalStateException("boom"));
+
+		assertThat(first.result()).isCompletedExceptionally();
+		assertThat(second.result()).isCompletedExceptionally();
+	}
+
+	@Test
+	@DisplayName("should complete all requests with an error when the number of results does not match")
+	void shouldCompleteAllRequestsWithAnErrorWhenTheNumberOfResultsDoesNotMatch() {
+
+		var first = coalescer.register("key", "1");
+		var second = coalescer.register("key", "2");
+		coalescer.close(first.batch());
+
+		coalescer.complete(first.batch(), List.of("result-1"));
+
+		assertThat(first.result()).isCompletedExceptionally();
+		assertThat(second.result()).isCompletedExceptionally();
+	}
+
+	@Test
+	@DisplayName("should execute an uncontended request without waiting for the window")
+	void shouldExecuteAnUncontendedRequestWithoutWaitingForTheWindow() {
+
+		long start = System.nanoTime();
+		String result = coalescer.execute("key", "1", requests -> requests.stream().map(r -> "result-" + r).toList());
+
+		assertThat(result).isEqualTo("result-1");
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+	}
+
+	@Test
+	@DisplayName("should execute concurrent blocking requests in fewer multi requests")
+	void shouldExecuteConcurrentBlockingRequestsInFewerMultiRequests() throws Exception {
+
+		List<List<String>> multiRequests = new CopyOnWriteArrayList<>();
+		ExecutorService executor = Executors.newFixedThreadPool(10);
+
+		try {
+			List<CompletableFuture<String>> results = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				String request = String.valueOf(i);
+				results.add(CompletableFuture.supplyAsync(() -> coalescer.execute("key", request, requests -> {
+					multiRequests.add(requests);
+					try {
+						Thread.sleep(100);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return requests.stream().map(r -> "result-" + r).toList();
+				}), executor));
+			}
+
+			for (int i = 0; i < 10; i++) {
+				assertThat(results.get(i).get()).isEqualTo("result-" + i);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(multiRequests.stream().mapToInt(List::size).sum()).isEqualTo(10);
+		assertThat(multiRequests.size()).isLessThan(10);
+	}
+
+	@Test
+	@DisplayName("should complete all waiting requests with an error when the executor throws")
+	void shouldCompleteAllWaitingRequestsWithAnErrorWhenTheExecutorThrows() throws Exception {
+
+		var inFlight = coalescer.register("key", "0");
+		coalescer.close(inFlight.batch());
+
+		List<Throwable> failures = new CopyOnWriteArrayList<>();
+		List<Thread> threads = new ArrayList<>();
+		for (String request : List.of("1", "2")) {
+			Thread thread = new Thread(() -> {
+				try {
+					coalescer.execute("key", request, requests -> {
+						throw new AssertionError("boom");
+					});
+				} catch (Throwable throwable) {
+					failures.add(throwable);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+
+		// both callers block until the batch in flight has completed, one executing the next batch, one waiting for it
+		for (Thread thread : threads) {
+			while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+				Thread.onSpinWait();
+			}
+		}
+		coalescer.complete(inFlight.batch(), List.of("result-0"));
+
+		for (Thread thread : threads) {
+			thread.join(Duration.ofSeconds(5).toMillis());
+		}
+
+		assertThat(failures).hasSize(2)
+				.allSatisfy(failure -> assertThat(failure).isInstanceOf(AssertionError.class).hasMessage("boom"));
+		// the failed batch is not left in flight
+		assertThat(coalescer.register("key", "3").batch().ready()).isDone();
+	}
+}
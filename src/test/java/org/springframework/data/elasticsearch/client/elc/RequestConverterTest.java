@@ -23,25 +23,30 @@ import static org.assertj.core.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch.core.UpdateRequest;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.AsyncSearchOptions;
 import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.DocValueField;
+import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.StringQuery;
 import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 
@@ -157,6 +162,179 @@ class RequestConverterTest {
 		assertThat(updateRequest.script().id()).isEqualTo("scriptName");
 	}
 
+	@Test
+	@DisplayName("should only set search_after values when creating a follow-up search_after request")
+	void shouldOnlySetSearchAfterValuesWhenCreatingAFollowUpSearchAfterRequest() {
+
+		var query = new CriteriaQuery(new Criteria("text").contains("test"));
+		query.setPointInTime(new Query.PointInTime("pit-id", Duration.ofMinutes(1)));
+		query.addSort(Sort.by("_shard_doc"));
+		var searchRequest = requestConverter.searchRequest(query, null, SampleEntity.class, IndexCoordinates.of("foo"),
+				false, true);
+
+		var followRequest = requestConverter.searchAfterRequest(searchRequest, query,
+				List.of(FieldValue.of("a"), FieldValue.of(42L)));
+
+		assertThat(searchRequest.searchAfter()).isEmpty();
+		assertThat(followRequest.searchAfter()).extracting(FieldValue::_toJsonString).containsExactly("a", "42");
+		assertThat(followRequest.pit().id()).isEqualTo("pit-id");
+		assertThat(followRequest.query()).isEqualTo(searchRequest.query());
+		assertThat(followRequest.sort()).isEqualTo(searchRequest.sort());
+	}
+
+	@Test
+	@DisplayName("should not modify the query when creating a pit/search_after request")
+	void shouldNotModifyTheQueryWhenCreatingAPitSearchAfterRequest() {
+
+		var query = CriteriaQuery.builder(new Criteria("text").contains("test")) //
+				.withSort(Sort.by("text")) //
+				.withSearchAfter(List.of("a")) //
+				.build();
+
+		var searchRequest = requestConverter.searchRequest(query, null, SampleEntity.class, IndexCoordinates.of("foo"),
+				new Query.PointInTime("pit-id", Duration.ofMinutes(1)), Sort.by("_shard_doc"));
+
+		assertThat(searchRequest.pit().id()).isEqualTo("pit-id");
+		assertThat(searchRequest.index()).isEmpty();
+		assertThat(searchRequest.sort()).extracting(sortOptions -> sortOptions.field().field()) //
+				.containsExactly("text", "_shard_doc");
+		assertThat(searchRequest.searchAfter()).isEmpty();
+		assertThat(query.getPointInTime()).isNull();
+		assertThat(query.getSort()).isEqualTo(Sort.by("text"));
+		assertThat(query.getSearchAfter()).containsExactly("a");
+	}
+
+	@Test
+	@DisplayName("should set the size when creating a follow-up search_after request with a size")
+	void shouldSetTheSizeWhenCreatingAFollowUpSearchAfterRequestWithASize() {
+
+		var query = new CriteriaQuery(new Criteria("text").contains("test"));
+		var searchRequest = requestConverter.searchRequest(query, null, SampleEntity.class, IndexCoordinates.of("foo"),
+				new Query.PointInTime("pit-id", Duration.ofMinutes(1)), Sort.by("_shard_doc"));
+
+		var followRequest = requestConverter.searchAfterRequest(searchRequest, query, List.of(FieldValue.of(42L)), 17);
+
+		assertThat(followRequest.size()).isEqualTo(17);
+	}
+
+	@Test
+	@DisplayName("should not create a follow-up search_after request from a request with search_after values")
+	void shouldNotCreateAFollowUpSearchAfterRequestFromARequestWithSearchAfterValues() {
+
+		var query = new CriteriaQuery(new Criteria("text").contains("test"));
+		query.setSearchAfter(List.of("a"));
+		var searchRequest = requestConverter.searchRequest(query, null, SampleEntity.class, IndexCoordinates.of("foo"),
+				false, true);
+
+		assertThatThrownBy(() -> requestConverter.searchAfterRequest(searchRequest, query, List.of(FieldValue.of("b"))))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("should create an async search submit request from the search request of the query")
+	void shouldCreateAnAsyncSearchSubmitRequestFromTheSearchRequestOfTheQuery() {
+
+		var query = CriteriaQuery.builder(new Criteria("text").contains("test")) //
+				.withSort(Sort.by("text")) //
+				.withPreference("_local") //
+				.withMaxResults(5) //
+				.build();
+		query.setIncludeNamedQueriesScore(true);
+		var options = AsyncSearchOptions.builder() //
+				.withWaitForCompletionTimeout(Duration.ofSeconds(2)) //
+				.withKeepAlive(Duration.ofMinutes(10)) //
+				.withKeepOnCompletion(true) //
+				.withBatchedReduceSize(64) //
+				.build();
+
+		var submitRequest = requestConverter.asyncSearchSubmitRequest(query, "routing", SampleEntity.class,
+				IndexCoordinates.of("foo", "bar"), options);
+
+		assertThat(submitRequest.index()).containsExactly("foo", "bar");
+		assertThat(submitRequest.routing()).isEqualTo("routing");
+		assertThat(submitRequest.preference()).isEqualTo("_local");
+		assertThat(submitRequest.includeNamedQueriesScore()).isTrue();
+		assertThat(submitRequest.size()).isEqualTo(5);
+		assertThat(submitRequest.query()).isNotNull();
+		assertThat(submitRequest.sort()).extracting(sortOptions -> sortOptions.field().field()).containsExactly("text");
+		assertThat(submitRequest.waitForCompletionTimeout().time()).isEqualTo("2000ms");
+		assertThat(submitRequest.keepAlive().time()).isEqualTo("600000ms");
+		assertThat(submitRequest.keepOnCompletion()).isTrue();
+		assertThat(submitRequest.batchedReduceSize()).isEqualTo(64L);
+	}
+
+	@Test
+	@DisplayName("should only set the given options in an async search get request")
+	void shouldOnlySetTheGivenOptionsInAnAsyncSearchGetRequest() {
+
+		var getRequest = requestConverter.asyncSearchGetRequest("async-id",
+				AsyncSearchOptions.builder().withWaitForCompletionTimeout(Duration.ofSeconds(1)).build());
+
+		assertThat(getRequest.id()).isEqualTo("async-id");
+		assertThat(getRequest.waitForCompletionTimeout().time()).isEqualTo("1000ms");
+		assertThat(getRequest.keepAlive()).isNull();
+	}
+
+	@Test
+	@DisplayName("should create a multi search request from converted search requests")
+	void shouldCreateAMultiSearchRequestFromConvertedSearchRequests() {
+
+		var query = CriteriaQuery.builder(new Criteria("text").contains("test")) //
+				.withSort(Sort.by("text")) //
+				.withPreference("_local") //
+				.withMaxResults(5) //
+				.build();
+		var first = requestConverter.searchRequest(query, "routing", SampleEntity.class, IndexCoordinates.of("foo"),
+				false);
+		var second = requestConverter.searchRequest(new CriteriaQuery(new Criteria("text").is("other")), null,
+				SampleEntity.class, IndexCoordinates.of("bar"), false);
+
+		var msearchRequest = requestConverter.searchMsearchRequestOf(List.of(first, second));
+
+		assertThat(msearchRequest.searches()).hasSize(2);
+		var firstItem = msearchRequest.searches().get(0);
+		assertThat(firstItem.header().index()).containsExactly("foo");
+		assertThat(firstItem.header().routing()).isEqualTo("routing");
+		assertThat(firstItem.header().preference()).isEqualTo("_local");
+		assertThat(firstItem.body().query()).isEqualTo(first.query());
+		assertThat(firstItem.body().size()).isEqualTo(5);
+		assertThat(firstItem.body().sort()).extracting(sortOptions -> sortOptions.field().field())
+				.containsExactly("text");
+		var secondItem = msearchRequest.searches().get(1);
+		assertThat(secondItem.header().index()).containsExactly("bar");
+		assertThat(secondItem.header().routing()).isNull();
+		assertThat(secondItem.body().query()).isEqualTo(second.query());
+	}
+
+	@Test
+	@DisplayName("should take includeNamedQueriesScore from the search requests for a multi search request")
+	void shouldTakeIncludeNamedQueriesScoreFromTheSearchRequestsForAMultiSearchRequest() {
+
+		var query = new CriteriaQuery(new Criteria("text").is("test"));
+		query.setIncludeNamedQueriesScore(true);
+		var first = requestConverter.searchRequest(query, null, SampleEntity.class, IndexCoordinates.of("foo"), false);
+		var second = requestConverter.searchRequest(query, null, SampleEntity.class, IndexCoordinates.of("bar"), false);
+
+		var msearchRequest = requestConverter.searchMsearchRequestOf(List.of(first, second));
+
+		assertThat(first.includeNamedQueriesScore()).isTrue();
+		assertThat(msearchRequest.includeNamedQueriesScore()).isTrue();
+	}
+
+	@Test
+	@DisplayName("should not create a multi search request from search requests with different includeNamedQueriesScore")
+	void shouldNotCreateAMultiSearchRequestFromSearchRequestsWithDifferentIncludeNamedQueriesScore() {
+
+		var query = new CriteriaQuery(new Criteria("text").is("test"));
+		query.setIncludeNamedQueriesScore(true);
+		var first = requestConverter.searchRequest(query, null, SampleEntity.class, IndexCoordinates.of("foo"), false);
+		var second = requestConverter.searchRequest(new CriteriaQuery(new Criteria("text").is("test")), null,
+				SampleEntity.class, IndexCoordinates.of("bar"), false);
+
+		assertThatThrownBy(() -> requestConverter.searchMsearchRequestOf(List.of(first, second)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
 	@Test
 	void getRouting() {
 
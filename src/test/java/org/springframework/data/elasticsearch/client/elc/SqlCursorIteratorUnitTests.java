@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import co.elastic.clients.elasticsearch.sql.QueryResponse;
+import co.elastic.clients.json.JsonData;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import jakarta.json.Json;
+import jakarta.json.JsonString;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.sql.SqlResponse;
+
+/**
+ * @author agent
+ */
+class SqlCursorIteratorUnitTests {
+
+	private static final SqlResponse.Column COLUMN = new SqlResponse.Column("name", "keyword");
+
+	private final List<String> requestedCursors = new CopyOnWriteArrayList<>();
+	private final List<String> clearedCursors = new CopyOnWriteArrayList<>();
+
+	@Test
+	@DisplayName("should follow the cursor until a page without cursor is returned")
+	void shouldFollowTheCursorUntilAPageWithoutCursorIsReturned() {
+
+		var iterator = iterator(0);
+
+		List<String> values = iterator.stream().flatMap(page -> page.getRows().stream())
+				.map(row -> ((JsonString) row.get(COLUMN)).getString()).collect(Collectors.toList());
+
+		assertThat(values).containsExactly("a", "b", "c", "d", "e");
+		assertThat(requestedCursors).containsExactly("c1", "c2");
+		assertThat(clearedCursors).isEmpty();
+	}
+
+	@Test
+	@DisplayName("should request the next page only when needed without prefetch")
+	void shouldRequestTheNextPageOnlyWhenNeededWithoutPrefetch() {
+
+		var iterator = iterator(0);
+
+		iterator.next();
+
+		assertThat(requestedCursors).isEmpty();
+
+		iterator.next();
+
+		assertThat(requestedCursors).containsExactly("c1");
+	}
+
+	@Test
+	@DisplayName("should request the next pages ahead with prefetch")
+	void shouldRequestTheNextPagesAheadWithPrefetch() {
+
+		var iterator = iterator(2);
+
+		iterator.next();
+
+		assertThat(requestedCursors).containsExactly("c1", "c2");
+	}
+
+	@Test
+	@DisplayName("should clear the cursor when closed before the last page")
+	void shouldClearTheCursorWhenClosedBeforeTheLastPage() {
+
+		var iterator = iterator(0);
+
+		iterator.next();
+		iterator.close();
+
+		assertThat(clearedCursors).containsExactly("c1");
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	@DisplayName("should clear the newest cursor when closed with prefetched pages")
+	void shouldClearTheNewestCursorWhenClosedWithPrefetchedPages() {
+
+		var iterator = iterator(1);
+
+		iterator.next();
+		iterator.close();
+
+		assertThat(clearedCursors).containsExactly("c2");
+	}
+
+	@Test
+	@DisplayName("should not clear a cursor when all pages were read")
+	void shouldNotClearACursorWhenAllPagesWereRead() {
+
+		var iterator = iterator(1);
+
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+		iterator.close();
+
+		assertThat(clearedCursors).isEmpty();
+	}
+
+	@Test
+	@DisplayName("should convert the rows of cursor pages with the columns of the first page")
+	void shouldConvertTheRowsOfCursorPagesWithTheColumnsOfTheFirstPage() {
+
+		var responseConverter = new ResponseConverter(new JacksonJsonpMapper());
+
+		// Elasticsearch only returns the columns with the first page
+		var firstPage = QueryResponse.of(r -> r //
+				.columns(c -> c.name(COLUMN.name()).type(COLUMN.type())) //
+				.rows(List.of(JsonData.of("a"))) //
+				.cursor("c1"));
+		var cursorPage = QueryResponse.of(r -> r //
+				.rows(List.of(JsonData.of("b"))));
+
+		var iterator = new SqlCursorIterator( //
+				() -> CompletableFuture.completedFuture(responseConverter.sqlResponse(firstPage)), //
+				previous -> CompletableFuture
+						.completedFuture(responseConverter.sqlResponse(cursorPage, previous.getColumns())), //
+				clearedCursors::add, //
+				0);
+
+		List<String> values = iterator.stream().flatMap(page -> page.getRows().stream())
+				.map(row -> ((JsonString) row.get(COLUMN)).getString()).collect(Collectors.toList());
+
+		assertThat(values).containsExactly("a", "b");
+	}
+
+	private SqlCursorIterator iterator(int prefetch) {
+		return new SqlCursorIterator( //
+				() -> CompletableFuture.completedFuture(page("c1", "a", "b")), //
+				previous -> {
+					String cursor = previous.getCursor();
+					requestedCursors.add(cursor);
+					return CompletableFuture.completedFuture(switch (cursor) {
+						case "c1" -> page("c2", "c", "d");
+						case "c2" -> page(null, "e");
+						default -> throw new IllegalArgumentException(cursor);
+					});
+				}, //
+				clearedCursors::add, //
+				prefetch);
+	}
+
+	private static SqlResponse page(@Nullable String cursor, String... values) {
+
+		var builder = SqlResponse.builder().withCursor(cursor).withColumn(COLUMN);
+
+		for (String value : values) {
+			builder.withRow(SqlResponse.Row.builder().withValue(COLUMN, Json.createValue(value)).build());
+		}
+
+		return builder.build();
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.rest5_client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import co.elastic.clients.transport.rest5_client.Rest5ClientOptions;
+import co.elastic.clients.transport.rest5_client.low_level.RequestOptions;
+import co.elastic.clients.util.BinaryData;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.client.BinaryContentType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class BinaryContentHttpClientUnitTests {
+
+	private static final String NDJSON = "application/vnd.elasticsearch+x-ndjson; compatible-with=9";
+	private static final String JSON = "application/vnd.elasticsearch+json; compatible-with=9";
+
+	@Mock private TransportHttpClient delegate;
+	@Mock private TransportHttpClient.Response response;
+
+	private BinaryContentTransport.BinaryContentHttpClient httpClient;
+	private TransportOptions options;
+
+	@BeforeEach
+	void setUp() {
+		httpClient = new BinaryContentTransport.BinaryContentHttpClient(delegate, BinaryContentType.SMILE);
+		options = new Rest5ClientOptions(RequestOptions.DEFAULT, false).toBuilder().addHeader("Accept", JSON).build();
+	}
+
+	@Test
+	@DisplayName("should drop only the newline after each line of a newline delimited Smile body")
+	void shouldDropOnlyTheNewlineAfterEachLineOfANewlineDelimitedSmileBody() throws Exception {
+
+		// the Smile header and the value contain newline bytes that must be kept
+		byte[] action = smile(Map.of("index", Map.of("_index", "binary", "_id", "42")));
+		byte[] source = smile(Map.of("message", "line\n"));
+
+		TransportHttpClient.Request request = httpClient
+				.binaryRequest(request(NDJSON, List.of(line(action), line(source))));
+
+		assertThat(request.headers()).containsEntry("Content-Type",
+				"application/vnd.elasticsearch+smile; compatible-with=9");
+		assertThat(bytes(request.body())).isEqualTo(concat(action, source));
+	}
+
+	@Test
+	@DisplayName("should keep a JSON body that was not written in the binary format")
+	void shouldKeepAJsonBodyThatWasNotWrittenInTheBinaryFormat() {
+
+		TransportHttpClient.Request original = request(JSON,
+				List.of(ByteBuffer.wrap("{\"query\":{}}".getBytes(StandardCharsets.UTF_8))));
+
+		assertThat(httpClient.binaryRequest(original)).isSameAs(original);
+	}
+
+	@Test
+	@DisplayName("should reject a newline delimited body mixing Smile and JSON documents")
+	void shouldRejectANewlineDelimitedBodyMixingSmileAndJsonDocuments() throws Exception {
+
+		TransportHttpClient.Request request = request(NDJSON, List.of(line(smile(Map.of("index", Map.of()))),
+				ByteBuffer.wrap("{\"message\":\"json\"}\n".getBytes(StandardCharsets.UTF_8))));
+
+		assertThatThrownBy(() -> httpClient.binaryRequest(request)) //
+				.isInstanceOf(IllegalArgumentException.class) //
+				.hasMessageContaining("mixes SMILE and JSON documents");
+	}
+
+	@Test
+	@DisplayName("should request and mark binary responses for search requests")
+	void shouldRequestAndMarkBinaryResponsesForSearchRequests() throws Exception {
+
+		ArgumentCaptor<TransportOptions> optionsCaptor = ArgumentCaptor.forClass(TransportOptions.class);
+		when(delegate.performRequest(eq("es/search"), isNull(), any(), optionsCaptor.capture())).thenReturn(response);
+		when(response.body()).thenReturn(BinaryData.of(smile(Map.of("took", 1)),
+				"application/vnd.elasticsearch+smile;compatible-with=9"));
+
+		TransportHttpClient.Response binaryResponse = httpClient.performRequest("es/search", null,
+				request(JSON, null), options);
+
+		assertThat(optionsCaptor.getValue().headers()).anySatisfy(header -> {
+			assertThat(header.getKey()).isEqualToIgnoringCase("Accept");
+			assertThat(header.getValue()).isEqualTo("application/vnd.elasticsearch+smile; compatible-with=9");
+		});
+		BinaryData body = binaryResponse.body();
+		assertThat(body).isNotNull();
+		assertThat(body.contentType()).isEqualTo("application/vnd.elasticsearch+json;compatible-with=9");
+		assertThat(body.asInputStream()).isInstanceOf(BinaryContentJsonpMapper.BinaryContentInputStream.class);
+	}
+
+	@Test
+	@DisplayName("should not request binary responses for other endpoints")
+	void shouldNotRequestBinaryResponsesForOtherEndpoints() throws Exception {
+
+		when(delegate.performRequest(eq("es/indices.create"), isNull(), any(), same(options))).thenReturn(response);
+
+		assertThat(httpClient.performRequest("es/indices.create", null, request(JSON, null), options))
+				.isSameAs(response);
+	}
+
+	private static TransportHttpClient.Request request(String contentType, @Nullable List<ByteBuffer> body) {
+		return new TransportHttpClient.Request("POST", "/_bulk", Map.of(), Map.of("Content-Type", contentType), body);
+	}
+
+	private static byte[] smile(Object value) throws Exception {
+
+		SmileFactory smileFactory = SmileFactory.builder() //
+				.enable(SmileGenerator.Feature.WRITE_END_MARKER) //
+				.enable(SmileGenerator.Feature.ENCODE_BINARY_AS_7BIT) //
+				.build();
+		return new ObjectMapper(smileFactory).writeValueAsBytes(value);
+	}
+
+	private static ByteBuffer line(byte[] document) {
+		return ByteBuffer.wrap(concat(document, new byte[] { '\n' }));
+	}
+
+	private static byte[] concat(byte[]... parts) {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		for (byte[] part : parts) {
+			out.writeBytes(part);
+		}
+
+		return out.toByteArray();
+	}
+
+	private static byte[] bytes(Iterable<ByteBuffer> body) {
+
+		List<byte[]> parts = new ArrayList<>();
+
+		for (ByteBuffer buffer : body) {
+			byte[] part = new byte[buffer.remaining()];
+			buffer.duplicate().get(part);
+			parts.add(part);
+		}
+
+		return concat(parts.toArray(new byte[0][]));
+	}
+}
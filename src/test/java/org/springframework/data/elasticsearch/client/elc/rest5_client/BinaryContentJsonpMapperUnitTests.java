@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.rest5_client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.Jackson3JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.BinaryContentType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * @author agent
+ */
+class BinaryContentJsonpMapperUnitTests {
+
+	private static final Map<String, Object> SOURCE = Map.of("id", "42", "count", 7);
+
+	@Test
+	@DisplayName("should write request bodies in Smile with an end marker")
+	void shouldWriteRequestBodiesInSmileWithAnEndMarker() {
+
+		byte[] body = write(new BinaryContentJsonpMapper(new Jackson3JsonpMapper(new JsonMapper()),
+				BinaryContentType.SMILE));
+
+		assertThat(new String(body, 0, 2, StandardCharsets.US_ASCII)).isEqualTo(":)");
+		assertThat(body[body.length - 1]).isEqualTo((byte) 0xFF);
+	}
+
+	@Test
+	@DisplayName("should write request bodies in JSON when the format does not support them")
+	void shouldWriteRequestBodiesInJsonWhenTheFormatDoesNotSupportThem() {
+
+		byte[] body = write(new BinaryContentJsonpMapper(new Jackson3JsonpMapper(new JsonMapper()),
+				BinaryContentType.CBOR));
+
+		assertThat(body[0]).isEqualTo((byte) '{');
+	}
+
+	@Test
+	@DisplayName("should read Smile and JSON with a Jackson 3 mapper for JSON")
+	void shouldReadSmileAndJsonWithAJackson3MapperForJson() {
+
+		JsonpMapper mapper = new BinaryContentJsonpMapper(new Jackson3JsonpMapper(new JsonMapper()),
+				BinaryContentType.SMILE);
+
+		assertThat(read(mapper, binary(write(mapper)))).isEqualTo(SOURCE);
+		assertThat(read(mapper, json())).isEqualTo(SOURCE);
+	}
+
+	@Test
+	@DisplayName("should read CBOR and JSON with a Jackson 2 mapper for JSON")
+	void shouldReadCborAndJsonWithAJackson2MapperForJson() throws Exception {
+
+		JsonpMapper mapper = new BinaryContentJsonpMapper(new JacksonJsonpMapper(), BinaryContentType.CBOR);
+
+		assertThat(read(mapper, binary(new ObjectMapper(new CBORFactory()).writeValueAsBytes(SOURCE)))).isEqualTo(SOURCE);
+		assertThat(read(mapper, json())).isEqualTo(SOURCE);
+	}
+
+	@Test
+	@DisplayName("should keep the binary format when an attribute is added")
+	void shouldKeepTheBinaryFormatWhenAnAttributeIsAdded() {
+
+		JsonpMapper mapper = new BinaryContentJsonpMapper(new Jackson3JsonpMapper(new JsonMapper()),
+				BinaryContentType.SMILE).withAttribute("name", "value");
+
+		assertThat(mapper).isInstanceOf(BinaryContentJsonpMapper.class);
+		assertThat((String) mapper.attribute("name")).isEqualTo("value");
+		assertThat(read(mapper, binary(write(mapper)))).isEqualTo(SOURCE);
+	}
+
+	@Test
+	@DisplayName("should read a stream that is not marked as binary as JSON")
+	void shouldReadAStreamThatIsNotMarkedAsBinaryAsJson() {
+
+		JsonpMapper mapper = new BinaryContentJsonpMapper(new Jackson3JsonpMapper(new JsonMapper()),
+				BinaryContentType.SMILE);
+
+		assertThatThrownBy(() -> read(mapper, new ByteArrayInputStream(write(mapper)))).isInstanceOf(Exception.class);
+	}
+
+	private static InputStream binary(byte[] body) {
+		return new BinaryContentJsonpMapper.BinaryContentInputStream(new ByteArrayInputStream(body));
+	}
+
+	private static InputStream json() {
+		return new ByteArrayInputStream("{\"id\":\"42\",\"count\":7}".getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static byte[] write(JsonpMapper mapper) {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (JsonGenerator generator = mapper.jsonProvider().createGenerator(out)) {
+			mapper.serialize(SOURCE, generator);
+		}
+
+		return out.toByteArray();
+	}
+
+	private static Map<?, ?> read(JsonpMapper mapper, InputStream body) {
+
+		try (JsonParser parser = mapper.jsonProvider().createParser(body)) {
+			return mapper.deserialize(parser, LinkedHashMap.class);
+		}
+	}
+}
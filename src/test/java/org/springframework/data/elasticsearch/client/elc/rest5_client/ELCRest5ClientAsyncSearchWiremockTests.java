@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.rest5_client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.ReactiveElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.asyncsearch.AsyncSearchResponse;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.AsyncSearchOptions;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+
+/**
+ * Tests for async searches that are submitted, polled and mapped by the templates.
+ *
+ * @author agent
+ */
+class ELCRest5ClientAsyncSearchWiremockTests {
+
+	private static final String ASYNC_SEARCH_ID = "async-search-1";
+	private static final String RUNNING_RESPONSE = """
+			{
+			  "id": "async-search-1",
+			  "is_partial": true,
+			  "is_running": true,
+			  "start_time_in_millis": 1700000000000,
+			  "expiration_time_in_millis": 1700432000000,
+			  "response": {
+			    "took": 1,
+			    "timed_out": false,
+			    "num_reduce_phases": 0,
+			    "_shards": {
+			      "total": 2,
+			      "successful": 0,
+			      "skipped": 0,
+			      "failed": 0
+			    },
+			    "hits": {
+			      "total": {
+			        "value": 0,
+			        "relation": "gte"
+			      },
+			      "max_score": null,
+			      "hits": []
+			    }
+			  }
+			}
+			""";
+	private static final String COMPLETED_RESPONSE = """
+			{
+			  "id": "async-search-1",
+			  "is_partial": false,
+			  "is_running": false,
+			  "start_time_in_millis": 1700000000000,
+			  "expiration_time_in_millis": 1700432000000,
+			  "completion_time_in_millis": 1700000005000,
+			  "response": {
+			    "took": 5000,
+			    "timed_out": false,
+			    "_shards": {
+			      "total": 2,
+			      "successful": 2,
+			      "skipped": 0,
+			      "failed": 0
+			    },
+			    "hits": {
+			      "total": {
+			        "value": 2,
+			        "relation": "eq"
+			      },
+			      "max_score": 1.0,
+			      "hits": [
+			        {
+			          "_index": "async-search",
+			          "_id": "1",
+			          "_score": 1.0,
+			          "_source": {
+			            "id": "1",
+			            "field1": "one"
+			          }
+			        },
+			        {
+			          "_index": "async-search",
+			          "_id": "2",
+			          "_score": 1.0,
+			          "_source": {
+			            "id": "2",
+			            "field1": "two"
+			          }
+			        }
+			      ]
+			    }
+			  }
+			}
+			""";
+
+	@RegisterExtension static WireMockExtension wireMock = WireMockExtension.newInstance()
+			.options(wireMockConfig()
+					.dynamicPort()
+					// needed, otherwise Wiremock goes to test/resources/mappings
+					.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"))
+			.build();
+
+	private ClientConfiguration clientConfiguration;
+
+	@BeforeEach
+	void setUp() {
+
+		clientConfiguration = ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.build();
+
+		wireMock.stubFor(post(urlPathEqualTo("/async-search/_async_search"))
+				.willReturn(jsonResponse(RUNNING_RESPONSE)));
+
+		// the first poll finds the search still running, the second one gets the result
+		wireMock.stubFor(get(urlPathEqualTo("/_async_search/" + ASYNC_SEARCH_ID))
+				.inScenario("poll")
+				.whenScenarioStateIs(Scenario.STARTED)
+				.willReturn(jsonResponse(RUNNING_RESPONSE))
+				.willSetStateTo("completed"));
+		wireMock.stubFor(get(urlPathEqualTo("/_async_search/" + ASYNC_SEARCH_ID))
+				.inScenario("poll")
+				.whenScenarioStateIs("completed")
+				.willReturn(jsonResponse(COMPLETED_RESPONSE)));
+	}
+
+	@Test
+	@DisplayName("should submit, poll and map an async search")
+	void shouldSubmitPollAndMapAnAsyncSearch() {
+
+		var template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(clientConfiguration));
+		var query = NativeQuery.builder().build();
+		query.setIncludeNamedQueriesScore(true);
+
+		AsyncSearchResponse<AsyncSearchEntity> response = template.submitAsyncSearch(query, AsyncSearchEntity.class);
+
+		List<Boolean> running = new ArrayList<>();
+		running.add(response.isRunning());
+
+		while (response.isRunning()) {
+			response = template.getAsyncSearch(response.getId(), AsyncSearchEntity.class);
+			running.add(response.isRunning());
+		}
+
+		assertThat(running).containsExactly(true, true, false);
+		assertThat(response.getId()).isEqualTo(ASYNC_SEARCH_ID);
+		assertThat(response.isPartial()).isFalse();
+		assertThat(response.getCompletionTime()).isNotNull();
+		assertThat(response.getSearchHits().getTotalHits()).isEqualTo(2);
+		assertThat(response.getSearchHits().getSearchHits()).extracting(SearchHit::getContent)
+				.extracting(AsyncSearchEntity::getField1).containsExactly("one", "two");
+
+		// the url parameters of the search request are sent with the submit request as well
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/async-search/_async_search"))
+				.withQueryParam("include_named_queries_score", equalTo("true")));
+		wireMock.verify(2, getRequestedFor(urlPathEqualTo("/_async_search/" + ASYNC_SEARCH_ID)));
+	}
+
+	@Test
+	@DisplayName("should poll an async search until it is completed")
+	void shouldPollAnAsyncSearchUntilItIsCompleted() {
+
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+				new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		var template = new ReactiveElasticsearchTemplate(ElasticsearchClients.createReactive(clientConfiguration),
+				converter);
+
+		template.pollAsyncSearch(ASYNC_SEARCH_ID, AsyncSearchEntity.class, IndexCoordinates.of("async-search"),
+				AsyncSearchOptions.builder().build()) //
+				.as(StepVerifier::create) //
+				.assertNext(response -> assertThat(response.isRunning()).isTrue()) //
+				.assertNext(response -> {
+					assertThat(response.isRunning()).isFalse();
+					assertThat(response.getSearchHits().getSearchHits()).extracting(SearchHit::getContent)
+							.extracting(AsyncSearchEntity::getId).containsExactly("1", "2");
+				}) //
+				.verifyComplete();
+
+		// the polls wait on the cluster for the search to complete
+		wireMock.verify(2, getRequestedFor(urlPathEqualTo("/_async_search/" + ASYNC_SEARCH_ID))
+				.withQueryParam("wait_for_completion_timeout", matching(".+")));
+	}
+
+	private static ResponseDefinitionBuilder jsonResponse(String body) {
+		return aResponse()
+				.withStatus(200)
+				.withHeader("X-elastic-product", "Elasticsearch")
+				.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+				.withBody(body);
+	}
+
+	@Document(indexName = "async-search")
+	static class AsyncSearchEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field private String field1;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getField1() {
+			return field1;
+		}
+
+		public void setField1(@Nullable String field1) {
+			this.field1 = field1;
+		}
+	}
+}
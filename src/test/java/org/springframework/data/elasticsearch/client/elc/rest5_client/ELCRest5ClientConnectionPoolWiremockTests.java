@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.rest5_client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static org.assertj.core.api.Assertions.*;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.ConnectionPoolMetrics;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * Tests for the connection pool of clients configured with pool sizes per host or connection pool metrics.
+ *
+ * @author agent
+ */
+class ELCRest5ClientConnectionPoolWiremockTests {
+
+	@RegisterExtension static WireMockExtension wireMock = WireMockExtension.newInstance()
+			.options(wireMockConfig()
+					.dynamicPort()
+					// needed, otherwise Wiremock goes to test/resources/mappings
+					.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"))
+			.build();
+
+	@Test
+	@DisplayName("should record the connection pool metrics and apply the pool sizes")
+	void shouldRecordTheConnectionPoolMetricsAndApplyThePoolSizes() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/pooled/_doc/42"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "_index": "pooled",
+										  "_id": "42",
+										  "found": false
+										}
+										""")));
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.withMaxConnections(50, 20)
+				.withMaxConnectionsPerHost("localhost:" + wireMock.getPort(), 3)
+				.withConnectionPoolMetrics(true)
+				.build();
+		ConnectionPoolMetrics metrics = clientConfiguration.getConnectionPoolMetrics().orElseThrow();
+		ElasticsearchOperations operations = new ElasticsearchTemplate(
+				ElasticsearchClients.createImperative(clientConfiguration));
+
+		operations.get("42", PooledEntity.class);
+		operations.get("42", PooledEntity.class);
+
+		String route = "http://localhost:" + wireMock.getPort();
+		assertThat(metrics.getRoutes()).containsExactly(route);
+		assertThat(metrics.getLeaseCount(route)).isEqualTo(2);
+		assertThat(metrics.getLeaseFailureCount(route)).isZero();
+		assertThat(metrics.getStats(route).max()).isEqualTo(3);
+		assertThat(metrics.getTotalStats().max()).isEqualTo(50);
+	}
+
+	@Test
+	@DisplayName("should apply the connection manager callbacks to the instrumented connection pool")
+	void shouldApplyTheConnectionManagerCallbacksToTheInstrumentedConnectionPool() throws Exception {
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.withConnectionPoolMetrics(true)
+				.withClientConfigurer(Rest5Clients.ElasticsearchConnectionManagerCallback
+						.from(connectionManagerBuilder -> connectionManagerBuilder.setMaxConnTotal(60)))
+				.build();
+		ConnectionPoolMetrics metrics = clientConfiguration.getConnectionPoolMetrics().orElseThrow();
+
+		var client = ElasticsearchClients.createImperative(clientConfiguration);
+
+		try {
+			assertThat(metrics.getTotalStats().max()).isEqualTo(60);
+		} finally {
+			client._transport().close();
+		}
+	}
+
+	@Test
+	@DisplayName("should apply the http client callbacks to a client with an instrumented connection pool")
+	void shouldApplyTheHttpClientCallbacksToAClientWithAnInstrumentedConnectionPool() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/pooled/_doc/42"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "_index": "pooled",
+										  "_id": "42",
+										  "found": false
+										}
+										""")));
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.withConnectionPoolMetrics(true)
+				.withClientConfigurer(Rest5Clients.ElasticsearchHttpClientConfigurationCallback
+						.from(httpClientBuilder -> httpClientBuilder.addRequestInterceptorFirst(
+								(request, entityDetails, context) -> request.addHeader("X-Configured", "true"))))
+				.build();
+		ConnectionPoolMetrics metrics = clientConfiguration.getConnectionPoolMetrics().orElseThrow();
+		ElasticsearchOperations operations = new ElasticsearchTemplate(
+				ElasticsearchClients.createImperative(clientConfiguration));
+
+		operations.get("42", PooledEntity.class);
+
+		wireMock.verify(getRequestedFor(urlPathEqualTo("/pooled/_doc/42")).withHeader("X-Configured", equalTo("true")));
+		assertThat(metrics.getLeaseCount("http://localhost:" + wireMock.getPort())).isEqualTo(1);
+	}
+
+	@Document(indexName = "pooled")
+	static class PooledEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.rest5_client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static org.assertj.core.api.Assertions.*;
+
+import org.json.JSONException;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.DirtyTracker;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * Tests for the requests sent by a template with and without a {@link DirtyTracker}.
+ *
+ * @author agent
+ */
+class ELCRest5ClientDirtyTrackerWiremockTests {
+
+	@RegisterExtension static WireMockExtension wireMock = WireMockExtension.newInstance()
+			.options(wireMockConfig()
+					.dynamicPort()
+					// needed, otherwise Wiremock goes to test/resources/mappings
+					.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"))
+			.build();
+
+	private ElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.build();
+		template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(clientConfiguration));
+		template.setDirtyTracker(new DirtyTracker());
+	}
+
+	@Test
+	@DisplayName("should send only the changed fields of a dirty tracked entity")
+	void shouldSendOnlyTheChangedFieldsOfADirtyTrackedEntity() {
+
+		stubGetDocument();
+		wireMock.stubFor(post(urlPathEqualTo("/dirty-tracked/_update/42"))
+				.willReturn(jsonResponse("""
+						{
+						  "_index": "dirty-tracked",
+						  "_id": "42",
+						  "_version": 2,
+						  "result": "updated",
+						  "_shards": {
+						    "total": 2,
+						    "successful": 1,
+						    "failed": 0
+						  },
+						  "_seq_no": 1,
+						  "_primary_term": 1
+						}
+						""")));
+
+		var entity = template.get("42", DirtyTrackedEntity.class);
+		assertThat(entity).isNotNull();
+
+		entity.setField2("three");
+		template.update(entity);
+
+		entity.setField1("four");
+		template.save(entity);
+
+		// the field that is not mapped by the entity is neither sent nor removed
+		var requests = wireMock.findAll(postRequestedFor(urlPathEqualTo("/dirty-tracked/_update/42")));
+		assertThat(requests).hasSize(2);
+		assertThatJson(requests.get(0).getBodyAsString(), """
+				{
+				  "doc": {
+				    "field2": "three"
+				  }
+				}
+				""");
+		assertThatJson(requests.get(1).getBodyAsString(), """
+				{
+				  "doc": {
+				    "field1": "four"
+				  },
+				  "upsert": {
+				    "_class": "org.springframework.data.elasticsearch.client.elc.rest5_client.ELCRest5ClientDirtyTrackerWiremockTests$DirtyTrackedEntity",
+				    "id": "42",
+				    "field1": "four",
+				    "field2": "three"
+				  }
+				}
+				""");
+	}
+
+	@Test
+	@DisplayName("should index the whole entity when no dirty tracker is set")
+	void shouldIndexTheWholeEntityWhenNoDirtyTrackerIsSet() {
+
+		template.setDirtyTracker(null);
+		stubGetDocument();
+		wireMock.stubFor(put(urlPathEqualTo("/dirty-tracked/_doc/42"))
+				.willReturn(jsonResponse("""
+						{
+						  "_index": "dirty-tracked",
+						  "_id": "42",
+						  "_version": 2,
+						  "result": "updated",
+						  "_shards": {
+						    "total": 2,
+						    "successful": 1,
+						    "failed": 0
+						  },
+						  "_seq_no": 1,
+						  "_primary_term": 1
+						}
+						""")));
+
+		var entity = template.get("42", DirtyTrackedEntity.class);
+		assertThat(entity).isNotNull();
+
+		entity.setField1("four");
+		template.save(entity);
+
+		wireMock.verify(0, postRequestedFor(urlPathEqualTo("/dirty-tracked/_update/42")));
+		var requests = wireMock.findAll(putRequestedFor(urlPathEqualTo("/dirty-tracked/_doc/42")));
+		assertThat(requests).hasSize(1);
+		assertThatJson(requests.get(0).getBodyAsString(), """
+				{
+				  "_class": "org.springframework.data.elasticsearch.client.elc.rest5_client.ELCRest5ClientDirtyTrackerWiremockTests$DirtyTrackedEntity",
+				  "id": "42",
+				  "field1": "four",
+				  "field2": "two"
+				}
+				""");
+	}
+
+	private static void stubGetDocument() {
+		wireMock.stubFor(get(urlPathEqualTo("/dirty-tracked/_doc/42"))
+				.willReturn(jsonResponse("""
+						{
+						  "_index": "dirty-tracked",
+						  "_id": "42",
+						  "_version": 1,
+						  "_seq_no": 0,
+						  "_primary_term": 1,
+						  "found": true,
+						  "_source": {
+						    "_class": "org.springframework.data.elasticsearch.client.elc.rest5_client.ELCRest5ClientDirtyTrackerWiremockTests$DirtyTrackedEntity",
+						    "id": "42",
+						    "field1": "one",
+						    "field2": "two",
+						    "unmapped": "five"
+						  }
+						}
+						""")));
+	}
+
+	private static ResponseDefinitionBuilder jsonResponse(String body) {
+		return aResponse()
+				.withStatus(200)
+				.withHeader("X-elastic-product", "Elasticsearch")
+				.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+				.withBody(body);
+	}
+
+	private static void assertThatJson(String actual, String expected) {
+		try {
+			JSONAssert.assertEquals(expected, actual, true);
+		} catch (JSONException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	@Document(indexName = "dirty-tracked")
+	static class DirtyTrackedEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field private String field1;
+		@Nullable
+		@Field private String field2;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getField1() {
+			return field1;
+		}
+
+		public void setField1(@Nullable String field1) {
+			this.field1 = field1;
+		}
+
+		@Nullable
+		public String getField2() {
+			return field2;
+		}
+
+		public void setField2(@Nullable String field2) {
+			this.field2 = field2;
+		}
+	}
+}
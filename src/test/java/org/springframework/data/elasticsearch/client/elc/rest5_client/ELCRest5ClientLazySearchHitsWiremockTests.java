@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.rest5_client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.event.AfterConvertCallback;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * Tests for the search hits returned by a template for queries with lazy content conversion.
+ *
+ * @author agent
+ */
+class ELCRest5ClientLazySearchHitsWiremockTests {
+
+	@RegisterExtension static WireMockExtension wireMock = WireMockExtension.newInstance()
+			.options(wireMockConfig()
+					.dynamicPort()
+					// needed, otherwise Wiremock goes to test/resources/mappings
+					.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"))
+			.build();
+
+	private ElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.build();
+		template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(clientConfiguration));
+	}
+
+	@Test
+	@DisplayName("should convert the entities of search hits lazily if requested")
+	void shouldConvertTheEntitiesOfSearchHitsLazilyIfRequested() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/lazy-hits/_search"))
+				.willReturn(jsonResponse("""
+						{
+						  "took": 1,
+						  "timed_out": false,
+						  "_shards": {
+						    "total": 1,
+						    "successful": 1,
+						    "skipped": 0,
+						    "failed": 0
+						  },
+						  "hits": {
+						    "total": {
+						      "value": 3,
+						      "relation": "eq"
+						    },
+						    "max_score": 1.0,
+						    "hits": [
+						      {
+						        "_index": "lazy-hits",
+						        "_id": "1",
+						        "_score": 3.0,
+						        "_source": {
+						          "id": "1",
+						          "field1": "one"
+						        }
+						      },
+						      {
+						        "_index": "lazy-hits",
+						        "_id": "2",
+						        "_score": 2.0,
+						        "_source": {
+						          "id": "2",
+						          "field1": "two"
+						        }
+						      },
+						      {
+						        "_index": "lazy-hits",
+						        "_id": "3",
+						        "_score": 1.0,
+						        "_source": {
+						          "id": "3",
+						          "field1": "three"
+						        }
+						      }
+						    ]
+						  }
+						}
+						""")));
+
+		List<String> converted = new ArrayList<>();
+		template.setEntityCallbacks(EntityCallbacks.create((AfterConvertCallback<LazyEntity>) (entity,
+				document, index) -> {
+			converted.add(entity.getId());
+			return entity;
+		}));
+
+		var searchHits = template.search(NativeQuery.builder().withLazyContentConversion(true).build(),
+				LazyEntity.class);
+
+		assertThat(searchHits.getSearchHits()).extracting(SearchHit::getId).containsExactly("1", "2", "3");
+		assertThat(searchHits.getSearchHits()).noneMatch(SearchHit::isContentConverted);
+		assertThat(converted).isEmpty();
+
+		var content = searchHits.getSearchHit(1).getContent();
+
+		assertThat(content.getField1()).isEqualTo("two");
+		assertThat(searchHits.getSearchHit(1).getContent()).isSameAs(content);
+		assertThat(converted).containsExactly("2");
+
+		template.search(NativeQuery.builder().build(), LazyEntity.class);
+
+		assertThat(converted).containsExactly("2", "1", "2", "3");
+	}
+
+	private static ResponseDefinitionBuilder jsonResponse(String body) {
+		return aResponse()
+				.withStatus(200)
+				.withHeader("X-elastic-product", "Elasticsearch")
+				.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+				.withBody(body);
+	}
+
+	@Document(indexName = "lazy-hits")
+	static class LazyEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field private String field1;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getField1() {
+			return field1;
+		}
+
+		public void setField1(@Nullable String field1) {
+			this.field1 = field1;
+		}
+	}
+}
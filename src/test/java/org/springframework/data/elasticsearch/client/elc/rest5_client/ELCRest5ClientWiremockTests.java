@@ -17,6 +17,20 @@ package org.springframework.data.elasticsearch.client.elc.rest5_client;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.DisplayName;
@@ -26,13 +40,27 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.OperationRejectedException;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.client.BinaryContentType;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.CompressionMetrics;
+import org.springframework.data.elasticsearch.client.elc.AsyncElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.IsolationPolicy;
+import org.springframework.data.elasticsearch.client.elc.ReactiveElasticsearchTemplate;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 
 /**
@@ -104,6 +132,311 @@ public class ELCRest5ClientWiremockTests {
 		// no need to assert anything, if the field1:null is not sent, we run into a 404 error
 	}
 
+	@Test
+	@DisplayName("should compress large request bodies and request compressed responses")
+	void shouldCompressLargeRequestBodiesAndRequestCompressedResponses() {
+
+		String value = "compressible ".repeat(100);
+		stubCompressedSave(value);
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.withRequestCompression(1024)
+				.withResponseCompression(true)
+				.build();
+		var template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(clientConfiguration));
+		var entity = new EntityWithNullFields();
+		entity.setId("42");
+		entity.setField1(value);
+
+		template.save(entity);
+
+		CompressionMetrics compressionMetrics = clientConfiguration.getCompressionMetrics().orElseThrow();
+		assertThat(compressionMetrics.getCompressedRequestCount()).isEqualTo(1);
+		assertThat(compressionMetrics.getRequestCompressionRatio()).isLessThan(0.5);
+	}
+
+	@Test
+	@DisplayName("should compress requests of a configuration that provides no compression metrics")
+	void shouldCompressRequestsOfAConfigurationThatProvidesNoCompressionMetrics() {
+
+		String value = "compressible ".repeat(100);
+		stubCompressedSave(value);
+
+		// a custom configuration that only implements the compression settings
+		ClientConfiguration clientConfiguration = spy(ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.withRequestCompression(1024)
+				.withResponseCompression(true)
+				.build());
+		doReturn(Optional.empty()).when(clientConfiguration).getCompressionMetrics();
+		var template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(clientConfiguration));
+		var entity = new EntityWithNullFields();
+		entity.setId("42");
+		entity.setField1(value);
+
+		// the stub only answers compressed requests
+		template.save(entity);
+	}
+
+	private static void stubCompressedSave(String value) {
+
+		wireMock.stubFor(put(urlPathEqualTo("/null-fields/_doc/42"))
+				.withHeader("Content-Encoding", equalTo("gzip"))
+				.withHeader("Accept-Encoding", containing("gzip"))
+				.withRequestBody(containing(value))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "_index": "null-fields",
+										  "_id": "42",
+										  "_version": 1,
+										  "result": "created",
+										  "_shards": {
+										    "total": 2,
+										    "successful": 1,
+										    "failed": 0
+										  },
+										  "_seq_no": 1,
+										  "_primary_term": 1
+										}
+										""")));
+	}
+
+	@Test
+	@DisplayName("should convert the responses of the async template on the conversion executor")
+	void shouldConvertTheResponsesOfTheAsyncTemplateOnTheConversionExecutor() throws Exception {
+
+		wireMock.stubFor(get(urlPathEqualTo("/null-fields/_doc/42"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "_index": "null-fields",
+										  "_id": "42",
+										  "_version": 1,
+										  "_seq_no": 1,
+										  "_primary_term": 1,
+										  "found": true,
+										  "_source": {
+										    "id": "42",
+										    "field1": "value1"
+										  }
+										}
+										""")));
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.build();
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+				new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		var template = new AsyncElasticsearchTemplate(ElasticsearchClients.createReactive(clientConfiguration),
+				converter);
+		ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "conversion"));
+
+		try {
+			template.setConversionExecutor(executor);
+
+			String result = template.get("42", EntityWithNullFields.class)
+					.thenApply(entity -> entity != null ? entity.getField1() + '@' + Thread.currentThread().getName() : null)
+					.get(10, TimeUnit.SECONDS);
+
+			assertThat(result).isEqualTo("value1@conversion");
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("should reject requests without sending them while the circuit is open")
+	void shouldRejectRequestsWithoutSendingThemWhileTheCircuitIsOpen() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/null-fields/_doc/42"))
+				.willReturn(
+						aResponse()
+								.withStatus(503)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "error": {
+										    "type": "unavailable_shards_exception",
+										    "reason": "primary shard is not active"
+										  },
+										  "status": 503
+										}
+										""")));
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.build();
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+				new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		var template = new ReactiveElasticsearchTemplate(ElasticsearchClients.createReactive(clientConfiguration),
+				converter);
+		template.setIsolationPolicy(new IsolationPolicy(10, 2, Duration.ofMinutes(1)));
+
+		for (int i = 0; i < 2; i++) {
+			template.get("42", EntityWithNullFields.class) //
+					.as(StepVerifier::create) //
+					.expectErrorMatches(e -> !(e instanceof OperationRejectedException)) //
+					.verify();
+		}
+
+		template.get("42", EntityWithNullFields.class) //
+				.as(StepVerifier::create) //
+				.expectError(OperationRejectedException.class) //
+				.verify();
+
+		wireMock.verify(2, getRequestedFor(urlPathEqualTo("/null-fields/_doc/42")));
+	}
+
+	@Test
+	@DisplayName("should isolate the scroll requests of a stream")
+	void shouldIsolateTheScrollRequestsOfAStream() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/null-fields/_search"))
+				.willReturn(
+						aResponse()
+								.withStatus(503)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "error": {
+										    "type": "search_phase_execution_exception",
+										    "reason": "all shards failed"
+										  },
+										  "status": 503
+										}
+										""")));
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.build();
+		var template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(clientConfiguration));
+		template.setIsolationPolicy(new IsolationPolicy(10, 1, Duration.ofMinutes(1)));
+
+		assertThatThrownBy(() -> template.searchForStream(Query.findAll(), EntityWithNullFields.class))
+				.isNotInstanceOf(OperationRejectedException.class);
+		assertThatThrownBy(() -> template.searchForStream(Query.findAll(), EntityWithNullFields.class))
+				.isInstanceOf(OperationRejectedException.class);
+
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/null-fields/_search")));
+	}
+
+	@Test
+	@DisplayName("should send bulk requests and receive search responses as Smile")
+	void shouldSendBulkRequestsAndReceiveSearchResponsesAsSmile() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/_bulk"))
+				.withHeader("Content-Type", containing("smile"))
+				.withHeader("Accept", containing("smile"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+smile;compatible-with=9")
+								.withBody(smile("""
+										{
+										  "took": 1,
+										  "errors": false,
+										  "items": [
+										    {
+										      "index": {
+										        "_index": "null-fields",
+										        "_id": "42",
+										        "_version": 1,
+										        "result": "created",
+										        "status": 201,
+										        "_seq_no": 1,
+										        "_primary_term": 1
+										      }
+										    }
+										  ]
+										}
+										"""))));
+		wireMock.stubFor(post(urlPathEqualTo("/null-fields/_search"))
+				.withHeader("Accept", containing("smile"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+smile;compatible-with=9")
+								.withBody(smile("""
+										{
+										  "took": 1,
+										  "timed_out": false,
+										  "_shards": {
+										    "total": 1,
+										    "successful": 1,
+										    "skipped": 0,
+										    "failed": 0
+										  },
+										  "hits": {
+										    "total": {
+										      "value": 1,
+										      "relation": "eq"
+										    },
+										    "max_score": 1.0,
+										    "hits": [
+										      {
+										        "_index": "null-fields",
+										        "_id": "42",
+										        "_score": 1.0,
+										        "_source": {
+										          "id": "42",
+										          "field1": "value1"
+										        }
+										      }
+										    ]
+										  }
+										}
+										"""))));
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.withBinaryContentType(BinaryContentType.SMILE)
+				.build();
+		var template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(clientConfiguration));
+		var entity = new EntityWithNullFields();
+		entity.setId("42");
+		entity.setField1("value1");
+
+		template.save(List.of(entity));
+		SearchHits<EntityWithNullFields> searchHits = template.search(Query.findAll(), EntityWithNullFields.class);
+
+		assertThat(searchHits.getTotalHits()).isEqualTo(1);
+		assertThat(searchHits.getSearchHit(0).getContent().getField1()).isEqualTo("value1");
+
+		// the action and the source are Smile documents separated by their end marker without a newline
+		byte[] bulkBody = wireMock.findAll(postRequestedFor(urlPathEqualTo("/_bulk"))).get(0).getBody();
+		int endMarker = 0;
+		while (bulkBody[endMarker] != (byte) 0xFF) {
+			endMarker++;
+		}
+		assertThat(new String(bulkBody, 0, 2, StandardCharsets.US_ASCII)).isEqualTo(":)");
+		assertThat(new String(bulkBody, endMarker + 1, 2, StandardCharsets.US_ASCII)).isEqualTo(":)");
+		assertThat(bulkBody[bulkBody.length - 1]).isEqualTo((byte) 0xFF);
+	}
+
+	private static byte[] smile(String json) {
+		try {
+			return new ObjectMapper(new SmileFactory()).writeValueAsBytes(new ObjectMapper().readTree(json));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 	@Document(indexName = "null-fields")
 	static class EntityWithNullFields {
 		@Nullable
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.elasticsearch.client.elc.AsyncElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.ReactiveElasticsearchClient;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.junit.jupiter.ReactiveElasticsearchTemplateConfiguration;
+import org.springframework.data.elasticsearch.utils.IndexNameProvider;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * @author agent
+ * @since 6.2
+ */
+@ContextConfiguration(classes = AsyncElasticsearchELCIntegrationTests.Config.class)
+public class AsyncElasticsearchELCIntegrationTests extends AsyncElasticsearchIntegrationTests {
+
+	@Configuration
+	@Import({ ReactiveElasticsearchTemplateConfiguration.class })
+	static class Config {
+		@Bean
+		IndexNameProvider indexNameProvider() {
+			return new IndexNameProvider("async-template");
+		}
+
+		@Bean
+		AsyncElasticsearchTemplate asyncElasticsearchTemplate(ReactiveElasticsearchClient reactiveElasticsearchClient,
+				ElasticsearchConverter elasticsearchConverter) {
+
+			AsyncElasticsearchTemplate template = new AsyncElasticsearchTemplate(reactiveElasticsearchClient,
+					elasticsearchConverter);
+			template.setRefreshPolicy(RefreshPolicy.IMMEDIATE);
+			return template;
+		}
+	}
+}
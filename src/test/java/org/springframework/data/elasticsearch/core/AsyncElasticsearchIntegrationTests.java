@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.core.IndexOperationsAdapter.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.junit.jupiter.SpringIntegrationTest;
+import org.springframework.data.elasticsearch.utils.IndexNameProvider;
+
+/**
+ * Integration tests for the {@link AsyncElasticsearchOperations}.
+ *
+ * @author agent
+ */
+@SpringIntegrationTest
+public abstract class AsyncElasticsearchIntegrationTests {
+
+	@Autowired AsyncElasticsearchOperations operations;
+	@Autowired ReactiveElasticsearchOperations reactiveOperations;
+	@Autowired IndexNameProvider indexNameProvider;
+
+	@BeforeEach
+	void setUp() {
+		indexNameProvider.increment();
+		blocking(reactiveOperations.indexOps(SampleEntity.class)).createWithMapping();
+	}
+
+	@Test
+	@Order(Integer.MAX_VALUE)
+	void cleanup() {
+		blocking(reactiveOperations.indexOps(IndexCoordinates.of(indexNameProvider.getPrefix() + '*'))).delete();
+	}
+
+	@Test
+	@DisplayName("should save, get and delete an entity")
+	void shouldSaveGetAndDeleteAnEntity() {
+
+		SampleEntity saved = operations.save(new SampleEntity("42", "message")).join();
+
+		assertThat(saved.id()).isEqualTo("42");
+		assertThat(operations.get("42", SampleEntity.class).join()).isEqualTo(saved);
+		assertThat(operations.exists("42", SampleEntity.class).join()).isTrue();
+
+		assertThat(operations.delete(saved).join()).isEqualTo("42");
+
+		assertThat(operations.get("42", SampleEntity.class).join()).isNull();
+		assertThat(operations.exists("42", SampleEntity.class).join()).isFalse();
+	}
+
+	@Test
+	@DisplayName("should save all entities and get them with a multi get")
+	void shouldSaveAllEntitiesAndGetThemWithAMultiGet() {
+
+		operations.saveAll(List.of(new SampleEntity("1", "one"), new SampleEntity("2", "two")), SampleEntity.class)
+				.join();
+
+		List<MultiGetItem<SampleEntity>> items = operations.multiGet(Query.multiGetQuery(List.of("1", "2")),
+				SampleEntity.class).join();
+
+		assertThat(items).extracting(MultiGetItem::getItem) //
+				.containsExactlyInAnyOrder(new SampleEntity("1", "one"), new SampleEntity("2", "two"));
+	}
+
+	@Test
+	@DisplayName("should search and count")
+	void shouldSearchAndCount() {
+
+		operations.saveAll(IntStream.range(0, 10)
+				.mapToObj(i -> new SampleEntity(String.valueOf(i), i % 2 == 0 ? "even" : "odd")).toList(),
+				SampleEntity.class).join();
+		Query query = new CriteriaQuery(Criteria.where("message").is("even"));
+
+		SearchHits<SampleEntity> searchHits = operations.search(query, SampleEntity.class).join();
+
+		assertThat(searchHits.getTotalHits()).isEqualTo(5);
+		assertThat(searchHits.getSearchHits()).extracting(SearchHit::getContent).extracting(SampleEntity::message)
+				.containsOnly("even");
+		assertThat(operations.count(query, SampleEntity.class).join()).isEqualTo(5);
+		assertThat(operations.searchOne(new CriteriaQuery(Criteria.where("message").is("none")), SampleEntity.class)
+				.join()).isNull();
+	}
+
+	@Test
+	@DisplayName("should run concurrent searches without blocking")
+	void shouldRunConcurrentSearchesWithoutBlocking() {
+
+		operations.saveAll(IntStream.range(0, 10).mapToObj(i -> new SampleEntity(String.valueOf(i), "message-" + i))
+				.toList(), SampleEntity.class).join();
+
+		List<CompletableFuture<SearchHits<SampleEntity>>> searches = IntStream.range(0, 10)
+				.mapToObj(i -> operations.search(new CriteriaQuery(Criteria.where("message").is("message-" + i)),
+						SampleEntity.class))
+				.toList();
+
+		CompletableFuture.allOf(searches.toArray(CompletableFuture[]::new)).join();
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(searches.get(i).join().getSearchHit(0).getId()).isEqualTo(String.valueOf(i));
+		}
+	}
+
+	@Document(indexName = "#{@indexNameProvider.indexName()}")
+	record SampleEntity( //
+			@Nullable @Id String id, //
+			@Field(type = FieldType.Keyword) String message //
+	) {
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class DirtyTrackerUnitTests {
+
+	@Test
+	@DisplayName("should return only the changed fields")
+	void shouldReturnOnlyTheChangedFields() {
+
+		var tracker = new DirtyTracker();
+		var entity = new Object();
+		tracker.track(entity, document("id", "42", "name", "one", "tags", List.of("a", "b")));
+
+		var changes = tracker.changes(entity, document("id", "42", "name", "two", "tags", List.of("a", "b", "c")));
+
+		assertThat(changes).containsOnlyKeys("name", "tags");
+		assertThat(changes.get("name")).isEqualTo("two");
+	}
+
+	@Test
+	@DisplayName("should return removed fields with a null value")
+	void shouldReturnRemovedFieldsWithANullValue() {
+
+		var tracker = new DirtyTracker();
+		var entity = new Object();
+		tracker.track(entity, document("id", "42", "name", "one"));
+
+		var changes = tracker.changes(entity, document("id", "42"));
+
+		assertThat(changes).containsOnlyKeys("name");
+		assertThat(changes.get("name")).isNull();
+	}
+
+	@Test
+	@DisplayName("should return null for an entity that is not tracked")
+	void shouldReturnNullForAnEntityThatIsNotTracked() {
+
+		var tracker = new DirtyTracker();
+		var entity = new Object();
+
+		assertThat(tracker.changes(entity, document("id", "42"))).isNull();
+
+		tracker.track(entity, document("id", "42"));
+		tracker.untrack(entity);
+
+		assertThat(tracker.isTracked(entity)).isFalse();
+		assertThat(tracker.changes(entity, document("id", "42"))).isNull();
+	}
+
+	@Test
+	@DisplayName("should identify entities by identity")
+	void shouldIdentifyEntitiesByIdentity() {
+
+		var tracker = new DirtyTracker();
+		var entity = new EqualEntity();
+		tracker.track(entity, document("id", "42"));
+
+		assertThat(tracker.isTracked(entity)).isTrue();
+		assertThat(tracker.isTracked(new EqualEntity())).isFalse();
+		assertThat(tracker.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should not be affected by changes to the tracked document")
+	void shouldNotBeAffectedByChangesToTheTrackedDocument() {
+
+		var tracker = new DirtyTracker();
+		var entity = new Object();
+		var bytes = new byte[] { 1, 2, 3 };
+		tracker.track(entity, document("data", bytes));
+
+		bytes[0] = 4;
+
+		assertThat(tracker.changes(entity, document("data", bytes))).containsOnlyKeys("data");
+	}
+
+	@Test
+	@DisplayName("should not return nested objects whose entries are in a different order")
+	void shouldNotReturnNestedObjectsWhoseEntriesAreInADifferentOrder() {
+
+		var tracker = new DirtyTracker();
+		var entity = new Object();
+		tracker.track(entity, document("address", document("street", "main", "city", "town")));
+
+		assertThat(tracker.changes(entity, document("address", document("city", "town", "street", "main")))).isEmpty();
+		assertThat(tracker.changes(entity, document("address", document("city", "town", "street", "side"))))
+				.containsOnlyKeys("address");
+	}
+
+	private static Map<String, @Nullable Object> document(Object... keysAndValues) {
+
+		Map<String, @Nullable Object> document = new LinkedHashMap<>();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			document.put((String) keysAndValues[i], keysAndValues[i + 1]);
+		}
+		return document;
+	}
+
+	static class EqualEntity {
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof EqualEntity;
+		}
+
+		@Override
+		public int hashCode() {
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.annotations.EntityCache;
+import org.springframework.data.elasticsearch.core.document.Document;
+
+/**
+ * @author agent
+ */
+class DocumentCacheUnitTests {
+
+	private final AtomicLong now = new AtomicLong();
+	private final DocumentCache documentCache = new DocumentCache(now::get);
+
+	@Test
+	@DisplayName("should only cache documents of enabled classes")
+	void shouldOnlyCacheDocumentsOfEnabledClasses() {
+
+		documentCache.put(NotCachedEntity.class, "index", "1", document("1"), documentCache.stamp());
+
+		assertThat(documentCache.isEnabled(NotCachedEntity.class)).isFalse();
+		assertThat(documentCache.isEnabled(CachedEntity.class)).isTrue();
+		assertThat(documentCache.get(NotCachedEntity.class, "index", "1")).isNull();
+		assertThat(documentCache.getStatistics(NotCachedEntity.class)).isEqualTo(new DocumentCache.Statistics(0, 0, 0, 0));
+	}
+
+	@Test
+	@DisplayName("should return copies of cached documents with sequence number and primary term")
+	void shouldReturnCopiesOfCachedDocumentsWithSequenceNumberAndPrimaryTerm() {
+
+		documentCache.put(CachedEntity.class, "index", "1", document("1"), documentCache.stamp());
+
+		Document cached = documentCache.get(CachedEntity.class, "index", "1");
+
+		assertThat(cached).isNotNull();
+		assertThat(cached.getId()).isEqualTo("1");
+		assertThat(cached.getSeqNo()).isEqualTo(42);
+		assertThat(cached.getPrimaryTerm()).isEqualTo(1);
+		assertThat(cached.get("name")).isEqualTo("name-1");
+
+		cached.put("name", "changed");
+
+		assertThat(documentCache.get(CachedEntity.class, "index", "1").get("name")).isEqualTo("name-1");
+		assertThat(documentCache.get(CachedEntity.class, "other-index", "1")).isNull();
+		assertThat(documentCache.getStatistics(CachedEntity.class)).isEqualTo(new DocumentCache.Statistics(2, 1, 0, 1));
+	}
+
+	@Test
+	@DisplayName("should expire documents after the time to live")
+	void shouldExpireDocumentsAfterTheTimeToLive() {
+
+		documentCache.put(CachedEntity.class, "index", "1", document("1"), documentCache.stamp());
+
+		now.addAndGet(TimeUnit.SECONDS.toNanos(9));
+		assertThat(documentCache.get(CachedEntity.class, "index", "1")).isNotNull();
+
+		now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertThat(documentCache.get(CachedEntity.class, "index", "1")).isNull();
+		assertThat(documentCache.getStatistics(CachedEntity.class)).isEqualTo(new DocumentCache.Statistics(1, 1, 1, 0));
+	}
+
+	@Test
+	@DisplayName("should evict the least recently used documents")
+	void shouldEvictTheLeastRecentlyUsedDocuments() {
+
+		documentCache.configure(NotCachedEntity.class, 2, Duration.ofMinutes(1));
+
+		documentCache.put(NotCachedEntity.class, "index", "1", document("1"), documentCache.stamp());
+		documentCache.put(NotCachedEntity.class, "index", "2", document("2"), documentCache.stamp());
+		documentCache.get(NotCachedEntity.class, "index", "1");
+		documentCache.put(NotCachedEntity.class, "index", "3", document("3"), documentCache.stamp());
+
+		assertThat(documentCache.get(NotCachedEntity.class, "index", "1")).isNotNull();
+		assertThat(documentCache.get(NotCachedEntity.class, "index", "2")).isNull();
+		assertThat(documentCache.get(NotCachedEntity.class, "index", "3")).isNotNull();
+		assertThat(documentCache.getStatistics(NotCachedEntity.class).evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should invalidate documents by id and by index")
+	void shouldInvalidateDocumentsByIdAndByIndex() {
+
+		documentCache.put(CachedEntity.class, "index", "1", document("1"), documentCache.stamp());
+		documentCache.put(CachedEntity.class, "index", "2", document("2"), documentCache.stamp());
+		documentCache.put(CachedEntity.class, "other-index", "1", document("1"), documentCache.stamp());
+
+		documentCache.invalidate("index", "1");
+
+		assertThat(documentCache.get(CachedEntity.class, "index", "1")).isNull();
+		assertThat(documentCache.get(CachedEntity.class, "index", "2")).isNotNull();
+
+		documentCache.invalidate("index");
+
+		assertThat(documentCache.get(CachedEntity.class, "index", "2")).isNull();
+		assertThat(documentCache.get(CachedEntity.class, "other-index", "1")).isNotNull();
+	}
+
+	@Test
+	@DisplayName("should not cache a document that was read before an invalidation")
+	void shouldNotCacheADocumentThatWasReadBeforeAnInvalidation() {
+
+		long stamp = documentCache.stamp();
+		documentCache.invalidate("index", "1");
+		documentCache.put(CachedEntity.class, "index", "1", document("1"), stamp);
+
+		assertThat(documentCache.get(CachedEntity.class, "index", "1")).isNull();
+	}
+
+	@Test
+	@DisplayName("should not cache documents of a disabled class")
+	void shouldNotCacheDocumentsOfADisabledClass() {
+
+		documentCache.disable(CachedEntity.class);
+		documentCache.put(CachedEntity.class, "index", "1", document("1"), documentCache.stamp());
+
+		assertThat(documentCache.isEnabled(CachedEntity.class)).isFalse();
+		assertThat(documentCache.get(CachedEntity.class, "index", "1")).isNull();
+	}
+
+	private static Document document(String id) {
+
+		Document document = Document.create();
+		document.setId(id);
+		document.setIndex("index");
+		document.setSeqNo(42);
+		document.setPrimaryTerm(1);
+		document.put("name", "name-" + id);
+		return document;
+	}
+
+	@EntityCache(maxSize = 10, timeToLive = 10)
+	static class CachedEntity {}
+
+	static class NotCachedEntity {}
+}
@@ -486,6 +486,50 @@ public abstract class ReactiveElasticsearchIntegrationTests {
 				.verifyComplete();
 	}
 
+	@Test
+	@DisplayName("should not modify the query in unbounded searches")
+	void shouldNotModifyTheQueryInUnboundedSearches() {
+
+		index(IntStream.range(0, 100).mapToObj(it -> randomEntity("entity - " + it)).toArray(SampleEntity[]::new));
+
+		var query = CriteriaQuery.builder(new Criteria("message").contains("entity")) //
+				.withSort(Sort.by("message")) //
+				.withPageable(Pageable.unpaged()) //
+				.withReactiveBatchSize(20) //
+				.withReactiveBatchSizeAdaptive(true) //
+				.withReactivePointInTimeKeepAlive(Duration.ofMinutes(1)) //
+				.build();
+
+		Flux.merge(operations.search(query, SampleEntity.class), operations.search(query, SampleEntity.class)) //
+				.as(StepVerifier::create) //
+				.expectNextCount(200) //
+				.verifyComplete();
+
+		assertThat(query.getPointInTime()).isNull();
+		assertThat(query.getSearchAfter()).isNull();
+		assertThat(query.getSort()).isEqualTo(Sort.by("message"));
+	}
+
+	@Test
+	@DisplayName("should adapt the batch size of unbounded searches to the downstream demand")
+	void shouldAdaptTheBatchSizeOfUnboundedSearchesToTheDownstreamDemand() {
+
+		index(IntStream.range(0, 100).mapToObj(it -> randomEntity("entity - " + it)).toArray(SampleEntity[]::new));
+
+		var query = CriteriaQuery.builder(new Criteria("message").contains("entity")) //
+				.withSort(Sort.by("message")) //
+				.withPageable(Pageable.unpaged()) //
+				.withReactiveBatchSize(50) //
+				.withReactiveBatchSizeAdaptive(true) //
+				.build();
+
+		operations.search(query, SampleEntity.class) //
+				.limitRate(5) //
+				.as(StepVerifier::create) //
+				.expectNextCount(100) //
+				.verifyComplete();
+	}
+
 	@Test // DATAES-567
 	public void aggregateShouldReturnAggregations() {
 
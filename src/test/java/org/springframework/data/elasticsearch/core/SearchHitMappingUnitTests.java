@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
+import org.springframework.data.elasticsearch.core.document.SearchDocumentAdapter;
+import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+/**
+ * @author agent
+ */
+class SearchHitMappingUnitTests {
+
+	private final SearchHitMapping<String> mapping = SearchHitMapping.mappingFor(String.class,
+			new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
+
+	@Test
+	@DisplayName("should map the hits lazily and convert a document only when its content is accessed")
+	void shouldMapTheHitsLazilyAndConvertADocumentOnlyWhenItsContentIsAccessed() {
+
+		List<String> converted = new ArrayList<>();
+		SearchDocumentResponse response = response(document("1", 3.0f), document("2", 2.0f), document("3", 1.0f));
+
+		SearchHits<String> searchHits = mapping.mapHitsLazily(response, document -> {
+			converted.add(document.getId());
+			return "content-" + document.getId();
+		});
+
+		assertThat(searchHits.getTotalHits()).isEqualTo(3);
+		assertThat(searchHits.getMaxScore()).isEqualTo(3.0f);
+		assertThat(searchHits.getSearchHits()).extracting(SearchHit::getId).containsExactly("1", "2", "3");
+		assertThat(searchHits.getSearchHits()).extracting(SearchHit::getScore).containsExactly(3.0f, 2.0f, 1.0f);
+		assertThat(searchHits.getSearchHits()).noneMatch(SearchHit::isContentConverted);
+		assertThat(converted).isEmpty();
+
+		assertThat(searchHits.getSearchHit(1).getContent()).isEqualTo("content-2");
+		assertThat(converted).containsExactly("2");
+	}
+
+	@Test
+	@DisplayName("should map the scroll hits lazily and keep the scroll id")
+	void shouldMapTheScrollHitsLazilyAndKeepTheScrollId() {
+
+		SearchScrollHits<String> searchHits = mapping.mapScrollHitsLazily(response(document("1", 1.0f)),
+				document -> "content-" + document.getId());
+
+		assertThat(searchHits.getScrollId()).isEqualTo("scroll-id");
+		assertThat(searchHits.getSearchHit(0).isContentConverted()).isFalse();
+		assertThat(searchHits.getSearchHit(0).getContent()).isEqualTo("content-1");
+	}
+
+	private static SearchDocument document(String id, float score) {
+
+		Document document = Document.from(Map.of("name", "name-" + id));
+		document.setId(id);
+		document.setIndex("index");
+		return new SearchDocumentAdapter(document, score, new Object[] {}, emptyMap(), emptyMap(), emptyMap(), null, null,
+				null, null);
+	}
+
+	private static SearchDocumentResponse response(SearchDocument... documents) {
+
+		float maxScore = documents.length > 0 ? documents[0].getScore() : 0;
+		return new SearchDocumentResponse(documents.length, "EQUAL_TO", maxScore, Duration.ofMillis(1), "scroll-id", null,
+				List.of(documents), null, null, null);
+	}
+}
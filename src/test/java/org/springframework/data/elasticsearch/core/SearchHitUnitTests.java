@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class SearchHitUnitTests {
+
+	@Test
+	@DisplayName("should convert the content of a lazy search hit once on the first access")
+	void shouldConvertTheContentOfALazySearchHitOnceOnTheFirstAccess() {
+
+		AtomicInteger conversions = new AtomicInteger();
+		SearchHit<String> hit = SearchHit.lazy("index", "42", null, 1.5f, null, null, null, null, null, null, () -> {
+			conversions.incrementAndGet();
+			return "content";
+		});
+
+		assertThat(hit.getId()).isEqualTo("42");
+		assertThat(hit.getScore()).isEqualTo(1.5f);
+		assertThat(hit.isContentConverted()).isFalse();
+		assertThat(conversions).hasValue(0);
+
+		assertThat(hit.getContent()).isEqualTo("content");
+		assertThat(hit.getContent()).isEqualTo("content");
+		assertThat(hit.isContentConverted()).isTrue();
+		assertThat(conversions).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("should not convert the content of a lazy search hit in toString")
+	void shouldNotConvertTheContentOfALazySearchHitInToString() {
+
+		SearchHit<String> hit = SearchHit.lazy(null, "42", null, 0, null, null, null, null, null, null, () -> "content");
+
+		assertThat(hit.toString()).contains("<not converted>");
+		assertThat(hit.isContentConverted()).isFalse();
+
+		hit.getContent();
+
+		assertThat(hit.toString()).contains("content=content");
+	}
+
+	@Test
+	@DisplayName("should keep trying to convert the content of a lazy search hit when the conversion fails")
+	void shouldKeepTryingToConvertTheContentOfALazySearchHitWhenTheConversionFails() {
+
+		AtomicInteger conversions = new AtomicInteger();
+		SearchHit<String> hit = SearchHit.lazy(null, "42", null, 0, null, null, null, null, null, null, () -> {
+			if (conversions.incrementAndGet() == 1) {
+				throw new IllegalStateException("conversion failed");
+			}
+			return "content";
+		});
+
+		assertThatThrownBy(hit::getContent).isInstanceOf(IllegalStateException.class);
+		assertThat(hit.isContentConverted()).isFalse();
+
+		assertThat(hit.getContent()).isEqualTo("content");
+		assertThat(conversions).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("should have the content of an eagerly created search hit converted")
+	void shouldHaveTheContentOfAnEagerlyCreatedSearchHitConverted() {
+
+		SearchHit<String> hit = new SearchHit<>(null, "42", null, 0, null, null, null, null, null, null, "content");
+
+		assertThat(hit.isContentConverted()).isTrue();
+		assertThat(hit.getContent()).isEqualTo("content");
+	}
+}
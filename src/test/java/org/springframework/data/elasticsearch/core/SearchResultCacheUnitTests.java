@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * @author agent
+ */
+class SearchResultCacheUnitTests {
+
+	private static final Duration TIME_TO_LIVE = Duration.ofSeconds(1);
+
+	private final AtomicLong now = new AtomicLong();
+	private final AtomicInteger searches = new AtomicInteger();
+	private final SearchResultCache searchResultCache = new SearchResultCache(2,
+			SearchResultCache::numberOfHits, 3, Duration.ofMinutes(1), now::get);
+
+	@Test
+	@DisplayName("should return cached results until they expire")
+	void shouldReturnCachedResultsUntilTheyExpire() {
+
+		SearchHits<String> first = search(key("query"), 2);
+		SearchHits<String> second = search(key("query"), 2);
+
+		assertThat(second).isSameAs(first);
+		assertThat(searches).hasValue(1);
+
+		now.addAndGet(TIME_TO_LIVE.toNanos());
+		SearchHits<String> third = search(key("query"), 2);
+
+		assertThat(third).isNotSameAs(first);
+		assertThat(searches).hasValue(2);
+		assertThat(searchResultCache.getStatistics()).isEqualTo(new SearchResultCache.Statistics(1, 2, 0, 1, 1, 2));
+	}
+
+	@Test
+	@DisplayName("should distinguish requests, classes, indices and lazy content conversion")
+	void shouldDistinguishRequestsClassesIndicesAndLazyContentConversion() {
+
+		search(key("query"), 1);
+		search(key("other-query"), 1);
+		search(new SearchResultCache.Key("query", Integer.class, IndexCoordinates.of("index"), false), 1);
+		search(new SearchResultCache.Key("query", String.class, IndexCoordinates.of("other-index"), false), 1);
+		search(new SearchResultCache.Key("query", String.class, IndexCoordinates.of("index"), true), 1);
+
+		assertThat(searches).hasValue(5);
+	}
+
+	@Test
+	@DisplayName("should coalesce identical searches in flight")
+	void shouldCoalesceIdenticalSearchesInFlight() {
+
+		CompletableFuture<SearchHits<String>> inFlight = new CompletableFuture<>();
+
+		CompletableFuture<SearchHits<String>> first = searchResultCache.get(key("query"), TIME_TO_LIVE, () -> {
+			searches.incrementAndGet();
+			return inFlight;
+		});
+		CompletableFuture<SearchHits<String>> second = searchResultCache.get(key("query"), TIME_TO_LIVE, () -> {
+			searches.incrementAndGet();
+			return new CompletableFuture<>();
+		});
+
+		assertThat(second).isNotDone();
+		inFlight.complete(searchHits(1));
+
+		assertThat(second.join()).isSameAs(first.join());
+		assertThat(searches).hasValue(1);
+		assertThat(searchResultCache.getStatistics().coalescedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should not cache failed searches")
+	void shouldNotCacheFailedSearches() {
+
+		CompletableFuture<SearchHits<String>> failed = searchResultCache.get(key("query"), TIME_TO_LIVE, () -> {
+			throw new IllegalStateException("boom");
+		});
+
+		assertThat(failed).isCompletedExceptionally();
+
+		search(key("query"), 1);
+		assertThat(searches).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("should complete identical searches in flight and not cache when the search throws an error")
+	void shouldCompleteIdenticalSearchesInFlightAndNotCacheWhenTheSearchThrowsAnError() {
+
+		List<CompletableFuture<SearchHits<String>>> coalesced = new ArrayList<>();
+
+		CompletableFuture<SearchHits<String>> failed = searchResultCache.get(key("query"), TIME_TO_LIVE, () -> {
+			// an identical search issued while this one is in flight waits for its result
+			coalesced.add(searchResultCache.get(key("query"), TIME_TO_LIVE, CompletableFuture::new));
+			throw new AssertionError("boom");
+		});
+
+		assertThat(failed).isCompletedExceptionally();
+		assertThat(coalesced).singleElement().satisfies(future -> assertThat(future).isCompletedExceptionally());
+		assertThat(searchResultCache.getStatistics().size()).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("should not cache results with more than the maximum number of hits")
+	void shouldNotCacheResultsWithMoreThanTheMaximumNumberOfHits() {
+
+		search(key("query"), 4);
+		search(key("query"), 4);
+
+		assertThat(searches).hasValue(2);
+		assertThat(searchResultCache.getStatistics().size()).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("should evict the least recently used results")
+	void shouldEvictTheLeastRecentlyUsedResults() {
+
+		search(key("one"), 1);
+		search(key("two"), 1);
+		search(key("one"), 1);
+		search(key("three"), 1);
+		search(key("one"), 1);
+		search(key("two"), 1);
+
+		assertThat(searches).hasValue(4);
+		assertThat(searchResultCache.getStatistics().evictionCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("should evict results by their weight")
+	void shouldEvictResultsByTheirWeight() {
+
+		search(key("one"), 1);
+		search(key("two"), 0);
+		search(key("large"), 2);
+
+		assertThat(searchResultCache.getStatistics().evictionCount()).isEqualTo(2);
+		assertThat(searchResultCache.getStatistics().size()).isEqualTo(1);
+		assertThat(searchResultCache.getStatistics().weight()).isEqualTo(2);
+
+		search(key("large"), 2);
+		assertThat(searches).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("should not cache results that exceed the maximum weight")
+	void shouldNotCacheResultsThatExceedTheMaximumWeight() {
+
+		search(key("one"), 1);
+		search(key("too-large"), 3);
+		search(key("too-large"), 3);
+
+		assertThat(searches).hasValue(3);
+		assertThat(searchResultCache.getStatistics().size()).isEqualTo(1);
+		assertThat(searchResultCache.getStatistics().weight()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should drop the results of an index and searches in flight on invalidation")
+	void shouldDropTheResultsOfAnIndexAndSearchesInFlightOnInvalidation() {
+
+		search(key("query"), 1);
+		search(new SearchResultCache.Key("query", String.class, IndexCoordinates.of("other-index", "index"), false), 1);
+		CompletableFuture<SearchHits<String>> inFlight = new CompletableFuture<>();
+		searchResultCache.get(key("in-flight"), TIME_TO_LIVE, () -> inFlight);
+
+		searchResultCache.invalidate("index");
+		inFlight.complete(searchHits(1));
+
+		assertThat(searchResultCache.getStatistics().size()).isEqualTo(0);
+		assertThat(searchResultCache.getStatistics().weight()).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("should derive the time to live from the refresh interval")
+	void shouldDeriveTheTimeToLiveFromTheRefreshInterval() {
+
+		assertThat(searchResultCache.timeToLive("1s")).isEqualTo(Duration.ofSeconds(1));
+		assertThat(searchResultCache.timeToLive("500ms")).isEqualTo(Duration.ofMillis(500));
+		assertThat(searchResultCache.timeToLive("2m")).isEqualTo(Duration.ofMinutes(1));
+		assertThat(searchResultCache.timeToLive("-1")).isEqualTo(Duration.ofMinutes(1));
+		assertThat(searchResultCache.timeToLive(null)).isEqualTo(Duration.ofMinutes(1));
+	}
+
+	private SearchHits<String> search(SearchResultCache.Key key, int numberOfHits) {
+		return searchResultCache.<String> get(key, TIME_TO_LIVE, () -> {
+			searches.incrementAndGet();
+			return CompletableFuture.completedFuture(searchHits(numberOfHits));
+		}).join();
+	}
+
+	private static SearchResultCache.Key key(String request) {
+		return new SearchResultCache.Key(request, String.class, IndexCoordinates.of("index"), false);
+	}
+
+	private static SearchHits<String> searchHits(int numberOfHits) {
+
+		List<SearchHit<String>> hits = new ArrayList<>();
+		for (int i = 0; i < numberOfHits; i++) {
+			hits.add(new SearchHit<>(null, String.valueOf(i), null, 0, null, null, null, null, null, null, "hit-" + i));
+		}
+		return new SearchHitsImpl<>(hits.size(), TotalHitsRelation.EQUAL_TO, 0, Duration.ofMillis(1), null, null, hits,
+				null, null, null);
+	}
+}
@@ -6,13 +6,18 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.Random;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -418,6 +423,74 @@ class ElasticsearchDateConverterUnitTests {
 		check(ElasticsearchDateConverter.of("basic_date_time ||invalid-pattern"), LocalDateTime.class);
 	}
 
+	@ParameterizedTest
+	@EnumSource(value = DateFormat.class, names = { "date_time", "strict_date_optional_time", "basic_date_time" })
+	@DisplayName("should format and parse ISO date times like the pattern formatter")
+	void shouldFormatAndParseIsoDateTimesLikeThePatternFormatter(DateFormat dateFormat) {
+
+		ElasticsearchDateConverter converter = ElasticsearchDateConverter.of(dateFormat);
+		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(dateFormat.getPattern());
+		ElasticsearchDateConverter.PatternDateFormatter patternFormatter = new ElasticsearchDateConverter.PatternDateFormatter(
+				dateTimeFormatter);
+		Random random = new Random(42);
+
+		for (int i = 0; i < 1_000; i++) {
+			Instant instant = Instant.ofEpochMilli(random.nextLong(-62_000_000_000_000L, 253_000_000_000_000L))
+					.plusNanos(random.nextInt(1_000_000));
+			ZoneOffset offset = ZoneOffset.ofTotalSeconds(random.nextInt(-18 * 60, 18 * 60 + 1) * 60);
+			OffsetDateTime offsetDateTime = instant.atOffset(offset);
+
+			String expected = patternFormatter.format(offsetDateTime);
+			assertThat(converter.format(offsetDateTime)).isEqualTo(expected);
+			assertThat(converter.format(offsetDateTime.toZonedDateTime())).isEqualTo(expected);
+			assertThat(converter.format(instant)).isEqualTo(patternFormatter.format(instant));
+
+			assertThat(converter.parse(expected, Instant.class)).isEqualTo(patternFormatter.parse(expected, Instant.class));
+			assertThat(converter.parse(expected, OffsetDateTime.class))
+					.isEqualTo(patternFormatter.parse(expected, OffsetDateTime.class));
+			assertThat(converter.parse(expected, ZonedDateTime.class))
+					.isEqualTo(patternFormatter.parse(expected, ZonedDateTime.class));
+			assertThat(converter.parse(expected, LocalDateTime.class))
+					.isEqualTo(patternFormatter.parse(expected, LocalDateTime.class));
+		}
+	}
+
+	@Test
+	@DisplayName("should handle values outside the fast path of the ISO date time formatter")
+	void shouldHandleValuesOutsideTheFastPathOfTheIsoDateTimeFormatter() {
+
+		ElasticsearchDateConverter dateTime = ElasticsearchDateConverter.of(DateFormat.date_time);
+		ElasticsearchDateConverter dateOptionalTime = ElasticsearchDateConverter.of(DateFormat.strict_date_optional_time);
+
+		assertThat(dateTime.parse("2026-02-30T10:00:00.000Z", LocalDate.class)).isEqualTo(LocalDate.of(2026, 2, 28));
+		assertThat(dateTime.parse("2026-02-30T10:00:00.000Z", Instant.class))
+				.isEqualTo(Instant.parse("2026-02-28T10:00:00Z"));
+		assertThat(dateOptionalTime.parse("2026-03-01", LocalDate.class)).isEqualTo(LocalDate.of(2026, 3, 1));
+		assertThat(dateOptionalTime.format(LocalDate.of(2026, 3, 1))).isEqualTo("2026-03-01");
+		assertThatThrownBy(() -> dateTime.parse("2026-03-01T10:00:00.000", Instant.class));
+	}
+
+	@Test
+	@DisplayName("should format and parse epoch seconds like the double based conversion")
+	void shouldFormatAndParseEpochSecondsLikeTheDoubleBasedConversion() {
+
+		ElasticsearchDateConverter converter = ElasticsearchDateConverter.of(DateFormat.epoch_second);
+		Random random = new Random(42);
+
+		for (int i = 0; i < 1_000; i++) {
+			long epochMilli = random.nextLong(-62_000_000_000_000L, 253_000_000_000_000L);
+			Instant instant = Instant.ofEpochMilli(epochMilli);
+
+			String expected = epochMilli % 1_000 == 0 ? Long.toString(epochMilli / 1_000)
+					: String.format(Locale.ROOT, "%.03f", ((double) epochMilli) / 1_000);
+			assertThat(converter.format(instant)).isEqualTo(expected);
+
+			String seconds = Long.toString(epochMilli / 1_000);
+			assertThat(converter.parse(seconds, Instant.class))
+					.isEqualTo(Instant.ofEpochMilli(((Double) (Double.parseDouble(seconds) * 1_000)).longValue()));
+		}
+	}
+
 	private <T extends TemporalAccessor> void check(ElasticsearchDateConverter converter, Class<T> type) {
 
 		String formatted = converter.format(zdt);
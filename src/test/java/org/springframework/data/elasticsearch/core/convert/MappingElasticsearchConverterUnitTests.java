@@ -19,6 +19,7 @@ import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.skyscreamer.jsonassert.JSONAssert.*;
 
+import java.math.BigInteger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -2182,6 +2183,147 @@ public class MappingElasticsearchConverterUnitTests {
 				.hasCauseInstanceOf(ConversionException.class);
 	}
 
+	@Nested
+	@DisplayName("primitive arrays")
+	class PrimitiveArrayTests {
+
+		@Test
+		@DisplayName("should write primitive arrays and dense vectors as lists")
+		void shouldWritePrimitiveArraysAndDenseVectorsAsLists() throws JSONException {
+
+			var entity = new VectorEntity();
+			entity.id = "42";
+			entity.vector = new float[] { 1.5f, -2.25f };
+			entity.vectorList = List.of(0.5f, 1.0f);
+			entity.doubles = new double[] { 1.125 };
+			entity.ints = new int[] { 1, 2 };
+			entity.longs = new long[] { 3_000_000_000L };
+
+			Document document = Document.create();
+			mappingElasticsearchConverter.write(entity, document);
+
+			assertThat(document.get("vector")).isInstanceOf(List.class);
+			assertThat(document.get("vectorList")).isInstanceOf(List.class);
+			assertThat(document.get("ints")).isInstanceOf(List.class);
+			String expected = """
+					{
+					  "_class": "org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverterUnitTests$VectorEntity",
+					  "id": "42",
+					  "vector": [1.5, -2.25],
+					  "vectorList": [0.5, 1.0],
+					  "doubles": [1.125],
+					  "ints": [1, 2],
+					  "longs": [3000000000]
+					}
+					""";
+			assertEquals(expected, document.toJson(), true);
+		}
+
+		@Test
+		@DisplayName("should read primitive arrays and dense vectors")
+		void shouldReadPrimitiveArraysAndDenseVectors() {
+
+			Document document = Document.parse("""
+					{
+					  "id": "42",
+					  "vector": [1.5, -2.25, 3],
+					  "vectorList": [0.5, 1],
+					  "doubles": [1.125, 2],
+					  "ints": [1, 2],
+					  "longs": [3000000000, 4]
+					}
+					""");
+
+			VectorEntity entity = mappingElasticsearchConverter.read(VectorEntity.class, document);
+
+			assertThat(entity.vector).containsExactly(1.5f, -2.25f, 3.0f);
+			assertThat(entity.vectorList).containsExactly(0.5f, 1.0f);
+			assertThat(entity.doubles).containsExactly(1.125, 2.0);
+			assertThat(entity.ints).containsExactly(1, 2);
+			assertThat(entity.longs).containsExactly(3_000_000_000L, 4L);
+		}
+
+		@Test
+		@DisplayName("should not read out of range values into primitive arrays on the fast path")
+		void shouldNotReadOutOfRangeValuesIntoPrimitiveArraysOnTheFastPath() {
+
+			MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+					new SimpleElasticsearchMappingContext());
+			converter.afterPropertiesSet();
+
+			Document document = Document.create();
+			document.put("longs", List.of(new BigInteger("3000000000")));
+
+			assertThat(converter.read(VectorEntity.class, document).longs).containsExactly(3_000_000_000L);
+
+			document.put("ints", List.of(3_000_000_000L));
+
+			assertThatThrownBy(() -> converter.read(VectorEntity.class, document))
+					.hasRootCauseInstanceOf(IllegalArgumentException.class).hasStackTraceContaining("overflow");
+		}
+	}
+
+	@Nested
+	@DisplayName("type hints")
+	class TypeHintTests {
+
+		private MappingElasticsearchConverter converter;
+		private DefaultElasticsearchTypeMapper typeMapper;
+
+		@BeforeEach
+		void setUp() {
+
+			SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+			typeMapper = new DefaultElasticsearchTypeMapper(ElasticsearchTypeMapper.DEFAULT_TYPE_KEY, mappingContext,
+					Map.of(TypeHintValue.class, "value"));
+			converter = new MappingElasticsearchConverter(mappingContext, new GenericConversionService(), typeMapper);
+			converter.afterPropertiesSet();
+		}
+
+		@Test
+		@DisplayName("should write and read registered type alias")
+		void shouldWriteAndReadRegisteredTypeAlias() throws JSONException {
+
+			var entity = new TypeHintEntity();
+			entity.setId("42");
+			entity.setValue(new TypeHintValue("foo"));
+
+			Document document = Document.create();
+			converter.write(entity, document);
+
+			String expected = """
+					{
+					  "_class": "org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverterUnitTests$TypeHintEntity",
+					  "id": "42",
+					  "value": {
+					    "_class": "value",
+					    "text": "foo"
+					  }
+					}
+					""";
+			assertEquals(expected, document.toJson(), true);
+
+			TypeHintEntity read = converter.read(TypeHintEntity.class, document);
+			assertThat(read.getValue()).isEqualTo(new TypeHintValue("foo"));
+		}
+
+		@Test
+		@DisplayName("should not write type hint for leaf types in strict mode")
+		void shouldNotWriteTypeHintForLeafTypesInStrictMode() {
+
+			typeMapper.setStrictTypeHints(true);
+
+			Document leafDocument = Document.create();
+			converter.write(new TypeHintValue("foo"), leafDocument);
+			Document entityDocument = Document.create();
+			converter.write(new TypeHintEntity(), entityDocument);
+
+			assertThat(leafDocument).doesNotContainKey("_class");
+			assertThat(entityDocument).containsKey("_class");
+			assertThat(converter.read(TypeHintValue.class, leafDocument)).isEqualTo(new TypeHintValue("foo"));
+		}
+	}
+
 	// region entities
 	public static class Sample {
 		@Nullable public @ReadOnlyProperty String readOnly;
@@ -3332,6 +3474,45 @@ public class MappingElasticsearchConverterUnitTests {
 
 	}
 
+	static class VectorEntity {
+		@Nullable
+		@Id String id;
+		@Nullable
+		@Field(type = FieldType.Dense_Vector, dims = 2) float[] vector;
+		@Nullable
+		@Field(type = FieldType.Dense_Vector, dims = 2) List<Float> vectorList;
+		@Nullable double[] doubles;
+		@Nullable int[] ints;
+		@Nullable long[] longs;
+	}
+
+	static class TypeHintEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable private Object value;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public Object getValue() {
+			return value;
+		}
+
+		public void setValue(@Nullable Object value) {
+			this.value = value;
+		}
+	}
+
+	record TypeHintValue(String text) {
+	}
+
 	// endregion
 
 	private static String reverse(Object o) {
@@ -18,6 +18,13 @@ package org.springframework.data.elasticsearch.core.mapping;
 import static org.assertj.core.api.Assertions.*;
 import static org.skyscreamer.jsonassert.JSONAssert.*;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.json.JSONException;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +69,8 @@ import org.springframework.util.ReflectionUtils;
  */
 public class SimpleElasticsearchPersistentEntityTests extends MappingContextBaseTests {
 
+	private static final AtomicInteger INDEX_NAME_COUNTER = new AtomicInteger();
+
 	@Nested
 	@DisplayName("properties setup")
 	class PropertiesTests {
@@ -452,6 +461,102 @@ public class SimpleElasticsearchPersistentEntityTests extends MappingContextBase
 		}
 	}
 
+	@Nested
+	@DisplayName("index name cache")
+	class IndexNameCacheTests {
+
+		@BeforeEach
+		void setUp() {
+			INDEX_NAME_COUNTER.set(0);
+		}
+
+		@Test
+		@DisplayName("should evaluate the index name expression on every call by default")
+		void shouldEvaluateTheIndexNameExpressionOnEveryCallByDefault() {
+
+			SimpleElasticsearchMappingContext context = new SimpleElasticsearchMappingContext();
+			SimpleElasticsearchPersistentEntity<?> entity = context.getRequiredPersistentEntity(EntityWithIndexNameSpel.class);
+
+			assertThat(entity.getIndexCoordinates().getIndexName()).isEqualTo("index-1");
+			assertThat(entity.getIndexCoordinates().getIndexName()).isEqualTo("index-2");
+		}
+
+		@Test
+		@DisplayName("should cache the index name until evicted")
+		void shouldCacheTheIndexNameUntilEvicted() {
+
+			SimpleElasticsearchMappingContext context = new SimpleElasticsearchMappingContext();
+			context.setIndexNameCachePolicy(IndexNameCachePolicy.untilEvicted());
+			SimpleElasticsearchPersistentEntity<?> entity = context.getRequiredPersistentEntity(EntityWithIndexNameSpel.class);
+
+			assertThat(entity.getIndexCoordinates().getIndexName()).isEqualTo("index-1");
+			assertThat(entity.getIndexCoordinates().getIndexName()).isEqualTo("index-1");
+
+			context.evictIndexNameCaches();
+
+			assertThat(entity.getIndexCoordinates().getIndexName()).isEqualTo("index-2");
+		}
+
+		@Test
+		@DisplayName("should cache the index name for a time bucket aligned to the time zone")
+		void shouldCacheTheIndexNameForATimeBucketAlignedToTheTimeZone() {
+
+			MutableClock clock = new MutableClock(Instant.parse("2026-03-01T22:30:00Z"), ZoneOffset.ofHours(1));
+			SimpleElasticsearchMappingContext context = new SimpleElasticsearchMappingContext();
+			context.setIndexNameCachePolicy(IndexNameCachePolicy.timeBuckets(Duration.ofDays(1), clock));
+			SimpleElasticsearchPersistentEntity<?> entity = context.getRequiredPersistentEntity(EntityWithIndexNameSpel.class);
+
+			assertThat(entity.getIndexCoordinates().getIndexName()).isEqualTo("index-1");
+
+			clock.instant = Instant.parse("2026-03-01T22:59:59Z");
+			assertThat(entity.getIndexCoordinates().getIndexName()).isEqualTo("index-1");
+
+			// midnight in the zone of the clock
+			clock.instant = Instant.parse("2026-03-01T23:00:00Z");
+			assertThat(entity.getIndexCoordinates().getIndexName()).isEqualTo("index-2");
+		}
+
+		@Test
+		@DisplayName("should not evaluate literal index names")
+		void shouldNotEvaluateLiteralIndexNames() {
+
+			SimpleElasticsearchMappingContext context = new SimpleElasticsearchMappingContext();
+			SimpleElasticsearchPersistentEntity<?> entity = context.getRequiredPersistentEntity(FieldNameEntity.class);
+
+			assertThat(entity.getIndexCoordinates()).isSameAs(entity.getIndexCoordinates());
+		}
+	}
+
+	public static String nextIndexName() {
+		return "index-" + INDEX_NAME_COUNTER.incrementAndGet();
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+		private final ZoneId zone;
+
+		MutableClock(Instant instant, ZoneId zone) {
+			this.instant = instant;
+			this.zone = zone;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return zone;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return new MutableClock(instant, zone);
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+
 	// region helper
 	private static SimpleElasticsearchPersistentProperty createProperty(SimpleElasticsearchPersistentEntity<?> entity,
 			String fieldName) {
@@ -606,5 +711,12 @@ public class SimpleElasticsearchPersistentEntityTests extends MappingContextBase
 		@Nullable
 		@Id String id;
 	}
+
+	@Document(
+			indexName = "#{T(org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchPersistentEntityTests).nextIndexName()}")
+	private static class EntityWithIndexNameSpel {
+		@Nullable
+		@Id String id;
+	}
 	// endregion
 }
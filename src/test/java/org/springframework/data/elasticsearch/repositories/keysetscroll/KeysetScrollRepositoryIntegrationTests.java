@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repositories.keysetscroll;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.KeysetScrollPositions;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.junit.jupiter.SpringIntegrationTest;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.data.elasticsearch.utils.IndexNameProvider;
+
+/**
+ * Integration tests for repository query methods returning a {@link Window}.
+ *
+ * @author agent
+ * @since 6.2
+ */
+@SpringIntegrationTest
+public abstract class KeysetScrollRepositoryIntegrationTests {
+
+	private static final int NUMBER_OF_PRODUCTS = 25;
+
+	@Autowired private ProductRepository repository;
+	@Autowired ElasticsearchOperations operations;
+	@Autowired private IndexNameProvider indexNameProvider;
+
+	@BeforeEach
+	void before() {
+
+		indexNameProvider.increment();
+		operations.indexOps(Product.class).createWithMapping();
+
+		// prices are repeated, so that the tiebreaker decides the order within a price
+		repository.saveAll(IntStream.range(0, NUMBER_OF_PRODUCTS) //
+				.mapToObj(i -> product("product-" + i, "books", i % 5)) //
+				.toList());
+		repository.save(product("other", "music", 1));
+	}
+
+	@Test
+	@Order(Integer.MAX_VALUE)
+	void cleanup() {
+		operations.indexOps(IndexCoordinates.of(indexNameProvider.getPrefix() + "*")).delete();
+	}
+
+	@Test
+	@DisplayName("should page windows to the end")
+	void shouldPageWindowsToTheEnd() {
+
+		String pointInTimeId = operations.openPointInTime(IndexCoordinates.of(indexNameProvider.indexName()),
+				Duration.ofMinutes(1));
+
+		try {
+			List<Product> products = new ArrayList<>();
+			List<Integer> windowSizes = new ArrayList<>();
+			ScrollPosition position = KeysetScrollPositions.withPointInTime(pointInTimeId, Duration.ofMinutes(1));
+			Window<Product> window;
+
+			do {
+				window = repository.findByCategoryOrderByPrice("books", position, Limit.of(10));
+				products.addAll(window.getContent());
+				windowSizes.add(window.size());
+
+				if (!window.isEmpty()) {
+					position = window.positionAt(window.size() - 1);
+				}
+			} while (window.hasNext());
+
+			assertThat(windowSizes).containsExactly(10, 10, 5);
+			assertThat(products).extracting(Product::getId).doesNotHaveDuplicates().hasSize(NUMBER_OF_PRODUCTS);
+			assertThat(products).extracting(Product::getPrice).isSorted();
+			assertThat(products).extracting(Product::getCategory).containsOnly("books");
+
+			Query.PointInTime pointInTime = KeysetScrollPositions.getPointInTime((KeysetScrollPosition) position);
+			assertThat(pointInTime).isNotNull();
+			pointInTimeId = pointInTime.id();
+		} finally {
+			operations.closePointInTime(pointInTimeId);
+		}
+	}
+
+	private static Product product(String id, String category, int price) {
+
+		Product product = new Product();
+		product.setId(id);
+		product.setCategory(category);
+		product.setPrice(price);
+		return product;
+	}
+
+	@Document(indexName = "#{@indexNameProvider.indexName()}")
+	static class Product {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Keyword) private String category;
+		@Nullable
+		@Field(type = FieldType.Integer) private Integer price;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getCategory() {
+			return category;
+		}
+
+		public void setCategory(@Nullable String category) {
+			this.category = category;
+		}
+
+		@Nullable
+		public Integer getPrice() {
+			return price;
+		}
+
+		public void setPrice(@Nullable Integer price) {
+			this.price = price;
+		}
+	}
+
+	interface ProductRepository extends ElasticsearchRepository<Product, String> {
+		Window<Product> findByCategoryOrderByPrice(String category, ScrollPosition position, Limit limit);
+	}
+}
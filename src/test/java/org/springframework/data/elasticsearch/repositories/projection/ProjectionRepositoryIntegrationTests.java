@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repositories.projection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.junit.jupiter.SpringIntegrationTest;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.data.elasticsearch.utils.IndexNameProvider;
+
+/**
+ * Integration tests for repository query methods returning interface and DTO projections.
+ *
+ * @author agent
+ * @since 6.2
+ */
+@SpringIntegrationTest
+public abstract class ProjectionRepositoryIntegrationTests {
+
+	@Autowired private ProjectionEntityRepository repository;
+	@Autowired ElasticsearchOperations operations;
+	@Autowired private IndexNameProvider indexNameProvider;
+
+	@BeforeEach
+	void before() {
+
+		indexNameProvider.increment();
+		operations.indexOps(ProjectionEntity.class).createWithMapping();
+
+		repository.saveAll(List.of( //
+				entity("1", "Ada", "first", "London", "Downing Street"), //
+				entity("2", "Ada", "second", "Paris", "Rue de Rivoli"), //
+				entity("3", "Grace", "third", "New York", "Broadway")));
+	}
+
+	@Test
+	@Order(Integer.MAX_VALUE)
+	void cleanup() {
+		operations.indexOps(IndexCoordinates.of(indexNameProvider.getPrefix() + "*")).delete();
+	}
+
+	@Test
+	@DisplayName("should return closed interface projections")
+	void shouldReturnClosedInterfaceProjections() {
+
+		List<NameOnly> projections = repository.findByName("Ada");
+
+		assertThat(projections).extracting(NameOnly::getName).containsExactly("Ada", "Ada");
+	}
+
+	@Test
+	@DisplayName("should return nested closed interface projections")
+	void shouldReturnNestedClosedInterfaceProjections() {
+
+		List<CityOnly> projections = repository.findCityByName("Grace");
+
+		assertThat(projections).singleElement() //
+				.extracting(projection -> projection.getAddress().getCity()) //
+				.isEqualTo("New York");
+	}
+
+	@Test
+	@DisplayName("should return open interface projections")
+	void shouldReturnOpenInterfaceProjections() {
+
+		List<Summary> projections = repository.findSummaryByName("Grace");
+
+		assertThat(projections).extracting(Summary::getSummary).containsExactly("Grace: third");
+	}
+
+	@Test
+	@DisplayName("should return DTO projections")
+	void shouldReturnDtoProjections() {
+
+		List<NameAndDescription> projections = repository.findDtoByName("Ada");
+
+		assertThat(projections).containsExactlyInAnyOrder(new NameAndDescription("Ada", "first"),
+				new NameAndDescription("Ada", "second"));
+	}
+
+	@Test
+	@DisplayName("should return dynamic projections")
+	void shouldReturnDynamicProjections() {
+
+		assertThat(repository.findByName("Grace", NameOnly.class)).extracting(NameOnly::getName)
+				.containsExactly("Grace");
+		assertThat(repository.findByName("Grace", NameAndDescription.class))
+				.containsExactly(new NameAndDescription("Grace", "third"));
+	}
+
+	@Test
+	@DisplayName("should return a single projection")
+	void shouldReturnASingleProjection() {
+
+		NameOnly projection = repository.findFirstByDescription("second");
+
+		assertThat(projection).isNotNull();
+		assertThat(projection.getName()).isEqualTo("Ada");
+	}
+
+	@Test
+	@DisplayName("should return pages of projections")
+	void shouldReturnPagesOfProjections() {
+
+		Page<NameOnly> page = repository.findPageByName("Ada", PageRequest.of(0, 1));
+
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		assertThat(page.getContent()).extracting(NameOnly::getName).containsExactly("Ada");
+	}
+
+	@Test
+	@DisplayName("should return a stream of projections")
+	void shouldReturnAStreamOfProjections() {
+
+		try (Stream<NameOnly> stream = repository.streamByName("Ada")) {
+			assertThat(stream).extracting(NameOnly::getName).containsExactly("Ada", "Ada");
+		}
+	}
+
+	@Test
+	@DisplayName("should return the entities in search hits")
+	void shouldReturnTheEntitiesInSearchHits() {
+
+		SearchHits<ProjectionEntity> searchHits = repository.searchByName("Grace");
+
+		assertThat(searchHits.getSearchHits()).singleElement()
+				.satisfies(searchHit -> assertThat(searchHit.getContent().getDescription()).isEqualTo("third"));
+	}
+
+	private static ProjectionEntity entity(String id, String name, String description, String city, String street) {
+
+		ProjectionEntity entity = new ProjectionEntity();
+		entity.setId(id);
+		entity.setName(name);
+		entity.setDescription(description);
+		Address address = new Address();
+		address.setCity(city);
+		address.setStreet(street);
+		entity.setAddress(address);
+		return entity;
+	}
+
+	@Document(indexName = "#{@indexNameProvider.indexName()}")
+	static class ProjectionEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Keyword) private String name;
+		@Nullable
+		@Field(type = FieldType.Keyword) private String description;
+		@Nullable
+		@Field(type = FieldType.Object) private Address address;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getName() {
+			return name;
+		}
+
+		public void setName(@Nullable String name) {
+			this.name = name;
+		}
+
+		@Nullable
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(@Nullable String description) {
+			this.description = description;
+		}
+
+		@Nullable
+		public Address getAddress() {
+			return address;
+		}
+
+		public void setAddress(@Nullable Address address) {
+			this.address = address;
+		}
+	}
+
+	static class Address {
+		@Nullable
+		@Field(type = FieldType.Keyword) private String city;
+		@Nullable
+		@Field(type = FieldType.Keyword) private String street;
+
+		@Nullable
+		public String getCity() {
+			return city;
+		}
+
+		public void setCity(@Nullable String city) {
+			this.city = city;
+		}
+
+		@Nullable
+		public String getStreet() {
+			return street;
+		}
+
+		public void setStreet(@Nullable String street) {
+			this.street = street;
+		}
+	}
+
+	interface NameOnly {
+		String getName();
+	}
+
+	interface CityOnly {
+		AddressCity getAddress();
+
+		interface AddressCity {
+			String getCity();
+		}
+	}
+
+	interface Summary {
+		@Value("#{target.name + ': ' + target.description}")
+		String getSummary();
+	}
+
+	record NameAndDescription(String name, String description) {
+	}
+
+	interface ProjectionEntityRepository extends ElasticsearchRepository<ProjectionEntity, String> {
+
+		List<NameOnly> findByName(String name);
+
+		@Nullable
+		NameOnly findFirstByDescription(String description);
+
+		List<CityOnly> findCityByName(String name);
+
+		List<Summary> findSummaryByName(String name);
+
+		List<NameAndDescription> findDtoByName(String name);
+
+		<T> List<T> findByName(String name, Class<T> type);
+
+		Page<NameOnly> findPageByName(String name, Pageable pageable);
+
+		Stream<NameOnly> streamByName(String name);
+
+		SearchHits<ProjectionEntity> searchByName(String name);
+	}
+}
@@ -24,11 +24,15 @@ import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.CountQuery;
 import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -60,6 +64,73 @@ public class ElasticsearchQueryMethodUnitTests {
 		queryMethod(PersonRepository.class, "validCountQueryResult", String.class);
 	}
 
+	@Test
+	@DisplayName("should include the fields of an interface projection")
+	void shouldIncludeTheFieldsOfAnInterfaceProjection() throws Exception {
+
+		var sourceFilter = projectionSourceFilter("findByName", new Object[] { "n" }, String.class);
+
+		assertThat(sourceFilter).isNotNull();
+		assertThat(sourceFilter.getIncludes()).containsExactlyInAnyOrder("name", "first-name");
+	}
+
+	@Test
+	@DisplayName("should include the nested fields of a nested interface projection")
+	void shouldIncludeTheNestedFieldsOfANestedInterfaceProjection() throws Exception {
+
+		var sourceFilter = projectionSourceFilter("findWithAddressByName", new Object[] { "n" }, String.class);
+
+		assertThat(sourceFilter).isNotNull();
+		assertThat(sourceFilter.getIncludes()).containsExactlyInAnyOrder("name", "address.city");
+	}
+
+	@Test
+	@DisplayName("should include the fields of a DTO projection")
+	void shouldIncludeTheFieldsOfADtoProjection() throws Exception {
+
+		var sourceFilter = projectionSourceFilter("findDtoByName", new Object[] { "n" }, String.class);
+
+		assertThat(sourceFilter).isNotNull();
+		assertThat(sourceFilter.getIncludes()).containsExactlyInAnyOrder("first-name");
+	}
+
+	@Test
+	@DisplayName("should include the fields of a dynamic projection")
+	void shouldIncludeTheFieldsOfADynamicProjection() throws Exception {
+
+		var sourceFilter = projectionSourceFilter("findByFirstName", new Object[] { "n", NameOnly.class }, String.class,
+				Class.class);
+
+		assertThat(sourceFilter).isNotNull();
+		assertThat(sourceFilter.getIncludes()).containsExactlyInAnyOrder("name", "first-name");
+
+		assertThat(projectionSourceFilter("findByFirstName", new Object[] { "n", Customer.class }, String.class,
+				Class.class)).isNull();
+	}
+
+	@Test
+	@DisplayName("should not filter for open projections and for entities")
+	void shouldNotFilterForOpenProjectionsAndForEntities() throws Exception {
+
+		assertThat(projectionSourceFilter("findOpenByName", new Object[] { "n" }, String.class)).isNull();
+		assertThat(projectionSourceFilter("findCustomerByName", new Object[] { "n" }, String.class)).isNull();
+	}
+
+	@Test
+	@DisplayName("should not filter for open projections with properties that are read from the source")
+	void shouldNotFilterForOpenProjectionsWithPropertiesThatAreReadFromTheSource() throws Exception {
+		assertThat(projectionSourceFilter("findMixedByName", new Object[] { "n" }, String.class)).isNull();
+	}
+
+	@Nullable
+	private SourceFilter projectionSourceFilter(String name, Object[] values, Class<?>... parameters) throws Exception {
+
+		var queryMethod = queryMethod(CustomerRepository.class, name, parameters);
+		var accessor = new ElasticsearchParametersParameterAccessor(queryMethod, values);
+		return queryMethod
+				.getProjectionSourceFilter(queryMethod.getResultProcessor().withDynamicProjection(accessor).getReturnedType());
+	}
+
 	private ElasticsearchQueryMethod queryMethod(Class<?> repository, String name, Class<?>... parameters)
 			throws Exception {
 
@@ -76,6 +147,123 @@ public class ElasticsearchQueryMethodUnitTests {
 		Long validCountQueryResult(String name);
 	}
 
+	interface CustomerRepository extends Repository<Customer, String> {
+		List<NameOnly> findByName(String name);
+
+		List<WithCity> findWithAddressByName(String name);
+
+		List<FirstNameDto> findDtoByName(String name);
+
+		<T> List<T> findByFirstName(String firstName, Class<T> type);
+
+		List<OpenProjection> findOpenByName(String name);
+
+		List<MixedProjection> findMixedByName(String name);
+
+		List<Customer> findCustomerByName(String name);
+	}
+
+	interface NameOnly {
+		String getName();
+
+		String getFirstName();
+	}
+
+	interface WithCity {
+		String getName();
+
+		CityOnly getAddress();
+	}
+
+	interface CityOnly {
+		String getCity();
+	}
+
+	interface OpenProjection {
+		@Value("#{target.name + ' ' + target.firstName}")
+		String getFullName();
+	}
+
+	interface MixedProjection {
+		String getName();
+
+		@Value("#{target.firstName}")
+		String getFirst();
+	}
+
+	record FirstNameDto(String firstName) {
+	}
+
+	@Document(indexName = "query-method-unit-tests-customer")
+	static class Customer {
+		@Nullable
+		@Id private String id;
+		@Nullable private String name;
+		@Nullable
+		@Field(name = "first-name") private String firstName;
+		@Nullable
+		@Field(type = FieldType.Object) private Address address;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getName() {
+			return name;
+		}
+
+		public void setName(@Nullable String name) {
+			this.name = name;
+		}
+
+		@Nullable
+		public String getFirstName() {
+			return firstName;
+		}
+
+		public void setFirstName(@Nullable String firstName) {
+			this.firstName = firstName;
+		}
+
+		@Nullable
+		public Address getAddress() {
+			return address;
+		}
+
+		public void setAddress(@Nullable Address address) {
+			this.address = address;
+		}
+	}
+
+	static class Address {
+		@Nullable private String street;
+		@Nullable private String city;
+
+		@Nullable
+		public String getStreet() {
+			return street;
+		}
+
+		public void setStreet(@Nullable String street) {
+			this.street = street;
+		}
+
+		@Nullable
+		public String getCity() {
+			return city;
+		}
+
+		public void setCity(@Nullable String city) {
+			this.city = city;
+		}
+	}
+
 	@Document(indexName = "query-method-unit-tests")
 	private static class Person {
 		@Nullable
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.KeysetScrollPositions;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+/**
+ * @author agent
+ */
+class KeysetScrollDelegateUnitTests {
+
+	private SimpleElasticsearchMappingContext mappingContext;
+	private ElasticsearchQueryMethod queryMethod;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		mappingContext = new SimpleElasticsearchMappingContext();
+		Method method = ProductRepository.class.getMethod("findByName", String.class, ScrollPosition.class, Limit.class);
+		queryMethod = new ElasticsearchQueryMethod(method, new DefaultRepositoryMetadata(ProductRepository.class),
+				new SpelAwareProxyProjectionFactory(), mappingContext);
+	}
+
+	@Test
+	@DisplayName("should sort by score and _id for an initial position without sort")
+	void shouldSortByScoreAndIdForAnInitialPositionWithoutSort() {
+
+		var query = query();
+
+		KeysetScrollDelegate.prepare(query, ScrollPosition.keyset(), accessor(ScrollPosition.keyset(), Limit.of(10)));
+
+		assertThat(query.getSort()).containsExactly(Sort.Order.desc("_score"), Sort.Order.asc("_id"));
+		assertThat(query.getRequestSize()).isEqualTo(11);
+		assertThat(query.getSearchAfter()).isNull();
+		assertThat(query.getPointInTime()).isNull();
+	}
+
+	@Test
+	@DisplayName("should use point in time, shard doc tiebreaker and search after values from the position")
+	void shouldUsePointInTimeShardDocTiebreakerAndSearchAfterValuesFromThePosition() {
+
+		var query = query();
+		query.setSort(Sort.by("name"));
+		var position = KeysetScrollPositions.of(List.of("name", "_shard_doc"), List.of("foo", 42L),
+				new Query.PointInTime("pit-id", Duration.ofMinutes(1)), ScrollPosition.Direction.FORWARD);
+
+		KeysetScrollDelegate.prepare(query, position, accessor(position, Limit.of(10)));
+
+		assertThat(query.getSort()).containsExactly(Sort.Order.asc("name"), Sort.Order.asc("_shard_doc"));
+		assertThat(query.getSearchAfter()).containsExactly("foo", 42L);
+		assertThat(query.getPointInTime()).isEqualTo(new Query.PointInTime("pit-id", Duration.ofMinutes(1)));
+	}
+
+	@Test
+	@DisplayName("should reverse the sort when scrolling backward")
+	void shouldReverseTheSortWhenScrollingBackward() {
+
+		var query = query();
+		query.setSort(Sort.by("name"));
+		var position = ScrollPosition.backward(Map.of("name", "foo", "_id", "7"));
+
+		KeysetScrollDelegate.prepare(query, position, accessor(position, Limit.of(10)));
+
+		assertThat(query.getSort()).containsExactly(Sort.Order.desc("name"), Sort.Order.desc("_id"));
+	}
+
+	@Test
+	@DisplayName("should set the search after values in the order of the sort")
+	void shouldSetTheSearchAfterValuesInTheOrderOfTheSort() {
+
+		var query = query();
+		query.setSort(Sort.by("name", "price"));
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("_id", "7");
+		keys.put("price", 42);
+		keys.put("name", "foo");
+		var position = ScrollPosition.forward(keys);
+
+		KeysetScrollDelegate.prepare(query, position, accessor(position, Limit.of(10)));
+
+		assertThat(query.getSearchAfter()).containsExactly("foo", 42, "7");
+	}
+
+	@Test
+	@DisplayName("should create window with positions from the sort values")
+	void shouldCreateWindowWithPositionsFromTheSortValues() {
+
+		var query = query();
+		query.setSort(Sort.by("name"));
+		var delegate = KeysetScrollDelegate.prepare(query, ScrollPosition.keyset(),
+				accessor(ScrollPosition.keyset(), Limit.of(2)));
+
+		Window<SearchHit<Product>> window = delegate.window(List.of(hit("1", "a"), hit("2", "b"), hit("3", "c")), null);
+
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.getContent()).extracting(SearchHit::getId).containsExactly("1", "2");
+		var position = (KeysetScrollPosition) window.positionAt(1);
+		assertThat(position.getKeys()).containsExactly(entry("name", "b"), entry("_id", "2"));
+		assertThat(position.scrollsForward()).isTrue();
+	}
+
+	@Test
+	@DisplayName("should keep the point in time returned by Elasticsearch in the positions")
+	void shouldKeepThePointInTimeReturnedByElasticsearchInThePositions() {
+
+		var query = query();
+		var initial = KeysetScrollPositions.withPointInTime("pit-1", Duration.ofMinutes(1));
+		var delegate = KeysetScrollDelegate.prepare(query, initial, accessor(initial, Limit.of(2)));
+
+		Window<SearchHit<Product>> window = delegate.window(List.of(hit("1", "a")), "pit-2");
+
+		assertThat(window.hasNext()).isFalse();
+		var position = (KeysetScrollPosition) window.positionAt(0);
+		assertThat(KeysetScrollPositions.getPointInTime(position))
+				.isEqualTo(new Query.PointInTime("pit-2", Duration.ofMinutes(1)));
+	}
+
+	@Test
+	@DisplayName("should reject offset positions")
+	void shouldRejectOffsetPositions() {
+
+		var position = ScrollPosition.offset();
+
+		assertThatThrownBy(() -> KeysetScrollDelegate.prepare(query(), position, accessor(position, Limit.of(2))))
+				.isInstanceOf(InvalidDataAccessApiUsageException.class);
+	}
+
+	private CriteriaQuery query() {
+		return new CriteriaQuery(Criteria.where("name").is("foo"));
+	}
+
+	private ElasticsearchParametersParameterAccessor accessor(ScrollPosition position, Limit limit) {
+		return new ElasticsearchParametersParameterAccessor(queryMethod, "foo", position, limit);
+	}
+
+	private static SearchHit<Product> hit(String id, String name) {
+
+		var product = new Product();
+		product.setId(id);
+		product.setName(name);
+		return new SearchHit<>("index", id, null, 1.0f, new Object[] { name, id }, null, null, null, null, null,
+				product);
+	}
+
+	interface ProductRepository extends Repository<Product, String> {
+		Window<Product> findByName(String name, ScrollPosition position, Limit limit);
+	}
+
+	@Document(indexName = "keyset-scroll-delegate-unit-tests")
+	static class Product {
+		@Nullable
+		@Id private String id;
+		@Nullable private String name;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getName() {
+			return name;
+		}
+
+		public void setName(@Nullable String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core
+
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.cancelAndJoin
+import kotlinx.coroutines.flow.asFlow
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.mockito.Mockito
+import org.springframework.data.elasticsearch.core.query.Query
+import org.springframework.data.elasticsearch.core.query.StringQuery
+import reactor.core.publisher.Flux
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @author agent
+ */
+class ReactiveOperationsFlowExtensionsUnitTests {
+
+    @Test
+    fun `should request the hits in batches of the reactive batch size`() {
+
+        val query = StringQuery("{\"match_all\":{}}")
+        query.reactiveBatchSize = 10
+        val requests = CopyOnWriteArrayList<Long>()
+        val cancelled = AtomicBoolean(false)
+        val operations = Mockito.mock(ReactiveSearchOperations::class.java)
+        Mockito.`when`(operations.search(query, String::class.java)).thenReturn(
+            Flux.range(1, 100).map { searchHit("$it") }
+                .doOnRequest { requests.add(it) }
+                .doOnCancel { cancelled.set(true) })
+
+        val hits = runBlocking { operations.searchAsFlow<String>(query).take(5).toList() }
+
+        assertThat(hits.map { it.content }).containsExactly("1", "2", "3", "4", "5")
+        assertThat(requests.first()).isEqualTo(10)
+        assertThat(cancelled).isTrue()
+    }
+
+    @Test
+    fun `should save the entities in batches`() {
+
+        val batches = CopyOnWriteArrayList<List<Int>>()
+
+        val saved = runBlocking {
+            saveAllInBatches((1..5).asFlow(), 2, 1) { batch ->
+                batches.add(batch)
+                Flux.fromIterable(batch)
+            }.toList()
+        }
+
+        assertThat(batches).containsExactly(listOf(1, 2), listOf(3, 4), listOf(5))
+        assertThat(saved).containsExactly(1, 2, 3, 4, 5)
+    }
+
+    @Test
+    fun `should not save batches ahead of the collector`() {
+
+        val batches = CopyOnWriteArrayList<List<Int>>()
+        val submittedWhenCollected = mutableListOf<Int>()
+
+        runBlocking {
+            saveAllInBatches((1..5).asFlow(), 1, 1) { batch ->
+                batches.add(batch)
+                Flux.fromIterable(batch)
+            }.collect { submittedWhenCollected.add(batches.size) }
+        }
+
+        // when the n-th entity is collected, at most the batch after it has been submitted
+        assertThat(submittedWhenCollected).hasSize(5)
+        submittedWhenCollected.forEachIndexed { index, submitted -> assertThat(submitted).isLessThanOrEqualTo(index + 2) }
+    }
+
+    @Test
+    fun `should not have more requests in flight than the concurrency`() {
+
+        val inFlight = AtomicInteger()
+        val maxInFlight = AtomicInteger()
+
+        val saved = runBlocking {
+            saveAllInBatches((1..20).asFlow(), 2, 3) { batch ->
+                Flux.fromIterable(batch)
+                    .delaySubscription(Duration.ofMillis(20))
+                    .doOnSubscribe { maxInFlight.accumulateAndGet(inFlight.incrementAndGet()) { a, b -> maxOf(a, b) } }
+                    .doFinally { inFlight.decrementAndGet() }
+            }.toList()
+        }
+
+        assertThat(saved).containsExactlyInAnyOrderElementsOf(1..20)
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3)
+    }
+
+    @Test
+    fun `should cancel the requests in flight when the collector is cancelled`() {
+
+        val subscribed = CompletableDeferred<Unit>()
+        val cancelled = AtomicBoolean(false)
+
+        runBlocking {
+            val job = launch {
+                saveAllInBatches((1..2).asFlow(), 2, 1) { _ ->
+                    Flux.never<Int>()
+                        .doOnSubscribe { subscribed.complete(Unit) }
+                        .doOnCancel { cancelled.set(true) }
+                }.collect()
+            }
+
+            subscribed.await()
+            job.cancelAndJoin()
+        }
+
+        assertThat(cancelled).isTrue()
+    }
+
+    private fun searchHit(content: String) =
+        SearchHit("index", content, null, 1.0f, null, null, null, null, null, null, content)
+}